@@ -0,0 +1,271 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package com.oracle.coherence.plugin.visualvm;
+
+import com.oracle.coherence.plugin.visualvm.tablemodel.model.AbstractData;
+import com.oracle.coherence.plugin.visualvm.tablemodel.model.Data;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import java.util.Map.Entry;
+
+/**
+ * Determines when each {@link VisualVMModel.DataType} is next due to be refreshed. Each type
+ * has a base interval which is a multiple of the global refresh time, and this
+ * interval is doubled, up to a maximum back-off, each time a refresh returns the
+ * same values as the previous one. As soon as the values change the interval
+ * returns to the base interval.
+ *
+ * @since  1.8.0
+ */
+public class AdaptiveRefreshScheduler
+    {
+    // ----- constructors ---------------------------------------------------
+
+    /**
+     * Create a scheduler.
+     *
+     * @param nMaxBackoff  the maximum multiple of a type's base interval that
+     *                     it may be backed off to
+     */
+    public AdaptiveRefreshScheduler(int nMaxBackoff)
+        {
+        f_nMaxBackoff = Math.max(1, nMaxBackoff);
+
+        for (VisualVMModel.DataType type : VisualVMModel.DataType.values())
+            {
+            Integer nFactor = Integer.getInteger(PROP_REFRESH_FACTOR_PREFIX + type.name().toLowerCase());
+            f_mapState.put(type, new State(Math.max(1, nFactor == null ? getDefaultFactor(type) : nFactor)));
+            }
+        }
+
+    // ----- AdaptiveRefreshScheduler methods -------------------------------
+
+    /**
+     * Indicates if the given type is due to be refreshed. A type which has never
+     * been refreshed is always due.
+     *
+     * @param type            the {@link VisualVMModel.DataType} to check
+     * @param nRefreshMillis  the global refresh time in millis
+     * @param ldtNow          the current time in millis
+     *
+     * @return true if the type is due to be refreshed
+     */
+    public synchronized boolean isDue(VisualVMModel.DataType type, long nRefreshMillis, long ldtNow)
+        {
+        State state = f_mapState.get(type);
+
+        if (state.m_ldtLastRefresh < 0)
+            {
+            return true;
+            }
+
+        // allow half a refresh period of tolerance as the refresh cycles are not exact
+        return ldtNow - state.m_ldtLastRefresh + nRefreshMillis / 2 >= getInterval(type, nRefreshMillis);
+        }
+
+    /**
+     * Record the result of refreshing the given type and adjust its interval
+     * depending upon whether the values have changed since the last refresh.
+     *
+     * @param type      the {@link VisualVMModel.DataType} that was refreshed
+     * @param listData  the data that was retrieved, may be null
+     * @param ldtNow    the current time in millis
+     */
+    public synchronized void recordResult(VisualVMModel.DataType type, List<Entry<Object, Data>> listData, long ldtNow)
+        {
+        State state        = f_mapState.get(type);
+        long  nFingerprint = getFingerprint(listData);
+
+        if (state.m_ldtLastRefresh >= 0 && nFingerprint == state.m_nFingerprint)
+            {
+            state.m_nBackoff = Math.min(f_nMaxBackoff, state.m_nBackoff * 2);
+            }
+        else
+            {
+            state.m_nBackoff = 1;
+            }
+
+        state.m_nFingerprint   = nFingerprint;
+        state.m_ldtLastRefresh = ldtNow;
+        }
+
+    /**
+     * Reset the given type so that it is refreshed on the next cycle
+     * at its base interval.
+     *
+     * @param type  the {@link VisualVMModel.DataType} to reset
+     */
+    public synchronized void reset(VisualVMModel.DataType type)
+        {
+        State state = f_mapState.get(type);
+
+        state.m_nBackoff       = 1;
+        state.m_ldtLastRefresh = -1L;
+        }
+
+    /**
+     * Returns the current interval in millis for the given type.
+     *
+     * @param type            the {@link VisualVMModel.DataType}
+     * @param nRefreshMillis  the global refresh time in millis
+     *
+     * @return the current interval in millis
+     */
+    public synchronized long getInterval(VisualVMModel.DataType type, long nRefreshMillis)
+        {
+        State state = f_mapState.get(type);
+
+        return nRefreshMillis * state.f_nFactor * state.m_nBackoff;
+        }
+
+    // ----- helpers --------------------------------------------------------
+
+    /**
+     * Returns a fingerprint of the values in the given data so that two results
+     * can be compared without holding on to the previous result.
+     *
+     * @param listData  the data to return the fingerprint for, may be null
+     *
+     * @return the fingerprint of the data
+     */
+    protected static long getFingerprint(List<Entry<Object, Data>> listData)
+        {
+        if (listData == null)
+            {
+            return 0L;
+            }
+
+        long nHash = 1L;
+
+        for (Entry<Object, Data> entry : listData)
+            {
+            nHash = 31L * nHash + Objects.hashCode(entry.getKey());
+
+            Data data = entry.getValue();
+            if (data instanceof AbstractData)
+                {
+                int nColumns = ((AbstractData) data).getColumnCount();
+                for (int i = 0; i < nColumns; i++)
+                    {
+                    nHash = 31L * nHash + Objects.hashCode(data.getColumn(i));
+                    }
+                }
+            else
+                {
+                nHash = 31L * nHash + Objects.hashCode(data);
+                }
+            }
+
+        return nHash;
+        }
+
+    /**
+     * Returns the default multiple of the global refresh time used as the base
+     * interval for the given type. Configuration and slowly changing data is
+     * refreshed less often than statistics.
+     *
+     * @param type  the {@link VisualVMModel.DataType}
+     *
+     * @return the default multiple of the global refresh time
+     */
+    private static int getDefaultFactor(VisualVMModel.DataType type)
+        {
+        switch (type)
+            {
+            case JCACHE_CONFIG:
+                return 6;
+            case MACHINE:
+            case HEALTH:
+            case PERSISTENCE:
+            case PERSISTENCE_NOTIFICATIONS:
+            case EXECUTOR:
+                return 2;
+            default:
+                return 1;
+            }
+        }
+
+    // ----- inner classes --------------------------------------------------
+
+    /**
+     * The refresh state of a single {@link VisualVMModel.DataType}.
+     */
+    private static class State
+        {
+        /**
+         * Create the state.
+         *
+         * @param nFactor  the multiple of the global refresh time for the base interval
+         */
+        State(int nFactor)
+            {
+            f_nFactor = nFactor;
+            }
+
+        /**
+         * The multiple of the global refresh time for the base interval.
+         */
+        private final int f_nFactor;
+
+        /**
+         * The current multiple of the base interval.
+         */
+        private int m_nBackoff = 1;
+
+        /**
+         * The last time the type was refreshed or -1 if never.
+         */
+        private long m_ldtLastRefresh = -1L;
+
+        /**
+         * The fingerprint of the last result.
+         */
+        private long m_nFingerprint;
+        }
+
+    // ----- constants ------------------------------------------------------
+
+    /**
+     * Prefix of the property to override the multiple of the global refresh time
+     * for a type, e.g. coherence.plugin.visualvm.refresh.factor.jcache_config=10.
+     */
+    public static final String PROP_REFRESH_FACTOR_PREFIX = "coherence.plugin.visualvm.refresh.factor.";
+
+    // ----- data members ---------------------------------------------------
+
+    /**
+     * The maximum multiple of a type's base interval.
+     */
+    private final int f_nMaxBackoff;
+
+    /**
+     * The refresh state for each type.
+     */
+    private final Map<VisualVMModel.DataType, State> f_mapState = new EnumMap<>(VisualVMModel.DataType.class);
+    }
@@ -0,0 +1,434 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.oracle.coherence.plugin.visualvm;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Refreshes all the open cluster views from a dedicated, bounded pool of
+ * threads rather than from a timer and the shared request processor per
+ * view, so that many open clusters do not compete for the threads of VisualVM.
+ * <p>
+ * Each view registers its refresh task with an interval. The start of each
+ * registration is staggered across the interval so the clusters do not all
+ * refresh at the same moment, and a registration has at most one refresh
+ * waiting or running at any time, so a slow cluster skips cycles rather than
+ * queueing up work. Waiting refreshes run in the order they became due, which
+ * gives every cluster a fair share of the pool, except that the refresh of a
+ * focused view runs before those of views in the background.
+ *
+ * @since  1.8.0
+ */
+public class ClusterRefreshScheduler
+    {
+    // ----- constructors ---------------------------------------------------
+
+    /**
+     * Create a scheduler.
+     *
+     * @param cThreads  the number of threads used to run the refreshes
+     */
+    public ClusterRefreshScheduler(int cThreads)
+        {
+        AtomicInteger nCount = new AtomicInteger();
+
+        f_cThreads = Math.max(1, cThreads);
+        f_executor = new ThreadPoolExecutor(f_cThreads, f_cThreads, 0L, TimeUnit.MILLISECONDS,
+                new PriorityBlockingQueue<>(), r ->
+            {
+            Thread thread = new Thread(r, "CoherenceVisualVMClusterRefresh-" + nCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+            });
+
+        f_timer = Executors.newSingleThreadScheduledExecutor(r ->
+            {
+            Thread thread = new Thread(r, "CoherenceVisualVMClusterRefreshTimer");
+            thread.setDaemon(true);
+            return thread;
+            });
+        }
+
+    // ----- ClusterRefreshScheduler methods --------------------------------
+
+    /**
+     * Returns the scheduler shared by all the views of the plugin.
+     *
+     * @return the shared scheduler
+     */
+    public static synchronized ClusterRefreshScheduler getInstance()
+        {
+        if (s_instance == null)
+            {
+            s_instance = new ClusterRefreshScheduler(Integer.getInteger(PROP_CLUSTER_REFRESH_THREADS,
+                    Math.min(MAX_DEFAULT_THREADS, Math.max(2, Runtime.getRuntime().availableProcessors() / 2))));
+            }
+
+        return s_instance;
+        }
+
+    /**
+     * Register a task to be run every interval. The first run is delayed by
+     * the given initial delay plus a fraction of the interval which differs
+     * for each registration.
+     *
+     * @param sName               the name of the cluster, used for logging
+     * @param cMillisInterval     the interval in millis between the runs
+     * @param cMillisInitialDelay the minimum delay in millis before the first run
+     * @param task                the task to run
+     *
+     * @return the {@link Registration} used to control the task
+     */
+    public Registration register(String sName, long cMillisInterval, long cMillisInitialDelay, Runnable task)
+        {
+        return register(sName, cMillisInterval, cMillisInitialDelay, false, task);
+        }
+
+    /**
+     * Register a task to be run every interval, for a view which may already
+     * be focused. The first run is delayed by the given initial delay plus a
+     * fraction of the interval which differs for each registration.
+     *
+     * @param sName               the name of the cluster, used for logging
+     * @param cMillisInterval     the interval in millis between the runs
+     * @param cMillisInitialDelay the minimum delay in millis before the first run
+     * @param fFocused            true if the view is focused
+     * @param task                the task to run
+     *
+     * @return the {@link Registration} used to control the task
+     */
+    public Registration register(String sName, long cMillisInterval, long cMillisInitialDelay, boolean fFocused,
+                                 Runnable task)
+        {
+        long         cInterval    = Math.max(1L, cMillisInterval);
+        Registration registration = new Registration(sName, task);
+
+        registration.m_fFocused = fFocused;
+
+        registration.m_future = f_timer.scheduleAtFixedRate(registration::requestRefresh,
+                Math.max(0L, cMillisInitialDelay) + getStaggerOffset(f_cRegistrations.getAndIncrement(), cInterval),
+                cInterval, TimeUnit.MILLISECONDS);
+
+        return registration;
+        }
+
+    /**
+     * Returns the number of threads used to run the refreshes.
+     *
+     * @return the number of threads
+     */
+    public int getThreadCount()
+        {
+        return f_cThreads;
+        }
+
+    /**
+     * Stop the scheduler. Refreshes which are running are allowed to finish.
+     */
+    public void shutdown()
+        {
+        f_timer.shutdownNow();
+        f_executor.shutdownNow();
+        }
+
+    // ----- helpers --------------------------------------------------------
+
+    /**
+     * Returns the offset of the start of a registration within the interval.
+     * Successive registrations are spread using the golden ratio so that
+     * any number of them are close to evenly spaced across the interval.
+     *
+     * @param nRegistration    the index of the registration
+     * @param cMillisInterval  the interval in millis
+     *
+     * @return the offset in millis
+     */
+    protected static long getStaggerOffset(int nRegistration, long cMillisInterval)
+        {
+        double dFraction = (nRegistration * GOLDEN_RATIO_FRACTION) % 1.0d;
+
+        return (long) (dFraction * cMillisInterval);
+        }
+
+    // ----- inner classes --------------------------------------------------
+
+    /**
+     * The registration of a refresh task, which is queued in the pool itself
+     * while it is waiting to run.
+     */
+    public class Registration
+            implements Runnable, Comparable<Registration>
+        {
+        // ----- constructors -----------------------------------------------
+
+        /**
+         * Create a registration.
+         *
+         * @param sName  the name of the cluster
+         * @param task   the task to run
+         */
+        private Registration(String sName, Runnable task)
+            {
+            f_sName = sName;
+            f_task  = task;
+            }
+
+        // ----- Registration methods ---------------------------------------
+
+        /**
+         * Queue the task to run as soon as a thread is available, unless it is
+         * already waiting or running.
+         */
+        public void requestRefresh()
+            {
+            if (!m_fCancelled && f_fQueued.compareAndSet(false, true))
+                {
+                // the priority is fixed while the task is in the queue
+                m_fQueuedFocused = m_fFocused;
+                m_nSequence      = f_nSequence.incrementAndGet();
+
+                try
+                    {
+                    f_executor.execute(this);
+                    }
+                catch (RuntimeException e)
+                    {
+                    f_fQueued.set(false);
+                    LOGGER.log(Level.FINE, "Unable to schedule refresh of " + f_sName, e);
+                    }
+                }
+            }
+
+        /**
+         * Set whether the view is focused. The refreshes of a focused view
+         * run before those of the other views, and a view which gains the
+         * focus is refreshed without waiting for the interval.
+         *
+         * @param fFocused  true if the view is focused
+         */
+        public void setFocused(boolean fFocused)
+            {
+            boolean fGained = fFocused && !m_fFocused;
+
+            m_fFocused = fFocused;
+
+            if (fGained)
+                {
+                requestRefresh();
+                }
+            }
+
+        /**
+         * Indicates if the view is focused.
+         *
+         * @return true if the view is focused
+         */
+        public boolean isFocused()
+            {
+            return m_fFocused;
+            }
+
+        /**
+         * Stop running the task. A run which has already started is allowed
+         * to finish.
+         */
+        public void cancel()
+            {
+            m_fCancelled = true;
+
+            ScheduledFuture<?> future = m_future;
+            if (future != null)
+                {
+                future.cancel(false);
+                }
+
+            f_executor.remove(this);
+            }
+
+        /**
+         * Indicates if the registration was cancelled.
+         *
+         * @return true if the registration was cancelled
+         */
+        public boolean isCancelled()
+            {
+            return m_fCancelled;
+            }
+
+        /**
+         * Returns the name of the cluster.
+         *
+         * @return the name of the cluster
+         */
+        public String getName()
+            {
+            return f_sName;
+            }
+
+        // ----- Runnable methods -------------------------------------------
+
+        @Override
+        public void run()
+            {
+            try
+                {
+                if (!m_fCancelled)
+                    {
+                    f_task.run();
+                    }
+                }
+            catch (Throwable t)
+                {
+                LOGGER.log(Level.WARNING, "Error while refreshing " + f_sName, t);
+                }
+            finally
+                {
+                f_fQueued.set(false);
+                }
+            }
+
+        // ----- Comparable methods -----------------------------------------
+
+        @Override
+        public int compareTo(Registration other)
+            {
+            if (m_fQueuedFocused != other.m_fQueuedFocused)
+                {
+                return m_fQueuedFocused ? -1 : 1;
+                }
+
+            return Long.compare(m_nSequence, other.m_nSequence);
+            }
+
+        // ----- data members -----------------------------------------------
+
+        /**
+         * The name of the cluster.
+         */
+        private final String f_sName;
+
+        /**
+         * The task to run.
+         */
+        private final Runnable f_task;
+
+        /**
+         * Indicates if the task is waiting or running.
+         */
+        private final AtomicBoolean f_fQueued = new AtomicBoolean();
+
+        /**
+         * The future of the periodic requests for the task to run.
+         */
+        private volatile ScheduledFuture<?> m_future;
+
+        /**
+         * Indicates if the view is focused.
+         */
+        private volatile boolean m_fFocused;
+
+        /**
+         * Indicates if the view was focused when the task was queued.
+         */
+        private volatile boolean m_fQueuedFocused;
+
+        /**
+         * The order in which the task was queued.
+         */
+        private volatile long m_nSequence;
+
+        /**
+         * Indicates if the registration was cancelled.
+         */
+        private volatile boolean m_fCancelled;
+        }
+
+    // ----- constants ------------------------------------------------------
+
+    /**
+     * Property to set the number of threads used to refresh the clusters.
+     */
+    public static final String PROP_CLUSTER_REFRESH_THREADS = "coherence.plugin.visualvm.cluster.refresh.threads";
+
+    /**
+     * The maximum default number of threads.
+     */
+    private static final int MAX_DEFAULT_THREADS = 4;
+
+    /**
+     * The fractional part of the golden ratio.
+     */
+    private static final double GOLDEN_RATIO_FRACTION = 0.6180339887498949d;
+
+    /**
+     * The logger object to use.
+     */
+    private static final Logger LOGGER = Logger.getLogger(ClusterRefreshScheduler.class.getName());
+
+    // ----- data members ---------------------------------------------------
+
+    /**
+     * The scheduler shared by all the views.
+     */
+    private static ClusterRefreshScheduler s_instance;
+
+    /**
+     * The number of threads used to run the refreshes.
+     */
+    private final int f_cThreads;
+
+    /**
+     * The pool which runs the refreshes, in the order of their priority.
+     */
+    private final ThreadPoolExecutor f_executor;
+
+    /**
+     * The timer which queues the refreshes as they become due.
+     */
+    private final ScheduledExecutorService f_timer;
+
+    /**
+     * The number of registrations so far, used to stagger their start.
+     */
+    private final AtomicInteger f_cRegistrations = new AtomicInteger();
+
+    /**
+     * The sequence in which the refreshes were queued.
+     */
+    private final AtomicLong f_nSequence = new AtomicLong();
+    }
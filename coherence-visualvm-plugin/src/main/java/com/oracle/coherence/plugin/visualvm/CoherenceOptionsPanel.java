@@ -115,6 +115,8 @@ public class CoherenceOptionsPanel
         m_enableClusterSnapshot.setSelected(preferences.isClusterSnapshotEnabled());
         m_adminFunctionsEnabled.setSelected(preferences.isAdminFunctionEnabled());
         m_disableSSLCertValidation.setSelected(preferences.isSSLCertValidationDisabled());
+        m_enableParallelRefresh.setSelected(preferences.isParallelRefreshEnabled());
+        m_enableAdaptiveRefresh.setSelected(preferences.isAdaptiveRefreshEnabled());
         }
 
     /**
@@ -134,6 +136,8 @@ public class CoherenceOptionsPanel
         preferences.setAdminFunctionsEnabled(m_adminFunctionsEnabled.isSelected());
         preferences.setSSLCertValidationDisabled(m_disableSSLCertValidation.isSelected());
         preferences.setGrpcVersion((Integer) m_gRPCVersion.getValue());
+        preferences.setParallelRefreshEnabled(m_enableParallelRefresh.isSelected());
+        preferences.setAdaptiveRefreshEnabled(m_enableAdaptiveRefresh.isSelected());
         }
 
     /**
@@ -285,6 +289,14 @@ public class CoherenceOptionsPanel
         m_adminFunctionsEnabled.setToolTipText(getLocalText("TTIP_enable_cluster_head_dump"));
         addCheckBox(13, "LBL_enable_admin_functions", m_adminFunctionsEnabled);
 
+        m_enableParallelRefresh = new JCheckBox();
+        m_enableParallelRefresh.setToolTipText(getLocalText("TTIP_parallel_refresh"));
+        addCheckBox(14, "LBL_enable_parallel_refresh", m_enableParallelRefresh);
+
+        m_enableAdaptiveRefresh = new JCheckBox();
+        m_enableAdaptiveRefresh.setToolTipText(getLocalText("TTIP_adaptive_refresh"));
+        addCheckBox(15, "LBL_enable_adaptive_refresh", m_enableAdaptiveRefresh);
+
         m_btnAnalyzeUnavailableTime = new JButton(Localization.getLocalText("LBL_analyze_log_file"));
         m_btnAnalyzeUnavailableTime.setMnemonic(KeyEvent.VK_A);
         m_btnAnalyzeUnavailableTime.setToolTipText(Localization.getLocalText("TTIP_LBL_analyze_log_file"));
@@ -308,7 +320,7 @@ public class CoherenceOptionsPanel
 
         c = new GridBagConstraints();
         c.gridx = 0;
-        c.gridy = 14;
+        c.gridy = 16;
         c.anchor = GridBagConstraints.WEST;
         c.insets = new Insets(3, 15, 3, 0);
         add(m_btnAnalyzeUnavailableTime, c);
@@ -316,7 +328,7 @@ public class CoherenceOptionsPanel
         JLabel appsLabel = new JLabel();
         Mnemonics.setLocalizedText(appsLabel, getLocalText("LBL_reconnect")); // NOI18N
         c = new GridBagConstraints();
-        c.gridy = 15;
+        c.gridy = 17;
         c.gridwidth = GridBagConstraints.REMAINDER;
         c.anchor = GridBagConstraints.WEST;
         c.fill = GridBagConstraints.HORIZONTAL;
@@ -326,7 +338,7 @@ public class CoherenceOptionsPanel
         // filler
         c = new GridBagConstraints();
         c.gridx = 0;
-        c.gridy = 17;
+        c.gridy = 19;
         c.weightx = 1;
         c.weighty = 1;
         c.anchor = GridBagConstraints.NORTHWEST;
@@ -396,6 +408,8 @@ public class CoherenceOptionsPanel
         m_enableClusterSnapshot.getModel().addChangeListener(f_changeListener);
         m_adminFunctionsEnabled.getModel().addChangeListener(f_changeListener);
         m_disableSSLCertValidation.getModel().addChangeListener(f_changeListener);
+        m_enableParallelRefresh.getModel().addChangeListener(f_changeListener);
+        m_enableAdaptiveRefresh.getModel().addChangeListener(f_changeListener);
         }
 
     //----- inner classes ---------------------------------------------------
@@ -768,6 +782,16 @@ public class CoherenceOptionsPanel
      */
     private JCheckBox m_adminFunctionsEnabled;
 
+    /**
+     * Enable parallel refresh checkbox.
+     */
+    private JCheckBox m_enableParallelRefresh;
+
+    /**
+     * Enable adaptive refresh checkbox.
+     */
+    private JCheckBox m_enableAdaptiveRefresh;
+
     /**
      * A button to analyze unavailable time in a log file.
      */
@@ -32,9 +32,11 @@ import java.util.prefs.Preferences;
 
 import org.openide.util.NbPreferences;
 
+import static com.oracle.coherence.plugin.visualvm.VisualVMModel.PROP_ADAPTIVE_REFRESH;
 import static com.oracle.coherence.plugin.visualvm.VisualVMModel.PROP_CLUSTER_SNAPSHOT;
 import static com.oracle.coherence.plugin.visualvm.VisualVMModel.PROP_DISABLE_MBEAN_CHECK;
 import static com.oracle.coherence.plugin.visualvm.VisualVMModel.PROP_LOG_QUERY_TIMES;
+import static com.oracle.coherence.plugin.visualvm.VisualVMModel.PROP_PARALLEL_REFRESH;
 import static com.oracle.coherence.plugin.visualvm.VisualVMModel.PROP_PERSISTENCE_LIST_ENABLED;
 import static com.oracle.coherence.plugin.visualvm.VisualVMModel.PROP_REFRESH_TIME;
 import static com.oracle.coherence.plugin.visualvm.VisualVMModel.PROP_GRPC_VERSION;
@@ -169,6 +171,26 @@ public class GlobalPreferences
             {
             isClusterSnapshotEnabled();
             }
+
+        sValue = System.getProperty(PROP_PARALLEL_REFRESH);
+        if (sValue != null)
+            {
+            setParallelRefreshEnabled(Boolean.parseBoolean(sValue));
+            }
+        else
+            {
+            isParallelRefreshEnabled();
+            }
+
+        sValue = System.getProperty(PROP_ADAPTIVE_REFRESH);
+        if (sValue != null)
+            {
+            setAdaptiveRefreshEnabled(Boolean.parseBoolean(sValue));
+            }
+        else
+            {
+            isAdaptiveRefreshEnabled();
+            }
         }
 
     @Override
@@ -449,6 +471,46 @@ public class GlobalPreferences
         setBooleanProperty(CLUSTER_SNAPSHOT_ENABLED, fValue);
         }
 
+    /**
+     * Indicates if data types are refreshed in parallel.
+     *
+     * @return true if data types are refreshed in parallel
+     */
+    public boolean isParallelRefreshEnabled()
+        {
+        return getBooleanProperty(PARALLEL_REFRESH, PARALLEL_REFRESH_DEFAULT);
+        }
+
+    /**
+     * Sets if data types are refreshed in parallel.
+     *
+     * @param fValue if data types are refreshed in parallel
+     */
+    public void setParallelRefreshEnabled(boolean fValue)
+        {
+        setBooleanProperty(PARALLEL_REFRESH, fValue);
+        }
+
+    /**
+     * Indicates if the refresh interval of each data type adapts to how often it changes.
+     *
+     * @return true if the refresh interval of each data type adapts
+     */
+    public boolean isAdaptiveRefreshEnabled()
+        {
+        return getBooleanProperty(ADAPTIVE_REFRESH, ADAPTIVE_REFRESH_DEFAULT);
+        }
+
+    /**
+     * Sets if the refresh interval of each data type adapts to how often it changes.
+     *
+     * @param fValue if the refresh interval of each data type adapts
+     */
+    public void setAdaptiveRefreshEnabled(boolean fValue)
+        {
+        setBooleanProperty(ADAPTIVE_REFRESH, fValue);
+        }
+
     /**
      * Returns a boolean property value.
      *
@@ -661,6 +723,26 @@ public class GlobalPreferences
      */
     private static final String DISABLE_MBEAN_CHECK_DEFAULT = "false";
 
+    /**
+     * Preference key for parallel refresh.
+     */
+    private static final String PARALLEL_REFRESH = "parallelRefresh";
+
+    /**
+     * Default for parallel refresh.
+     */
+    private static final String PARALLEL_REFRESH_DEFAULT = "false";
+
+    /**
+     * Preference key for adaptive refresh.
+     */
+    private static final String ADAPTIVE_REFRESH = "adaptiveRefresh";
+
+    /**
+     * Default for adaptive refresh.
+     */
+    private static final String ADAPTIVE_REFRESH_DEFAULT = "false";
+
     // ----- data members ------------------------------------------------------
 
     /**
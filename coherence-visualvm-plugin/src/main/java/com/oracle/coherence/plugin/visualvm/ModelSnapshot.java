@@ -0,0 +1,509 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.oracle.coherence.plugin.visualvm;
+
+import com.oracle.coherence.plugin.visualvm.tablemodel.model.Data;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+import java.util.function.BiFunction;
+
+/**
+ * An immutable snapshot of the data collected for all {@link VisualVMModel.DataType}s,
+ * published by the {@link VisualVMModel} as a whole once a refresh cycle has completed.
+ * Readers holding a snapshot always see the data of a single cycle, and can compare
+ * versions to find out whether anything has changed since they last looked.
+ *
+ * @since  1.8.0
+ */
+public class ModelSnapshot
+    {
+    // ----- constructors ---------------------------------------------------
+
+    /**
+     * Create a snapshot from the given data. The map and the lists it
+     * contains are copied, so the snapshot never changes afterwards.
+     *
+     * @param nVersion      the version of the snapshot
+     * @param ldtTimestamp  the time the snapshot was taken
+     * @param mapData       the data for each {@link VisualVMModel.DataType}
+     */
+    public ModelSnapshot(long nVersion, long ldtTimestamp,
+                         Map<VisualVMModel.DataType, List<Map.Entry<Object, Data>>> mapData)
+        {
+        this(null, nVersion, ldtTimestamp, mapData);
+        }
+
+    /**
+     * Create a snapshot from the given data, which follows a previous snapshot.
+     * The data of a {@link VisualVMModel.DataType} keeps the data version of the
+     * previous snapshot if its list has not been replaced since.
+     *
+     * @param previous      the previous snapshot or null
+     * @param nVersion      the version of the snapshot
+     * @param ldtTimestamp  the time the snapshot was taken
+     * @param mapData       the data for each {@link VisualVMModel.DataType}
+     */
+    public ModelSnapshot(ModelSnapshot previous, long nVersion, long ldtTimestamp,
+                         Map<VisualVMModel.DataType, List<Map.Entry<Object, Data>>> mapData)
+        {
+        Map<VisualVMModel.DataType, List<Map.Entry<Object, Data>>> mapCopy =
+                new EnumMap<>(VisualVMModel.DataType.class);
+        VisualVMModel.DataType[] aTypes     = VisualVMModel.DataType.values();
+        Object[]                 aoSource   = new Object[aTypes.length];
+        long[]                   alVersions = new long[aTypes.length];
+
+        for (VisualVMModel.DataType type : aTypes)
+            {
+            int                           nIndex   = type.ordinal();
+            List<Map.Entry<Object, Data>> listData = mapData.get(type);
+            if (listData != null)
+                {
+                mapCopy.put(type, Collections.unmodifiableList(new ArrayList<>(listData)));
+                }
+
+            aoSource[nIndex]   = listData;
+            alVersions[nIndex] = previous != null && previous.f_aoSource[nIndex] == listData
+                                 ? previous.f_alDataVersions[nIndex]
+                                 : nVersion;
+            }
+
+        f_nVersion       = nVersion;
+        f_ldtTimestamp   = ldtTimestamp;
+        f_mapData        = mapCopy;
+        f_aoSource       = aoSource;
+        f_alDataVersions = alVersions;
+        }
+
+    /**
+     * Create a snapshot from the given state.
+     *
+     * @param nVersion      the version of the snapshot
+     * @param ldtTimestamp  the time the snapshot was taken
+     * @param mapData       the copied data for each {@link VisualVMModel.DataType}
+     * @param aoSource      the lists the data was created from, indexed by type
+     * @param alVersions    the version each type of data last changed in, indexed by type
+     */
+    private ModelSnapshot(long nVersion, long ldtTimestamp,
+                          Map<VisualVMModel.DataType, List<Map.Entry<Object, Data>>> mapData,
+                          Object[] aoSource, long[] alVersions)
+        {
+        f_nVersion       = nVersion;
+        f_ldtTimestamp   = ldtTimestamp;
+        f_mapData        = mapData;
+        f_aoSource       = aoSource;
+        f_alDataVersions = alVersions;
+        }
+
+    // ----- ModelSnapshot methods ------------------------------------------
+
+    /**
+     * Returns the version of this snapshot, which is incremented each time
+     * a new snapshot is published.
+     *
+     * @return the version of this snapshot
+     */
+    public long getVersion()
+        {
+        return f_nVersion;
+        }
+
+    /**
+     * Returns the time this snapshot was taken.
+     *
+     * @return the time this snapshot was taken
+     */
+    public long getTimestamp()
+        {
+        return f_ldtTimestamp;
+        }
+
+    /**
+     * Returns the data for a given {@link VisualVMModel.DataType}.
+     *
+     * @param dataType  the type of data to return
+     *
+     * @return the data for the given type or null if there is none
+     */
+    public List<Map.Entry<Object, Data>> getData(VisualVMModel.DataType dataType)
+        {
+        return f_mapData.get(dataType);
+        }
+
+    /**
+     * Returns the version of the snapshot in which the data for a given
+     * {@link VisualVMModel.DataType} last changed. Readers can use this to
+     * skip work for data which has not been refreshed since they last looked.
+     *
+     * @param dataType  the type of data
+     *
+     * @return the version of the snapshot the data last changed in
+     */
+    public long getDataVersion(VisualVMModel.DataType dataType)
+        {
+        return f_alDataVersions[dataType.ordinal()];
+        }
+
+    /**
+     * Returns the {@link VisualVMModel.DataType}s this snapshot has data for.
+     *
+     * @return the {@link VisualVMModel.DataType}s this snapshot has data for
+     */
+    public Set<VisualVMModel.DataType> getDataTypes()
+        {
+        return Collections.unmodifiableSet(f_mapData.keySet());
+        }
+
+    /**
+     * Returns a snapshot which follows this one and has the same data, except
+     * for the given {@link VisualVMModel.DataType}s which have been erased.
+     * The data of the other types is shared and keeps its data version.
+     *
+     * @param nVersion      the version of the new snapshot
+     * @param ldtTimestamp  the time the new snapshot was taken
+     * @param aTypes        the types of data to erase
+     *
+     * @return the new snapshot
+     */
+    public ModelSnapshot without(long nVersion, long ldtTimestamp, VisualVMModel.DataType... aTypes)
+        {
+        Map<VisualVMModel.DataType, List<Map.Entry<Object, Data>>> mapData =
+                new EnumMap<>(VisualVMModel.DataType.class);
+        Object[] aoSource   = f_aoSource.clone();
+        long[]   alVersions = f_alDataVersions.clone();
+
+        mapData.putAll(f_mapData);
+        for (VisualVMModel.DataType type : aTypes)
+            {
+            int nIndex = type.ordinal();
+            if (mapData.remove(type) != null || aoSource[nIndex] != null)
+                {
+                aoSource[nIndex]   = null;
+                alVersions[nIndex] = nVersion;
+                }
+            }
+
+        return new ModelSnapshot(nVersion, ldtTimestamp, mapData, aoSource, alVersions);
+        }
+
+    /**
+     * Returns the {@link Aggregate} of a column for a given {@link VisualVMModel.DataType}.
+     * The aggregate is calculated the first time it is requested and then shared
+     * by all readers of this snapshot, so it is calculated at most once per refresh.
+     *
+     * @param dataType  the type of data to aggregate
+     * @param nColumn   the column to aggregate
+     *
+     * @return the {@link Aggregate} of the column
+     */
+    public Aggregate getAggregate(VisualVMModel.DataType dataType, int nColumn)
+        {
+        // a racy read is fine as a missing aggregate is looked up again under the lock
+        Aggregate[] aAggregates = f_aaAggregates[dataType.ordinal()];
+        Aggregate   aggregate   = aAggregates == null || nColumn >= aAggregates.length ? null : aAggregates[nColumn];
+
+        return aggregate == null ? computeAggregate(dataType, nColumn) : aggregate;
+        }
+
+    /**
+     * Returns a value derived from this snapshot. The function is used as the key
+     * for the value, is only called the first time the value is requested and
+     * must not depend on any state other than the model and the snapshot.
+     *
+     * @param model     the {@link VisualVMModel} this snapshot was published by
+     * @param function  the function to derive the value
+     * @param <T>       the type of the value
+     *
+     * @return the derived value
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T getDerived(VisualVMModel model, BiFunction<VisualVMModel, ModelSnapshot, T> function)
+        {
+        Object oValue = f_mapDerived.get(function);
+        if (oValue == null)
+            {
+            oValue = f_mapDerived.computeIfAbsent(function, fn -> function.apply(model, this));
+            }
+        return (T) oValue;
+        }
+
+    // ----- helpers --------------------------------------------------------
+
+    /**
+     * Calculate and store the {@link Aggregate} of a column.
+     *
+     * @param dataType  the type of data to aggregate
+     * @param nColumn   the column to aggregate
+     *
+     * @return the {@link Aggregate} of the column
+     */
+    private synchronized Aggregate computeAggregate(VisualVMModel.DataType dataType, int nColumn)
+        {
+        int         nType       = dataType.ordinal();
+        Aggregate[] aAggregates = f_aaAggregates[nType];
+
+        if (aAggregates == null || nColumn >= aAggregates.length)
+            {
+            aAggregates = aAggregates == null
+                          ? new Aggregate[nColumn + 1]
+                          : Arrays.copyOf(aAggregates, nColumn + 1);
+            f_aaAggregates[nType] = aAggregates;
+            }
+
+        Aggregate aggregate = aAggregates[nColumn];
+        if (aggregate == null)
+            {
+            aggregate = aAggregates[nColumn] = new Aggregate(getData(dataType), nColumn);
+            }
+        return aggregate;
+        }
+
+    // ----- inner classes --------------------------------------------------
+
+    /**
+     * The count, first value, sum and maximum of a column across all the rows
+     * of a {@link VisualVMModel.DataType}. The sum and maximum of only the
+     * positive values multiplied by 1000 are also kept for fractional columns.
+     */
+    public static final class Aggregate
+        {
+        /**
+         * Calculate the aggregate of a column.
+         *
+         * @param listData  the rows to aggregate, may be null
+         * @param nColumn   the column to aggregate
+         */
+        private Aggregate(List<Map.Entry<Object, Data>> listData, int nColumn)
+            {
+            long nCount         = 0L;
+            long nFirst         = 0L;
+            long nSum           = 0L;
+            long nMax           = 0L;
+            long nPositiveCount = 0L;
+            long nScaledSum     = 0L;
+            long nScaledMax     = 0L;
+
+            if (listData != null)
+                {
+                for (Map.Entry<Object, Data> entry : listData)
+                    {
+                    Data data   = entry.getValue();
+                    long nValue = data.getLong(nColumn);
+
+                    if (nCount++ == 0L)
+                        {
+                        nFirst = nValue;
+                        }
+                    nSum += nValue;
+                    if (nValue > nMax)
+                        {
+                        nMax = nValue;
+                        }
+
+                    long nScaled = (long) ((float) data.getDouble(nColumn) * 1000L);
+                    if (nScaled > 0L)
+                        {
+                        nPositiveCount++;
+                        nScaledSum += nScaled;
+                        if (nScaled > nScaledMax)
+                            {
+                            nScaledMax = nScaled;
+                            }
+                        }
+                    }
+                }
+
+            f_nCount         = nCount;
+            f_nFirst         = nFirst;
+            f_nSum           = nSum;
+            f_nMax           = nMax;
+            f_nPositiveCount = nPositiveCount;
+            f_nScaledSum     = nScaledSum;
+            f_nScaledMax     = nScaledMax;
+            }
+
+        /**
+         * Returns the number of rows.
+         *
+         * @return the number of rows
+         */
+        public long getCount()
+            {
+            return f_nCount;
+            }
+
+        /**
+         * Returns the value of the first row.
+         *
+         * @return the value of the first row or 0 if there are no rows
+         */
+        public long getFirst()
+            {
+            return f_nFirst;
+            }
+
+        /**
+         * Returns the sum of the values.
+         *
+         * @return the sum of the values
+         */
+        public long getSum()
+            {
+            return f_nSum;
+            }
+
+        /**
+         * Returns the maximum value, which is never less than 0.
+         *
+         * @return the maximum value
+         */
+        public long getMax()
+            {
+            return f_nMax;
+            }
+
+        /**
+         * Returns the number of rows with a value multiplied by 1000 greater than 0.
+         *
+         * @return the number of rows with a positive value
+         */
+        public long getPositiveCount()
+            {
+            return f_nPositiveCount;
+            }
+
+        /**
+         * Returns the sum of the positive values multiplied by 1000.
+         *
+         * @return the sum of the positive values multiplied by 1000
+         */
+        public long getScaledSum()
+            {
+            return f_nScaledSum;
+            }
+
+        /**
+         * Returns the maximum of the values multiplied by 1000.
+         *
+         * @return the maximum of the values multiplied by 1000
+         */
+        public long getScaledMax()
+            {
+            return f_nScaledMax;
+            }
+
+        // ----- data members -----------------------------------------------
+
+        /**
+         * The number of rows.
+         */
+        private final long f_nCount;
+
+        /**
+         * The value of the first row.
+         */
+        private final long f_nFirst;
+
+        /**
+         * The sum of the values.
+         */
+        private final long f_nSum;
+
+        /**
+         * The maximum value.
+         */
+        private final long f_nMax;
+
+        /**
+         * The number of rows with a positive value.
+         */
+        private final long f_nPositiveCount;
+
+        /**
+         * The sum of the positive values multiplied by 1000.
+         */
+        private final long f_nScaledSum;
+
+        /**
+         * The maximum of the values multiplied by 1000.
+         */
+        private final long f_nScaledMax;
+        }
+
+    // ----- constants ------------------------------------------------------
+
+    /**
+     * The snapshot published before the first refresh.
+     */
+    public static final ModelSnapshot EMPTY =
+            new ModelSnapshot(0L, 0L, Collections.<VisualVMModel.DataType, List<Map.Entry<Object, Data>>>emptyMap());
+
+    // ----- data members ---------------------------------------------------
+
+    /**
+     * The version of the snapshot.
+     */
+    private final long f_nVersion;
+
+    /**
+     * The time the snapshot was taken.
+     */
+    private final long f_ldtTimestamp;
+
+    /**
+     * The data for each {@link VisualVMModel.DataType}.
+     */
+    private final Map<VisualVMModel.DataType, List<Map.Entry<Object, Data>>> f_mapData;
+
+    /**
+     * The lists the data was created from, indexed by type, used to detect
+     * which data has changed since the previous snapshot.
+     */
+    private final Object[] f_aoSource;
+
+    /**
+     * The version of the snapshot each type of data last changed in, indexed by type.
+     */
+    private final long[] f_alDataVersions;
+
+    /**
+     * The column aggregates calculated so far, indexed by type and column.
+     */
+    private final Aggregate[][] f_aaAggregates = new Aggregate[VisualVMModel.DataType.values().length][];
+
+    /**
+     * The values derived from this snapshot, keyed by the deriving function.
+     */
+    private final Map<Object, Object> f_mapDerived = new ConcurrentHashMap<>();
+    }
@@ -25,7 +25,14 @@
 package com.oracle.coherence.plugin.visualvm;
 
 import com.oracle.coherence.plugin.visualvm.helper.HttpRequestSender;
+import com.oracle.coherence.plugin.visualvm.helper.JMXRequestSender;
+import com.oracle.coherence.plugin.visualvm.helper.ReplayRequestSender;
+import com.oracle.coherence.plugin.visualvm.helper.ReportBatch;
+import com.oracle.coherence.plugin.visualvm.helper.RequestCache;
 import com.oracle.coherence.plugin.visualvm.helper.RequestSender;
+import com.oracle.coherence.plugin.visualvm.helper.TimeSeriesStore;
+import com.oracle.coherence.plugin.visualvm.recording.RecordingReader;
+import com.oracle.coherence.plugin.visualvm.recording.SnapshotRecorder;
 import com.oracle.coherence.plugin.visualvm.tablemodel.model.CacheData;
 import com.oracle.coherence.plugin.visualvm.tablemodel.model.CacheDetailData;
 import com.oracle.coherence.plugin.visualvm.tablemodel.model.CacheFrontDetailData;
@@ -56,6 +63,7 @@ import com.oracle.coherence.plugin.visualvm.tablemodel.model.PersistenceData;
 import com.oracle.coherence.plugin.visualvm.tablemodel.model.PersistenceNotificationsData;
 import com.oracle.coherence.plugin.visualvm.tablemodel.model.ProxyData;
 import com.oracle.coherence.plugin.visualvm.tablemodel.model.RamJournalData;
+import com.oracle.coherence.plugin.visualvm.tablemodel.model.ReportTemplate;
 import com.oracle.coherence.plugin.visualvm.tablemodel.model.ServiceData;
 import com.oracle.coherence.plugin.visualvm.tablemodel.model.ServiceMemberData;
 import com.oracle.coherence.plugin.visualvm.tablemodel.model.TopicData;
@@ -74,8 +82,10 @@ import java.io.Reader;
 
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Date;
 import java.util.EnumMap;
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -83,13 +93,26 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.SortedMap;
+import java.util.SortedSet;
 import java.util.TreeMap;
+import java.util.TreeSet;
 
 import java.util.Map.Entry;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import javax.management.ObjectName;
+
 
 /**
  * A class that is used to store and update Coherence cluster
@@ -133,7 +156,8 @@ public class VisualVMModel
         m_ldtLastUpdate = System.currentTimeMillis() - m_nRefreshTime - 1L;
 
         // populate mapCollectedData which contains an entry for each type
-        m_mapCollectedData = new EnumMap<>(DataType.class);
+        // the map is updated concurrently when refreshing in parallel
+        m_mapCollectedData = Collections.synchronizedMap(new EnumMap<>(DataType.class));
 
         for (DataType type : DataType.values())
             {
@@ -189,10 +213,12 @@ public class VisualVMModel
                 String sReportXML = getReportXML(sReport);
                 if (sReportXML != null)
                     {
-                    f_mapReportXML.put(entry.getKey(), sReportXML);
+                    f_mapReportTemplates.put(entry.getKey(), new ReportTemplate(sReportXML));
                     }
                 }
             }
+
+        buildDependencyGraph();
         }
 
     /**
@@ -205,6 +231,35 @@ public class VisualVMModel
         return GlobalPreferences.sharedInstance().getRefreshTime() * 1000L;
         }
 
+    /**
+     * Returns a Coherence version as an integer for comparison reasons.
+     *
+     * @param sCoherenceVersion  the version without any suffix, e.g. 14.1.1.0.0
+     *
+     * @return the version as an integer
+     */
+    private static int getVersionAsInt(String sCoherenceVersion)
+        {
+        if (sCoherenceVersion.startsWith("3.5"))
+            {
+            // manual check as version numbering changed after 35
+            return 353;
+            }
+        else if (sCoherenceVersion.startsWith("2") || sCoherenceVersion.startsWith("3"))
+            {
+            // check for versions such as 20.06 or 20.06.01 and convert them to an ever-increasing number
+            // 20.06    -> 2006000
+            // 20.06.1  -> 2006100
+            // 20.06.10 -> 2006100
+            String sStrippedVersion = sCoherenceVersion.replaceAll("\\.", "");
+            return Integer.parseInt(sStrippedVersion) * (int) Math.pow(10, 7 - (double) sStrippedVersion.length());
+            }
+        else
+            {
+            return Integer.parseInt(sCoherenceVersion.replaceAll("\\.", ""));
+            }
+        }
+
     /**
      * Indicates if we should log query times.
      *
@@ -220,11 +275,20 @@ public class VisualVMModel
      * This method will only refresh data if at least the REFRESH_TIME
      * has passed since last refresh, or an immediate refresh is requested after
      * selecting a new row in a master-detail table.
+     * <p>
+     * If the sender is a {@link ReplayRequestSender} the recorded cycle at its
+     * playback position is published instead.
      *
      * @param requestSender  the RequestSender to use
      */
     public void refreshStatistics(RequestSender requestSender)
         {
+        if (requestSender instanceof ReplayRequestSender)
+            {
+            replayCycle((ReplayRequestSender) requestSender);
+            return;
+            }
+
         boolean fImmediateRefresh = isImmediateRefresh();
 
         if (fImmediateRefresh || (System.currentTimeMillis() - m_ldtLastUpdate >= m_nRefreshTime))
@@ -243,36 +307,52 @@ public class VisualVMModel
             // refresh every iteration so we can enable and disable on the fly
             m_fLogJMXQueryTimes = isLogQueryTimes();
 
-            // its important that the CACHE data is refreshed first and
-            // as such we are relying on the order of types in the enum.
-            for (DataType type : DataType.values())
+            HttpRequestSender httpRequestSender = requestSender instanceof HttpRequestSender
+                                                  ? (HttpRequestSender) requestSender : null;
+            long cbReceivedStart     = httpRequestSender == null ? 0L : httpRequestSender.getBytesReceived();
+            long cbUncompressedStart = httpRequestSender == null ? 0L : httpRequestSender.getBytesUncompressed();
+
+            // an immediate refresh is requested when a selection changes so all types are retrieved
+            m_fAdaptiveCycle = isAdaptiveRefresh() && !m_fIsFirstRefresh && !fImmediateRefresh;
+
+            // each distinct request is only sent once during the refresh
+            RequestCache requestCache = requestSender.getRequestCache();
+            requestCache.startCycle();
+
+            // submit the reports of all the types due in this cycle together
+            m_reportBatch = createReportBatch(requestSender);
+            try
                 {
-                // optimize the retrieval if this is not the first time and only query
-                // specific data types if the functionality is enabled.
-                // this can improve performance especially over REST
-                if (m_fIsFirstRefresh || shouldRetrieveData(type))
+                if (isParallelRefresh())
+                    {
+                    refreshStatisticsInParallel(requestSender);
+                    }
+                else
                     {
-                    if (m_fLogJMXQueryTimes)
+                    // refresh in dependency order, e.g. SERVICE before CACHE
+                    for (DataType type : f_listRefreshOrder)
                         {
-                        LOGGER.log(Level.INFO, "Starting querying statistics for {0}", type);
+                        refreshDataType(requestSender, type);
                         }
+                    }
+                }
+            finally
+                {
+                requestCache.endCycle();
 
-                    long ldtCollectionStart = System.currentTimeMillis();
-                    m_mapCollectedData.put(type, getData(requestSender, type.getClassName()));
-                    long ldtCollectionTime  = System.currentTimeMillis() - ldtCollectionStart;
+                // make the data of the whole cycle visible to readers at once
+                publishSnapshot(System.currentTimeMillis());
 
-                    if (m_fLogJMXQueryTimes)
-                        {
-                        LOGGER.info("Time to query statistics for " + type.toString() + " was " +
-                                    ldtCollectionTime + " ms");
-                        }
+                SnapshotRecorder recorder = m_snapshotRecorder;
+                if (recorder != null)
+                    {
+                    recorder.record(f_refSnapshot.get());
                     }
-                else
+
+                if (m_reportBatch != null)
                     {
-                    if (m_fLogJMXQueryTimes)
-                        {
-                        LOGGER.log(Level.INFO, "Skipping querying statistics for {0} as it is not configured", type);
-                        }
+                    m_reportBatch.cancel();
+                    m_reportBatch = null;
                     }
                 }
 
@@ -281,6 +361,14 @@ public class VisualVMModel
             if (m_fLogJMXQueryTimes)
                {
                LOGGER.log(Level.INFO, "Time to query all statistics was {0} ms: {1}", new Object[]{ldtTotalDuration, f_dateFormat.format(new Date())});
+               LOGGER.log(Level.INFO, "Request cache hits {0}, misses {1}",
+                          new Object[]{requestCache.getHits(), requestCache.getMisses()});
+               if (httpRequestSender != null)
+                   {
+                   LOGGER.log(Level.INFO, "Received {0} bytes ({1} bytes uncompressed)",
+                              new Object[]{httpRequestSender.getBytesReceived() - cbReceivedStart,
+                                           httpRequestSender.getBytesUncompressed() - cbUncompressedStart});
+                   }
                }
 
             m_nRefreshTime  = getRefreshTime();
@@ -288,6 +376,509 @@ public class VisualVMModel
             }
         }
 
+    /**
+     * Publish the recorded cycle at the playback position of a {@link ReplayRequestSender}
+     * if it has not been published already. The data of every {@link DataType} is
+     * replaced by the recorded data, and the time of the cycle becomes the time of
+     * the last update.
+     *
+     * @param requestSender  the {@link ReplayRequestSender} to use
+     */
+    private void replayCycle(ReplayRequestSender requestSender)
+        {
+        setImmediateRefresh(false);
+
+        RecordingReader reader = requestSender.getReader();
+        int             nCycle = requestSender.getCurrentCycle();
+        if (nCycle < 0 || nCycle == m_nReplayedCycle)
+            {
+            return;
+            }
+
+        Map<DataType, List<Entry<Object, Data>>> mapData;
+        long                                     ldtCycle;
+        try
+            {
+            mapData  = reader.readCycle(nCycle);
+            ldtCycle = reader.getCycleTime(nCycle);
+            }
+        catch (RuntimeException e)
+            {
+            LOGGER.log(Level.WARNING, "Unable to replay cycle " + nCycle + " of " + reader.getDirectory(), e);
+            m_nReplayedCycle = nCycle;
+            return;
+            }
+
+        String sClusterVersion = reader.getClusterVersion();
+        if (m_sClusterVersion == null && sClusterVersion != null && !sClusterVersion.isEmpty())
+            {
+            m_sClusterVersion = sClusterVersion;
+            try
+                {
+                m_nClusterVersion = getVersionAsInt(sClusterVersion);
+                }
+            catch (NumberFormatException e)
+                {
+                LOGGER.log(Level.WARNING, "Unable to parse the recorded version {0}", sClusterVersion);
+                }
+            }
+
+        synchronized (m_mapCollectedData)
+            {
+            for (DataType type : DataType.values())
+                {
+                m_mapCollectedData.put(type, mapData.get(type));
+                }
+            }
+
+        publishSnapshot(ldtCycle);
+
+        m_ldtLastUpdate  = ldtCycle;
+        m_nReplayedCycle = nCycle;
+        }
+
+    /**
+     * Refresh the statistics for all {@link DataType}s concurrently using the
+     * shared refresh executor. Each type is scheduled from the dependency graph
+     * declared by the {@link DataRetriever}s, so a type is only started once all the
+     * types it consumes have completed and a refresh cycle takes roughly as long as
+     * the slowest chain of retrievals.
+     *
+     * @param requestSender  the RequestSender to use
+     */
+    private void refreshStatisticsInParallel(RequestSender requestSender)
+        {
+        Executor                               executor   = getRefreshExecutor();
+        Map<DataType, CompletableFuture<Void>> mapFutures = new EnumMap<>(DataType.class);
+
+        // the refresh order is topologically sorted so all dependencies are already scheduled
+        for (DataType type : f_listRefreshOrder)
+            {
+            // the retrievals take part in the refresh cycle of the calling thread
+            Runnable task = requestSender.getRequestCache().bind(() ->
+                {
+                try
+                    {
+                    refreshDataType(requestSender, type);
+                    }
+                catch (Exception e)
+                    {
+                    // don't fail the dependent retrievals
+                    LOGGER.log(Level.WARNING, "Unable to get data for " + type, e);
+                    }
+                });
+
+            Set<DataType>           setDependencies = f_mapDependencies.get(type);
+            CompletableFuture<Void> future;
+
+            if (setDependencies.isEmpty())
+                {
+                future = CompletableFuture.runAsync(task, executor);
+                }
+            else
+                {
+                CompletableFuture<?>[] aFutures = new CompletableFuture<?>[setDependencies.size()];
+                int                    i        = 0;
+
+                for (DataType dependency : setDependencies)
+                    {
+                    aFutures[i++] = mapFutures.get(dependency);
+                    }
+
+                future = CompletableFuture.allOf(aFutures).thenRunAsync(task, executor);
+                }
+
+            mapFutures.put(type, future);
+            }
+
+        try
+            {
+            CompletableFuture.allOf(mapFutures.values().toArray(new CompletableFuture[0])).join();
+            }
+        catch (Exception e)
+            {
+            LOGGER.log(Level.WARNING, "Error refreshing statistics in parallel", e);
+            }
+        }
+
+    /**
+     * Refresh the statistics for a single {@link DataType} if it should be retrieved.
+     *
+     * @param requestSender  the RequestSender to use
+     * @param type           the {@link DataType} to refresh
+     */
+    private void refreshDataType(RequestSender requestSender, DataType type)
+        {
+        // optimize the retrieval if this is not the first time and only query
+        // specific data types if the functionality is enabled.
+        // this can improve performance especially over REST
+        if (m_fIsFirstRefresh || shouldRetrieveData(type))
+            {
+            long ldtCollectionStart = System.currentTimeMillis();
+
+            if (!isRefreshDue(type, ldtCollectionStart, m_fLogJMXQueryTimes))
+                {
+                return;
+                }
+
+            if (m_fLogJMXQueryTimes)
+                {
+                LOGGER.log(Level.INFO, "Starting querying statistics for {0}", type);
+                }
+
+            List<Entry<Object, Data>> listData = getData(requestSender, type.getClassName());
+            m_mapCollectedData.put(type, listData);
+            f_mapLastRetrieved.put(type, ldtCollectionStart);
+            long ldtCollectionTime  = System.currentTimeMillis() - ldtCollectionStart;
+
+            if (isAdaptiveRefresh())
+                {
+                f_adaptiveScheduler.recordResult(type, listData, ldtCollectionStart);
+                }
+
+            if (m_fLogJMXQueryTimes)
+                {
+                LOGGER.info("Time to query statistics for " + type.toString() + " was " +
+                            ldtCollectionTime + " ms");
+                }
+            }
+        else
+            {
+            if (m_fLogJMXQueryTimes)
+                {
+                LOGGER.log(Level.INFO, "Skipping querying statistics for {0} as it is not configured", type);
+                }
+            }
+        }
+
+    /**
+     * Create a {@link ReportBatch} and submit the reports of all the {@link DataType}s
+     * due to be refreshed in this cycle, so that the reports are run concurrently
+     * rather than each waiting for a full round trip to the reporter in turn.
+     *
+     * @param requestSender  the RequestSender to use
+     *
+     * @return the {@link ReportBatch} or null if the reporter is not used
+     */
+    private ReportBatch createReportBatch(RequestSender requestSender)
+        {
+        if (!Boolean.parseBoolean(System.getProperty(PROP_REPORTER_BATCH, "true")) || m_fIsFirstRefresh ||
+            !(requestSender instanceof JMXRequestSender) || !Boolean.TRUE.equals(isReporterAvailable()))
+            {
+            return null;
+            }
+
+        try
+            {
+            JMXRequestSender jmxRequestSender  = (JMXRequestSender) requestSender;
+            String           sReporterLocation = jmxRequestSender.getReporterLocation();
+
+            if (sReporterLocation == null)
+                {
+                return null;
+                }
+
+            ReportBatch batch  = new ReportBatch(jmxRequestSender, new ObjectName(sReporterLocation));
+            long        ldtNow = System.currentTimeMillis();
+
+            for (DataType type : f_listRefreshOrder)
+                {
+                Class<?>       clazz    = type.getClassName();
+                ReportTemplate template = f_mapReportTemplates.get(clazz);
+
+                // Bug 22132359 - ProxyData uses JMX for pre 12.2.1.1.0 clusters
+                if (template != null && shouldRetrieveData(type) && isRefreshDue(type, ldtNow, false) &&
+                    !(clazz.equals(ProxyData.class) && getClusterVersionAsInt() < 122110))
+                    {
+                    batch.submit(getDataRetrieverInstance(clazz).preProcessReporterXML(this, template));
+                    }
+                }
+
+            return batch;
+            }
+        catch (Exception e)
+            {
+            LOGGER.log(Level.WARNING, "Unable to submit the reports for the refresh", e);
+            return null;
+            }
+        }
+
+    /**
+     * Returns the {@link ReportBatch} for the current refresh cycle.
+     *
+     * @return the {@link ReportBatch} for the current refresh cycle or null if
+     *         reports are not being run in a batch
+     */
+    public ReportBatch getReportBatch()
+        {
+        return m_reportBatch;
+        }
+
+    /**
+     * Returns true if a {@link DataType} which is configured to be retrieved is
+     * due to be refreshed in the current refresh cycle.
+     *
+     * @param type    the {@link DataType} to check
+     * @param ldtNow  the current time
+     * @param fLog    true to log the reason a type is not due
+     *
+     * @return true if the {@link DataType} is due to be refreshed
+     */
+    private boolean isRefreshDue(DataType type, long ldtNow, boolean fLog)
+        {
+        // data which is not displayed is only retrieved at the background cadence
+        if (!m_fIsFirstRefresh && m_mapCollectedData.get(type) != null && !isDataTypeInUse(type, ldtNow) &&
+            ldtNow - f_mapLastRetrieved.getOrDefault(type, 0L) < getBackgroundRefreshTime())
+            {
+            if (fLog)
+                {
+                LOGGER.log(Level.INFO, "Skipping querying statistics for {0} as it is not visible", type);
+                }
+            return false;
+            }
+
+        // data that is removed when a selection changes is always retrieved
+        if (m_fAdaptiveCycle && m_mapCollectedData.get(type) != null &&
+            !f_adaptiveScheduler.isDue(type, m_nRefreshTime, ldtNow))
+            {
+            if (fLog)
+                {
+                LOGGER.log(Level.INFO, "Skipping querying statistics for {0} as it is not yet due, interval is {1} ms",
+                           new Object[] {type, f_adaptiveScheduler.getInterval(type, m_nRefreshTime)});
+                }
+            return false;
+            }
+
+        return true;
+        }
+
+    /**
+     * Build the dependency graph of {@link DataType}s from the dependencies declared
+     * by each {@link DataRetriever} and determine the order in which the types must
+     * be refreshed. Types without a dependency between them keep their declaration order.
+     *
+     * @throws IllegalStateException if the declared dependencies contain a cycle
+     */
+    private void buildDependencyGraph()
+        {
+        Map<DataType, Set<DataType>> mapDependents = new EnumMap<>(DataType.class);
+        Map<DataType, Integer>       mapInDegree   = new EnumMap<>(DataType.class);
+
+        for (DataType type : DataType.values())
+            {
+            Set<DataType> setDependencies = EnumSet.noneOf(DataType.class);
+            setDependencies.addAll(getDataRetrieverInstance(type.getClassName()).getDependencies());
+
+            f_mapDependencies.put(type, Collections.unmodifiableSet(setDependencies));
+            mapInDegree.put(type, setDependencies.size());
+
+            for (DataType dependency : setDependencies)
+                {
+                mapDependents.computeIfAbsent(dependency, k -> EnumSet.noneOf(DataType.class)).add(type);
+                }
+            }
+
+        // Kahn's algorithm, always choosing the ready type declared first in the enum
+        SortedSet<DataType> setReady = new TreeSet<>();
+        for (Entry<DataType, Integer> entry : mapInDegree.entrySet())
+            {
+            if (entry.getValue() == 0)
+                {
+                setReady.add(entry.getKey());
+                }
+            }
+
+        while (!setReady.isEmpty())
+            {
+            DataType type = setReady.first();
+            setReady.remove(type);
+            f_listRefreshOrder.add(type);
+
+            for (DataType dependent : mapDependents.getOrDefault(type, Collections.emptySet()))
+                {
+                int nInDegree = mapInDegree.get(dependent) - 1;
+                mapInDegree.put(dependent, nInDegree);
+                if (nInDegree == 0)
+                    {
+                    setReady.add(dependent);
+                    }
+                }
+            }
+
+        if (f_listRefreshOrder.size() != DataType.values().length)
+            {
+            Set<DataType> setCyclic = EnumSet.allOf(DataType.class);
+            setCyclic.removeAll(f_listRefreshOrder);
+            throw new IllegalStateException("Cyclic dependency between data types " + setCyclic);
+            }
+        }
+
+    /**
+     * Returns the {@link DataType}s which must be refreshed before the given type
+     * as declared by its {@link DataRetriever}.
+     *
+     * @param type  the {@link DataType} to return the dependencies for
+     *
+     * @return the {@link Set} of direct dependencies
+     */
+    public Set<DataType> getDependencies(DataType type)
+        {
+        return f_mapDependencies.get(type);
+        }
+
+    /**
+     * Set the {@link DataType}s which are displayed by the visible panels. Types
+     * which are not visible, nor used by a running tracer, are only retrieved at a
+     * slow background cadence. The dependencies of the visible types are included
+     * automatically.
+     *
+     * @param setTypes  the visible {@link DataType}s or null to retrieve all types
+     *                  on every refresh
+     */
+    public void setVisibleDataTypes(Set<DataType> setTypes)
+        {
+        if (setTypes == null)
+            {
+            m_setVisibleDataTypes = null;
+            return;
+            }
+
+        m_setVisibleDataTypes = Collections.unmodifiableSet(withDependencies(setTypes));
+        }
+
+    /**
+     * Returns the {@link DataType}s which are displayed by the visible panels.
+     *
+     * @return the visible {@link DataType}s including their dependencies, or null
+     *         if all types are retrieved on every refresh
+     */
+    public Set<DataType> getVisibleDataTypes()
+        {
+        return m_setVisibleDataTypes;
+        }
+
+    /**
+     * Indicate that the given {@link DataType}s are in use by a consumer other than a panel,
+     * such as a tracer probe, so they continue to be retrieved on every refresh while the
+     * consumer keeps using them. The dependencies of the types are included
+     * automatically.
+     *
+     * @param setTypes  the {@link DataType}s in use
+     */
+    public void setDataTypesInUse(Set<DataType> setTypes)
+        {
+        long ldtNow = System.currentTimeMillis();
+
+        for (DataType type : withDependencies(setTypes))
+            {
+            f_mapLastUsed.put(type, ldtNow);
+            }
+        }
+
+    /**
+     * Returns the given {@link DataType}s together with all their dependencies,
+     * both direct and indirect.
+     *
+     * @param setTypes  the {@link DataType}s
+     *
+     * @return the {@link DataType}s and their transitive dependencies
+     */
+    private Set<DataType> withDependencies(Set<DataType> setTypes)
+        {
+        Set<DataType>  setResult = EnumSet.noneOf(DataType.class);
+        List<DataType> listToAdd = new ArrayList<>(setTypes);
+
+        while (!listToAdd.isEmpty())
+            {
+            DataType type = listToAdd.remove(listToAdd.size() - 1);
+            if (setResult.add(type))
+                {
+                listToAdd.addAll(getDependencies(type));
+                }
+            }
+
+        return setResult;
+        }
+
+    /**
+     * Indicates if the given {@link DataType} is either visible or has recently been
+     * used by another consumer.
+     *
+     * @param type    the {@link DataType} to check
+     * @param ldtNow  the current time in millis
+     *
+     * @return true if the {@link DataType} is in use
+     */
+    private boolean isDataTypeInUse(DataType type, long ldtNow)
+        {
+        Set<DataType> setVisible = m_setVisibleDataTypes;
+
+        if (setVisible == null || setVisible.contains(type))
+            {
+            return true;
+            }
+
+        Long ldtLastUsed = f_mapLastUsed.get(type);
+
+        return ldtLastUsed != null && ldtNow - ldtLastUsed <= IN_USE_REFRESH_COUNT * m_nRefreshTime;
+        }
+
+    /**
+     * Returns the time in millis between retrievals of {@link DataType}s which are not in use.
+     *
+     * @return the time in millis between retrievals of {@link DataType}s which are not in use
+     */
+    private long getBackgroundRefreshTime()
+        {
+        int nFactor = Integer.getInteger(PROP_BACKGROUND_REFRESH_FACTOR, DEFAULT_BACKGROUND_REFRESH_FACTOR);
+
+        return nFactor <= 0 ? Long.MAX_VALUE : nFactor * m_nRefreshTime;
+        }
+
+    /**
+     * Indicates if the refresh interval of each type should adapt to how often its data changes.
+     *
+     * @return if the refresh interval of each type should adapt
+     */
+    private boolean isAdaptiveRefresh()
+        {
+        return GlobalPreferences.sharedInstance().isAdaptiveRefreshEnabled();
+        }
+
+    /**
+     * Indicates if statistics should be refreshed in parallel.
+     *
+     * @return if statistics should be refreshed in parallel
+     */
+    private boolean isParallelRefresh()
+        {
+        return GlobalPreferences.sharedInstance().isParallelRefreshEnabled();
+        }
+
+    /**
+     * Returns the shared {@link Executor} used to refresh statistics in parallel,
+     * creating it if necessary.
+     *
+     * @return the shared {@link Executor}
+     */
+    private static synchronized Executor getRefreshExecutor()
+        {
+        if (s_executorRefresh == null)
+            {
+            int           nThreads = Math.max(1, Integer.getInteger(PROP_REFRESH_THREADS, DEFAULT_REFRESH_THREADS));
+            AtomicInteger nCount   = new AtomicInteger();
+
+            s_executorRefresh = Executors.newFixedThreadPool(nThreads, r ->
+                {
+                Thread thread = new Thread(r, "CoherenceVisualVMRefresh-" + nCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+                });
+            }
+
+        return s_executorRefresh;
+        }
+
 
     /**
      * Returns true if the {@link DataType} should be refreshed. E.g. If after the
@@ -407,10 +998,10 @@ public class VisualVMModel
         if (isReporterAvailable() != null && isReporterAvailable() &&
             !(clazz.equals(ProxyData.class) && getClusterVersionAsInt() < 122110))
             {
-            // retrieve the report XML for this class
-            String sReportXML = f_mapReportXML.get(clazz);
+            // retrieve the report template for this class
+            ReportTemplate template = f_mapReportTemplates.get(clazz);
 
-            if (sReportXML == null)
+            if (template == null)
                 {
                 // this means there is no report for this class
                 fFallBack = true;
@@ -428,7 +1019,7 @@ public class VisualVMModel
                         }
                     else
                         {
-                        mapCollectedData = retriever.getAggregatedDataUsingReport(this, requestSender, sReportXML);
+                        mapCollectedData = retriever.getAggregatedDataUsingReport(this, requestSender, template);
                         }
 
                     if (mapCollectedData != null)
@@ -484,26 +1075,7 @@ public class VisualVMModel
                                                 .replaceFirst("[\\.-]SNAPSHOT.*$","").replaceAll("-",".");
                             m_sClusterVersion = sCoherenceVersion;
 
-                            int nVersion = 0;
-
-                            if (sCoherenceVersion.startsWith("3.5"))
-                                {
-                                // manual check as version numbering changed after 35
-                                nVersion = 353;
-                                }
-                            else if (sCoherenceVersion.startsWith("2") || sCoherenceVersion.startsWith("3"))
-                                {
-                                // check for versions such as 20.06 or 20.06.01 and convert them to an ever-increasing number
-                                // 20.06    -> 2006000
-                                // 20.06.1  -> 2006100
-                                // 20.06.10 -> 2006100
-                                String sStrippedVersion = sCoherenceVersion.replaceAll("\\.", "");
-                                nVersion = Integer.parseInt(sStrippedVersion) * (int) Math.pow(10, 7 - (double) sStrippedVersion.length());
-                                }
-                            else
-                                {
-                                nVersion = Integer.parseInt(sCoherenceVersion.replaceAll("\\.", ""));
-                                }
+                            int nVersion = getVersionAsInt(sCoherenceVersion);
 
                             LOGGER.log(Level.INFO, "Raw Coherence version identified as {0}", m_sClusterVersion);
                             LOGGER.log(Level.INFO, "Numeric Coherence version identified as {0}", String.format("%d", nVersion));
@@ -639,6 +1211,7 @@ public class VisualVMModel
     public void eraseServiceMemberData()
         {
         m_mapCollectedData.put(DataType.SERVICE_DETAIL, null);
+        publishSnapshotWithout(DataType.SERVICE_DETAIL);
         }
 
     /**
@@ -647,6 +1220,7 @@ public class VisualVMModel
     public void eraseHotCachePerCacheData()
         {
         m_mapCollectedData.put(DataType.HOTCACHE_PERCACHE, null);
+        publishSnapshotWithout(DataType.HOTCACHE_PERCACHE);
         }
 
     /**
@@ -657,6 +1231,7 @@ public class VisualVMModel
         {
         m_mapCollectedData.put(DataType.FEDERATION_DESTINATION_DETAILS, null);
         m_mapCollectedData.put(DataType.FEDERATION_ORIGIN_DETAILS, null);
+        publishSnapshotWithout(DataType.FEDERATION_DESTINATION_DETAILS, DataType.FEDERATION_ORIGIN_DETAILS);
         }
 
     // ----- accessors ------------------------------------------------------
@@ -680,6 +1255,7 @@ public class VisualVMModel
         {
         m_sSelectedService = sService;
         m_mapCollectedData.remove(DataType.SERVICE_DETAIL);
+        publishSnapshotWithout(DataType.SERVICE_DETAIL);
         }
 
     /**
@@ -721,6 +1297,7 @@ public class VisualVMModel
         {
         this.m_sSelectedMember = sSelectedMember;
         m_mapCollectedData.remove(DataType.HOTCACHE_PERCACHE);
+        publishSnapshotWithout(DataType.HOTCACHE_PERCACHE);
         }
 
 
@@ -743,6 +1320,7 @@ public class VisualVMModel
         {
         m_sSelectedHttpProxyService = sService;
         m_mapCollectedData.remove(DataType.HTTP_PROXY_DETAIL);
+        publishSnapshotWithout(DataType.HTTP_PROXY_DETAIL);
         }
 
     /**
@@ -870,6 +1448,7 @@ public class VisualVMModel
         m_mapCollectedData.remove(DataType.CACHE_DETAIL);
         m_mapCollectedData.remove(DataType.CACHE_FRONT_DETAIL);
         m_mapCollectedData.remove(DataType.CACHE_STORAGE_MANAGER);
+        publishSnapshotWithout(DataType.CACHE_DETAIL, DataType.CACHE_FRONT_DETAIL, DataType.CACHE_STORAGE_MANAGER);
         }
 
     /**
@@ -883,6 +1462,7 @@ public class VisualVMModel
         m_mapCollectedData.remove(DataType.TOPIC_SUBSCRIBERS);
         m_mapCollectedData.remove(DataType.TOPIC_DETAIL);
         m_mapCollectedData.remove(DataType.TOPIC_SUBSCRIBER_GROUPS);
+        publishSnapshotWithout(DataType.TOPIC_SUBSCRIBERS, DataType.TOPIC_DETAIL, DataType.TOPIC_SUBSCRIBER_GROUPS);
         }
 
     /**
@@ -1119,17 +1699,99 @@ public class VisualVMModel
         }
 
     /**
-     * Returns the data for a given {@link DataType} enum.
+     * Returns the data for a given {@link DataType} enum from the most
+     * recently published {@link ModelSnapshot}.
      *
      * @param dataType the type of data to return
      *
      * @return the data for a given {@link DataType} enum.
      */
     public List<Entry<Object, Data>> getData(DataType dataType)
+        {
+        return f_refSnapshot.get().getData(dataType);
+        }
+
+    /**
+     * Returns the most recently published {@link ModelSnapshot}. Readers that
+     * use more than one {@link DataType} should use a single snapshot so they
+     * see the data from the same refresh cycle.
+     *
+     * @return the most recently published {@link ModelSnapshot}
+     */
+    public ModelSnapshot getSnapshot()
+        {
+        return f_refSnapshot.get();
+        }
+
+    /**
+     * Returns the data collected so far for a given {@link DataType}, which
+     * includes data retrieved in the current refresh cycle that has not been
+     * published yet. This is used by {@link DataRetriever}s which depend on
+     * the data of another type.
+     *
+     * @param dataType the type of data to return
+     *
+     * @return the data collected for a given {@link DataType} enum.
+     */
+    public List<Entry<Object, Data>> getCollectedData(DataType dataType)
         {
         return m_mapCollectedData.get(dataType);
         }
 
+    /**
+     * Publish a new {@link ModelSnapshot} without the data of the given types,
+     * which has been erased. The new snapshot is derived from the last published
+     * one, never from the data being collected, so that it cannot contain the
+     * data of a refresh which is still in progress.
+     *
+     * @param aTypes  the types of data which have been erased
+     */
+    private void publishSnapshotWithout(DataType... aTypes)
+        {
+        // when replaying, the erased data is restored by publishing the cycle again
+        m_nReplayedCycle = -1;
+
+        // the data for the new selection is refreshed at its base interval
+        for (DataType type : aTypes)
+            {
+            f_adaptiveScheduler.reset(type);
+            }
+
+        long          ldtNow = System.currentTimeMillis();
+        ModelSnapshot snapshotPrevious;
+        ModelSnapshot snapshot;
+        do
+            {
+            snapshotPrevious = f_refSnapshot.get();
+            snapshot         = snapshotPrevious.without(snapshotPrevious.getVersion() + 1, ldtNow, aTypes);
+            }
+        while (!f_refSnapshot.compareAndSet(snapshotPrevious, snapshot));
+        }
+
+    /**
+     * Publish a new {@link ModelSnapshot} of the data collected so far.
+     *
+     * @param ldtNow  the time the data was collected
+     */
+    private void publishSnapshot(long ldtNow)
+        {
+        Map<DataType, List<Entry<Object, Data>>> mapData = new EnumMap<>(DataType.class);
+
+        synchronized (m_mapCollectedData)
+            {
+            mapData.putAll(m_mapCollectedData);
+            }
+
+        ModelSnapshot snapshotPrevious;
+        ModelSnapshot snapshot;
+        do
+            {
+            snapshotPrevious = f_refSnapshot.get();
+            snapshot         = new ModelSnapshot(snapshotPrevious, snapshotPrevious.getVersion() + 1, ldtNow, mapData);
+            }
+        while (!f_refSnapshot.compareAndSet(snapshotPrevious, snapshot));
+        }
+
     /**
      * Returns if load average is available.
      *
@@ -1286,6 +1948,46 @@ public class VisualVMModel
         return m_requestSender;
         }
 
+    /**
+     * Returns the {@link TimeSeriesStore} holding the history of the graphs.
+     *
+     * @return the {@link TimeSeriesStore}
+     */
+    public TimeSeriesStore getTimeSeriesStore()
+        {
+        return m_timeSeriesStore;
+        }
+
+    /**
+     * Set the {@link TimeSeriesStore} holding the history of the graphs.
+     *
+     * @param store  the {@link TimeSeriesStore}
+     */
+    public void setTimeSeriesStore(TimeSeriesStore store)
+        {
+        m_timeSeriesStore = store;
+        }
+
+    /**
+     * Returns the {@link SnapshotRecorder} each refresh cycle is recorded to.
+     *
+     * @return the {@link SnapshotRecorder} or null if cycles are not recorded
+     */
+    public SnapshotRecorder getSnapshotRecorder()
+        {
+        return m_snapshotRecorder;
+        }
+
+    /**
+     * Set the {@link SnapshotRecorder} each refresh cycle is recorded to.
+     *
+     * @param recorder  the {@link SnapshotRecorder} or null to stop recording
+     */
+    public void setSnapshotRecorder(SnapshotRecorder recorder)
+        {
+        m_snapshotRecorder = recorder;
+        }
+
     // ----- constants ------------------------------------------------------
 
     /**
@@ -1303,20 +2005,21 @@ public class VisualVMModel
         }
 
     /**
-     * Returns the report XML for a given class.
+     * Returns the report templates keyed by class.
      *
-     * @return the report XML for a given class
+     * @return the report templates keyed by class
      */
-    public Map<Class<?>, String> getReportXMLMap()
+    public Map<Class<?>, ReportTemplate> getReportTemplateMap()
         {
-        return this.f_mapReportXML;
+        return this.f_mapReportTemplates;
         }
 
     /**
      * Defines the type of data we can collect.
-     * Note: The order of these is important. Please do not change. e.g. cluster
-     * need to go first so we can determine the version. Also service needs
-     * to go before cache so we could setup the list of distributed caches.
+     * Note: The order in which types are refreshed is determined by the
+     * dependencies declared in {@link DataRetriever#getDependencies()}, e.g.
+     * cache depends on service so the list of distributed caches is setup.
+     * The declaration order is only used for types that are not dependent.
      */
     public enum DataType
         {
@@ -1799,6 +2502,63 @@ public class VisualVMModel
      */
     public static final String PROP_DISABLE_MBEAN_CHECK = "coherence.plugin.visualvm.disable.mbean.check";
 
+    /**
+     * Property to enable refreshing of independent data types in parallel.
+     */
+    public static final String PROP_PARALLEL_REFRESH = "coherence.plugin.visualvm.parallel.refresh";
+
+    /**
+     * Property to set the number of threads used to refresh data in parallel.
+     */
+    public static final String PROP_REFRESH_THREADS = "coherence.plugin.visualvm.refresh.threads";
+
+    /**
+     * Property to set the multiple of the refresh time at which data not displayed is retrieved.
+     * A value of zero or less means data which is not displayed is not retrieved.
+     */
+    public static final String PROP_BACKGROUND_REFRESH_FACTOR = "coherence.plugin.visualvm.background.refresh.factor";
+
+    /**
+     * Default multiple of the refresh time at which data not displayed is retrieved.
+     */
+    private static final int DEFAULT_BACKGROUND_REFRESH_FACTOR = 10;
+
+    /**
+     * The number of refresh intervals for which a {@link DataType} is still in use after it
+     * was last used by a consumer other than a panel.
+     */
+    private static final int IN_USE_REFRESH_COUNT = 3;
+
+    /**
+     * Property to enable per data type refresh intervals which adapt to how often the data changes.
+     */
+    public static final String PROP_ADAPTIVE_REFRESH = "coherence.plugin.visualvm.adaptive.refresh";
+
+    /**
+     * Property to set the maximum multiple a data type's refresh interval can be backed off to.
+     */
+    public static final String PROP_REFRESH_MAX_BACKOFF = "coherence.plugin.visualvm.refresh.max.backoff";
+
+    /**
+     * Default maximum multiple a data type's refresh interval can be backed off to.
+     */
+    private static final int DEFAULT_REFRESH_MAX_BACKOFF = 8;
+
+    /**
+     * Property to disable running the reports of a refresh cycle as a batch.
+     */
+    public static final String PROP_REPORTER_BATCH = "coherence.plugin.visualvm.reporter.batch";
+
+    /**
+     * Property to disable sampling the attributes behind Tracer probes between full refreshes.
+     */
+    public static final String PROP_TRACER_SAMPLING = "coherence.plugin.visualvm.tracer.sampling";
+
+    /**
+     * Default number of threads used to refresh data in parallel.
+     */
+    private static final int DEFAULT_REFRESH_THREADS = 4;
+
     // ----- data members ---------------------------------------------------
 
     /**
@@ -1822,14 +2582,21 @@ public class VisualVMModel
     private boolean m_fLogJMXQueryTimes = false;
 
     /**
-     * A {@link Map} of {@link List}s to store the retrieved data
+     * A {@link Map} of {@link List}s to store the retrieved data. This is
+     * updated as each type is retrieved and published to readers through
+     * {@link #f_refSnapshot}.
      */
     private Map<DataType, List<Entry<Object, Data>>> m_mapCollectedData;
 
     /**
-     * a {@link Map} of report Class and their loaded XML.
+     * The most recently published {@link ModelSnapshot}.
      */
-    private final Map<Class<?>, String> f_mapReportXML = new HashMap<>();
+    private final AtomicReference<ModelSnapshot> f_refSnapshot = new AtomicReference<>(ModelSnapshot.EMPTY);
+
+    /**
+     * a {@link Map} of report Class and their parsed report templates.
+     */
+    private final Map<Class<?>, ReportTemplate> f_mapReportTemplates = new HashMap<>();
 
     /**
      * The selected service for detailed service data.
@@ -1889,14 +2656,14 @@ public class VisualVMModel
     /**
      * Defines if the federation service is used.
      */
-    private boolean m_fIsFederationAvailable = false;
+    private volatile boolean m_fIsFederationAvailable = false;
 
     /**
      * Defines if we can get statistics directly from reporter. This is only valid for
      * a coherence version >= 12.1.3. An initial null value indicates that we have
      * not yet determined if we can use the reporter.
      */
-    private Boolean m_fReporterAvailable = null;
+    private volatile Boolean m_fReporterAvailable = null;
 
     /**
      * Defines if we are running Coherence 12.1.3 or above
@@ -1918,11 +2685,53 @@ public class VisualVMModel
      */
     private final Map<Class<?>, DataRetriever> f_mapDataRetrievers = new HashMap<>();
 
+    /**
+     * Determines when each {@link DataType} is due to be refreshed when adaptive refresh is enabled.
+     */
+    private final AdaptiveRefreshScheduler f_adaptiveScheduler =
+            new AdaptiveRefreshScheduler(Integer.getInteger(PROP_REFRESH_MAX_BACKOFF, DEFAULT_REFRESH_MAX_BACKOFF));
+
+    /**
+     * Indicates if the current refresh cycle only retrieves the types that are due.
+     */
+    private volatile boolean m_fAdaptiveCycle;
+
+    /**
+     * The batch of reports for the current refresh cycle, or null if none.
+     */
+    private volatile ReportBatch m_reportBatch;
+
+    /**
+     * The {@link DataType}s displayed by the visible panels, or null if all types
+     * are retrieved on every refresh.
+     */
+    private volatile Set<DataType> m_setVisibleDataTypes;
+
+    /**
+     * The last time each {@link DataType} was used by a consumer other than a panel.
+     */
+    private final Map<DataType, Long> f_mapLastUsed = new ConcurrentHashMap<>();
+
+    /**
+     * The last time each {@link DataType} was retrieved.
+     */
+    private final Map<DataType, Long> f_mapLastRetrieved = new ConcurrentHashMap<>();
+
+    /**
+     * The direct dependencies of each {@link DataType} declared by its {@link DataRetriever}.
+     */
+    private final Map<DataType, Set<DataType>> f_mapDependencies = new EnumMap<>(DataType.class);
+
+    /**
+     * The {@link DataType}s in the order they must be refreshed to satisfy their dependencies.
+     */
+    private final List<DataType> f_listRefreshOrder = new ArrayList<>();
+
     /**
      * The set of distributed caches so that we don't double count replicated
      * or optimistic caches.
      */
-    private Set<String> m_setKnownDistributedCaches;
+    private volatile Set<String> m_setKnownDistributedCaches;
 
     /**
      * The set of domainPartition key values to check for connection
@@ -1945,7 +2754,7 @@ public class VisualVMModel
      * If "SystemLoadAverage" attribute returns -1, then this means we are on
      * Windows (tm) platform and we should use the "SystemCPULoad" instead.
      */
-    private boolean m_fIsLoadAverageAvailable = true;
+    private volatile boolean m_fIsLoadAverageAvailable = true;
 
     /**
      * Indicates if this is the first refresh.
@@ -1956,7 +2765,7 @@ public class VisualVMModel
      * Indicates if we can take advantage of REST optimizations from Enh 32530689.
      * If this value is null it means we have not yet determined if the cluster supports this.
      */
-    private Boolean m_fIRestCacheOptimizationAvailable = null;
+    private volatile Boolean m_fIRestCacheOptimizationAvailable = null;
 
     /**
      * Indicates if an immediate refresh is requested due to a change in
@@ -1968,4 +2777,25 @@ public class VisualVMModel
      * {@link RequestSender} for this {@link VisualVMModel}.
      */
     private RequestSender m_requestSender;
+
+    /**
+     * The {@link TimeSeriesStore} holding the history of the graphs.
+     */
+    private volatile TimeSeriesStore m_timeSeriesStore = new TimeSeriesStore();
+
+    /**
+     * The recorder each refresh cycle is recorded to, or null if not recording.
+     */
+    private volatile SnapshotRecorder m_snapshotRecorder;
+
+    /**
+     * The index of the recorded cycle that was last published when replaying
+     * a recording, or -1.
+     */
+    private volatile int m_nReplayedCycle = -1;
+
+    /**
+     * The shared {@link ExecutorService} used to refresh data in parallel.
+     */
+    private static ExecutorService s_executorRefresh;
     }
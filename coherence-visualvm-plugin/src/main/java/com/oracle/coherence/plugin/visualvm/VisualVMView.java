@@ -28,10 +28,13 @@ package com.oracle.coherence.plugin.visualvm;
 import com.fasterxml.jackson.databind.JsonNode;
 
 import com.oracle.coherence.plugin.visualvm.datasource.CoherenceClusterDataSource;
+import com.oracle.coherence.plugin.visualvm.datasource.CoherenceRecordingDataSource;
 import com.oracle.coherence.plugin.visualvm.helper.DialogHelper;
 import com.oracle.coherence.plugin.visualvm.helper.HttpRequestSender;
 import com.oracle.coherence.plugin.visualvm.helper.JMXRequestSender;
+import com.oracle.coherence.plugin.visualvm.helper.ReplayRequestSender;
 import com.oracle.coherence.plugin.visualvm.helper.RequestSender;
+import com.oracle.coherence.plugin.visualvm.helper.TimeSeriesStore;
 import com.oracle.coherence.plugin.visualvm.panel.AbstractCoherencePanel;
 import com.oracle.coherence.plugin.visualvm.panel.CoherenceClusterSnapshotPanel;
 import com.oracle.coherence.plugin.visualvm.panel.CoherenceExecutorPanel;
@@ -53,10 +56,17 @@ import com.oracle.coherence.plugin.visualvm.panel.CoherenceProxyPanel;
 import com.oracle.coherence.plugin.visualvm.panel.CoherenceServicePanel;
 import com.oracle.coherence.plugin.visualvm.panel.CoherenceFederationPanel;
 import com.oracle.coherence.plugin.visualvm.panel.CoherenceHotCachePanel;
+import com.oracle.coherence.plugin.visualvm.panel.util.ExportableJTable;
+import com.oracle.coherence.plugin.visualvm.panel.util.ReplayControlPanel;
+import com.oracle.coherence.plugin.visualvm.recording.RecordingReader;
+import com.oracle.coherence.plugin.visualvm.recording.SnapshotRecorder;
 
 import java.awt.Image;
-import java.awt.event.ActionEvent;
-import java.awt.event.ActionListener;
+import java.awt.event.HierarchyEvent;
+import java.awt.event.HierarchyListener;
+
+import java.io.File;
+import java.io.IOException;
 
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
@@ -66,7 +76,8 @@ import java.util.logging.Logger;
 
 import javax.swing.ImageIcon;
 import javax.swing.JEditorPane;
-import javax.swing.Timer;
+import javax.swing.JTable;
+import javax.swing.SwingUtilities;
 
 import org.graalvm.visualvm.application.Application;
 import org.graalvm.visualvm.core.datasupport.Stateful;
@@ -145,6 +156,37 @@ public class VisualVMView
             }
         }
 
+    /**
+     * Creates the new instance of the tab for replaying a recording.
+     *
+     * @param dataSource the Coherence cluster recording data source
+     */
+    public VisualVMView(CoherenceRecordingDataSource dataSource)
+        {
+        super(dataSource, "Oracle Coherence", new ImageIcon(ImageUtilities.loadImage(IMAGE_PATH, true)).getImage(), 60,
+              false);
+        File            dir    = dataSource.getDirectory();
+        RecordingReader reader = new RecordingReader(dir);
+        try
+            {
+            reader.refresh();
+            if (reader.getCycleCount() == 0)
+                {
+                String sMessage = Localization.getLocalText("ERR_no_recording", dir.getAbsolutePath());
+                LOGGER.warning(sMessage);
+                DialogDisplayer.getDefault().notify(new NotifyDescriptor.Message(sMessage));
+                }
+            }
+        catch (IOException e)
+            {
+            String sMessage = Localization.getLocalText("ERR_no_recording", dir.getAbsolutePath())
+                              + "\nError: " + e.getMessage();
+            LOGGER.warning(sMessage);
+            DialogDisplayer.getDefault().notify(new NotifyDescriptor.Message(sMessage));
+            }
+        m_requestSender = new ReplayRequestSender(reader);
+        }
+
     // ----- helpers --------------------------------------------------------
 
     /**
@@ -163,6 +205,9 @@ public class VisualVMView
         if (m_application != null)
             {
             addModelForApplication(m_application, model);
+
+            // keep the history of the graphs if the view of the application is closed and opened again
+            model.setTimeSeriesStore(f_timeSeriesStores.computeIfAbsent(m_application, a -> new TimeSeriesStore()));
             }
 
         if (m_application == null)
@@ -218,11 +263,23 @@ public class VisualVMView
             sClusterName =clusterData.iterator().next().getValue().getColumn(ClusterData.CLUSTER_NAME).toString();
             }
 
+        // record each refresh cycle if enabled, or show the playback controls when replaying a recording
+        if (m_requestSender instanceof ReplayRequestSender)
+            {
+            m_replayControls = new ReplayControlPanel((ReplayRequestSender) m_requestSender,
+                                                      () -> m_refresh.requestRefresh());
+            }
+        else
+            {
+            model.setSnapshotRecorder(SnapshotRecorder.create(sClusterName, sClusterVersion));
+            }
+
         // Master view:
         DataViewComponent.MasterView masterView =
                 new DataViewComponent.MasterView(
                         Localization.getLocalText("LBL_cluster_information",
-                                                  sClusterName, sClusterVersion), null, generalDataArea);
+                                                  sClusterName, sClusterVersion), null,
+                        m_replayControls == null ? generalDataArea : m_replayControls);
 
         // Configuration of master view:
         DataViewComponent.MasterViewConfiguration masterConfiguration =
@@ -367,6 +424,15 @@ public class VisualVMView
         pnlGrpcProxy.setRequestSender(m_requestSender);
         pnlHealth.setRequestSender(m_requestSender);
 
+        // allow all the tables of this view to be saved together from any of them
+        for (AbstractCoherencePanel panel : f_setPanels)
+            {
+            for (ExportableJTable table : panel.getExportableTables())
+                {
+                table.setAllTablesSupplier(this::getExportableTables);
+                }
+            }
+
         // display a warning if we are connected to a WLS domain and we can
         // see more than 1 domainPartition key. This code relies on us
         // using JMX queries rather than the reporter.
@@ -377,61 +443,172 @@ public class VisualVMView
 
         m_dvc.selectDetailsView(clusterOverview);
 
-        // create a timer that will refresh the TAB's as required every 3 seconds
-        // the reason for 3 seconds is so that with the min cluster data refresh time of
-        // 5 seconds, the updates will be smoother
-        m_timer = new Timer(3000, new ActionListener()
+        // the cluster overview is always refreshed, other panels only while they are visible
+        m_pnlClusterOverview = pnlClusterOverview;
+        f_setVisiblePanels.add(pnlClusterOverview);
+
+        for (AbstractCoherencePanel panel : f_setPanels)
             {
-            public void actionPerformed(ActionEvent e)
+            panel.addHierarchyListener(new HierarchyListener()
                 {
-                if (f_refreshRunning)
+                public void hierarchyChanged(HierarchyEvent e)
                     {
-                    return;
+                    if ((e.getChangeFlags() & HierarchyEvent.SHOWING_CHANGED) != 0)
+                        {
+                        updateVisiblePanels(panel);
+                        }
                     }
+                });
+            }
+
+        // register with the scheduler shared by all views to refresh the TAB's as required
+        // every 3 seconds. The reason for 3 seconds is so that with the min cluster data
+        // refresh time of 5 seconds, the updates will be smoother. A recording is read
+        // locally so it is replayed more often to follow the playback position closely
+        m_refresh = ClusterRefreshScheduler.getInstance().register(String.valueOf(sClusterName),
+                m_replayControls == null ? 3000 : REPLAY_REFRESH_INTERVAL,
+                m_replayControls == null ? 800 : 0, m_dvc.isShowing(), () ->
+            {
+            // if the previous cycle has not been applied to the GUI yet then
+            // skip this one rather than queue up further updates behind it
+            if (f_refreshRunning)
+                {
+                return;
+                }
 
-                f_refreshRunning = true;
-                RequestProcessor.getDefault().post(new Runnable()
+            f_refreshRunning = true;
+
+            List<AbstractCoherencePanel> listUpdated = new ArrayList<>();
+            try
+                {
+                // application may be null inside the constructor
+                if (m_application == null || m_application.getState() == Stateful.STATE_AVAILABLE)
                     {
-                    public void run()
+                    model.refreshStatistics(m_requestSender);
+
+                    // refresh only the panels that were activated on startup and are visible,
+                    // the data is collected here and applied to the components on the EDT
+                    for (AbstractCoherencePanel panel : f_setPanels)
                         {
-                        try
+                        if (f_setVisiblePanels.contains(panel))
                             {
-                            // application may be null inside the constructor
-                            if (m_application == null || m_application.getState() == Stateful.STATE_AVAILABLE)
-                                {
-                                // Schedule the SwingWorker to update the GUI
-                                model.refreshStatistics(m_requestSender);
-
-                                // refresh only the panels that were activated on startup
-                                for (AbstractCoherencePanel panel : f_setPanels)
-                                    {
-                                    panel.updateData();
-                                    panel.updateGUI();
-                                    }
-                                }
-                            }
-                        catch (Exception ex)
-                            {
-                            LOGGER.log(Level.WARNING, "Error while refreshing tabs. {0} ", e);
-                            }
-                        finally
-                            {
-                            f_refreshRunning = false;
+                            panel.updateData();
+                            listUpdated.add(panel);
                             }
                         }
-                    });
+                    }
+                }
+            catch (Exception ex)
+                {
+                LOGGER.log(Level.WARNING, "Error while refreshing tabs. {0} ", ex);
+                }
+            finally
+                {
+                SwingUtilities.invokeLater(() -> updateGUI(listUpdated));
+                }
+            });
+
+        // the refreshes of the view which is showing take priority over those in the background
+        m_dvc.addHierarchyListener(new HierarchyListener()
+            {
+            public void hierarchyChanged(HierarchyEvent e)
+                {
+                if ((e.getChangeFlags() & HierarchyEvent.SHOWING_CHANGED) != 0)
+                    {
+                    m_refresh.setFocused(m_dvc.isShowing());
+                    }
                 }
             });
-        m_timer.setInitialDelay(800);
-        m_timer.start();
 
         return m_dvc;
         }
 
+    /**
+     * Update the visible panels and the {@link VisualVMModel.DataType}s the model
+     * retrieves on every refresh after the given panel was shown or hidden.
+     * Called on the event dispatch thread.
+     *
+     * @param panel  the {@link AbstractCoherencePanel} that was shown or hidden
+     */
+    private void updateVisiblePanels(AbstractCoherencePanel panel)
+        {
+        boolean fShowing = panel.isShowing();
+
+        if (fShowing)
+            {
+            f_setVisiblePanels.add(panel);
+            }
+        else if (panel != m_pnlClusterOverview)
+            {
+            f_setVisiblePanels.remove(panel);
+            }
+
+        Set<VisualVMModel.DataType> setTypes = EnumSet.noneOf(VisualVMModel.DataType.class);
+        for (AbstractCoherencePanel visiblePanel : f_setVisiblePanels)
+            {
+            setTypes.addAll(visiblePanel.getDataTypes());
+            }
+
+        m_model.setVisibleDataTypes(setTypes);
+
+        if (fShowing)
+            {
+            // retrieve the data for the newly shown panel without waiting for the refresh time
+            m_model.setImmediateRefresh(true);
+            }
+        }
+
+    /**
+     * Apply the data collected by the given panels in a refresh cycle to
+     * their components. Called on the event dispatch thread once per cycle.
+     *
+     * @param listPanels  the panels that collected data in the cycle
+     */
+    private void updateGUI(List<AbstractCoherencePanel> listPanels)
+        {
+        try
+            {
+            for (AbstractCoherencePanel panel : listPanels)
+                {
+                try
+                    {
+                    panel.updateGUI();
+                    }
+                catch (Exception e)
+                    {
+                    LOGGER.log(Level.WARNING, "Error while updating " + panel.getClass().getSimpleName(), e);
+                    }
+                }
+
+            if (m_replayControls != null)
+                {
+                m_replayControls.update();
+                }
+            }
+        finally
+            {
+            f_refreshRunning = false;
+            }
+        }
+
     @Override
     protected void removed()
         {
-        m_timer.stop();
+        m_refresh.cancel();
+
+        SnapshotRecorder recorder = m_model == null ? null : m_model.getSnapshotRecorder();
+        if (recorder != null)
+            {
+            // the pending cycles are written before the segment is closed
+            m_model.setSnapshotRecorder(null);
+            RequestProcessor.getDefault().post(recorder::close);
+            }
+
+        if (m_requestSender instanceof JMXRequestSender)
+            {
+            // remove the subscriptions from the connection, which is owned by VisualVM
+            RequestProcessor.getDefault().post(((JMXRequestSender) m_requestSender)::close);
+            }
 
         // remove this application and the mapped VisualVmModel
         f_visualVmModels.remove(m_application);
@@ -444,7 +621,7 @@ public class VisualVMView
      */
     public void dataRemoved(Application app)
         {
-        m_timer.stop();
+        m_refresh.cancel();
         }
 
      /**
@@ -469,6 +646,36 @@ public class VisualVMView
         f_visualVmModels.put(application, model);
         }
 
+    /**
+     * Returns all the tables of this view keyed by the name to save them as.
+     *
+     * @return all the tables of this view
+     */
+    private Map<String, JTable> getExportableTables()
+        {
+        Map<String, JTable> mapTables = new LinkedHashMap<>();
+
+        for (AbstractCoherencePanel panel : f_setPanels)
+            {
+            String sPanel = panel.getClass().getSimpleName().replace("Coherence", "").replace("Panel", "");
+
+            for (ExportableJTable table : panel.getExportableTables())
+                {
+                String sModel = table.getModel().getClass().getSimpleName().replace("TableModel", "");
+                String sBase  = sPanel + "-" + (sModel.isEmpty() ? "Table" : sModel);
+                String sName  = sBase;
+
+                for (int i = 2; mapTables.containsKey(sName); i++)
+                    {
+                    sName = sBase + "-" + i;
+                    }
+                mapTables.put(sName, table);
+                }
+            }
+
+        return mapTables;
+        }
+
     // ----- constants ------------------------------------------------------
 
     /**
@@ -486,8 +693,20 @@ public class VisualVMView
      */
     private static final Logger LOGGER = Logger.getLogger(VisualVMView.class.getName());
 
+    /**
+     * The interval in millis at which a recording is replayed.
+     */
+    private static final int REPLAY_REFRESH_INTERVAL = 1000;
+
     private static final ConcurrentHashMap<Application, VisualVMModel> f_visualVmModels = new ConcurrentHashMap<>();
 
+    /**
+     * The history of the graphs of each application, which is released once the
+     * application is no longer referenced.
+     */
+    private static final Map<Application, TimeSeriesStore> f_timeSeriesStores =
+            Collections.synchronizedMap(new WeakHashMap<>());
+
     // ----- data members ---------------------------------------------------
 
     private VisualVMModel m_model;
@@ -497,9 +716,9 @@ public class VisualVMView
     private DataViewComponent m_dvc;
 
     /**
-     * Timer used to refresh the screen
+     * The registration used to refresh the screen.
      */
-    private Timer m_timer;
+    private ClusterRefreshScheduler.Registration m_refresh;
 
     /**
      * Application.
@@ -507,9 +726,10 @@ public class VisualVMView
     private Application m_application;
 
     /**
-     * Indicates if the refresh is running.
+     * Indicates if a refresh cycle is running, from the time the data is
+     * requested until it has been applied to the GUI.
      */
-    private boolean f_refreshRunning;
+    private volatile boolean f_refreshRunning;
 
     /**
      * The Request Sender to use.
@@ -521,5 +741,20 @@ public class VisualVMView
      */
     private final Set<AbstractCoherencePanel> f_setPanels = new LinkedHashSet<>();
 
+    /**
+     * Set of panels which are currently visible and the cluster overview panel which is always updated.
+     */
+    private final Set<AbstractCoherencePanel> f_setVisiblePanels = ConcurrentHashMap.newKeySet();
+
+    /**
+     * The cluster overview panel.
+     */
+    private AbstractCoherencePanel m_pnlClusterOverview;
+
+    /**
+     * The playback controls, or null if a cluster is monitored rather than a recording replayed.
+     */
+    private ReplayControlPanel m_replayControls;
+
     private static final AtomicInteger f_counter = new AtomicInteger(0);
     }
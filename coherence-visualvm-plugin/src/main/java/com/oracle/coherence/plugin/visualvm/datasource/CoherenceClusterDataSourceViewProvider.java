@@ -54,7 +54,9 @@ public class CoherenceClusterDataSourceViewProvider
     @Override
     protected DataSourceView createView(CoherenceClusterDataSource coherenceClusterDataSource)
         {
-        return new VisualVMView(coherenceClusterDataSource);
+        return coherenceClusterDataSource instanceof CoherenceRecordingDataSource
+               ? new VisualVMView((CoherenceRecordingDataSource) coherenceClusterDataSource)
+               : new VisualVMView(coherenceClusterDataSource);
         }
 
     // ----- CoherenceClusterDataSourceViewProvider methods --------------
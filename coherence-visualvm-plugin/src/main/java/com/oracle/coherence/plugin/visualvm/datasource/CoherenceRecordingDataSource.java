@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.oracle.coherence.plugin.visualvm.datasource;
+
+import com.oracle.coherence.plugin.visualvm.Localization;
+
+import java.io.File;
+
+import org.graalvm.visualvm.core.datasource.Storage;
+
+/**
+ * The {@link CoherenceClusterDataSource} for a recording of a Coherence cluster,
+ * which is replayed rather than connecting to the cluster.
+ *
+ * @since  1.8.0
+ */
+public class CoherenceRecordingDataSource
+        extends CoherenceClusterDataSource
+    {
+    // ----- constructors ---------------------------------------------------
+
+    /**
+     * Create a data source for the recording in the provided directory.
+     *
+     * @param dirRecording  the directory holding the recording
+     * @param sClusterName  the name of the recorded Coherence cluster
+     * @param storage       the storage of the data source
+     */
+    public CoherenceRecordingDataSource(File dirRecording, String sClusterName, Storage storage)
+        {
+        super(dirRecording.getAbsolutePath(), sClusterName, storage);
+        f_dirRecording = dirRecording;
+        f_sClusterName = sClusterName;
+        }
+
+    // ----- accessors ------------------------------------------------------
+
+    /**
+     * The directory holding the recording.
+     *
+     * @return the directory holding the recording
+     */
+    public File getDirectory()
+        {
+        return f_dirRecording;
+        }
+
+    @Override
+    public String getName()
+        {
+        return Localization.getLocalText("LBL_recording_name", f_sClusterName, f_dirRecording.getName());
+        }
+
+    // ----- data members ---------------------------------------------------
+
+    /**
+     * The directory holding the recording.
+     */
+    private final File f_dirRecording;
+
+    /**
+     * The name of the recorded Coherence cluster.
+     */
+    private final String f_sClusterName;
+    }
@@ -33,6 +33,17 @@ import org.graalvm.visualvm.charts.ChartFactory;
 import org.graalvm.visualvm.charts.SimpleXYChartDescriptor;
 import org.graalvm.visualvm.charts.SimpleXYChartSupport;
 
+import org.openide.util.RequestProcessor;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+import javax.swing.SwingUtilities;
+
 /**
  * Various helper methods for creating graphs based on JVisualVM graphs.
  *
@@ -77,7 +88,7 @@ public class GraphHelper
      */
     public static void addValuesToClusterMemoryGraph(SimpleXYChartSupport graph, int cTotalMemory, int cTotalMemoryUsed)
         {
-        graph.addValues(System.currentTimeMillis(), new long[] {1L * cTotalMemory * MB, 1L * cTotalMemoryUsed * MB});
+        addValues(graph, new long[] {1L * cTotalMemory * MB, 1L * cTotalMemoryUsed * MB});
         }
 
     /**
@@ -110,7 +121,7 @@ public class GraphHelper
      */
     public static void addValuesToPublisherGraph(SimpleXYChartSupport graph, float cMinValue, float cAverageValue)
         {
-        graph.addValues(System.currentTimeMillis(), new long[] {(long) (cAverageValue * 10000),
+        addValues(graph, new long[] {(long) (cAverageValue * 10000),
             (long) (cMinValue * 10000)});
         }
 
@@ -139,7 +150,7 @@ public class GraphHelper
      */
     public static void addValuesToReceiverGraph(SimpleXYChartSupport graph, float cMinValue, float cAverageValue)
         {
-        graph.addValues(System.currentTimeMillis(), new long[] {(long) (cAverageValue * 10000),
+        addValues(graph, new long[] {(long) (cAverageValue * 10000),
             (long) (cMinValue * 10000)});
         }
 
@@ -166,7 +177,7 @@ public class GraphHelper
      */
     public static void addValuesToTotalCacheSizeGraph(SimpleXYChartSupport graph, float cTotalCacheSize)
         {
-        graph.addValues(System.currentTimeMillis(), new long[] {(long) cTotalCacheSize});
+        addValues(graph, new long[] {(long) cTotalCacheSize});
         }
 
     /**
@@ -225,7 +236,7 @@ public class GraphHelper
      */
     public static void addValuesToMeanGrpcStatsGraph(SimpleXYChartSupport graph, float cReqMean, float cMsgMean)
         {
-        graph.addValues(System.currentTimeMillis(), new long[] {(long) (cReqMean * 10000),
+        addValues(graph, new long[] {(long) (cReqMean * 10000),
             (long) (cMsgMean * 10000)});
         }
 
@@ -284,7 +295,7 @@ public class GraphHelper
      */
     public static void addValuesToInProgressExecutorTasksGraph(SimpleXYChartSupport graph, long cInProgressTasks)
         {
-        graph.addValues(System.currentTimeMillis(), new long[] {cInProgressTasks});
+        addValues(graph, new long[] {cInProgressTasks});
         }
 
     /**
@@ -296,7 +307,7 @@ public class GraphHelper
      */
     public static void addValuesToCompletedTasksGraph(SimpleXYChartSupport graph, long cCompletedTasks, long cRejectedTasks)
         {
-        graph.addValues(System.currentTimeMillis(), new long[] {cCompletedTasks, cRejectedTasks});
+        addValues(graph, new long[] {cCompletedTasks, cRejectedTasks});
         }
 
     /**
@@ -307,7 +318,7 @@ public class GraphHelper
      */
     public static void addValuesToTotalProxyConnectionsGraph(SimpleXYChartSupport graph, int cTotalConnections)
         {
-        graph.addValues(System.currentTimeMillis(), new long[] {cTotalConnections});
+        addValues(graph, new long[] {cTotalConnections});
         }
 
     /**
@@ -319,7 +330,7 @@ public class GraphHelper
      */
     public static void addValuesToGrpcMessagesGraph(SimpleXYChartSupport graph, long cTotalSent, long cTotalRec)
         {
-        graph.addValues(System.currentTimeMillis(), new long[] {cTotalSent, cTotalRec});
+        addValues(graph, new long[] {cTotalSent, cTotalRec});
         }
 
     /**
@@ -330,7 +341,7 @@ public class GraphHelper
      */
     public static void addValuesToTotalUnconsumedTopicsGraph(SimpleXYChartSupport graph, long cTotalConnections)
         {
-        graph.addValues(System.currentTimeMillis(), new long[] { cTotalConnections});
+        addValues(graph, new long[] { cTotalConnections});
         }
 
     /**
@@ -371,7 +382,7 @@ public class GraphHelper
      */
     public static void addValuesToLoadAverageGraph(SimpleXYChartSupport graph, float cMax, float cAverage)
         {
-        graph.addValues(System.currentTimeMillis(), new long[] {(long) (cMax * 100), (long) (cAverage * 100)});
+        addValues(graph, new long[] {(long) (cMax * 100), (long) (cAverage * 100)});
         }
 
     /**
@@ -437,7 +448,7 @@ public class GraphHelper
      */
     public static void addValuesToHotcacheGraph(SimpleXYChartSupport graph, double cAverage, long cMax, long cMin)
         {
-        graph.addValues(System.currentTimeMillis(), new long[] {(long) cAverage, cMax, cMin});
+        addValues(graph, new long[] {(long) cAverage, cMax, cMin});
         }
 
     /**
@@ -466,7 +477,7 @@ public class GraphHelper
      */
     public static void addValuesToThreadUtilizationGraph(SimpleXYChartSupport graph, long lPercent)
         {
-        graph.addValues(System.currentTimeMillis(), new long[] {lPercent});
+        addValues(graph, new long[] {lPercent});
         }
 
     /**
@@ -496,7 +507,7 @@ public class GraphHelper
      */
     public static void addValuesToTaskDurationGraph(SimpleXYChartSupport graph, float cAverageValue, float cMaxValue)
         {
-        graph.addValues(System.currentTimeMillis(), new long[] {(long) (cAverageValue * 10000),
+        addValues(graph, new long[] {(long) (cAverageValue * 10000),
             (long) (cMaxValue * 10000)});
         }
 
@@ -526,7 +537,7 @@ public class GraphHelper
      */
     public static void addValuesToRequestDurationGraph(SimpleXYChartSupport graph, float cAverageValue, float cMaxValue)
         {
-        graph.addValues(System.currentTimeMillis(), new long[] {(long) (cAverageValue * 10000),
+        addValues(graph, new long[] {(long) (cAverageValue * 10000),
             (long) (cMaxValue * 10000)});
         }
 
@@ -556,7 +567,7 @@ public class GraphHelper
      */
     public static void addValuesToTaskBacklogGraph(SimpleXYChartSupport graph, float cMax, float cAverage)
         {
-        graph.addValues(System.currentTimeMillis(), new long[] {(long) (cMax * 100), (long) (cAverage * 100)});
+        addValues(graph, new long[] {(long) (cMax * 100), (long) (cAverage * 100)});
         }
 
     /**
@@ -584,7 +595,7 @@ public class GraphHelper
      */
     public static void addValuesToPersistenceLatencyGraph(SimpleXYChartSupport graph, float cAverage)
         {
-        graph.addValues(System.currentTimeMillis(), new long[] {(long) (cAverage * 10000)});
+        addValues(graph, new long[] {(long) (cAverage * 10000)});
         }
 
     /**
@@ -613,7 +624,7 @@ public class GraphHelper
      */
     public static void addValuesToPersistenceActiveTotalGraph(SimpleXYChartSupport graph, long cTotalPersistenceSpace, long cTotalBackupSpace)
         {
-        graph.addValues(System.currentTimeMillis(), new long[] {cTotalPersistenceSpace, cTotalBackupSpace});
+        addValues(graph, new long[] {cTotalPersistenceSpace, cTotalBackupSpace});
         }
 
     /**
@@ -653,7 +664,7 @@ public class GraphHelper
      */
     public static void addValuesToSessionCountGraph(SimpleXYChartSupport graph, int cTotalSession, int cTotalOverflow)
         {
-        graph.addValues(System.currentTimeMillis(), new long[] {cTotalSession, cTotalOverflow});
+        addValues(graph, new long[] {cTotalSession, cTotalOverflow});
         }
 
     /**
@@ -681,7 +692,7 @@ public class GraphHelper
      */
     public static void addValuesToReapDurationGraph(SimpleXYChartSupport graph, long nCurrentMax, long nCurrentAverage)
         {
-        graph.addValues(System.currentTimeMillis(), new long[] {nCurrentMax, nCurrentAverage});
+        addValues(graph, new long[] {nCurrentMax, nCurrentAverage});
 
         }
 
@@ -713,7 +724,7 @@ public class GraphHelper
     public static void addValuesToOutboundPercentileDelayGraph(SimpleXYChartSupport graph, long backlogDelay,
         long networkRoundtrip, long applyTime)
         {
-        graph.addValues(System.currentTimeMillis(), new long[] {applyTime, backlogDelay, networkRoundtrip});
+        addValues(graph, new long[] {applyTime, backlogDelay, networkRoundtrip});
         }
 
     /**
@@ -742,7 +753,7 @@ public class GraphHelper
     public static void addValuesToBandwidthUtilGraph(SimpleXYChartSupport graph, float maxBandwidth,
         float currentBandwidth)
         {
-        graph.addValues(System.currentTimeMillis(), new long[] {(long) (maxBandwidth * 100),
+        addValues(graph, new long[] {(long) (maxBandwidth * 100),
             (long) (currentBandwidth * 100)});
         }
 
@@ -772,7 +783,7 @@ public class GraphHelper
      */
     public static void addValuesToInboundPercentileGraph(SimpleXYChartSupport graph, long backlogDelay, long applyTime)
         {
-        graph.addValues(System.currentTimeMillis(), new long[] {applyTime, backlogDelay});
+        addValues(graph, new long[] {applyTime, backlogDelay});
         }
 
     /**
@@ -801,7 +812,7 @@ public class GraphHelper
     public static void addValuesToRamJournalMemoryGraph(SimpleXYChartSupport graph, long cTotalMemory,
         long cTotalMemoryUsed)
         {
-        graph.addValues(System.currentTimeMillis(), new long[] {cTotalMemory, cTotalMemoryUsed});
+        addValues(graph, new long[] {cTotalMemory, cTotalMemoryUsed});
         }
 
     /**
@@ -831,7 +842,7 @@ public class GraphHelper
     public static void addValuesToFlashJournalMemoryGraph(SimpleXYChartSupport graph, long cTotalFlash,
         long cTotalFlashUsed)
         {
-        graph.addValues(System.currentTimeMillis(), new long[] {cTotalFlash, cTotalFlashUsed});
+        addValues(graph, new long[] {cTotalFlash, cTotalFlashUsed});
         }
 
     /**
@@ -860,7 +871,7 @@ public class GraphHelper
     public static void addValuesToRamJournalCompactionGraph(SimpleXYChartSupport graph, int cCompaction,
         int cExhaustiveCompaction)
         {
-        graph.addValues(System.currentTimeMillis(), new long[] {cCompaction, cExhaustiveCompaction});
+        addValues(graph, new long[] {cCompaction, cExhaustiveCompaction});
         }
 
     /**
@@ -888,7 +899,7 @@ public class GraphHelper
     public static void addValuesToFlashJournalCompactionGraph(SimpleXYChartSupport graph, int cCompaction,
         int cExhaustiveCompaction)
         {
-        graph.addValues(System.currentTimeMillis(), new long[] {cCompaction, cExhaustiveCompaction});
+        addValues(graph, new long[] {cCompaction, cExhaustiveCompaction});
         }
 
     /**
@@ -923,7 +934,7 @@ public class GraphHelper
     public static void addValuesToServicePartitionGraph(SimpleXYChartSupport graph, int cEndangered ,
                                                         int cVulnerable, int cUnbalanced, int cPending )
         {
-        graph.addValues(System.currentTimeMillis(), new long[] {cPending, cUnbalanced, cVulnerable, cEndangered});
+        addValues(graph, new long[] {cPending, cUnbalanced, cVulnerable, cEndangered});
         }
 
     /**
@@ -962,7 +973,7 @@ public class GraphHelper
     public static void addValuesToJCacheAverageGraph(SimpleXYChartSupport graph, float cAveragePut, float cAverageGet,
                                                          float cAverageRemove)
         {
-        graph.addValues(System.currentTimeMillis(), new long[] {(long) (cAveragePut * 10000),
+        addValues(graph, new long[] {(long) (cAveragePut * 10000),
                 (long) (cAverageGet * 10000),(long) (cAverageRemove * 10000)});
         }
 
@@ -992,7 +1003,7 @@ public class GraphHelper
       */
     public static void addValuesToJCacheHitPercentagGraph(SimpleXYChartSupport graph, long lPercent)
         {
-        graph.addValues(System.currentTimeMillis(), new long[] {lPercent});
+        addValues(graph, new long[] {lPercent});
         }
 
     /**
@@ -1023,7 +1034,7 @@ public class GraphHelper
      */
     public static void addValuesToAverageRequestTimeGraph(SimpleXYChartSupport graph, float cAverageValue, float cMaxValue)
       {
-      graph.addValues(System.currentTimeMillis(), new long[] {(long) (cAverageValue * 10000),
+      addValues(graph, new long[] {(long) (cAverageValue * 10000),
                                                               (long) (cMaxValue * 10000)});
       }
 
@@ -1053,7 +1064,7 @@ public class GraphHelper
      */
     public static void addValuesToAverageRequestsPerSecondGraph(SimpleXYChartSupport graph, float cAverageValue, float cMaxValue)
         {
-        graph.addValues(System.currentTimeMillis(), new long[] {(long) (cAverageValue * 10000),
+        addValues(graph, new long[] {(long) (cAverageValue * 10000),
                                                                 (long) (cMaxValue * 10000)});
         }
 
@@ -1085,7 +1096,7 @@ public class GraphHelper
     public static void addValuesToHttpRequestGraph(SimpleXYChartSupport graph, long cRequests,
                                                             long cErrors)
         {
-        graph.addValues(System.currentTimeMillis(), new long[] {cRequests, cErrors});
+        addValues(graph, new long[] {cRequests, cErrors});
         }
 
     /**
@@ -1124,7 +1135,7 @@ public class GraphHelper
                                                     long cResponse2xx, long cResponse3xx,
                                                     long cResponse4xx, long cResponse5xx)
         {
-        graph.addValues(System.currentTimeMillis(), new long[] {cResponse1xx, cResponse2xx,
+        addValues(graph, new long[] {cResponse1xx, cResponse2xx,
                 cResponse3xx, cResponse4xx, cResponse5xx});
         }
 
@@ -1167,7 +1178,7 @@ public class GraphHelper
      */
     public static void addValuesToProxyServerStatsGraph(SimpleXYChartSupport graph, long cBytesSent, long cBytesRec)
         {
-        graph.addValues(System.currentTimeMillis(), new long[] { cBytesSent, cBytesRec });
+        addValues(graph, new long[] { cBytesSent, cBytesRec });
         }
 
     /**
@@ -1178,11 +1189,102 @@ public class GraphHelper
      */
     public static void addValuesToTopicsRateGraph(SimpleXYChartSupport graph, long cPublished)
         {
-        graph.addValues(System.currentTimeMillis(), new long[] { cPublished });
+        addValues(graph, new long[] { cPublished });
+        }
+
+    /**
+     * Bind a graph to a series of a {@link TimeSeriesStore}. Any history already
+     * held for the series is added to the graph, and all values subsequently
+     * added to the graph are recorded in the series.
+     * <p>
+     * The history is read and down-sampled to at most {@link #HISTORY_REPLAY_LIMIT}
+     * values in the background and then added to the graph on the event dispatch
+     * thread. Values added to the graph in the meantime are recorded straight away,
+     * but only shown once the history has been added so the graph stays in time
+     * order. Series of the store which are no longer bound to a graph, such as those
+     * of a previously selected service or cache, are evicted once there are more
+     * than {@link #HISTORY_IDLE_LIMIT} of them.
+     *
+     * @param graph    the graph to bind
+     * @param store    the {@link TimeSeriesStore} holding the history
+     * @param sSeries  the name of the series
+     *
+     * @return the graph
+     */
+    public static SimpleXYChartSupport bindHistory(SimpleXYChartSupport graph, TimeSeriesStore store, String sSeries)
+        {
+        if (graph != null && store != null)
+            {
+            Binding binding = new Binding(store.getSeries(sSeries));
+
+            synchronized (f_mapBindings)
+                {
+                f_mapBindings.put(graph, binding);
+                }
+
+            s_processor.post(() ->
+                {
+                List<Long>   listTimestamps = new ArrayList<>();
+                List<long[]> listValues     = new ArrayList<>();
+                try
+                    {
+                    binding.f_series.forEachMerged(HISTORY_REPLAY_LIMIT, (ldtTimestamp, alMin, alMax, adAvg) ->
+                        {
+                        long[] alValues = new long[adAvg.length];
+                        for (int i = 0; i < adAvg.length; i++)
+                            {
+                            alValues[i] = Math.round(adAvg[i]);
+                            }
+                        listTimestamps.add(ldtTimestamp);
+                        listValues.add(alValues);
+                        });
+
+                    Set<String> setInUse = new HashSet<>();
+                    synchronized (f_mapBindings)
+                        {
+                        f_mapBindings.values().forEach(b -> setInUse.add(b.f_series.getName()));
+                        }
+                    store.evictIdle(setInUse, HISTORY_IDLE_LIMIT);
+                    }
+                finally
+                    {
+                    // always release the values held back, even without history
+                    SwingUtilities.invokeLater(() -> binding.replay(graph, listTimestamps, listValues));
+                    }
+                });
+            }
+        return graph;
         }
 
     // ----- helpers --------------------------------------------------------
 
+    /**
+     * Add values to a graph, recording them in the series the graph is bound to.
+     *
+     * @param graph     the graph to add the values to
+     * @param alValues  the values
+     */
+    private static void addValues(SimpleXYChartSupport graph, long[] alValues)
+        {
+        long    ldtNow = System.currentTimeMillis();
+        Binding binding;
+
+        synchronized (f_mapBindings)
+            {
+            binding = f_mapBindings.get(graph);
+            }
+
+        if (binding == null)
+            {
+            graph.addValues(ldtNow, alValues);
+            }
+        else
+            {
+            binding.f_series.add(ldtNow, alValues);
+            binding.addValues(graph, ldtNow, alValues);
+            }
+        }
+
     /**
      * Create a chart and set any defaults.
      *
@@ -1198,6 +1300,97 @@ public class GraphHelper
         return chartSupport;
         }
 
+    // ----- inner classes --------------------------------------------------
+
+    /**
+     * The binding of a graph to a {@link TimeSeriesStore.TimeSeries}. Apart from
+     * the series, a binding is only accessed on the event dispatch thread.
+     */
+    private static class Binding
+        {
+        /**
+         * Create a binding whose history has not been added to the graph yet.
+         *
+         * @param series  the series the graph is bound to
+         */
+        private Binding(TimeSeriesStore.TimeSeries series)
+            {
+            f_series = series;
+            }
+
+        /**
+         * Add values to the graph, or hold them back until the history has
+         * been added.
+         *
+         * @param graph         the graph
+         * @param ldtTimestamp  the timestamp of the values
+         * @param alValues      the values
+         */
+        private void addValues(SimpleXYChartSupport graph, long ldtTimestamp, long[] alValues)
+            {
+            if (m_listPendingTimestamps == null)
+                {
+                graph.addValues(ldtTimestamp, alValues);
+                }
+            else
+                {
+                m_listPendingTimestamps.add(ldtTimestamp);
+                m_listPendingValues.add(alValues);
+                }
+            }
+
+        /**
+         * Add the history to the graph followed by the values held back while
+         * it was being read. History recorded after the first value held back
+         * is already part of those values and skipped.
+         *
+         * @param graph           the graph
+         * @param listTimestamps  the timestamps of the history
+         * @param listValues      the values of the history
+         */
+        private void replay(SimpleXYChartSupport graph, List<Long> listTimestamps, List<long[]> listValues)
+            {
+            List<Long>   listPendingTimestamps = m_listPendingTimestamps;
+            List<long[]> listPendingValues     = m_listPendingValues;
+            long         ldtPending            = listPendingTimestamps.isEmpty()
+                                                 ? Long.MAX_VALUE : listPendingTimestamps.get(0);
+
+            for (int i = 0, c = listTimestamps.size(); i < c; i++)
+                {
+                long ldtTimestamp = listTimestamps.get(i);
+                if (ldtTimestamp >= ldtPending)
+                    {
+                    break;
+                    }
+                graph.addValues(ldtTimestamp, listValues.get(i));
+                }
+
+            for (int i = 0, c = listPendingTimestamps.size(); i < c; i++)
+                {
+                graph.addValues(listPendingTimestamps.get(i), listPendingValues.get(i));
+                }
+
+            m_listPendingTimestamps = null;
+            m_listPendingValues     = null;
+            }
+
+        /**
+         * The series the graph is bound to.
+         */
+        private final TimeSeriesStore.TimeSeries f_series;
+
+        /**
+         * The timestamps of the values held back until the history has been
+         * added, or null once it has been.
+         */
+        private List<Long> m_listPendingTimestamps = new ArrayList<>();
+
+        /**
+         * The values held back until the history has been added.
+         */
+        private List<long[]> m_listPendingValues = new ArrayList<>();
+        }
+
     // ----- constants ------------------------------------------------------
 
     /**
@@ -1229,9 +1422,36 @@ public class GraphHelper
      */
     public static final int VALUES_LIMIT = Integer.getInteger("coherence.plugin.visualvm.values.limit", 50000);
 
+    /**
+     * The maximum number of history values added to a graph when it is bound to
+     * a series. Older history is down-sampled to fit.  <br>
+     * To change the value use: -J-Dcoherence.plugin.visualvm.history.replay.limit=2000
+     * on jvisualvm command line.
+     */
+    public static final int HISTORY_REPLAY_LIMIT = Integer.getInteger("coherence.plugin.visualvm.history.replay.limit", 720);
+
+    /**
+     * The number of series no longer bound to a graph which are kept, so that
+     * the history of recently selected services or caches is not lost.
+     */
+    public static final int HISTORY_IDLE_LIMIT = Integer.getInteger("coherence.plugin.visualvm.history.idle.limit", 32);
+
     public static final String GRPH_CURRENT_AVERAGE = "GRPH_current_average";
     public static final String GRPH_MINIMUM         = "GRPH_minimum";
     public static final String GRPH_MAXIMUM         = "GRPH_maximum";
     public static final String GRPH_AVERAGE         = "GRPH_average";
     public static final String GRPH_CURRENT_MAXIMUM = "GRPH_current_maximum";
-    }
\ No newline at end of file
+
+    // ----- data members ---------------------------------------------------
+
+    /**
+     * The binding of each graph to a series. Graphs are only weakly referenced so
+     * closed panels don't retain their graphs.
+     */
+    private static final Map<SimpleXYChartSupport, Binding> f_mapBindings = new WeakHashMap<>();
+
+    /**
+     * The processor reading the history of graphs in the background.
+     */
+    private static final RequestProcessor s_processor = new RequestProcessor("CoherenceGraphHistory", 1);
+    }
@@ -26,7 +26,6 @@
 package com.oracle.coherence.plugin.visualvm.helper;
 
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.MissingNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
@@ -35,6 +34,8 @@ import com.oracle.coherence.plugin.visualvm.GlobalPreferences;
 import com.oracle.coherence.plugin.visualvm.panel.CoherenceCachePanel;
 import com.oracle.coherence.plugin.visualvm.panel.CoherencePersistencePanel;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
@@ -42,7 +43,6 @@ import java.io.UnsupportedEncodingException;
 
 import java.net.HttpURLConnection;
 import java.net.URL;
-import java.net.URLConnection;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 import java.security.cert.X509Certificate;
@@ -52,6 +52,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Hashtable;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -60,6 +61,11 @@ import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
 import com.oracle.coherence.plugin.visualvm.panel.CoherenceTopicPanel;
 import com.oracle.coherence.plugin.visualvm.tablemodel.model.Pair;
 import javax.management.Attribute;
@@ -68,7 +74,6 @@ import javax.management.MalformedObjectNameException;
 import javax.management.ObjectName;
 
 import javax.net.ssl.HostnameVerifier;
-import javax.net.ssl.HttpsURLConnection;
 import javax.net.ssl.SSLContext;
 import javax.net.ssl.SSLSession;
 import javax.net.ssl.TrustManager;
@@ -116,6 +121,10 @@ public class HttpRequestSender
                 LOGGER.log(Level.WARNING, "Unable to initialize SSL: ", e);
                 }
             }
+
+        f_transport = new HttpTransport(m_sslContext == null ? null : m_sslContext.getSocketFactory(),
+                                        f_isSSl && GlobalPreferences.sharedInstance().isSSLCertValidationDisabled()
+                                        ? TRUST_ALL_HOSTS : null);
         }
 
     // ------ RequestSender interface ---------------------------------------
@@ -246,6 +255,52 @@ public class HttpRequestSender
         return list;
         }
 
+    @Override
+    public Map<ObjectName, AttributeList> getAttributes(Set<ObjectName> setObjectNames, String[] asAttribute)
+            throws Exception
+        {
+        // send the requests concurrently over the keep-alive connections
+        Map<ObjectName, CompletableFuture<AttributeList>> mapFutures = new LinkedHashMap<>();
+        for (ObjectName objectName : setObjectNames)
+            {
+            mapFutures.put(objectName,
+                           f_transport.sendAsync(f_cache.bind(() -> getAttributes(objectName, asAttribute))));
+            }
+
+        Map<ObjectName, AttributeList> mapResults  = new LinkedHashMap<>();
+        long                           cTimeout    = GlobalPreferences.sharedInstance().getRestTimeout();
+        long                           ldtDeadline = System.currentTimeMillis() + cTimeout;
+        boolean                        fSuccess    = false;
+        try
+            {
+            for (Map.Entry<ObjectName, CompletableFuture<AttributeList>> entry : mapFutures.entrySet())
+                {
+                long cMillis = Math.max(0L, ldtDeadline - System.currentTimeMillis());
+                mapResults.put(entry.getKey(), entry.getValue().get(cMillis, TimeUnit.MILLISECONDS));
+                }
+            fSuccess = true;
+            }
+        catch (ExecutionException e)
+            {
+            Throwable cause = e.getCause();
+            throw cause instanceof Exception ? (Exception) cause : e;
+            }
+        catch (TimeoutException e)
+            {
+            throw new TimeoutException("Timed out after " + cTimeout + "ms retrieving the attributes of "
+                                       + setObjectNames.size() + " MBeans");
+            }
+        finally
+            {
+            if (!fSuccess)
+                {
+                mapFutures.values().forEach(future -> future.cancel(true));
+                }
+            }
+
+        return mapResults;
+        }
+
     @Override
     public Set<ObjectName> getAllCacheMembers()
             throws Exception
@@ -308,7 +363,7 @@ public class HttpRequestSender
         JsonNode rootNode = getResponseJson(sendGetRequest(urlBuilder));
         if (rootNode != null)
             {
-            return new ObjectMapper().writerWithDefaultPrettyPrinter().writeValueAsString(rootNode.get(PART_STATS));
+            return JsonHelper.writePretty(rootNode.get(PART_STATS));
             }
         
         return "";
@@ -976,6 +1031,61 @@ public class HttpRequestSender
     public JsonNode getListOfServiceCaches(String sServiceName, String sDomainPartition)
             throws Exception
         {
+        return getResponseJson(sendGetRequest(getListOfServiceCachesPath(sServiceName, sDomainPartition)));
+        }
+
+    /**
+     * Returns the total number of response bytes received by this sender, before
+     * any decompression.
+     *
+     * @return the total number of response bytes received
+     */
+    public long getBytesReceived()
+        {
+        return f_transport.getBytesReceived();
+        }
+
+    /**
+     * Returns the total number of response bytes received by this sender, after
+     * decompression.
+     *
+     * @return the total number of response bytes after decompression
+     */
+    public long getBytesUncompressed()
+        {
+        return f_transport.getBytesUncompressed();
+        }
+
+    @Override
+    public RequestCache getRequestCache()
+        {
+        return f_cache;
+        }
+
+    /**
+     * Get the cache data for the given service asynchronously.
+     *
+     * @param sServiceName     the service to which the cache belongs to
+     * @param sDomainPartition the domain partition to which the service
+     *                         belongs
+     * @return a {@link CompletableFuture} which completes with the cache data
+     * @see #getListOfServiceCaches(String, String)
+     */
+    public CompletableFuture<JsonNode> getListOfServiceCachesAsync(String sServiceName, String sDomainPartition)
+        {
+        return f_transport.sendAsync(f_cache.bind(() -> getListOfServiceCaches(sServiceName, sDomainPartition)));
+        }
+
+    /**
+     * Returns the path for the cache data for the given service.
+     *
+     * @param sServiceName     the service to which the cache belongs to
+     * @param sDomainPartition the domain partition to which the service
+     *                         belongs
+     * @return the path for the cache data for the given service
+     */
+    private URLBuilder getListOfServiceCachesPath(String sServiceName, String sDomainPartition)
+        {
         URLBuilder urlBuilder = getBasePath().addPathSegment(SERVICES)
                 .addPathSegment(encodeServiceName(sServiceName)).addPathSegment(CACHES)
                 .addQueryParameter(LINKS, "")
@@ -987,7 +1097,7 @@ public class HttpRequestSender
             urlBuilder.addQueryParameter(DOMAIN_PART, sDomainPartition);
             }
 
-        return getResponseJson(sendGetRequest(urlBuilder));
+        return urlBuilder;
         }
 
     /**
@@ -1001,12 +1111,34 @@ public class HttpRequestSender
     public JsonNode getListOfCaches()
             throws Exception
         {
-        URLBuilder urlBuilder = getBasePath().addPathSegment(CACHES)
+        return getResponseJson(sendGetRequest(getListOfCachesPath()));
+        }
+
+    /**
+     * Iterate over the cache data for all services without reading the whole
+     * response into memory.
+     *
+     * @return a {@link JsonItemIterator} over the cache items which must be closed
+     * @throws Exception in case of errors
+     * @see #getListOfCaches()
+     */
+    public JsonItemIterator iterateListOfCaches()
+            throws Exception
+        {
+        return getResponseItems(sendGetRequest(getListOfCachesPath()));
+        }
+
+    /**
+     * Returns the path for the cache data for all services.
+     *
+     * @return the path for the cache data for all services
+     */
+    private URLBuilder getListOfCachesPath()
+        {
+        return getBasePath().addPathSegment(CACHES)
                 .addQueryParameter(LINKS, "")
                 .addQueryParameter(FIELDS, "nodeId,name,unitFactor,size,unitsBytes,units,memoryUnits,"
                                              + "averageMissMillis,service");
-
-        return getResponseJson(sendGetRequest(urlBuilder));
         }
 
     /**
@@ -1018,11 +1150,33 @@ public class HttpRequestSender
     public JsonNode getNodeStorage()
             throws Exception
         {
-        URLBuilder urlBuilder = getBasePath().addPathSegment(SERVICES)
+        return getResponseJson(sendGetRequest(getNodeStoragePath()));
+        }
+
+    /**
+     * Iterate over the node storage without reading the whole response into memory.
+     *
+     * @return a {@link JsonItemIterator} over the service member items which must be closed
+     * @throws Exception in case of errors
+     * @see #getNodeStorage()
+     */
+    public JsonItemIterator iterateNodeStorage()
+            throws Exception
+        {
+        return getResponseItems(sendGetRequest(getNodeStoragePath()));
+        }
+
+    /**
+     * Returns the path for the node storage.
+     *
+     * @return the path for the node storage
+     */
+    private URLBuilder getNodeStoragePath()
+        {
+        return getBasePath().addPathSegment(SERVICES)
                 .addPathSegment(MEMBERS)
                 .addQueryParameter(LINKS, "")
                 .addQueryParameter(FIELDS, "nodeId,ownedPartitionsPrimary");
-        return getResponseJson(sendGetRequest(urlBuilder));
         }
 
     /**
@@ -1072,12 +1226,33 @@ public class HttpRequestSender
      */
     public JsonNode getAllStorageMembers() throws Exception
         {
-        URLBuilder urlBuilder = getBasePath().addPathSegment(SERVICES)
+        return getResponseJson(sendGetRequest(getAllStorageMembersPath()));
+        }
+
+    /**
+     * Iterate over all storage members without reading the whole response into memory.
+     *
+     * @return a {@link JsonItemIterator} over the service member items which must be closed
+     * @throws Exception in case of errors
+     * @see #getAllStorageMembers()
+     */
+    public JsonItemIterator iterateAllStorageMembers() throws Exception
+        {
+        return getResponseItems(sendGetRequest(getAllStorageMembersPath()));
+        }
+
+    /**
+     * Returns the path for all storage members.
+     *
+     * @return the path for all storage members
+     */
+    private URLBuilder getAllStorageMembersPath()
+        {
+        return getBasePath().addPathSegment(SERVICES)
                 .addPathSegment(MEMBERS)
                 .addQueryParameter(LINKS, "")
                 .addQueryParameter(FIELDS, "type,name,domainPartition,nodeId,persistenceMode," +
                                              "storageEnabled,persistenceActiveSpaceUsed,persistenceBackupSpaceUsed,persistenceLatencyMax,persistenceLatencyAverage");
-        return getResponseJson(sendGetRequest(urlBuilder));
         }
 
     /**
@@ -1123,6 +1298,38 @@ public class HttpRequestSender
     public JsonNode getDataForCacheMembers(String sServiceName, String sCacheName, String sDomainPartition)
             throws Exception
         {
+        return getResponseJson(sendGetRequest(getDataForCacheMembersPath(sServiceName, sCacheName, sDomainPartition)));
+        }
+
+    /**
+     * Iterate over the data for cache members of a cache without reading the
+     * whole response into memory.
+     *
+     * @param sServiceName     the service to which the cache belongs to
+     * @param sCacheName       the name of the cache
+     * @param sDomainPartition the domain partition to which the service
+     *                         belongs
+     * @return a {@link JsonItemIterator} over the cache member items which must be closed
+     * @throws Exception in case of errors
+     * @see #getDataForCacheMembers(String, String, String)
+     */
+    public JsonItemIterator iterateDataForCacheMembers(String sServiceName, String sCacheName, String sDomainPartition)
+            throws Exception
+        {
+        return getResponseItems(sendGetRequest(getDataForCacheMembersPath(sServiceName, sCacheName, sDomainPartition)));
+        }
+
+    /**
+     * Returns the path for the data for cache members of a cache.
+     *
+     * @param sServiceName     the service to which the cache belongs to
+     * @param sCacheName       the name of the cache
+     * @param sDomainPartition the domain partition to which the service
+     *                         belongs
+     * @return the path for the data for cache members of a cache
+     */
+    private URLBuilder getDataForCacheMembersPath(String sServiceName, String sCacheName, String sDomainPartition)
+        {
         URLBuilder urlBuilder = getBasePath().addPathSegment(SERVICES)
                 .addPathSegment(encodeServiceName(sServiceName)).addPathSegment(CACHES).addPathSegment(encodeCacheName(sCacheName))
                 .addPathSegment(MEMBERS);
@@ -1131,11 +1338,9 @@ public class HttpRequestSender
             urlBuilder.addQueryParameter(DOMAIN_PART, sDomainPartition);
             }
 
-        urlBuilder.addQueryParameter(FIELDS, "name,type,size,service,nodeId," +
+        return urlBuilder.addQueryParameter(FIELDS, "name,type,size,service,nodeId," +
                                                "domainPartition,tier,units,unitFactor,totalGets,totalPuts,cacheHits,cacheMisses,hitProbability")
                 .addQueryParameter(LINKS, "");
-
-        return getResponseJson(sendGetRequest(urlBuilder));
         }
 
     /**
@@ -1311,11 +1516,32 @@ public class HttpRequestSender
      */
     public JsonNode getDataForServiceMembers() throws Exception
         {
-        URLBuilder urlBuilder = getBasePath().addPathSegment(SERVICES)
+        return getResponseJson(sendGetRequest(getDataForServiceMembersPath()));
+        }
+
+    /**
+     * Iterate over the data for all the service members in the cluster without
+     * reading the whole response into memory.
+     *
+     * @return a {@link JsonItemIterator} over the service member items which must be closed
+     * @throws Exception in case of errors
+     * @see #getDataForServiceMembers()
+     */
+    public JsonItemIterator iterateDataForServiceMembers() throws Exception
+        {
+        return getResponseItems(sendGetRequest(getDataForServiceMembersPath()));
+        }
+
+    /**
+     * Returns the path for the data for all the service members in the cluster.
+     *
+     * @return the path for the data for all the service members in the cluster
+     */
+    private URLBuilder getDataForServiceMembersPath()
+        {
+        return getBasePath().addPathSegment(SERVICES)
                 .addPathSegment(MEMBERS).addQueryParameter(FIELDS, "name,type,domainPartition,nodeId,taskBacklog," +
                                                                        "threadCount,threadIdleCount,requestAverageDuration,taskAverageDuration");
-
-        return getResponseJson(sendGetRequest(urlBuilder));
         }
 
     /**
@@ -1493,21 +1719,54 @@ public class HttpRequestSender
      *                     REST server
      */
     private InputStream sendGetRequest(URLBuilder urlBuilder) throws Exception
+        {
+        String sUrl = urlBuilder.getUrl().toString();
+
+        // responses are streamed to the caller, except during a refresh cycle where the
+        // same URL was requested more than once in the previous cycle, for example the
+        // storage members shared by the persistence and federation data, as only then
+        // is it worth buffering the response so it can be shared
+        if (!f_cache.isRepeated(sUrl))
+            {
+            return RequestLimiter.callStream(() -> sendGetRequestInternal(urlBuilder));
+            }
+
+        byte[] abResponse = f_cache.get(sUrl, () -> RequestLimiter.call(() ->
+            {
+            try (InputStream inputStream = sendGetRequestInternal(urlBuilder))
+                {
+                return inputStream == null ? null : readFully(inputStream);
+                }
+            }));
+
+        return abResponse == null ? null : new ByteArrayInputStream(abResponse);
+        }
+
+    /**
+     * Send a GET HTTP request and return the response, if valid, bypassing
+     * the {@link RequestCache}.
+     *
+     * @param urlBuilder the URL builder of the URL
+     * @return the response of the GET request
+     * @throws IOException thrown in case of exceptions while connecting to the
+     *                     REST server
+     */
+    private InputStream sendGetRequestInternal(URLBuilder urlBuilder) throws Exception
         {
         long start = System.currentTimeMillis();
         URL url = urlBuilder.getUrl();
-        java.net.HttpURLConnection connection = (HttpURLConnection) url.openConnection();
-        setHttpRequestTimeout(connection);
+        HttpURLConnection connection = f_transport.openConnection(url, "GET");
         boolean isRequestDebugEnabled = GlobalPreferences.sharedInstance().isRestDebugEnabled();
 
         int nResponseCode = connection.getResponseCode();
         if (nResponseCode != 200)
             {
             LOGGER.warning("Http request " + url.toString() + " returned error code " + nResponseCode);
+            HttpTransport.release(connection);
             return null;
             }
 
-        InputStream inputStream = connection.getInputStream();
+        InputStream inputStream = f_transport.getInputStream(connection);
         if (isRequestDebugEnabled)
             {
             LOGGER.info((System.currentTimeMillis() - start) + " ms to open connection to "
@@ -1517,6 +1776,27 @@ public class HttpRequestSender
         return inputStream;
         }
 
+    /**
+     * Read the remainder of the given {@link InputStream}.
+     *
+     * @param inputStream the {@link InputStream} to read
+     * @return the bytes read
+     * @throws IOException if the stream cannot be read
+     */
+    private static byte[] readFully(InputStream inputStream) throws IOException
+        {
+        ByteArrayOutputStream out      = new ByteArrayOutputStream();
+        byte[]                abBuffer = new byte[8192];
+        int                   cb;
+
+        while ((cb = inputStream.read(abBuffer)) != -1)
+            {
+            out.write(abBuffer, 0, cb);
+            }
+
+        return out.toByteArray();
+        }
+
     /**
      * Send a POST HTTP request and return the response, if valid.
      *
@@ -1546,10 +1826,7 @@ public class HttpRequestSender
         long start = System.currentTimeMillis();
 
         boolean isRequestDebugEnabled = GlobalPreferences.sharedInstance().isRestDebugEnabled();
-        java.net.HttpURLConnection connection = (HttpURLConnection) url.openConnection();
-
-        connection.setRequestMethod("POST");
-        setHttpRequestTimeout(connection);
+        HttpURLConnection connection = f_transport.openConnection(url, "POST");
 
         if (f_fisWebLogic)
             {
@@ -1581,7 +1858,7 @@ public class HttpRequestSender
             {
             if (nResponseCode != 404)
                 {
-                JsonNode errorJson = getResponseJson(connection.getErrorStream());
+                JsonNode errorJson = getResponseJson(f_transport.getErrorStream(connection));
                 String sCause = errorJson != null
                                 ? errorJson.toString()
                                 : connection.getResponseMessage();
@@ -1589,11 +1866,12 @@ public class HttpRequestSender
                 }
             else
                 {
+                HttpTransport.release(connection);
                 throw new RuntimeException("Not Found " + url.toString());
                 }
             }
 
-        return connection.getInputStream();
+        return f_transport.getInputStream(connection);
         }
 
     /**
@@ -1610,9 +1888,7 @@ public class HttpRequestSender
         long start = System.currentTimeMillis();
         boolean isRequestDebugEnabled = GlobalPreferences.sharedInstance().isRestDebugEnabled();
         URL url = urlBuilder.getUrl();
-        java.net.HttpURLConnection connection = (HttpURLConnection) url.openConnection();
-        connection.setRequestMethod("DELETE");
-        setHttpRequestTimeout(connection);
+        HttpURLConnection connection = f_transport.openConnection(url, "DELETE");
 
         if (f_fisWebLogic)
             {
@@ -1628,22 +1904,11 @@ public class HttpRequestSender
 
         if (nResponseCode != 200)
             {
+            HttpTransport.release(connection);
             throw new RuntimeException("Invalid Response Response code: " + nResponseCode);
             }
 
-        return connection.getInputStream();
-        }
-
-    /**
-     * Sets the Http request timeout for a {@link URLConnection}.
-     *
-     * @param urlConnection {@link URLConnection} to set timeout for
-     */
-    private void setHttpRequestTimeout(URLConnection urlConnection)
-        {
-        int nRestTimeout = GlobalPreferences.sharedInstance().getRestTimeout();
-        urlConnection.setConnectTimeout(nRestTimeout);
-        urlConnection.setReadTimeout(nRestTimeout);
+        return f_transport.getInputStream(connection);
         }
 
     /**
@@ -1816,9 +2081,24 @@ public class HttpRequestSender
             // return a null json node if there is no response
             return MissingNode.getInstance();
             }
-        ObjectMapper mapper = new ObjectMapper();
+        // closing the stream releases its request permit
+        try (InputStream in = stream)
+            {
+            return JsonHelper.readTree(in);
+            }
+        }
 
-        return mapper.readTree(stream);
+    /**
+     * Read the "items" of the HTTP response one at a time from the token stream.
+     *
+     * @param stream the response stream
+     * @return a {@link JsonItemIterator} over the items which must be closed
+     * @throws IOException thrown in case of exceptions while connecting to the
+     *                     REST server
+     */
+    protected JsonItemIterator getResponseItems(InputStream stream) throws IOException
+        {
+        return new JsonItemIterator(stream, ITEMS);
         }
 
     /**
@@ -1885,9 +2165,11 @@ public class HttpRequestSender
         {
         try
             {
-            InputStream stream = sendGetRequest(getBasePath());
             // if input stream is null, the URL is invalid
-            return stream != null;
+            try (InputStream stream = sendGetRequest(getBasePath()))
+                {
+                return stream != null;
+                }
             }
         catch (Exception e)
             {
@@ -2053,7 +2335,6 @@ public class HttpRequestSender
             String sText =  getLocalText("LBL_ssl_validation_disabled");
             LOGGER.warning(sText);
             m_sslContext.init(null, TRUST_ALL_CERTS, new java.security.SecureRandom());
-            HttpsURLConnection.setDefaultHostnameVerifier(TRUST_ALL_HOSTS);
             DialogHelper.showWarningDialog( getLocalText("LBL_ssl_validation_disabled"));
             }
         else
@@ -2061,7 +2342,8 @@ public class HttpRequestSender
             m_sslContext.init(null, null, new java.security.SecureRandom());
             }
 
-        HttpsURLConnection.setDefaultSSLSocketFactory(m_sslContext.getSocketFactory());
+        // the SSL context is applied to each connection by the transport rather than
+        // replacing the JVM wide defaults, so its TLS sessions are reused
     }
 
     // ----- data members ---------------------------------------------------
@@ -2178,4 +2460,14 @@ public class HttpRequestSender
      * SSL Context.
      */
     private SSLContext m_sslContext;
+
+    /**
+     * The transport used to send the HTTP requests.
+     */
+    private final HttpTransport f_transport;
+
+    /**
+     * The cache of the results of the requests made during a refresh cycle.
+     */
+    private final RequestCache f_cache = new RequestCache();
     }
@@ -0,0 +1,502 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.oracle.coherence.plugin.visualvm.helper;
+
+import com.oracle.coherence.plugin.visualvm.GlobalPreferences;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import java.net.HttpURLConnection;
+import java.net.URL;
+
+import java.util.Set;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import java.util.zip.GZIPInputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+import javax.net.ssl.HostnameVerifier;
+import javax.net.ssl.HttpsURLConnection;
+import javax.net.ssl.SSLSocketFactory;
+
+/**
+ * The HTTP transport shared by all the requests of a {@link HttpRequestSender}.
+ * <p>
+ * Connections are opened using {@link HttpURLConnection}, which keeps idle
+ * connections in the JDK keep-alive cache. A connection, and its TLS session,
+ * is therefore reused as long as each response is read fully and closed,
+ * including error responses which are drained by {@link #release(HttpURLConnection)}.
+ * The {@link SSLSocketFactory} is created once for each transport and applied
+ * to each connection, rather than replacing the JVM wide default, so that
+ * TLS sessions are resumed instead of performing a full handshake.
+ * <p>
+ * Requests may also be sent asynchronously using {@link #sendAsync(Callable)}
+ * which bounds the number of concurrent requests so they can be served by the
+ * keep-alive connections. As a thread blocked reading a response cannot be
+ * interrupted, cancelling an asynchronous request disconnects the connections
+ * it opened, which releases its thread and ensures a partly read connection is
+ * closed rather than reused.
+ * <p>
+ * Unless disabled using the {@link #PROP_HTTP_COMPRESSION} property, gzip and
+ * deflate compressed responses are requested and are decompressed by
+ * {@link #getInputStream(HttpURLConnection)}, which also counts the number of
+ * bytes received and the number of bytes after decompression.
+ *
+ * @since  1.8.0
+ */
+public class HttpTransport
+    {
+    // ----- constructors ---------------------------------------------------
+
+    /**
+     * Create a transport.
+     *
+     * @param sslSocketFactory  the {@link SSLSocketFactory} for HTTPS connections or
+     *                          null to use the default
+     * @param hostnameVerifier  the {@link HostnameVerifier} for HTTPS connections or
+     *                          null to use the default
+     */
+    public HttpTransport(SSLSocketFactory sslSocketFactory, HostnameVerifier hostnameVerifier)
+        {
+        f_sslSocketFactory = sslSocketFactory;
+        f_hostnameVerifier = hostnameVerifier;
+        }
+
+    // ----- HttpTransport methods ------------------------------------------
+
+    /**
+     * Open a connection to the given {@link URL}.
+     *
+     * @param url      the {@link URL} to connect to
+     * @param sMethod  the HTTP method
+     *
+     * @return the {@link HttpURLConnection}
+     *
+     * @throws IOException if the connection cannot be opened
+     */
+    public HttpURLConnection openConnection(URL url, String sMethod)
+            throws IOException
+        {
+        HttpURLConnection connection   = (HttpURLConnection) url.openConnection();
+        int               nRestTimeout = GlobalPreferences.sharedInstance().getRestTimeout();
+
+        connection.setRequestMethod(sMethod);
+        connection.setConnectTimeout(nRestTimeout);
+        connection.setReadTimeout(nRestTimeout);
+        connection.setUseCaches(false);
+
+        AsyncRequest request = f_tlRequest.get();
+        if (request != null)
+            {
+            request.add(connection);
+            }
+
+        if (f_fCompression)
+            {
+            connection.setRequestProperty("Accept-Encoding", "gzip, deflate");
+            }
+
+        if (connection instanceof HttpsURLConnection)
+            {
+            HttpsURLConnection httpsConnection = (HttpsURLConnection) connection;
+            if (f_sslSocketFactory != null)
+                {
+                httpsConnection.setSSLSocketFactory(f_sslSocketFactory);
+                }
+            if (f_hostnameVerifier != null)
+                {
+                httpsConnection.setHostnameVerifier(f_hostnameVerifier);
+                }
+            }
+
+        return connection;
+        }
+
+    /**
+     * Returns the {@link InputStream} for the response of the given connection,
+     * decompressing it if the response was compressed.
+     *
+     * @param connection  the {@link HttpURLConnection} to read the response of
+     *
+     * @return the {@link InputStream} for the response
+     *
+     * @throws IOException if the response cannot be read
+     */
+    public InputStream getInputStream(HttpURLConnection connection)
+            throws IOException
+        {
+        return decode(connection, connection.getInputStream());
+        }
+
+    /**
+     * Returns the {@link InputStream} for the error response of the given
+     * connection, decompressing it if the response was compressed.
+     *
+     * @param connection  the {@link HttpURLConnection} to read the error response of
+     *
+     * @return the {@link InputStream} for the error response or null if there
+     *         is no error response
+     *
+     * @throws IOException if the response cannot be read
+     */
+    public InputStream getErrorStream(HttpURLConnection connection)
+            throws IOException
+        {
+        InputStream stream = connection.getErrorStream();
+        return stream == null ? null : decode(connection, stream);
+        }
+
+    /**
+     * Returns the total number of response bytes received, as sent on the
+     * wire and therefore before any decompression.
+     *
+     * @return the total number of response bytes received
+     */
+    public long getBytesReceived()
+        {
+        return f_cBytesReceived.get();
+        }
+
+    /**
+     * Returns the total number of response bytes after decompression.
+     *
+     * @return the total number of response bytes after decompression
+     */
+    public long getBytesUncompressed()
+        {
+        return f_cBytesUncompressed.get();
+        }
+
+    /**
+     * Execute the given request asynchronously.
+     *
+     * @param request  the request to execute
+     * @param <T>      the type of the result
+     *
+     * @return a {@link CompletableFuture} which completes with the result of the request
+     */
+    public <T> CompletableFuture<T> sendAsync(Callable<T> request)
+        {
+        AsyncRequest         asyncRequest = new AsyncRequest();
+        CompletableFuture<T> future       = new CompletableFuture<>();
+
+        // the future is cancelled rather than the task, so disconnect the
+        // connections of the request to stop it
+        future.whenComplete((result, t) ->
+            {
+            if (future.isCancelled())
+                {
+                asyncRequest.cancel();
+                }
+            });
+
+        getExecutor().execute(() ->
+            {
+            if (future.isDone())
+                {
+                // cancelled before it started
+                return;
+                }
+
+            f_tlRequest.set(asyncRequest);
+            try
+                {
+                future.complete(request.call());
+                }
+            catch (Throwable t)
+                {
+                future.completeExceptionally(t);
+                }
+            finally
+                {
+                f_tlRequest.remove();
+                }
+            });
+
+        return future;
+        }
+
+    /**
+     * Release a connection which returned an error so that it can be reused by
+     * reading the remainder of the error response.
+     *
+     * @param connection  the {@link HttpURLConnection} to release
+     */
+    public static void release(HttpURLConnection connection)
+        {
+        try (InputStream stream = connection.getErrorStream())
+            {
+            if (stream != null)
+                {
+                byte[] abBuffer = new byte[1024];
+                while (stream.read(abBuffer) != -1)
+                    {
+                    // discard
+                    }
+                }
+            }
+        catch (IOException e)
+            {
+            // the connection will not be reused
+            }
+        }
+
+    // ----- helpers --------------------------------------------------------
+
+    /**
+     * Wrap the given response stream to decompress it according to the
+     * Content-Encoding of the response and to count the bytes read.
+     *
+     * @param connection  the {@link HttpURLConnection} the response is for
+     * @param stream      the raw response stream
+     *
+     * @return the decoded {@link InputStream}
+     *
+     * @throws IOException if the stream cannot be decoded
+     */
+    private InputStream decode(HttpURLConnection connection, InputStream stream)
+            throws IOException
+        {
+        String      sEncoding = connection.getContentEncoding();
+        InputStream streamRaw = new CountingInputStream(stream, f_cBytesReceived);
+
+        if ("gzip".equalsIgnoreCase(sEncoding) || "x-gzip".equalsIgnoreCase(sEncoding))
+            {
+            streamRaw = new GZIPInputStream(streamRaw, BUFFER_SIZE);
+            }
+        else if ("deflate".equalsIgnoreCase(sEncoding))
+            {
+            streamRaw = new InflaterInputStream(streamRaw, new Inflater(), BUFFER_SIZE);
+            }
+
+        return new CountingInputStream(streamRaw, f_cBytesUncompressed);
+        }
+
+    /**
+     * Returns the executor used to send asynchronous requests.
+     *
+     * @return the executor used to send asynchronous requests
+     */
+    private static synchronized ExecutorService getExecutor()
+        {
+        if (s_executor == null)
+            {
+            AtomicInteger nThread = new AtomicInteger();
+
+            s_executor = Executors.newFixedThreadPool(Integer.getInteger(PROP_HTTP_CONCURRENCY, DEFAULT_HTTP_CONCURRENCY), r ->
+                {
+                Thread thread = new Thread(r, "CoherenceVisualVMHttp-" + nThread.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+                });
+            }
+
+        return s_executor;
+        }
+
+    // ----- inner class: CountingInputStream --------------------------------
+
+    /**
+     * An {@link InputStream} which adds the number of bytes read to a counter.
+     */
+    private static class CountingInputStream
+            extends FilterInputStream
+        {
+        /**
+         * Create a stream which counts the bytes read from the given stream.
+         *
+         * @param stream    the stream to read from
+         * @param cCounter  the counter to add the bytes read to
+         */
+        CountingInputStream(InputStream stream, AtomicLong cCounter)
+            {
+            super(stream);
+            f_cCounter = cCounter;
+            }
+
+        @Override
+        public int read()
+                throws IOException
+            {
+            int b = super.read();
+            if (b != -1)
+                {
+                f_cCounter.incrementAndGet();
+                }
+            return b;
+            }
+
+        @Override
+        public int read(byte[] ab, int nOff, int cb)
+                throws IOException
+            {
+            int cbRead = super.read(ab, nOff, cb);
+            if (cbRead > 0)
+                {
+                f_cCounter.addAndGet(cbRead);
+                }
+            return cbRead;
+            }
+
+        @Override
+        public long skip(long cb)
+                throws IOException
+            {
+            long cbSkipped = super.skip(cb);
+            if (cbSkipped > 0)
+                {
+                f_cCounter.addAndGet(cbSkipped);
+                }
+            return cbSkipped;
+            }
+
+        /**
+         * The counter to add the bytes read to.
+         */
+        private final AtomicLong f_cCounter;
+        }
+
+    // ----- inner class: AsyncRequest ---------------------------------------
+
+    /**
+     * The connections opened by an asynchronous request.
+     */
+    private static class AsyncRequest
+        {
+        /**
+         * Add a connection opened by the request, disconnecting it straight
+         * away if the request was already cancelled.
+         *
+         * @param connection  the {@link HttpURLConnection} opened by the request
+         *
+         * @throws IOException if the request was cancelled
+         */
+        void add(HttpURLConnection connection)
+                throws IOException
+            {
+            f_setConnections.add(connection);
+            if (m_fCancelled)
+                {
+                connection.disconnect();
+                throw new IOException("Request cancelled");
+                }
+            }
+
+        /**
+         * Cancel the request by disconnecting all its connections, which fails
+         * any read that is blocked.
+         */
+        void cancel()
+            {
+            m_fCancelled = true;
+            for (HttpURLConnection connection : f_setConnections)
+                {
+                connection.disconnect();
+                }
+            }
+
+        /**
+         * The connections opened by the request.
+         */
+        private final Set<HttpURLConnection> f_setConnections = ConcurrentHashMap.newKeySet();
+
+        /**
+         * Indicates if the request was cancelled.
+         */
+        private volatile boolean m_fCancelled;
+        }
+
+    // ----- constants ------------------------------------------------------
+
+    /**
+     * Property to disable requesting compressed responses.
+     */
+    public static final String PROP_HTTP_COMPRESSION = "coherence.plugin.visualvm.http.compression";
+
+    /**
+     * The buffer size used when decompressing responses.
+     */
+    private static final int BUFFER_SIZE = 8192;
+
+    /**
+     * Property to set the maximum number of concurrent asynchronous HTTP requests.
+     * This should not exceed the JDK "http.maxConnections" keep-alive limit, which
+     * defaults to 5, so that the connections are reused.
+     */
+    public static final String PROP_HTTP_CONCURRENCY = "coherence.plugin.visualvm.http.concurrency";
+
+    /**
+     * Default maximum number of concurrent asynchronous HTTP requests.
+     */
+    private static final int DEFAULT_HTTP_CONCURRENCY = 4;
+
+    // ----- data members ---------------------------------------------------
+
+    /**
+     * The {@link SSLSocketFactory} for HTTPS connections or null to use the default.
+     */
+    private final SSLSocketFactory f_sslSocketFactory;
+
+    /**
+     * The {@link HostnameVerifier} for HTTPS connections or null to use the default.
+     */
+    private final HostnameVerifier f_hostnameVerifier;
+
+    /**
+     * Indicates if compressed responses should be requested.
+     */
+    private final boolean f_fCompression = Boolean.parseBoolean(System.getProperty(PROP_HTTP_COMPRESSION, "true"));
+
+    /**
+     * The asynchronous request the current thread is sending, if any.
+     */
+    private final ThreadLocal<AsyncRequest> f_tlRequest = new ThreadLocal<>();
+
+    /**
+     * The number of response bytes received.
+     */
+    private final AtomicLong f_cBytesReceived = new AtomicLong();
+
+    /**
+     * The number of response bytes after decompression.
+     */
+    private final AtomicLong f_cBytesUncompressed = new AtomicLong();
+
+    /**
+     * The executor used to send asynchronous requests.
+     */
+    private static ExecutorService s_executor;
+    }
@@ -30,12 +30,28 @@ import com.oracle.coherence.plugin.visualvm.tablemodel.model.Pair;
 import com.oracle.coherence.plugin.visualvm.tablemodel.model.PersistenceData;
 import com.oracle.coherence.plugin.visualvm.Localization;
 
+import java.io.IOException;
+
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import java.util.logging.Level;
 import java.util.logging.Logger;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import java.util.concurrent.atomic.AtomicInteger;
 import javax.management.Attribute;
 
 import javax.management.AttributeList;
@@ -45,6 +61,9 @@ import javax.management.MBeanServerConnection;
 import javax.management.NotificationFilter;
 import javax.management.NotificationListener;
 import javax.management.ObjectName;
+import javax.management.QueryExp;
+
+import javax.management.remote.JMXConnector;
 
 import static com.oracle.coherence.plugin.visualvm.helper.HttpRequestSender.PART_STATS;
 import static com.oracle.coherence.plugin.visualvm.panel.CoherenceTopicPanel.NOTIFY_POPULATED;
@@ -69,13 +88,46 @@ public class JMXRequestSender
     public JMXRequestSender(MBeanServerConnection connection)
         {
         this.f_connection = connection;
+        this.f_metadata   = new MBeanMetadataCache(connection);
+        }
+
+    /**
+     * Create a {@link JMXRequestSender} object for a {@link JMXConnector}, so
+     * that the cached MBean metadata is discarded if notifications are lost or
+     * the connection is re-opened.
+     *
+     * @param connector  the {@link JMXConnector} to be used by by sender
+     *
+     * @throws IOException if the connection cannot be obtained
+     */
+    public JMXRequestSender(JMXConnector connector)
+            throws IOException
+        {
+        this.f_connection = connector.getMBeanServerConnection();
+        this.f_metadata   = new MBeanMetadataCache(f_connection, connector);
         }
 
     @Override
     public List<Attribute> getAllAttributes(ObjectName objName)
             throws Exception
         {
-        MBeanInfo            info         = f_connection.getMBeanInfo(objName);
+        return new ArrayList<>(f_cache.get(Arrays.asList("getAllAttributes", objName),
+                                           () -> RequestLimiter.call(() -> getAllAttributesInternal(objName))));
+        }
+
+    /**
+     * Get all attributes of an MBean from the {@link MBeanServerConnection}.
+     *
+     * @param objName  the MBean ObjectName
+     *
+     * @return the list of attributes
+     *
+     * @throws Exception in case of errors
+     */
+    private List<Attribute> getAllAttributesInternal(ObjectName objName)
+            throws Exception
+        {
+        MBeanInfo            info         = f_metadata.getMBeanInfo(objName);
         MBeanAttributeInfo[] attrInfo     = info.getAttributes();
         String[]             asAttributes = new String[attrInfo.length];
         int                  i            = 0;
@@ -97,21 +149,79 @@ public class JMXRequestSender
     public String getAttribute(ObjectName objectName, String attribute)
             throws Exception
         {
-        return f_connection.getAttribute(objectName, attribute) + "";
+        return f_cache.get(Arrays.asList("getAttribute", objectName, attribute),
+                           () -> RequestLimiter.call(() -> f_connection.getAttribute(objectName, attribute) + ""));
         }
 
     @Override
     public AttributeList getAttributes(ObjectName objectName, String[] asAttribute)
             throws Exception
         {
-        return f_connection.getAttributes(objectName, asAttribute);
+        return new AttributeList(f_cache.get(Arrays.asList("getAttributes", objectName, Arrays.asList(asAttribute)),
+                                             () -> RequestLimiter.call(
+                                                     () -> f_connection.getAttributes(objectName, asAttribute))));
+        }
+
+    @Override
+    public Map<ObjectName, AttributeList> getAttributes(Set<ObjectName> setObjectNames, String[] asAttribute)
+            throws Exception
+        {
+        Map<ObjectName, AttributeList> mapResults = new LinkedHashMap<>();
+
+        if (setObjectNames.size() <= 1 || JMX_CONCURRENCY <= 1)
+            {
+            for (ObjectName objectName : setObjectNames)
+                {
+                mapResults.put(objectName, getAttributes(objectName, asAttribute));
+                }
+            return mapResults;
+            }
+
+        // there is no bulk JMX operation across MBeans, so the requests are sent
+        // concurrently which the RMI connector serves using multiple connections
+        Map<ObjectName, Future<AttributeList>> mapFutures = new LinkedHashMap<>();
+        for (ObjectName objectName : setObjectNames)
+            {
+            mapFutures.put(objectName, getExecutor().submit(f_cache.bind(() -> getAttributes(objectName, asAttribute))));
+            }
+
+        long    ldtDeadline = System.currentTimeMillis() + JMX_TIMEOUT;
+        boolean fSuccess    = false;
+        try
+            {
+            for (Map.Entry<ObjectName, Future<AttributeList>> entry : mapFutures.entrySet())
+                {
+                long cMillis = Math.max(0L, ldtDeadline - System.currentTimeMillis());
+                mapResults.put(entry.getKey(), entry.getValue().get(cMillis, TimeUnit.MILLISECONDS));
+                }
+            fSuccess = true;
+            }
+        catch (ExecutionException e)
+            {
+            Throwable cause = e.getCause();
+            throw cause instanceof Exception ? (Exception) cause : e;
+            }
+        catch (TimeoutException e)
+            {
+            throw new TimeoutException("Timed out after " + JMX_TIMEOUT + "ms retrieving the attributes of "
+                                       + setObjectNames.size() + " MBeans");
+            }
+        finally
+            {
+            if (!fSuccess)
+                {
+                cancel(mapFutures.values());
+                }
+            }
+
+        return mapResults;
         }
 
     @Override
     public Set<ObjectName> getAllCacheMembers()
             throws Exception
         {
-        return f_connection.queryNames(new ObjectName("Coherence:type=Cache,*"), null);
+        return queryNames(new ObjectName("Coherence:type=Cache,*"), null);
         }
 
     @Override
@@ -123,7 +233,7 @@ public class JMXRequestSender
         Set<ObjectName> setResult = getCompleteObjectName(objectName);
         String sFQN = getFirstResult(setResult);
 
-        invoke(new ObjectName(sFQN), sOperation,  new Object[]{}, new String[]{});
+        invokeOperation(new ObjectName(sFQN), sOperation,  new Object[]{}, new String[]{});
         }
 
     @Override
@@ -135,7 +245,7 @@ public class JMXRequestSender
         Set<ObjectName> setResult = getCompleteObjectName(objectName);
         String sFQN = getFirstResult(setResult);
 
-        return (String) invoke(new ObjectName(sFQN), PART_STATS, new Object[]{sOutputFormat}, new String[]{String.class.getName()});
+        return (String) invokeOperation(new ObjectName(sFQN), PART_STATS, new Object[]{sOutputFormat}, new String[]{String.class.getName()});
         }
 
 
@@ -143,7 +253,7 @@ public class JMXRequestSender
     public Set<ObjectName> getAllJournalMembers(String sJournalType)
             throws Exception
         {
-        return f_connection.queryNames(new ObjectName("Coherence:type=Journal,name="
+        return queryNames(new ObjectName("Coherence:type=Journal,name="
                 + sJournalType + ",*"), null);
         }
 
@@ -151,7 +261,7 @@ public class JMXRequestSender
     public Set getCacheMembers(String sServiceName, String sCacheName, String sDomainPartition)
             throws Exception
         {
-        return f_connection.queryNames(new ObjectName("Coherence:type=Cache,service=" + sServiceName
+        return queryNames(new ObjectName("Coherence:type=Cache,service=" + sServiceName
                 + (sDomainPartition != null ? DOMAIN_PARTITION + sDomainPartition : "")
                 + NAME + sCacheName + ",*"), null);
         }
@@ -161,7 +271,7 @@ public class JMXRequestSender
             throws Exception
         {
 
-        return f_connection.queryNames(new ObjectName(STORAGE_MANAGER_EQUALS
+        return queryNames(new ObjectName(STORAGE_MANAGER_EQUALS
                 + sServiceName + (sDomainPartition != null ? DOMAIN_PARTITION + sDomainPartition : "")
                 + CACHE_EQUALS + sCacheName + ",*"), null);
         }
@@ -170,21 +280,21 @@ public class JMXRequestSender
     public Set<ObjectName> getAllClusters()
             throws Exception
         {
-        return f_connection.queryNames(new ObjectName(CLUSTER), null);
+        return queryNames(new ObjectName(CLUSTER), null);
         }
 
     @Override
     public Set<ObjectName> getHotCacheMembers()
             throws Exception
         {
-        return f_connection.queryNames(new ObjectName("Coherence:type=CoherenceAdapter,*"), null);
+        return queryNames(new ObjectName("Coherence:type=CoherenceAdapter,*"), null);
         }
 
     @Override
     public Set<ObjectName> getHotCachePerCacheAdapters(String sMember)
             throws Exception
         {
-        return f_connection.queryNames(new ObjectName(
+        return queryNames(new ObjectName(
                 "Coherence:type=CoherenceAdapter,name=hotcache,member="+sMember+",*"), null);
         }
 
@@ -192,14 +302,14 @@ public class JMXRequestSender
     public Set<ObjectName> getAllCoherenceWebMembers(String sSessionManager)
             throws Exception
         {
-        return f_connection.queryNames(new ObjectName("Coherence:type=" +sSessionManager + ",*"), null);
+        return queryNames(new ObjectName("Coherence:type=" +sSessionManager + ",*"), null);
         }
 
     @Override
     public Set<ObjectName> getCoherenceWebMembersForApplication(String sSessionManager, String sAppId)
             throws Exception
         {
-        return f_connection.queryNames(new ObjectName("Coherence:type=" + sSessionManager + ",appId=" + sAppId
+        return queryNames(new ObjectName("Coherence:type=" + sSessionManager + ",appId=" + sAppId
                 + ",*"), null);
         }
 
@@ -207,7 +317,7 @@ public class JMXRequestSender
     public Set<ObjectName> getClusterMemberOS(int nodeId)
             throws Exception
         {
-        return f_connection.queryNames(new ObjectName(
+        return queryNames(new ObjectName(
                 "Coherence:type=Platform,Domain=java.lang,subType=OperatingSystem,nodeId="
                 + nodeId + ",*"), null);
         }
@@ -216,21 +326,21 @@ public class JMXRequestSender
     public Set<ObjectName> getAllClusterMembers()
             throws Exception
         {
-        return f_connection.queryNames(new ObjectName("Coherence:type=Node,*"), null);
+        return queryNames(new ObjectName("Coherence:type=Node,*"), null);
         }
 
     @Override
     public Set<ObjectName> getAllExecutorMembers()
             throws Exception
         {
-        return f_connection.queryNames(new ObjectName("Coherence:type=Executor,*"), null);
+        return queryNames(new ObjectName("Coherence:type=Executor,*"), null);
         }
 
     @Override
     public Set<ObjectName> getAllGrpcProxyMembers()
             throws Exception
         {
-        return f_connection.queryNames(new ObjectName("Coherence:type=GrpcNamedCacheProxy,*"), null);
+        return queryNames(new ObjectName("Coherence:type=GrpcNamedCacheProxy,*"), null);
         }
 
 
@@ -238,21 +348,21 @@ public class JMXRequestSender
     public Set<ObjectName> getAllServiceMembers()
             throws Exception
         {
-        return f_connection.queryNames(new ObjectName("Coherence:type=Service,*"), null);
+        return queryNames(new ObjectName("Coherence:type=Service,*"), null);
         }
 
     @Override
     public Set<ObjectName> getAllPersistenceServices()
             throws Exception
         {
-        return f_connection.queryNames(new ObjectName("Coherence:type=Persistence,*"), null);
+        return queryNames(new ObjectName("Coherence:type=Persistence,*"), null);
         }
 
     @Override
     public Set<ObjectName> getMembersOfService(String sServiceName, String sDomainPartition)
             throws Exception
         {
-        return f_connection.queryNames(new ObjectName("Coherence:type=Service,name=" + sServiceName +
+        return queryNames(new ObjectName("Coherence:type=Service,name=" + sServiceName +
                 (sDomainPartition != null ? DOMAIN_PARTITION + sDomainPartition : "") + ",*"), null);
         }
 
@@ -260,28 +370,28 @@ public class JMXRequestSender
     public Set<ObjectName> getAllProxyServerMembers()
             throws Exception
         {
-        return f_connection.queryNames(new ObjectName("Coherence:type=ConnectionManager,*"), null);
+        return queryNames(new ObjectName("Coherence:type=ConnectionManager,*"), null);
         }
 
     @Override
     public Set<ObjectName> getViewMembers(String sServiceName, String sViewName)
             throws Exception
         {
-        return f_connection.queryNames(new ObjectName("Coherence:type=View,service=" + sServiceName + NAME + sViewName + ",*"), null);
+        return queryNames(new ObjectName("Coherence:type=View,service=" + sServiceName + NAME + sViewName + ",*"), null);
         }
 
     @Override
     public Set<ObjectName> getProxyConnections(String sServiceName, int nNodeId)
             throws Exception
        {
-       return f_connection.queryNames(new ObjectName("Coherence:type=Connection,name=" + sServiceName + ",nodeId=" + nNodeId + ",*"), null);
+       return queryNames(new ObjectName("Coherence:type=Connection,name=" + sServiceName + ",nodeId=" + nNodeId + ",*"), null);
        }
 
     @Override
     public Set<ObjectName> getCompleteObjectName(ObjectName objectName)
             throws Exception
         {
-        return f_connection.queryNames(objectName, null);
+        return queryNames(objectName, null);
         }
 
     @Override
@@ -291,7 +401,7 @@ public class JMXRequestSender
         String sQuery = "Coherence:type=PartitionAssignment,service="
                 + sService + (sDomainPartition != null ? DOMAIN_PARTITION + sDomainPartition : "")
                 + ",responsibility=DistributionCoordinator,*";
-        return f_connection.queryNames(new ObjectName(sQuery), null);
+        return queryNames(new ObjectName(sQuery), null);
         }
 
     @Override
@@ -303,7 +413,7 @@ public class JMXRequestSender
 
         String sFQN = getFirstResult(setResult);
 
-        return (String) invoke(new ObjectName(sFQN), "reportScheduledDistributions",
+        return (String) invokeOperation(new ObjectName(sFQN), "reportScheduledDistributions",
                 new Object[]{true}, new String[]{boolean.class.getName()});
         }
 
@@ -315,7 +425,7 @@ public class JMXRequestSender
 
        String sFQN = getFirstResult(setResult);
 
-       return (String) invoke(new ObjectName(sFQN), "getServiceDescription", new Object[0], new String[0]);
+       return (String) invokeOperation(new ObjectName(sFQN), "getServiceDescription", new Object[0], new String[0]);
        }
 
     @Override
@@ -326,7 +436,7 @@ public class JMXRequestSender
 
        String sFQN = getFirstResult(setResult);
 
-       String sResult = (String) invoke(new ObjectName(sFQN), "reportOwnership",
+       String sResult = (String) invokeOperation(new ObjectName(sFQN), "reportOwnership",
                 new Object[]{true}, new String[]{boolean.class.getName()});
 
        return String.format("{\"ownership\":\"%s\"}", sResult);
@@ -370,7 +480,7 @@ public class JMXRequestSender
         Set<ObjectName> setResult = getCompleteObjectName(objectName);
         String sFQN = getFirstResult(setResult);
 
-        invoke(new ObjectName(sFQN), "disconnectAll",  new Object[]{}, new String[]{});
+        invokeOperation(new ObjectName(sFQN), "disconnectAll",  new Object[]{}, new String[]{});
         }
 
     @Override
@@ -378,14 +488,14 @@ public class JMXRequestSender
             throws Exception
         {
         String sObjName = getFederationManagerObjectName(sService);
-        invoke(new ObjectName(sObjName), sOperation, new Object[]{sParticipant}, new String[]{String.class.getName()});
+        invokeOperation(new ObjectName(sObjName), sOperation, new Object[]{sParticipant}, new String[]{String.class.getName()});
         }
 
     @Override
     public Integer retrievePendingIncomingMessages(String sService)
             throws Exception
         {
-        return (Integer) invoke(new ObjectName(getFederationManagerObjectName(sService)),
+        return (Integer) invokeOperation(new ObjectName(getFederationManagerObjectName(sService)),
                 "retrievePendingIncomingMessages", new Object[]{}, new String[]{});
         }
 
@@ -393,7 +503,7 @@ public class JMXRequestSender
     public Integer retrievePendingOutgoingMessages(String sService)
             throws Exception
         {
-        return (Integer) invoke(new ObjectName(getFederationManagerObjectName(sService)),
+        return (Integer) invokeOperation(new ObjectName(getFederationManagerObjectName(sService)),
                 "retrievePendingOutgoingMessages", new Object[]{}, new String[]{});
         }
 
@@ -407,7 +517,7 @@ public class JMXRequestSender
 
         String sFQN = getFirstResult(setResult);
 
-        return (String) invoke(new ObjectName(sFQN), "reportNodeState", new Object[0], new String[0]);
+        return (String) invokeOperation(new ObjectName(sFQN), "reportNodeState", new Object[0], new String[0]);
         }
 
     @Override
@@ -420,7 +530,7 @@ public class JMXRequestSender
 
         String sFQN = getFirstResult(setResult);
 
-        return (String) invoke(new ObjectName(sFQN), "reportEnvironment", new Object[0], new String[0]);
+        return (String) invokeOperation(new ObjectName(sFQN), "reportEnvironment", new Object[0], new String[0]);
         }
 
     @Override
@@ -433,7 +543,7 @@ public class JMXRequestSender
 
         String sFQN = getFirstResult(setResult);
 
-        return (String) invoke(new ObjectName(sFQN), "getNodeDescription", new Object[0], new String[0]);
+        return (String) invokeOperation(new ObjectName(sFQN), "getNodeDescription", new Object[0], new String[0]);
         }
 
     /**
@@ -450,14 +560,14 @@ public class JMXRequestSender
 
         String sFQN = getFirstResult(setResult);
 
-        invoke(new ObjectName(sFQN), "dumpClusterHeap", new Object[]{sRole},
+        invokeOperation(new ObjectName(sFQN), "dumpClusterHeap", new Object[]{sRole},
                     new String[] {String.class.getName()});
         }
 
     public Set<ObjectName> getV1GrpcProxyMBean()
             throws Exception
         {
-        return f_connection.queryNames(new ObjectName("Coherence:type=GrpcProxy,*"), null);
+        return queryNames(new ObjectName("Coherence:type=GrpcProxy,*"), null);
         }
 
 
@@ -472,7 +582,7 @@ public class JMXRequestSender
 
         String sFQN = getFirstResult(setResult);
 
-        return (String[]) f_connection.getAttribute(new ObjectName(sFQN), "Snapshots");
+        return (String[]) RequestLimiter.call(() -> f_connection.getAttribute(new ObjectName(sFQN), "Snapshots"));
         }
 
     @Override
@@ -484,7 +594,7 @@ public class JMXRequestSender
 
         String sFQN = getFirstResult(setResult);
 
-        return (String[]) invoke(new ObjectName(sFQN), "listArchivedSnapshots", null, null);
+        return (String[]) invokeOperation(new ObjectName(sFQN), "listArchivedSnapshots", null, null);
         }
 
     @Override
@@ -499,7 +609,7 @@ public class JMXRequestSender
 
         String sFQN = getFirstResult(setResult);
 
-        invoke(new ObjectName(sFQN), sOperationName, new Object[]{sSnapshotName},
+        invokeOperation(new ObjectName(sFQN), sOperationName, new Object[]{sSnapshotName},
                 new String[]{String.class.getName()});
         }
 
@@ -521,7 +631,7 @@ public class JMXRequestSender
            asSignature = new String[]{Integer.class.getName()};
            }
 
-       return invoke(new ObjectName(sFQN), sOperationName, aoArgs, asSignature);
+       return invokeOperation(new ObjectName(sFQN), sOperationName, aoArgs, asSignature);
        }
 
 
@@ -533,7 +643,7 @@ public class JMXRequestSender
         String sQuery = "Coherence:type=Service,name="
                         + sService + (sDomainPartition != null ? DOMAIN_PARTITION + sDomainPartition : "")
                         + ",nodeId=" + nMemberId + ",*";
-        return f_connection.queryNames(new ObjectName(sQuery), null);
+        return queryNames(new ObjectName(sQuery), null);
         }
 
     /**
@@ -630,6 +740,25 @@ public class JMXRequestSender
         return getReporterObjectName(f_connection, nLocalMemberId);
         }
 
+    /**
+     * Return the location of the ReporterMBean used to run reports for this
+     * connection, finding it on the local member the first time.
+     *
+     * @return the fully qualified ObjectName of the ReporterMBean or null if
+     *         there is none
+     */
+    public String getReporterLocation()
+        {
+        String sLocation = m_sReporterLocation;
+        if (sLocation == null)
+            {
+            // reporter location has not been defined, so lets find it
+            m_sReporterLocation = sLocation = getReporterObjectName(getLocalMemberId());
+            }
+
+        return sLocation;
+        }
+
     /**
      * Invoke an operation on an MBean.
      *
@@ -645,9 +774,81 @@ public class JMXRequestSender
     public Object invoke(ObjectName objectName, String opName, Object[] arguments, String[] signature)
             throws Exception
         {
+        return RequestLimiter.call(() -> f_connection.invoke(objectName, opName, arguments, signature));
+        }
+
+    /**
+     * Invoke an operation requested by the user on an MBean. Unlike
+     * {@link #invoke(ObjectName, String, Object[], String[])}, which is used
+     * to run the reports of a refresh, the operation is not sent through the
+     * {@link RequestLimiter} as it may be called on the EDT and must never
+     * wait behind slow refreshes.
+     *
+     * @param objectName  the ObjectName of the MBean
+     * @param opName      the operation name
+     * @param arguments   the arguments to the operation
+     * @param signature   the signature of the operation
+     *
+     * @return the result of the MBean operation
+     *
+     * @throws Exception thrown in case of errors
+     */
+    private Object invokeOperation(ObjectName objectName, String opName, Object[] arguments, String[] signature)
+            throws Exception
+        {
         return f_connection.invoke(objectName, opName, arguments, signature);
         }
 
+    /**
+     * Invoke an operation on an MBean asynchronously. The operations are run
+     * by their own threads, so that long running operations such as reports
+     * do not hold up the concurrent retrieval of MBean attributes.
+     *
+     * @param objectName  the MBean ObjectName
+     * @param opName      the name of the operation
+     * @param arguments   the arguments of the operation
+     * @param signature   the signature of the operation
+     *
+     * @return a {@link Future} for the result of the MBean operation
+     */
+    public Future<Object> invokeAsync(ObjectName objectName, String opName, Object[] arguments, String[] signature)
+        {
+        return getOperationExecutor().submit(() -> invoke(objectName, opName, arguments, signature));
+        }
+
+    /**
+     * Release the resources of the sender, removing the subscriptions made to
+     * the connection. The connection itself is not closed.
+     */
+    public void close()
+        {
+        f_metadata.close();
+        }
+
+    /**
+     * Cancel the given requests which have not started yet. A request which
+     * is running is not interrupted, as a thread blocked in JMX socket I/O does
+     * not respond to interrupts, and is left to complete or to fail when the
+     * JMX connector times out.
+     *
+     * @param colFutures  the {@link Future}s of the requests to cancel
+     */
+    public static void cancel(Collection<? extends Future<?>> colFutures)
+        {
+        colFutures.forEach(future -> future.cancel(false));
+        }
+
+    /**
+     * Returns the maximum time in millis to wait for requests which are sent
+     * concurrently.
+     *
+     * @return the maximum time in millis to wait for concurrent requests
+     */
+    public static long getRequestTimeout()
+        {
+        return JMX_TIMEOUT;
+        }
+
     /**
      * Helper method to get MBean's object name
      *
@@ -671,6 +872,27 @@ public class JMXRequestSender
 
 
 
+    /**
+     * Query the {@link MBeanServerConnection} for the names of MBeans, returning
+     * the result cached during the current refresh cycle or, for queries without
+     * a {@link QueryExp}, the result held by the {@link MBeanMetadataCache}.
+     *
+     * @param objName  the {@link ObjectName} pattern to query
+     * @param query    the query to apply
+     *
+     * @return the {@link Set} of matching {@link ObjectName}s
+     *
+     * @throws Exception in case of errors
+     */
+    private Set<ObjectName> queryNames(ObjectName objName, QueryExp query)
+            throws Exception
+        {
+        return new HashSet<>(f_cache.get(Arrays.asList("queryNames", objName, query),
+                                         () -> RequestLimiter.call(() -> query == null
+                                                                         ? f_metadata.queryNames(objName)
+                                                                         : f_connection.queryNames(objName, query))));
+        }
+
     /**
      * Returns the first result from a {@link Set} of {@link ObjectName}s.
      *
@@ -683,8 +905,87 @@ public class JMXRequestSender
         return setResult.isEmpty() ? null : setResult.iterator().next().toString();
         }
 
+    @Override
+    public RequestCache getRequestCache()
+        {
+        return f_cache;
+        }
+
+    /**
+     * Returns the executor used to send concurrent JMX requests.
+     *
+     * @return the executor used to send concurrent JMX requests
+     */
+    private static synchronized ExecutorService getExecutor()
+        {
+        if (s_executor == null)
+            {
+            s_executor = createExecutor("CoherenceVisualVMJMX-");
+            }
+
+        return s_executor;
+        }
+
+    /**
+     * Returns the executor used to invoke MBean operations asynchronously.
+     *
+     * @return the executor used to invoke MBean operations asynchronously
+     */
+    private static synchronized ExecutorService getOperationExecutor()
+        {
+        if (s_executorOperation == null)
+            {
+            s_executorOperation = createExecutor("CoherenceVisualVMJMXOperation-");
+            }
+
+        return s_executorOperation;
+        }
+
+    /**
+     * Create an executor of {@link #JMX_CONCURRENCY} daemon threads.
+     *
+     * @param sPrefix  the prefix of the thread names
+     *
+     * @return the new executor
+     */
+    private static ExecutorService createExecutor(String sPrefix)
+        {
+        AtomicInteger nThread = new AtomicInteger();
+
+        return Executors.newFixedThreadPool(JMX_CONCURRENCY, r ->
+            {
+            Thread thread = new Thread(r, sPrefix + nThread.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+            });
+        }
+
     // ------ constants -----------------------------------------------------
 
+    /**
+     * Property to set the maximum number of concurrent JMX requests made when
+     * retrieving the attributes of multiple MBeans, and separately the maximum
+     * number of MBean operations, such as reports, invoked asynchronously. A
+     * value of 1 retrieves the attributes sequentially.
+     */
+    public static final String PROP_JMX_CONCURRENCY = "coherence.plugin.visualvm.jmx.concurrency";
+
+    /**
+     * The maximum number of concurrent JMX requests.
+     */
+    private static final int JMX_CONCURRENCY = Integer.getInteger(PROP_JMX_CONCURRENCY, 4);
+
+    /**
+     * Property to set the maximum time in millis to wait for the attributes of
+     * multiple MBeans which are retrieved concurrently.
+     */
+    public static final String PROP_JMX_TIMEOUT = "coherence.plugin.visualvm.jmx.request.timeout";
+
+    /**
+     * The maximum time in millis to wait for the attributes of multiple MBeans.
+     */
+    private static final long JMX_TIMEOUT = Long.getLong(PROP_JMX_TIMEOUT, 30000L);
+
     /**
      * The logger object to use.
      */
@@ -703,4 +1004,30 @@ public class JMXRequestSender
      * The {@link MBeanServerConnection} to use.
      */
     private final MBeanServerConnection f_connection;
+
+    /**
+     * The cache of the results of the requests made during a refresh cycle.
+     */
+    private final RequestCache f_cache = new RequestCache();
+
+    /**
+     * The cache of the MBean names and metadata which is kept current using
+     * MBean registration notifications.
+     */
+    private final MBeanMetadataCache f_metadata;
+
+    /**
+     * The location of the ReporterMBean used to run reports.
+     */
+    private volatile String m_sReporterLocation;
+
+    /**
+     * The executor used to send concurrent JMX requests.
+     */
+    private static ExecutorService s_executor;
+
+    /**
+     * The executor used to invoke MBean operations asynchronously.
+     */
+    private static ExecutorService s_executorOperation;
     }
@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.oracle.coherence.plugin.visualvm.helper;
+
+import com.fasterxml.jackson.core.JsonFactory;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Shared Jackson instances used to parse and format JSON. An {@link ObjectMapper}
+ * is expensive to create and caches serializers and deserializers, and the
+ * {@link JsonFactory} recycles its parsing buffers per thread, so a single
+ * instance is shared rather than creating one for each response. The
+ * {@link ObjectReader} and {@link ObjectWriter} instances are immutable and
+ * thread-safe.
+ *
+ * @since  1.8.0
+ */
+public class JsonHelper
+    {
+
+    // ----- constructors ---------------------------------------------------
+
+    private JsonHelper()
+        {
+        // cannot instantiate
+        }
+
+    // ----- helpers --------------------------------------------------------
+
+    /**
+     * Read a JSON tree from the given stream.
+     *
+     * @param stream  the stream to read from
+     *
+     * @return the root {@link JsonNode}
+     *
+     * @throws IOException if the JSON cannot be read
+     */
+    public static JsonNode readTree(InputStream stream)
+            throws IOException
+        {
+        return READER.readTree(stream);
+        }
+
+    /**
+     * Read a JSON tree from the given String.
+     *
+     * @param sJson  the JSON to read
+     *
+     * @return the root {@link JsonNode}
+     *
+     * @throws IOException if the JSON cannot be read
+     */
+    public static JsonNode readTree(String sJson)
+            throws IOException
+        {
+        return READER.readTree(sJson);
+        }
+
+    /**
+     * Read the given JSON as a generic value, such as a {@link java.util.Map}.
+     *
+     * @param sJson  the JSON to read
+     *
+     * @return the value
+     *
+     * @throws IOException if the JSON cannot be read
+     */
+    public static Object readValue(String sJson)
+            throws IOException
+        {
+        return VALUE_READER.readValue(sJson);
+        }
+
+    /**
+     * Format the given value as indented JSON.
+     *
+     * @param oValue  the value to format
+     *
+     * @return the indented JSON
+     *
+     * @throws IOException if the value cannot be written
+     */
+    public static String writePretty(Object oValue)
+            throws IOException
+        {
+        return PRETTY_WRITER.writeValueAsString(oValue);
+        }
+
+    /**
+     * Returns the shared {@link JsonFactory} to create streaming parsers from.
+     *
+     * @return the shared {@link JsonFactory}
+     */
+    public static JsonFactory getJsonFactory()
+        {
+        return MAPPER.getFactory();
+        }
+
+    // ----- constants ------------------------------------------------------
+
+    /**
+     * The shared {@link ObjectMapper}, which must not be reconfigured once created.
+     */
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    /**
+     * The shared {@link ObjectReader} for reading trees.
+     */
+    private static final ObjectReader READER = MAPPER.reader();
+
+    /**
+     * The shared {@link ObjectReader} for reading generic values.
+     */
+    private static final ObjectReader VALUE_READER = MAPPER.readerFor(Object.class);
+
+    /**
+     * The shared {@link ObjectWriter} for writing indented JSON.
+     */
+    private static final ObjectWriter PRETTY_WRITER = MAPPER.writerWithDefaultPrettyPrinter();
+    }
@@ -0,0 +1,253 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.oracle.coherence.plugin.visualvm.helper;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * An {@link Iterator} over the elements of a top level array field, such as
+ * "items", of a JSON response which is read from the token stream. Only the
+ * current element is held as a {@link JsonNode}, so the memory required to
+ * process a response grows with the size of an element rather than with the
+ * size of the response. The iterator must be closed, which is done
+ * automatically once the last element has been read. The rest of the
+ * response is then read as well, so that an HTTP connection can be reused.
+ *
+ * @since  1.8.0
+ */
+public class JsonItemIterator
+        implements Iterator<JsonNode>, Closeable
+    {
+    // ----- constructors ---------------------------------------------------
+
+    /**
+     * Create an iterator over the elements of the given array field.
+     *
+     * @param stream  the response stream, may be null in which case there are no elements
+     * @param sField  the name of the top level array field
+     *
+     * @throws IOException if the response cannot be read
+     */
+    public JsonItemIterator(InputStream stream, String sField)
+            throws IOException
+        {
+        f_stream = stream;
+        try
+            {
+            f_parser = stream == null ? null : JsonHelper.getJsonFactory().createParser(stream);
+            }
+        catch (IOException | RuntimeException e)
+            {
+            stream.close();
+            throw e;
+            }
+
+        try
+            {
+            if (f_parser != null && moveToArray(sField))
+                {
+                advance();
+                }
+            else
+                {
+                drainAndClose();
+                }
+            }
+        catch (IOException | RuntimeException e)
+            {
+            close();
+            throw e;
+            }
+        }
+
+    // ----- Iterator interface ---------------------------------------------
+
+    @Override
+    public boolean hasNext()
+        {
+        return m_nodeNext != null;
+        }
+
+    @Override
+    public JsonNode next()
+        {
+        JsonNode node = m_nodeNext;
+        if (node == null)
+            {
+            throw new NoSuchElementException();
+            }
+
+        try
+            {
+            advance();
+            }
+        catch (IOException e)
+            {
+            throw new UncheckedIOException(e);
+            }
+
+        return node;
+        }
+
+    // ----- Closeable interface --------------------------------------------
+
+    @Override
+    public void close()
+            throws IOException
+        {
+        m_nodeNext = null;
+
+        if (f_parser != null && !f_parser.isClosed())
+            {
+            // the parser closes the response stream
+            f_parser.close();
+            }
+        }
+
+    // ----- helpers --------------------------------------------------------
+
+    /**
+     * Position the parser at the start of the given top level array field.
+     *
+     * @param sField  the name of the field
+     *
+     * @return true if the field was found and is an array
+     *
+     * @throws IOException if the response cannot be read
+     */
+    private boolean moveToArray(String sField)
+            throws IOException
+        {
+        if (f_parser.nextToken() != JsonToken.START_OBJECT)
+            {
+            return false;
+            }
+
+        while (f_parser.nextToken() == JsonToken.FIELD_NAME)
+            {
+            String    sName = f_parser.getCurrentName();
+            JsonToken token = f_parser.nextToken();
+
+            if (sField.equals(sName) && token == JsonToken.START_ARRAY)
+                {
+                return true;
+                }
+
+            f_parser.skipChildren();
+            }
+
+        return false;
+        }
+
+    /**
+     * Read the next element of the array, closing the parser once the end of
+     * the array is reached.
+     *
+     * @throws IOException if the response cannot be read
+     */
+    private void advance()
+            throws IOException
+        {
+        JsonToken token = f_parser.nextToken();
+
+        // skip any elements which are not objects
+        while (token != null && token != JsonToken.END_ARRAY && token != JsonToken.START_OBJECT)
+            {
+            f_parser.skipChildren();
+            token = f_parser.nextToken();
+            }
+
+        if (token == JsonToken.START_OBJECT)
+            {
+            m_nodeNext = f_parser.readValueAsTree();
+            }
+        else
+            {
+            drainAndClose();
+            }
+        }
+
+    /**
+     * Read the rest of the response and close the iterator. The remaining
+     * content, such as the links which follow the items, is small, and once
+     * it has been read the HTTP connection can be kept alive and reused.
+     *
+     * @throws IOException if the response cannot be read
+     */
+    private void drainAndClose()
+            throws IOException
+        {
+        try
+            {
+            if (f_stream != null && f_parser != null && !f_parser.isClosed())
+                {
+                byte[] ab = new byte[DRAIN_BUFFER_SIZE];
+                while (f_stream.read(ab) >= 0)
+                    {
+                    }
+                }
+            }
+        finally
+            {
+            close();
+            }
+        }
+
+    // ----- constants ------------------------------------------------------
+
+    /**
+     * The size of the buffer used to read the rest of the response.
+     */
+    private static final int DRAIN_BUFFER_SIZE = 4096;
+
+    // ----- data members ---------------------------------------------------
+
+    /**
+     * The response stream, null if there was no response.
+     */
+    private final InputStream f_stream;
+
+    /**
+     * The parser reading the response, null if there was no response.
+     */
+    private final JsonParser f_parser;
+
+    /**
+     * The next element to return, null if there are no more elements.
+     */
+    private JsonNode m_nodeNext;
+    }
@@ -0,0 +1,385 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.oracle.coherence.plugin.visualvm.helper;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import javax.management.MBeanInfo;
+import javax.management.MBeanServerConnection;
+import javax.management.MBeanServerDelegate;
+import javax.management.MBeanServerNotification;
+import javax.management.Notification;
+import javax.management.NotificationListener;
+import javax.management.ObjectName;
+
+import javax.management.relation.MBeanServerNotificationFilter;
+
+import javax.management.remote.JMXConnectionNotification;
+import javax.management.remote.JMXConnector;
+
+/**
+ * A cache of the results of {@code queryNames} and {@code getMBeanInfo} calls
+ * made against an {@link MBeanServerConnection}.
+ * <p>
+ * The cache subscribes to the registration and unregistration notifications
+ * of the {@link MBeanServerDelegate}. When an MBean is registered or
+ * unregistered only the cached queries whose pattern matches its name, and
+ * its {@link MBeanInfo}, are invalidated, so while the cluster topology is
+ * stable no {@code queryNames} calls are made. If the subscription fails the
+ * cache is bypassed.
+ * <p>
+ * If notifications are lost the cache can no longer be trusted, so all the
+ * metadata is discarded when a gap is detected in the sequence numbers of the
+ * {@link MBeanServerDelegate} notifications, and, when the cache is created for
+ * a {@link JMXConnector}, when the connector reports lost notifications or the
+ * connection is re-opened. The subscriptions are removed by {@link #close()}.
+ *
+ * @since  1.8.0
+ */
+public class MBeanMetadataCache
+        implements NotificationListener
+    {
+    // ----- constructors ---------------------------------------------------
+
+    /**
+     * Create a cache for the given {@link MBeanServerConnection}.
+     *
+     * @param connection  the {@link MBeanServerConnection} to cache the metadata of
+     */
+    public MBeanMetadataCache(MBeanServerConnection connection)
+        {
+        this(connection, null);
+        }
+
+    /**
+     * Create a cache for the given {@link MBeanServerConnection} of a
+     * {@link JMXConnector}.
+     *
+     * @param connection  the {@link MBeanServerConnection} to cache the metadata of
+     * @param connector   the {@link JMXConnector} of the connection, or null if
+     *                    not known
+     */
+    public MBeanMetadataCache(MBeanServerConnection connection, JMXConnector connector)
+        {
+        f_connection = connection;
+        f_connector  = connector;
+
+        if (connector != null)
+            {
+            connector.addConnectionNotificationListener(f_connectionListener, null, null);
+            }
+        }
+
+    // ----- MBeanMetadataCache methods -------------------------------------
+
+    /**
+     * Returns the names of the MBeans matching the given pattern.
+     *
+     * @param objName  the {@link ObjectName} pattern to query
+     *
+     * @return an unmodifiable {@link Set} of the matching {@link ObjectName}s
+     *
+     * @throws Exception in case of errors
+     */
+    public Set<ObjectName> queryNames(ObjectName objName)
+            throws Exception
+        {
+        if (!isSubscribed())
+            {
+            return f_connection.queryNames(objName, null);
+            }
+
+        Set<ObjectName> setNames = f_mapQueries.get(objName);
+        if (setNames == null)
+            {
+            long nVersion = f_nVersion.get();
+
+            setNames = Collections.unmodifiableSet(new HashSet<>(f_connection.queryNames(objName, null)));
+
+            putIfUnchanged(f_mapQueries, objName, setNames, nVersion);
+            }
+
+        return setNames;
+        }
+
+    /**
+     * Returns the {@link MBeanInfo} of the given MBean.
+     *
+     * @param objName  the {@link ObjectName} of the MBean
+     *
+     * @return the {@link MBeanInfo} of the MBean
+     *
+     * @throws Exception in case of errors
+     */
+    public MBeanInfo getMBeanInfo(ObjectName objName)
+            throws Exception
+        {
+        if (!isSubscribed())
+            {
+            return f_connection.getMBeanInfo(objName);
+            }
+
+        MBeanInfo info = f_mapInfo.get(objName);
+        if (info == null)
+            {
+            long nVersion = f_nVersion.get();
+
+            info = f_connection.getMBeanInfo(objName);
+
+            putIfUnchanged(f_mapInfo, objName, info, nVersion);
+            }
+
+        return info;
+        }
+
+    /**
+     * Discard all the cached metadata.
+     */
+    public void clear()
+        {
+        f_nVersion.incrementAndGet();
+        f_mapQueries.clear();
+        f_mapInfo.clear();
+        }
+
+    /**
+     * Remove the subscriptions of the cache and discard all the cached metadata.
+     */
+    public synchronized void close()
+        {
+        if (f_connector != null)
+            {
+            try
+                {
+                f_connector.removeConnectionNotificationListener(f_connectionListener);
+                }
+            catch (Exception e)
+                {
+                // not registered
+                }
+            }
+
+        unsubscribe();
+        m_fSubscribed = false;
+        clear();
+        }
+
+    // ----- NotificationListener interface ---------------------------------
+
+    @Override
+    public void handleNotification(Notification notification, Object oHandback)
+        {
+        if (!(notification instanceof MBeanServerNotification))
+            {
+            return;
+            }
+
+        // the delegate numbers its notifications in sequence, so a gap means
+        // that some were lost and any of the cached metadata may be stale
+        long nSequence = notification.getSequenceNumber();
+        long nPrevious = f_nLastSequence.getAndSet(nSequence);
+        if (nPrevious >= 0 && nSequence > nPrevious + 1)
+            {
+            LOGGER.log(Level.FINE, "Lost MBean registration notifications, discarding the cached metadata");
+            clear();
+            return;
+            }
+
+        ObjectName objName = ((MBeanServerNotification) notification).getMBeanName();
+
+        f_nVersion.incrementAndGet();
+        f_mapQueries.keySet().removeIf(pattern -> pattern.apply(objName));
+        f_mapInfo.remove(objName);
+        }
+
+    // ----- helpers --------------------------------------------------------
+
+    /**
+     * Cache the given value unless the metadata changed since the given
+     * version. The version is checked again after the value is cached, as a
+     * notification may have invalidated the key between the check and the put.
+     *
+     * @param map       the map to cache the value in
+     * @param oKey      the key of the value
+     * @param oValue    the value retrieved at the given version
+     * @param nVersion  the version of the metadata before the value was retrieved
+     * @param <K>       the type of the key
+     * @param <V>       the type of the value
+     */
+    private <K, V> void putIfUnchanged(Map<K, V> map, K oKey, V oValue, long nVersion)
+        {
+        if (f_nVersion.get() == nVersion)
+            {
+            map.put(oKey, oValue);
+
+            if (f_nVersion.get() != nVersion)
+                {
+                map.remove(oKey, oValue);
+                }
+            }
+        }
+
+    /**
+     * Handle a notification of the {@link JMXConnector}.
+     *
+     * @param notification  the {@link Notification}
+     */
+    private void onConnectionNotification(Notification notification)
+        {
+        String sType = notification.getType();
+
+        if (JMXConnectionNotification.NOTIFS_LOST.equals(sType))
+            {
+            LOGGER.log(Level.FINE, "Lost JMX notifications, discarding the cached metadata");
+            clear();
+            }
+        else if (JMXConnectionNotification.OPENED.equals(sType)
+                 || JMXConnectionNotification.CLOSED.equals(sType)
+                 || JMXConnectionNotification.FAILED.equals(sType))
+            {
+            // the subscription does not survive the connection, so subscribe
+            // again when next used and discard what was cached before
+            synchronized (this)
+                {
+                if (Boolean.TRUE.equals(m_fSubscribed))
+                    {
+                    unsubscribe();
+                    m_fSubscribed = null;
+                    }
+                }
+            clear();
+            }
+        }
+
+    /**
+     * Remove the subscription to the {@link MBeanServerDelegate} notifications,
+     * if any.
+     */
+    private synchronized void unsubscribe()
+        {
+        if (Boolean.TRUE.equals(m_fSubscribed))
+            {
+            try
+                {
+                f_connection.removeNotificationListener(MBeanServerDelegate.DELEGATE_NAME, this);
+                }
+            catch (Exception e)
+                {
+                // the connection is closed or the listener was already removed
+                }
+            }
+        }
+
+    /**
+     * Subscribe to the {@link MBeanServerDelegate} notifications if not already
+     * attempted and return true if subscribed.
+     *
+     * @return true if subscribed to the {@link MBeanServerDelegate} notifications
+     */
+    private synchronized boolean isSubscribed()
+        {
+        if (m_fSubscribed == null)
+            {
+            try
+                {
+                MBeanServerNotificationFilter filter = new MBeanServerNotificationFilter();
+                filter.enableAllObjectNames();
+
+                f_nLastSequence.set(-1L);
+                f_connection.addNotificationListener(MBeanServerDelegate.DELEGATE_NAME, this, filter, null);
+                m_fSubscribed = true;
+                }
+            catch (Exception e)
+                {
+                LOGGER.log(Level.WARNING, "Unable to subscribe to MBean registrations, metadata will not be cached", e);
+                m_fSubscribed = false;
+                }
+            }
+
+        return m_fSubscribed;
+        }
+
+    // ----- constants ------------------------------------------------------
+
+    /**
+     * The logger object to use.
+     */
+    private static final Logger LOGGER = Logger.getLogger(MBeanMetadataCache.class.getName());
+
+    // ----- data members ---------------------------------------------------
+
+    /**
+     * The {@link MBeanServerConnection} to cache the metadata of.
+     */
+    private final MBeanServerConnection f_connection;
+
+    /**
+     * The {@link JMXConnector} of the connection, or null if not known.
+     */
+    private final JMXConnector f_connector;
+
+    /**
+     * The listener for the notifications of the {@link JMXConnector}.
+     */
+    private final NotificationListener f_connectionListener = (notification, oHandback) ->
+            onConnectionNotification(notification);
+
+    /**
+     * The results of the queries keyed by the {@link ObjectName} pattern.
+     */
+    private final Map<ObjectName, Set<ObjectName>> f_mapQueries = new ConcurrentHashMap<>();
+
+    /**
+     * The {@link MBeanInfo} keyed by the {@link ObjectName} of the MBean.
+     */
+    private final Map<ObjectName, MBeanInfo> f_mapInfo = new ConcurrentHashMap<>();
+
+    /**
+     * The version of the cached metadata, which is incremented on each change.
+     */
+    private final AtomicLong f_nVersion = new AtomicLong();
+
+    /**
+     * The sequence number of the last {@link MBeanServerDelegate} notification,
+     * or -1 if none was received since subscribing.
+     */
+    private final AtomicLong f_nLastSequence = new AtomicLong(-1L);
+
+    /**
+     * Indicates if the subscription to the {@link MBeanServerDelegate} succeeded,
+     * or null if not yet attempted.
+     */
+    private Boolean m_fSubscribed;
+    }
@@ -38,7 +38,6 @@ import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 
 
 /**
@@ -77,10 +76,9 @@ public class PartitionHelper
         String sOwnership = null;
 
         // convert to Json
-        ObjectMapper mapper = new ObjectMapper();
         try
             {
-            JsonNode jsonNode = mapper.readTree(sOwnershipJson);
+            JsonNode jsonNode = JsonHelper.readTree(sOwnershipJson);
             JsonNode jsonOwnership = jsonNode.get("ownership");
             if (jsonOwnership == null)
                 {
@@ -0,0 +1,600 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.oracle.coherence.plugin.visualvm.helper;
+
+import com.oracle.coherence.plugin.visualvm.Localization;
+
+import com.oracle.coherence.plugin.visualvm.recording.RecordingReader;
+
+import com.oracle.coherence.plugin.visualvm.tablemodel.model.Pair;
+
+import java.io.IOException;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import javax.management.Attribute;
+import javax.management.AttributeList;
+import javax.management.ObjectName;
+
+/**
+ * The {@link RequestSender} which replays the refresh cycles of a recording
+ * made by a {@link com.oracle.coherence.plugin.visualvm.recording.SnapshotRecorder}
+ * rather than querying a cluster.
+ * <p>
+ * The sender keeps a playback position in the time of the recording, which
+ * advances at the playback speed while playing and can be moved with
+ * {@link #seek(long)}. The {@link com.oracle.coherence.plugin.visualvm.VisualVMModel}
+ * publishes the cycle at the playback position on each refresh instead of
+ * retrieving the data. Operations and queries against the cluster are not
+ * available and throw an {@link UnsupportedOperationException}.
+ *
+ * @since  1.8.0
+ */
+public class ReplayRequestSender
+        implements RequestSender
+    {
+    // ------ constructors --------------------------------------------------
+
+    /**
+     * Create a {@link ReplayRequestSender} positioned at the start of a recording.
+     *
+     * @param reader  the {@link RecordingReader} of the recording, which has been indexed
+     */
+    public ReplayRequestSender(RecordingReader reader)
+        {
+        f_reader      = reader;
+        m_ldtPosition = reader.getStartTime();
+        }
+
+    // ------ ReplayRequestSender methods -----------------------------------
+
+    /**
+     * Returns the {@link RecordingReader} of the recording.
+     *
+     * @return the {@link RecordingReader}
+     */
+    public RecordingReader getReader()
+        {
+        return f_reader;
+        }
+
+    /**
+     * Returns the cycle at the playback position, pausing the playback once
+     * it passes the end of the recording.
+     *
+     * @return the index of the cycle or -1 if the recording has no cycles
+     */
+    public int getCurrentCycle()
+        {
+        RecordingReader reader = f_reader;
+        long            ldt    = getPosition();
+
+        if (ldt > reader.getEndTime())
+            {
+            refreshIndex();
+
+            synchronized (this)
+                {
+                long ldtEnd = reader.getEndTime();
+                if (ldt > ldtEnd)
+                    {
+                    m_ldtPosition = ldtEnd;
+                    m_fPlaying    = false;
+                    ldt           = ldtEnd;
+                    }
+                }
+            }
+
+        return reader.findCycle(ldt);
+        }
+
+    /**
+     * Returns the playback position.
+     *
+     * @return the time in the recording that is played
+     */
+    public synchronized long getPosition()
+        {
+        long ldt = m_ldtPosition;
+        if (m_fPlaying)
+            {
+            ldt += (long) ((System.currentTimeMillis() - m_ldtAnchor) * m_dSpeed);
+            }
+        return ldt;
+        }
+
+    /**
+     * Returns true if the recording is being played.
+     *
+     * @return true if the recording is being played
+     */
+    public synchronized boolean isPlaying()
+        {
+        return m_fPlaying;
+        }
+
+    /**
+     * Start playing from the playback position, or from the start if the end
+     * of the recording has been reached.
+     */
+    public synchronized void play()
+        {
+        if (!m_fPlaying)
+            {
+            if (m_ldtPosition >= f_reader.getEndTime())
+                {
+                m_ldtPosition = f_reader.getStartTime();
+                }
+            m_ldtAnchor = System.currentTimeMillis();
+            m_fPlaying  = true;
+            }
+        }
+
+    /**
+     * Pause playing at the playback position.
+     */
+    public synchronized void pause()
+        {
+        m_ldtPosition = getPosition();
+        m_fPlaying    = false;
+        }
+
+    /**
+     * Move the playback position.
+     *
+     * @param ldt  the time in the recording to move to
+     */
+    public synchronized void seek(long ldt)
+        {
+        m_ldtPosition = Math.max(f_reader.getStartTime(), Math.min(ldt, f_reader.getEndTime()));
+        m_ldtAnchor   = System.currentTimeMillis();
+        }
+
+    /**
+     * Returns the playback speed.
+     *
+     * @return the playback speed relative to the recorded time
+     */
+    public synchronized double getSpeed()
+        {
+        return m_dSpeed;
+        }
+
+    /**
+     * Set the playback speed.
+     *
+     * @param dSpeed  the playback speed relative to the recorded time
+     */
+    public synchronized void setSpeed(double dSpeed)
+        {
+        if (dSpeed <= 0.0d)
+            {
+            throw new IllegalArgumentException("Invalid speed " + dSpeed);
+            }
+
+        m_ldtPosition = getPosition();
+        m_ldtAnchor   = System.currentTimeMillis();
+        m_dSpeed      = dSpeed;
+        }
+
+    // ------ RequestSender interface ---------------------------------------
+
+    @Override
+    public List<Attribute> getAllAttributes(ObjectName objName)
+            throws Exception
+        {
+        throw unsupported();
+        }
+
+    @Override
+    public String getAttribute(ObjectName objectName, String attribute)
+            throws Exception
+        {
+        throw unsupported();
+        }
+
+    @Override
+    public AttributeList getAttributes(ObjectName objectName, String[] asAttribute)
+            throws Exception
+        {
+        throw unsupported();
+        }
+
+    @Override
+    public Map<ObjectName, AttributeList> getAttributes(Set<ObjectName> setObjectNames, String[] asAttribute)
+            throws Exception
+        {
+        throw unsupported();
+        }
+
+    @Override
+    public Set<ObjectName> getAllCacheMembers()
+            throws Exception
+        {
+        throw unsupported();
+        }
+
+    @Override
+    public void invokeStorageManagerOperation(String sService, String sCacheName, String sOperation)
+            throws Exception
+        {
+        throw unsupported();
+        }
+
+    @Override
+    public String invokeReportPartitionsStatsOperation(String sService, String sCacheName, String sOutputFormat)
+            throws Exception
+        {
+        throw unsupported();
+        }
+
+    @Override
+    public Set<ObjectName> getAllJournalMembers(String sJournalType)
+            throws Exception
+        {
+        throw unsupported();
+        }
+
+    @Override
+    public Set<ObjectName> getCacheMembers(String sServiceName, String sCacheName, String sDomainPartition)
+            throws Exception
+        {
+        throw unsupported();
+        }
+
+    @Override
+    public Set<ObjectName> getCacheStorageMembers(String sServiceName, String sCacheName, String sDomainPartition)
+            throws Exception
+        {
+        throw unsupported();
+        }
+
+    @Override
+    public Set<ObjectName> getAllClusters()
+            throws Exception
+        {
+        throw unsupported();
+        }
+
+    @Override
+    public Set<ObjectName> getHotCacheMembers()
+            throws Exception
+        {
+        throw unsupported();
+        }
+
+    @Override
+    public Set<ObjectName> getHotCachePerCacheAdapters(String sMember)
+            throws Exception
+        {
+        throw unsupported();
+        }
+
+    @Override
+    public Set<ObjectName> getAllCoherenceWebMembers(String sSessionManager)
+            throws Exception
+        {
+        throw unsupported();
+        }
+
+    @Override
+    public Set<ObjectName> getCoherenceWebMembersForApplication(String sSessionManager, String sAppId)
+            throws Exception
+        {
+        throw unsupported();
+        }
+
+    @Override
+    public Set<ObjectName> getClusterMemberOS(int nodeId)
+            throws Exception
+        {
+        throw unsupported();
+        }
+
+    @Override
+    public Set<ObjectName> getAllClusterMembers()
+            throws Exception
+        {
+        throw unsupported();
+        }
+
+    @Override
+    public Set<ObjectName> getAllExecutorMembers()
+            throws Exception
+        {
+        throw unsupported();
+        }
+
+    @Override
+    public Set<ObjectName> getAllGrpcProxyMembers()
+            throws Exception
+        {
+        throw unsupported();
+        }
+
+    @Override
+    public Set<ObjectName> getAllServiceMembers()
+            throws Exception
+        {
+        throw unsupported();
+        }
+
+    @Override
+    public Set<ObjectName> getAllPersistenceServices()
+            throws Exception
+        {
+        throw unsupported();
+        }
+
+    @Override
+    public Set<ObjectName> getMembersOfService(String sServiceName, String sDomainPartition)
+            throws Exception
+        {
+        throw unsupported();
+        }
+
+    @Override
+    public Set<ObjectName> getAllProxyServerMembers()
+            throws Exception
+        {
+        throw unsupported();
+        }
+
+    @Override
+    public Set<ObjectName> getViewMembers(String sServiceName, String sViewName)
+            throws Exception
+        {
+        throw unsupported();
+        }
+
+    @Override
+    public Set<ObjectName> getProxyConnections(String sServiceName, int nNodeId)
+            throws Exception
+        {
+        throw unsupported();
+        }
+
+    @Override
+    public Set<ObjectName> getCompleteObjectName(ObjectName objectName)
+            throws Exception
+        {
+        throw unsupported();
+        }
+
+    @Override
+    public Set<ObjectName> getPartitionAssignmentObjectName(String sService, String sDomainPartition)
+            throws Exception
+        {
+        throw unsupported();
+        }
+
+    @Override
+    public String getScheduledDistributions(String sService, String sDomainPartition)
+            throws Exception
+        {
+        throw unsupported();
+        }
+
+    @Override
+    public String getServiceDescription(String sService, String sDomainPartition)
+            throws Exception
+        {
+        throw unsupported();
+        }
+
+    @Override
+    public String getServiceOwnership(String sService, int nNodeID)
+            throws Exception
+        {
+        throw unsupported();
+        }
+
+    @Override
+    public Set<Object[]> getPartitionAssignmentAttributes(String sService, String sDomainPartition)
+            throws Exception
+        {
+        throw unsupported();
+        }
+
+    @Override
+    public void invokeFederationOperation(String sService, String sOperation, String sParticipant)
+            throws Exception
+        {
+        throw unsupported();
+        }
+
+    @Override
+    public void invokeDisconnectAll(String sService, String sTopic, String sSubscriberGroup)
+            throws Exception
+        {
+        throw unsupported();
+        }
+
+    @Override
+    public Integer retrievePendingIncomingMessages(String sService)
+            throws Exception
+        {
+        throw unsupported();
+        }
+
+    @Override
+    public Integer retrievePendingOutgoingMessages(String sService)
+            throws Exception
+        {
+        throw unsupported();
+        }
+
+    @Override
+    public String getNodeState(Integer nNodeId)
+            throws Exception
+        {
+        throw unsupported();
+        }
+
+    @Override
+    public String reportEnvironment(Integer nNodeId)
+            throws Exception
+        {
+        throw unsupported();
+        }
+
+    @Override
+    public String getNodeDescription(Integer nNodeId)
+            throws Exception
+        {
+        throw unsupported();
+        }
+
+    @Override
+    public void dumpClusterHeap(String sRole)
+            throws Exception
+        {
+        throw unsupported();
+        }
+
+    @Override
+    public String[] getSnapshots(String sService, String sDomainPartition)
+            throws Exception
+        {
+        throw unsupported();
+        }
+
+    @Override
+    public String[] getArchivedSnapshots(String sService, String sDomainPartition)
+            throws Exception
+        {
+        throw unsupported();
+        }
+
+    @Override
+    public void executePersistenceOperation(String sService, String sDomainPartition, String sOperationName,
+                                            String sSnapshotName)
+            throws Exception
+        {
+        throw unsupported();
+        }
+
+    @Override
+    public Object executeSubscriberOperation(Pair<String, String> topic, long nSubscriber, String sOperationName,
+                                             String sType, int nChannel)
+            throws Exception
+        {
+        throw unsupported();
+        }
+
+    @Override
+    public RequestCache getRequestCache()
+        {
+        return f_cache;
+        }
+
+    // ----- helpers --------------------------------------------------------
+
+    /**
+     * Pick up any cycles recorded since the recording was last indexed, at
+     * most once every {@link #INDEX_REFRESH_INTERVAL} millis.
+     */
+    private void refreshIndex()
+        {
+        long ldtNow = System.currentTimeMillis();
+        if (ldtNow - m_ldtLastIndexRefresh >= INDEX_REFRESH_INTERVAL)
+            {
+            m_ldtLastIndexRefresh = ldtNow;
+            try
+                {
+                f_reader.refresh();
+                }
+            catch (IOException e)
+                {
+                LOGGER.log(Level.WARNING, "Unable to refresh the recording index", e);
+                }
+            }
+        }
+
+    /**
+     * Returns the exception thrown by requests which need a cluster.
+     *
+     * @return the exception to throw
+     */
+    private static UnsupportedOperationException unsupported()
+        {
+        return new UnsupportedOperationException(Localization.getLocalText("ERR_replay_not_supported"));
+        }
+
+    // ----- constants ------------------------------------------------------
+
+    /**
+     * The minimum interval in millis between picking up new cycles of the recording.
+     */
+    private static final long INDEX_REFRESH_INTERVAL = 5000L;
+
+    /**
+     * The logger to use.
+     */
+    private static final Logger LOGGER = Logger.getLogger(ReplayRequestSender.class.getName());
+
+    // ----- data members ---------------------------------------------------
+
+    /**
+     * The reader of the recording.
+     */
+    private final RecordingReader f_reader;
+
+    /**
+     * The request cache, which is not used as nothing is requested.
+     */
+    private final RequestCache f_cache = new RequestCache();
+
+    /**
+     * The playback position when playback was last started, paused or moved.
+     */
+    private long m_ldtPosition;
+
+    /**
+     * The time playback was last started or moved.
+     */
+    private long m_ldtAnchor;
+
+    /**
+     * The playback speed relative to the recorded time.
+     */
+    private double m_dSpeed = 1.0d;
+
+    /**
+     * True if the recording is being played.
+     */
+    private boolean m_fPlaying;
+
+    /**
+     * The last time the index of the recording was refreshed.
+     */
+    private volatile long m_ldtLastIndexRefresh;
+    }
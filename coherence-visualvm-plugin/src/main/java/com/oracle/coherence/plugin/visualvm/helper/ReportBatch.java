@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.oracle.coherence.plugin.visualvm.helper;
+
+import java.util.Collections;
+import java.util.Map;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import javax.management.ObjectName;
+import javax.management.openmbean.TabularData;
+
+/**
+ * A batch of reports run by the Coherence Reporter during a refresh cycle.
+ * <p>
+ * The reports of all the data types due in a cycle are submitted together
+ * at the start of the cycle so that the remote invocations overlap, rather
+ * than each retriever paying a full round trip in turn. Each retriever then
+ * collects the result for its report XML, which is run on demand if it was
+ * not submitted, for example because its parameters changed. The submitted
+ * reports must complete within the request timeout of the
+ * {@link JMXRequestSender}, measured from the creation of the batch.
+ *
+ * @since  1.8.0
+ */
+public class ReportBatch
+    {
+    // ----- constructors ---------------------------------------------------
+
+    /**
+     * Create a batch of reports.
+     *
+     * @param requestSender  the {@link JMXRequestSender} to run the reports with
+     * @param reporter       the {@link ObjectName} of the Reporter MBean
+     */
+    public ReportBatch(JMXRequestSender requestSender, ObjectName reporter)
+        {
+        f_requestSender = requestSender;
+        f_reporter      = reporter;
+        f_ldtDeadline   = System.currentTimeMillis() + JMXRequestSender.getRequestTimeout();
+        }
+
+    // ----- ReportBatch methods --------------------------------------------
+
+    /**
+     * Submit a report to be run.
+     *
+     * @param sReportXML  the report XML
+     */
+    public void submit(String sReportXML)
+        {
+        f_mapReports.computeIfAbsent(sReportXML, sXML -> f_requestSender.invokeAsync(f_reporter, RUN_TABULAR_REPORT,
+                new Object[]{sXML}, SIGNATURE));
+        }
+
+    /**
+     * Returns the result of the given report, waiting for it if it was
+     * submitted or otherwise running it.
+     *
+     * @param sReportXML  the report XML
+     *
+     * @return the result of the report
+     *
+     * @throws Exception if the report failed or did not complete in time
+     */
+    public TabularData runTabularReport(String sReportXML)
+            throws Exception
+        {
+        Future<Object> future = f_mapReports.remove(sReportXML);
+        if (future == null)
+            {
+            return (TabularData) f_requestSender.invoke(f_reporter, RUN_TABULAR_REPORT,
+                    new Object[]{sReportXML}, SIGNATURE);
+            }
+
+        boolean fSuccess = false;
+        try
+            {
+            long        cMillis = Math.max(0L, f_ldtDeadline - System.currentTimeMillis());
+            TabularData data    = (TabularData) future.get(cMillis, TimeUnit.MILLISECONDS);
+
+            fSuccess = true;
+            return data;
+            }
+        catch (ExecutionException e)
+            {
+            Throwable cause = e.getCause();
+            throw cause instanceof Exception ? (Exception) cause : e;
+            }
+        catch (TimeoutException e)
+            {
+            // the other reports share the deadline so they are abandoned too
+            cancel();
+            throw new TimeoutException("Timed out after " + JMXRequestSender.getRequestTimeout()
+                                       + "ms running a report");
+            }
+        finally
+            {
+            if (!fSuccess)
+                {
+                JMXRequestSender.cancel(Collections.singleton(future));
+                }
+            }
+        }
+
+    /**
+     * Cancel any reports which have not been collected and have not started.
+     */
+    public void cancel()
+        {
+        JMXRequestSender.cancel(f_mapReports.values());
+        f_mapReports.clear();
+        }
+
+    /**
+     * Returns the {@link ObjectName} of the Reporter MBean.
+     *
+     * @return the {@link ObjectName} of the Reporter MBean
+     */
+    public ObjectName getReporter()
+        {
+        return f_reporter;
+        }
+
+    // ----- constants ------------------------------------------------------
+
+    /**
+     * The Reporter MBean operation to run a report.
+     */
+    public static final String RUN_TABULAR_REPORT = "runTabularReport";
+
+    /**
+     * The signature of the {@link #RUN_TABULAR_REPORT} operation.
+     */
+    private static final String[] SIGNATURE = new String[]{"java.lang.String"};
+
+    // ----- data members ---------------------------------------------------
+
+    /**
+     * The {@link JMXRequestSender} to run the reports with.
+     */
+    private final JMXRequestSender f_requestSender;
+
+    /**
+     * The {@link ObjectName} of the Reporter MBean.
+     */
+    private final ObjectName f_reporter;
+
+    /**
+     * The time by which the submitted reports must complete.
+     */
+    private final long f_ldtDeadline;
+
+    /**
+     * The submitted reports keyed by the report XML.
+     */
+    private final Map<String, Future<Object>> f_mapReports = new ConcurrentHashMap<>();
+    }
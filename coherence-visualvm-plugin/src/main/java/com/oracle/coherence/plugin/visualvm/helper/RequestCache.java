@@ -0,0 +1,329 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.oracle.coherence.plugin.visualvm.helper;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A cache of the results of the requests made by a {@link RequestSender} during
+ * a single refresh cycle.
+ * <p>
+ * A cycle is started by {@link #startCycle()} on the thread which runs the
+ * refresh, and only that thread, and the tasks it hands to other threads using
+ * {@link #bind(Runnable)} or {@link #bind(Callable)}, take part in the cycle.
+ * For those requests each distinct request is sent only once and other callers,
+ * including concurrent ones, receive the same result. Requests made by any other
+ * thread, such as operations, user initiated queries or the tracer sampler, are
+ * always sent so that they never see results memoized by the refresh.
+ * <p>
+ * The cache also counts how often each request is made in a cycle, so that a
+ * sender may choose to only keep the results of requests which were repeated
+ * in the previous cycle, see {@link #isRepeated(Object)}.
+ *
+ * @since  1.8.0
+ */
+public class RequestCache
+    {
+    // ----- RequestCache methods -------------------------------------------
+
+    /**
+     * Start a refresh cycle on the calling thread, resetting the hit and miss
+     * counts.
+     */
+    public void startCycle()
+        {
+        Object oCycle = new Object();
+
+        f_mapResults.clear();
+        f_mapCounts.clear();
+        f_cHits.set(0L);
+        f_cMisses.set(0L);
+        m_oCycle = oCycle;
+        f_tlCycle.set(oCycle);
+        }
+
+    /**
+     * End the refresh cycle, discarding all the cached results.
+     */
+    public void endCycle()
+        {
+        Set<Object> setRepeated = ConcurrentHashMap.newKeySet();
+        f_mapCounts.forEach((oKey, cRequests) ->
+            {
+            if (cRequests.get() > 1)
+                {
+                setRepeated.add(oKey);
+                }
+            });
+
+        m_setRepeated = setRepeated;
+        m_oCycle      = null;
+        f_tlCycle.remove();
+        f_mapResults.clear();
+        f_mapCounts.clear();
+        }
+
+    /**
+     * Returns true if a refresh cycle is active and the calling thread takes
+     * part in it.
+     *
+     * @return true if a refresh cycle is active for the calling thread
+     */
+    public boolean isActive()
+        {
+        Object oCycle = m_oCycle;
+        return oCycle != null && f_tlCycle.get() == oCycle;
+        }
+
+    /**
+     * Returns a task which runs the given task as part of the refresh cycle of
+     * the calling thread, if any. A task which runs after the cycle has ended,
+     * or which was bound on a thread that does not take part in a cycle, does
+     * not use the cache.
+     *
+     * @param task  the task to bind
+     *
+     * @return the bound task
+     */
+    public Runnable bind(Runnable task)
+        {
+        Object oCycle = isActive() ? m_oCycle : null;
+
+        return () ->
+            {
+            Object oPrevious = f_tlCycle.get();
+            f_tlCycle.set(oCycle);
+            try
+                {
+                task.run();
+                }
+            finally
+                {
+                f_tlCycle.set(oPrevious);
+                }
+            };
+        }
+
+    /**
+     * Returns a task which runs the given task as part of the refresh cycle of
+     * the calling thread, if any.
+     *
+     * @param task  the task to bind
+     * @param <T>   the type of the result
+     *
+     * @return the bound task
+     *
+     * @see #bind(Runnable)
+     */
+    public <T> Callable<T> bind(Callable<T> task)
+        {
+        Object oCycle = isActive() ? m_oCycle : null;
+
+        return () ->
+            {
+            Object oPrevious = f_tlCycle.get();
+            f_tlCycle.set(oCycle);
+            try
+                {
+                return task.call();
+                }
+            finally
+                {
+                f_tlCycle.set(oPrevious);
+                }
+            };
+        }
+
+    /**
+     * Run the given task on the calling thread outside of any refresh cycle,
+     * so that all the requests it makes are sent, even if the calling thread
+     * takes part in a cycle. Callers which sample values between refreshes,
+     * such as the tracer sampler, use this so that they never receive results
+     * memoized by a refresh in progress.
+     *
+     * @param task  the task to run
+     * @param <T>   the type of the result
+     *
+     * @return the result of the task
+     *
+     * @throws Exception if the task failed
+     */
+    public <T> T uncached(Callable<T> task)
+            throws Exception
+        {
+        Object oPrevious = f_tlCycle.get();
+        f_tlCycle.remove();
+        try
+            {
+            return task.call();
+            }
+        finally
+            {
+            f_tlCycle.set(oPrevious);
+            }
+        }
+
+    /**
+     * Returns the result of the request identified by the given key, sending
+     * the request using the given loader if there is no cached result or the
+     * calling thread does not take part in a refresh cycle.
+     *
+     * @param oKey    the key identifying the request, which must implement
+     *                equals and hashCode
+     * @param loader  the loader which sends the request
+     * @param <T>     the type of the result
+     *
+     * @return the result of the request, which may be null
+     *
+     * @throws Exception if the request failed
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object oKey, Callable<T> loader)
+            throws Exception
+        {
+        if (!isActive())
+            {
+            return loader.call();
+            }
+
+        FutureTask<T> task     = new FutureTask<>(loader);
+        FutureTask<?> existing = f_mapResults.putIfAbsent(oKey, task);
+
+        if (existing == null)
+            {
+            f_cMisses.incrementAndGet();
+            task.run();
+            existing = task;
+            }
+        else
+            {
+            f_cHits.incrementAndGet();
+            }
+
+        try
+            {
+            return (T) existing.get();
+            }
+        catch (ExecutionException e)
+            {
+            // don't remember failures so that the request can be retried
+            f_mapResults.remove(oKey, existing);
+
+            Throwable cause = e.getCause();
+            throw cause instanceof Exception ? (Exception) cause : e;
+            }
+        }
+
+    /**
+     * Count a request made as part of the refresh cycle of the calling thread
+     * and return true if the same request was made more than once in the
+     * previous cycle, and is therefore worth keeping for the current cycle.
+     *
+     * @param oKey  the key identifying the request
+     *
+     * @return true if the request was repeated in the previous cycle
+     */
+    public boolean isRepeated(Object oKey)
+        {
+        if (!isActive())
+            {
+            return false;
+            }
+
+        f_mapCounts.computeIfAbsent(oKey, k -> new AtomicInteger()).incrementAndGet();
+
+        return m_setRepeated.contains(oKey);
+        }
+
+    /**
+     * Returns the number of requests in the current or last cycle which were
+     * served from the cache.
+     *
+     * @return the number of cache hits
+     */
+    public long getHits()
+        {
+        return f_cHits.get();
+        }
+
+    /**
+     * Returns the number of requests in the current or last cycle which were
+     * sent because there was no cached result.
+     *
+     * @return the number of cache misses
+     */
+    public long getMisses()
+        {
+        return f_cMisses.get();
+        }
+
+    // ----- data members ---------------------------------------------------
+
+    /**
+     * The results of the requests, keyed by the request.
+     */
+    private final Map<Object, FutureTask<?>> f_mapResults = new ConcurrentHashMap<>();
+
+    /**
+     * The number of times each request counted by {@link #isRepeated(Object)}
+     * was made in the current cycle.
+     */
+    private final Map<Object, AtomicInteger> f_mapCounts = new ConcurrentHashMap<>();
+
+    /**
+     * The requests which were made more than once in the previous cycle.
+     */
+    private volatile Set<Object> m_setRepeated = Collections.emptySet();
+
+    /**
+     * The number of cache hits.
+     */
+    private final AtomicLong f_cHits = new AtomicLong();
+
+    /**
+     * The number of cache misses.
+     */
+    private final AtomicLong f_cMisses = new AtomicLong();
+
+    /**
+     * The token of the active refresh cycle, or null if no cycle is active.
+     */
+    private volatile Object m_oCycle;
+
+    /**
+     * The token of the refresh cycle the current thread takes part in.
+     */
+    private final ThreadLocal<Object> f_tlCycle = new ThreadLocal<>();
+    }
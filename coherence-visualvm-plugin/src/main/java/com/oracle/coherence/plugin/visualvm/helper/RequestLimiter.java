@@ -0,0 +1,245 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.oracle.coherence.plugin.visualvm.helper;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.Semaphore;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.swing.SwingUtilities;
+
+/**
+ * Limits the number of remote requests that are in flight at the same time
+ * across all the clusters monitored by the plugin, so that many open views
+ * cannot flood the connections or the threads that serve them.
+ * <p>
+ * Requests wait for a permit in arrival order. A request made while the
+ * calling thread already holds a permit does not take another one, so
+ * nested requests cannot dead-lock. Only the requests made to collect the
+ * statistics are limited. Operations requested by the user, such as MBean
+ * operations, must never wait behind slow refreshes, so they are not sent
+ * through the limiter, and a request made on the event dispatch thread never
+ * waits for a permit either.
+ *
+ * @since  1.8.0
+ */
+public final class RequestLimiter
+    {
+    // ----- constructors ---------------------------------------------------
+
+    /**
+     * Private constructor for a utility class.
+     */
+    private RequestLimiter()
+        {
+        }
+
+    // ----- RequestLimiter methods -----------------------------------------
+
+    /**
+     * Send a remote request once a permit is available.
+     *
+     * @param request  the request to send
+     * @param <T>      the type of the result
+     *
+     * @return the result of the request
+     *
+     * @throws Exception if the request failed or the thread was interrupted
+     *                   while waiting for a permit
+     */
+    public static <T> T call(Callable<T> request)
+            throws Exception
+        {
+        AtomicInteger cHeld = f_tlHeld.get();
+        if (cHeld.get() > 0 || SwingUtilities.isEventDispatchThread())
+            {
+            return request.call();
+            }
+
+        f_semaphore.acquire();
+        cHeld.incrementAndGet();
+        try
+            {
+            return request.call();
+            }
+        finally
+            {
+            cHeld.decrementAndGet();
+            f_semaphore.release();
+            }
+        }
+
+    /**
+     * Send a remote request whose response is streamed once a permit is
+     * available. The permit is held until the returned stream is closed, so
+     * the transfer of the response body is limited as well and the stream
+     * must always be closed.
+     *
+     * @param request  the request to send
+     *
+     * @return the response stream, or null if there is no response
+     *
+     * @throws Exception if the request failed or the thread was interrupted
+     *                   while waiting for a permit
+     */
+    public static InputStream callStream(Callable<InputStream> request)
+            throws Exception
+        {
+        AtomicInteger cHeld = f_tlHeld.get();
+        if (cHeld.get() > 0 || SwingUtilities.isEventDispatchThread())
+            {
+            return request.call();
+            }
+
+        f_semaphore.acquire();
+        cHeld.incrementAndGet();
+
+        InputStream stream = null;
+        try
+            {
+            stream = request.call();
+            }
+        finally
+            {
+            if (stream == null)
+                {
+                cHeld.decrementAndGet();
+                f_semaphore.release();
+                }
+            }
+        return stream == null ? null : new PermitInputStream(stream, cHeld);
+        }
+
+    /**
+     * Returns the maximum number of concurrent remote requests.
+     *
+     * @return the maximum number of concurrent remote requests
+     */
+    public static int getMaxRequests()
+        {
+        return MAX_REQUESTS;
+        }
+
+    /**
+     * Returns the number of requests that could start without waiting.
+     *
+     * @return the number of available permits
+     */
+    public static int getAvailablePermits()
+        {
+        return f_semaphore.availablePermits();
+        }
+
+    // ----- constants ------------------------------------------------------
+
+    /**
+     * Property to set the maximum number of remote requests in flight at the
+     * same time across all clusters.
+     */
+    public static final String PROP_MAX_REQUESTS = "coherence.plugin.visualvm.max.concurrent.requests";
+
+    /**
+     * The default maximum number of concurrent remote requests.
+     */
+    private static final int DEFAULT_MAX_REQUESTS = 8;
+
+    /**
+     * The maximum number of concurrent remote requests.
+     */
+    private static final int MAX_REQUESTS = Math.max(1, Integer.getInteger(PROP_MAX_REQUESTS, DEFAULT_MAX_REQUESTS));
+
+    // ----- inner classes --------------------------------------------------
+
+    /**
+     * A response stream which releases its permit when it is closed. The
+     * thread which sent the request counts as holding the permit until then,
+     * so a request it makes while reading the response does not wait for
+     * another permit.
+     */
+    private static class PermitInputStream
+            extends FilterInputStream
+        {
+        /**
+         * Create a stream holding a permit.
+         *
+         * @param stream  the response stream
+         * @param cHeld   the number of permits held by the thread which sent
+         *                the request
+         */
+        private PermitInputStream(InputStream stream, AtomicInteger cHeld)
+            {
+            super(stream);
+            f_cHeld = cHeld;
+            }
+
+        @Override
+        public void close()
+                throws IOException
+            {
+            try
+                {
+                super.close();
+                }
+            finally
+                {
+                if (f_fReleased.compareAndSet(false, true))
+                    {
+                    f_cHeld.decrementAndGet();
+                    f_semaphore.release();
+                    }
+                }
+            }
+
+        /**
+         * The number of permits held by the thread which sent the request.
+         */
+        private final AtomicInteger f_cHeld;
+
+        /**
+         * Indicates if the permit has been released.
+         */
+        private final AtomicBoolean f_fReleased = new AtomicBoolean();
+        }
+
+    // ----- data members ---------------------------------------------------
+
+    /**
+     * The permits for the requests in flight, granted in arrival order.
+     */
+    private static final Semaphore f_semaphore = new Semaphore(MAX_REQUESTS, true);
+
+    /**
+     * The number of permits held by the current thread, including those held
+     * by response streams it has not closed yet.
+     */
+    private static final ThreadLocal<AtomicInteger> f_tlHeld = ThreadLocal.withInitial(AtomicInteger::new);
+    }
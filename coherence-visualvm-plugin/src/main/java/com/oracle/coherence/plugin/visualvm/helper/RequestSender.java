@@ -26,6 +26,7 @@
 package com.oracle.coherence.plugin.visualvm.helper;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import com.oracle.coherence.plugin.visualvm.tablemodel.model.Pair;
@@ -80,6 +81,21 @@ public interface RequestSender
      AttributeList getAttributes(ObjectName objectName, String[] asAttribute)
              throws Exception;
 
+    /**
+     * Get a list of attributes of each of the given MBeans using the fewest
+     * number of round trips.
+     *
+     * @param setObjectNames  the MBean ObjectNames
+     * @param asAttribute     the attributes which needs to be fetched
+     *
+     * @return the attributes for each MBean, in the iteration order of the
+     *         given {@link Set}
+     *
+     * @throws Exception in case of errors
+     */
+     Map<ObjectName, AttributeList> getAttributes(Set<ObjectName> setObjectNames, String[] asAttribute)
+             throws Exception;
+
     /**
      * Return the list of CacheMBean ObjectNames in the cluster.
      *
@@ -544,4 +560,12 @@ public interface RequestSender
      */
     Object executeSubscriberOperation(Pair<String, String> topic, long nSubscriber, String sOperationName, String sType, int nChannel)
             throws Exception;
+
+    /**
+     * Returns the {@link RequestCache} which ensures each distinct request is
+     * only sent once during a refresh cycle.
+     *
+     * @return the {@link RequestCache} for this sender
+     */
+    RequestCache getRequestCache();
     }
@@ -0,0 +1,841 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.oracle.coherence.plugin.visualvm.helper;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A store of the time series history behind the graphs of a cluster.
+ * <p>
+ * Each series keeps its values in fixed size primitive ring buffers, one per
+ * {@link Resolution}. Raw values are down-sampled automatically into one minute
+ * and ten minute buckets holding the minimum, maximum and average of each item,
+ * so the default limits keep the raw values of the last few hours, one minute
+ * buckets for 24 hours and ten minute buckets for a week at a bounded cost per
+ * series. The ring buffers grow on demand up to their limit, so short lived
+ * series only use the memory they need.
+ *
+ * @since  1.8.0
+ */
+public class TimeSeriesStore
+    {
+    // ----- constructors ---------------------------------------------------
+
+    /**
+     * Construct a store using the default limits.
+     */
+    public TimeSeriesStore()
+        {
+        this(Integer.getInteger(PROP_HISTORY_RAW_LIMIT, DEFAULT_RAW_LIMIT), DEFAULT_MINUTE_LIMIT,
+             DEFAULT_TEN_MINUTE_LIMIT);
+        }
+
+    /**
+     * Construct a store.
+     *
+     * @param cRawLimit        the number of raw values to keep per series
+     * @param cMinuteLimit     the number of one minute buckets to keep per series
+     * @param cTenMinuteLimit  the number of ten minute buckets to keep per series
+     */
+    public TimeSeriesStore(int cRawLimit, int cMinuteLimit, int cTenMinuteLimit)
+        {
+        f_acLimits = new int[] {Math.max(1, cRawLimit), Math.max(1, cMinuteLimit), Math.max(1, cTenMinuteLimit)};
+        }
+
+    // ----- TimeSeriesStore methods ----------------------------------------
+
+    /**
+     * Returns the series with the given name, creating it if required.
+     *
+     * @param sName  the name of the series
+     *
+     * @return the series
+     */
+    public TimeSeries getSeries(String sName)
+        {
+        TimeSeries series = f_mapSeries.computeIfAbsent(sName, s -> new TimeSeries(s, f_acLimits));
+
+        series.m_nLastUsed = f_cUses.incrementAndGet();
+        return series;
+        }
+
+    /**
+     * Returns the series with the given name or null if there is none.
+     *
+     * @param sName  the name of the series
+     *
+     * @return the series or null
+     */
+    public TimeSeries getSeriesIfPresent(String sName)
+        {
+        return f_mapSeries.get(sName);
+        }
+
+    /**
+     * Returns the names of the series in the store.
+     *
+     * @return the names of the series
+     */
+    public Set<String> getSeriesNames()
+        {
+        return Collections.unmodifiableSet(f_mapSeries.keySet());
+        }
+
+    /**
+     * Remove the least recently used series which are not in use, keeping at
+     * most the given number of them. This bounds the memory used by series of
+     * selections, such as services or caches, which are no longer shown.
+     *
+     * @param setInUse  the names of the series in use, which are never removed
+     * @param cMaxIdle  the number of series not in use to keep
+     */
+    public void evictIdle(Set<String> setInUse, int cMaxIdle)
+        {
+        List<TimeSeries> listIdle = new ArrayList<>();
+        for (TimeSeries series : f_mapSeries.values())
+            {
+            if (!setInUse.contains(series.getName()))
+                {
+                listIdle.add(series);
+                }
+            }
+
+        if (listIdle.size() > cMaxIdle)
+            {
+            listIdle.sort(Comparator.comparingLong(series -> series.m_nLastUsed));
+            for (TimeSeries series : listIdle.subList(0, listIdle.size() - Math.max(0, cMaxIdle)))
+                {
+                f_mapSeries.remove(series.getName(), series);
+                }
+            }
+        }
+
+    /**
+     * Remove all the series from the store.
+     */
+    public void clear()
+        {
+        f_mapSeries.clear();
+        }
+
+    // ----- inner classes --------------------------------------------------
+
+    /**
+     * The resolutions history is kept at.
+     */
+    public enum Resolution
+        {
+        /**
+         * Every value added.
+         */
+        RAW(0L),
+
+        /**
+         * The minimum, maximum and average of each minute.
+         */
+        MINUTE(60_000L),
+
+        /**
+         * The minimum, maximum and average of each ten minutes.
+         */
+        TEN_MINUTES(600_000L);
+
+        /**
+         * Construct a resolution.
+         *
+         * @param cMillis  the length of a bucket in milliseconds
+         */
+        Resolution(long cMillis)
+            {
+            f_cMillis = cMillis;
+            }
+
+        /**
+         * Returns the length of a bucket in milliseconds, or zero for raw values.
+         *
+         * @return the length of a bucket in milliseconds
+         */
+        public long getMillis()
+            {
+            return f_cMillis;
+            }
+
+        /**
+         * The length of a bucket in milliseconds.
+         */
+        private final long f_cMillis;
+        }
+
+    /**
+     * A visitor of the values of a {@link TimeSeries}. The arrays passed are
+     * reused between calls and must not be retained.
+     */
+    @FunctionalInterface
+    public interface Visitor
+        {
+        /**
+         * Visit the values at a timestamp. For raw values the minimum, maximum
+         * and average are the same.
+         *
+         * @param ldtTimestamp  the timestamp, or the start of the bucket
+         * @param alMin         the minimum of each item
+         * @param alMax         the maximum of each item
+         * @param adAvg         the average of each item
+         */
+        void visit(long ldtTimestamp, long[] alMin, long[] alMax, double[] adAvg);
+        }
+
+    /**
+     * The history of a single metric with one or more items.
+     */
+    public static class TimeSeries
+        {
+        /**
+         * Construct a series.
+         *
+         * @param sName     the name of the series
+         * @param acLimits  the limit of each {@link Resolution}
+         */
+        private TimeSeries(String sName, int[] acLimits)
+            {
+            f_sName    = sName;
+            f_acLimits = acLimits;
+            }
+
+        /**
+         * Returns the name of the series.
+         *
+         * @return the name of the series
+         */
+        public String getName()
+            {
+            return f_sName;
+            }
+
+        /**
+         * Returns the number of items of each value, or zero if no values have been added.
+         *
+         * @return the number of items
+         */
+        public synchronized int getItemCount()
+            {
+            return m_cItems;
+            }
+
+        /**
+         * Add the values at a timestamp. If the number of items changes the
+         * existing history is discarded.
+         *
+         * @param ldtTimestamp  the timestamp of the values
+         * @param alValues      the value of each item
+         */
+        public synchronized void add(long ldtTimestamp, long[] alValues)
+            {
+            int cItems = alValues.length;
+            if (cItems != m_cItems)
+                {
+                m_cItems  = cItems;
+                m_aRings  = new Ring[] {new Ring(cItems, f_acLimits[0], false),
+                                        new Ring(cItems, f_acLimits[1], true),
+                                        new Ring(cItems, f_acLimits[2], true)};
+                m_aBucket = new Bucket[] {new Bucket(cItems), new Bucket(cItems)};
+                }
+
+            m_aRings[0].add(ldtTimestamp, alValues, alValues, null);
+
+            Resolution[] aResolution = Resolution.values();
+            for (int i = 1; i < aResolution.length; i++)
+                {
+                long   cMillis  = aResolution[i].getMillis();
+                Bucket bucket   = m_aBucket[i - 1];
+                long   ldtStart = ldtTimestamp - Math.floorMod(ldtTimestamp, cMillis);
+
+                if (bucket.m_cValues > 0 && bucket.m_ldtStart != ldtStart)
+                    {
+                    bucket.flush(m_aRings[i]);
+                    }
+                bucket.accumulate(ldtStart, alValues);
+                }
+            }
+
+        /**
+         * Returns the number of entries held for a resolution, including a
+         * bucket which is still being filled.
+         *
+         * @param resolution  the {@link Resolution}
+         *
+         * @return the number of entries
+         */
+        public synchronized int size(Resolution resolution)
+            {
+            if (m_cItems == 0)
+                {
+                return 0;
+                }
+
+            int nIndex = resolution.ordinal();
+            return m_aRings[nIndex].m_cSize + (nIndex > 0 && m_aBucket[nIndex - 1].m_cValues > 0 ? 1 : 0);
+            }
+
+        /**
+         * Visit the entries held for a resolution in time order, including a
+         * bucket which is still being filled.
+         *
+         * @param resolution  the {@link Resolution}
+         * @param visitor     the {@link Visitor}
+         */
+        public synchronized void forEach(Resolution resolution, Visitor visitor)
+            {
+            forEach(resolution, Long.MIN_VALUE, Long.MAX_VALUE, visitor);
+            }
+
+        /**
+         * Visit the entries of a resolution with timestamps in the given range.
+         *
+         * @param resolution  the {@link Resolution}
+         * @param ldtFrom     the first timestamp to include
+         * @param ldtTo       the timestamp to stop at, exclusive
+         * @param visitor     the {@link Visitor}
+         */
+        public synchronized void forEach(Resolution resolution, long ldtFrom, long ldtTo, Visitor visitor)
+            {
+            if (m_cItems == 0)
+                {
+                return;
+                }
+
+            int nIndex = resolution.ordinal();
+            m_aRings[nIndex].forEach(ldtFrom, ldtTo, visitor);
+            if (nIndex > 0)
+                {
+                m_aBucket[nIndex - 1].visit(ldtFrom, ldtTo, visitor);
+                }
+            }
+
+        /**
+         * Visit the full history of the series in time order, using the finest
+         * resolution available for each period: ten minute buckets older than
+         * the one minute buckets, one minute buckets older than the raw values,
+         * and then the raw values.
+         *
+         * @param visitor  the {@link Visitor}
+         */
+        public synchronized void forEachMerged(Visitor visitor)
+            {
+            if (m_cItems == 0)
+                {
+                return;
+                }
+
+            long ldtRawStart    = m_aRings[0].getFirstTimestamp();
+            long ldtMinuteStart = Math.min(m_aRings[1].m_cSize == 0 ? Long.MAX_VALUE : m_aRings[1].getFirstTimestamp(),
+                                           ldtRawStart);
+
+            forEach(Resolution.TEN_MINUTES, Long.MIN_VALUE, ldtMinuteStart, visitor);
+            forEach(Resolution.MINUTE, ldtMinuteStart, ldtRawStart, visitor);
+            forEach(Resolution.RAW, visitor);
+            }
+
+        /**
+         * Visit the full history of the series as {@link #forEachMerged(Visitor)}
+         * does, but with at most the given number of entries. When there are more
+         * entries, runs of consecutive entries are combined into one, keeping the
+         * minimum and maximum of the run and the average of its averages.
+         *
+         * @param cMaxEntries  the maximum number of entries to visit
+         * @param visitor      the {@link Visitor}
+         */
+        public synchronized void forEachMerged(int cMaxEntries, Visitor visitor)
+            {
+            int[] acEntries = new int[1];
+            forEachMerged((ldtTimestamp, alMin, alMax, adAvg) -> acEntries[0]++);
+
+            int cEntries = acEntries[0];
+            if (cEntries <= cMaxEntries)
+                {
+                forEachMerged(visitor);
+                return;
+                }
+
+            int    cRun   = (cEntries + cMaxEntries - 1) / Math.max(1, cMaxEntries);
+            Bucket bucket = new Bucket(m_cItems);
+            forEachMerged((ldtTimestamp, alMin, alMax, adAvg) ->
+                {
+                bucket.combine(ldtTimestamp, alMin, alMax, adAvg);
+                if (bucket.m_cValues == cRun)
+                    {
+                    bucket.visit(Long.MIN_VALUE, Long.MAX_VALUE, visitor);
+                    bucket.m_cValues = 0;
+                    }
+                });
+            bucket.visit(Long.MIN_VALUE, Long.MAX_VALUE, visitor);
+            }
+
+        /**
+         * The name of the series.
+         */
+        private final String f_sName;
+
+        /**
+         * The limit of each {@link Resolution}.
+         */
+        private final int[] f_acLimits;
+
+        /**
+         * The number of items of each value.
+         */
+        private int m_cItems;
+
+        /**
+         * The ring buffer of each {@link Resolution}.
+         */
+        private Ring[] m_aRings;
+
+        /**
+         * The bucket being filled for each down-sampled {@link Resolution}.
+         */
+        private Bucket[] m_aBucket;
+
+        /**
+         * The order in which the series was last returned by {@link TimeSeriesStore#getSeries(String)}.
+         */
+        private volatile long m_nLastUsed;
+        }
+
+    /**
+     * A ring buffer of timestamps and the values of each item, which grows up
+     * to its limit and then overwrites the oldest entry.
+     */
+    private static class Ring
+        {
+        /**
+         * Construct a ring buffer.
+         *
+         * @param cItems      the number of items of each entry
+         * @param cLimit      the maximum number of entries
+         * @param fAggregate  true if the entries hold a minimum, maximum and average
+         */
+        private Ring(int cItems, int cLimit, boolean fAggregate)
+            {
+            f_cItems      = cItems;
+            f_cLimit      = cLimit;
+            f_fAggregate  = fAggregate;
+            f_alMin       = new long[cItems];
+            f_alMax       = new long[cItems];
+            f_adAvg       = new double[cItems];
+
+            int cInitial  = Math.min(cLimit, INITIAL_CAPACITY);
+            m_alTimestamp = new long[cInitial];
+            m_alMin       = new long[cInitial * cItems];
+            m_alMax       = fAggregate ? new long[cInitial * cItems] : null;
+            m_adAvg       = fAggregate ? new double[cInitial * cItems] : null;
+            }
+
+        /**
+         * Add an entry, overwriting the oldest entry once the limit is reached.
+         *
+         * @param ldtTimestamp  the timestamp
+         * @param alMin         the minimum or raw value of each item
+         * @param alMax         the maximum of each item
+         * @param adAvg         the average of each item, or null for raw values
+         */
+        private void add(long ldtTimestamp, long[] alMin, long[] alMax, double[] adAvg)
+            {
+            int cCapacity = m_alTimestamp.length;
+            if (m_cSize == cCapacity && cCapacity < f_cLimit)
+                {
+                grow(Math.min(f_cLimit, cCapacity * 2));
+                cCapacity = m_alTimestamp.length;
+                }
+
+            int nSlot = (m_nHead + m_cSize) % cCapacity;
+            if (m_cSize == cCapacity)
+                {
+                // full, so overwrite the oldest entry
+                nSlot   = m_nHead;
+                m_nHead = (m_nHead + 1) % cCapacity;
+                }
+            else
+                {
+                m_cSize++;
+                }
+
+            int nOffset = nSlot * f_cItems;
+            m_alTimestamp[nSlot] = ldtTimestamp;
+            System.arraycopy(alMin, 0, m_alMin, nOffset, f_cItems);
+            if (f_fAggregate)
+                {
+                System.arraycopy(alMax, 0, m_alMax, nOffset, f_cItems);
+                System.arraycopy(adAvg, 0, m_adAvg, nOffset, f_cItems);
+                }
+            }
+
+        /**
+         * Returns the timestamp of the oldest entry, or {@link Long#MAX_VALUE} if empty.
+         *
+         * @return the timestamp of the oldest entry
+         */
+        private long getFirstTimestamp()
+            {
+            return m_cSize == 0 ? Long.MAX_VALUE : m_alTimestamp[m_nHead];
+            }
+
+        /**
+         * Visit the entries with timestamps in the given range in time order.
+         *
+         * @param ldtFrom  the first timestamp to include
+         * @param ldtTo    the timestamp to stop at, exclusive
+         * @param visitor  the {@link Visitor}
+         */
+        private void forEach(long ldtFrom, long ldtTo, Visitor visitor)
+            {
+            int cCapacity = m_alTimestamp.length;
+            for (int i = 0; i < m_cSize; i++)
+                {
+                int  nSlot        = (m_nHead + i) % cCapacity;
+                long ldtTimestamp = m_alTimestamp[nSlot];
+                if (ldtTimestamp < ldtFrom)
+                    {
+                    continue;
+                    }
+                if (ldtTimestamp >= ldtTo)
+                    {
+                    break;
+                    }
+
+                int nOffset = nSlot * f_cItems;
+                System.arraycopy(m_alMin, nOffset, f_alMin, 0, f_cItems);
+                if (f_fAggregate)
+                    {
+                    System.arraycopy(m_alMax, nOffset, f_alMax, 0, f_cItems);
+                    System.arraycopy(m_adAvg, nOffset, f_adAvg, 0, f_cItems);
+                    }
+                else
+                    {
+                    System.arraycopy(f_alMin, 0, f_alMax, 0, f_cItems);
+                    for (int j = 0; j < f_cItems; j++)
+                        {
+                        f_adAvg[j] = f_alMin[j];
+                        }
+                    }
+                visitor.visit(ldtTimestamp, f_alMin, f_alMax, f_adAvg);
+                }
+            }
+
+        /**
+         * Grow the buffers, moving the oldest entry to the start.
+         *
+         * @param cCapacity  the new capacity
+         */
+        private void grow(int cCapacity)
+            {
+            m_alTimestamp = unroll(m_alTimestamp, 1, cCapacity);
+            m_alMin       = unroll(m_alMin, f_cItems, cCapacity);
+            if (f_fAggregate)
+                {
+                m_alMax = unroll(m_alMax, f_cItems, cCapacity);
+
+                double[] adAvg = new double[cCapacity * f_cItems];
+                int      cOld  = m_cSize;
+                for (int i = 0; i < cOld; i++)
+                    {
+                    System.arraycopy(m_adAvg, ((m_nHead + i) % cOld) * f_cItems, adAvg, i * f_cItems, f_cItems);
+                    }
+                m_adAvg = adAvg;
+                }
+            m_nHead = 0;
+            }
+
+        /**
+         * Copy a full ring into a larger array with the oldest entry first.
+         *
+         * @param alRing     the current array
+         * @param cWidth     the number of elements per entry
+         * @param cCapacity  the new capacity in entries
+         *
+         * @return the new array
+         */
+        private long[] unroll(long[] alRing, int cWidth, int cCapacity)
+            {
+            long[] alNew = new long[cCapacity * cWidth];
+            int    cOld  = m_cSize;
+            for (int i = 0; i < cOld; i++)
+                {
+                System.arraycopy(alRing, ((m_nHead + i) % cOld) * cWidth, alNew, i * cWidth, cWidth);
+                }
+            return alNew;
+            }
+
+        /**
+         * The number of items of each entry.
+         */
+        private final int f_cItems;
+
+        /**
+         * The maximum number of entries.
+         */
+        private final int f_cLimit;
+
+        /**
+         * True if the entries hold a minimum, maximum and average.
+         */
+        private final boolean f_fAggregate;
+
+        /**
+         * The arrays passed to a {@link Visitor}.
+         */
+        private final long[]   f_alMin;
+        private final long[]   f_alMax;
+        private final double[] f_adAvg;
+
+        /**
+         * The timestamp of each entry.
+         */
+        private long[] m_alTimestamp;
+
+        /**
+         * The minimum, or raw value, of each item of each entry.
+         */
+        private long[] m_alMin;
+
+        /**
+         * The maximum of each item of each entry, or null for raw values.
+         */
+        private long[] m_alMax;
+
+        /**
+         * The average of each item of each entry, or null for raw values.
+         */
+        private double[] m_adAvg;
+
+        /**
+         * The index of the oldest entry.
+         */
+        private int m_nHead;
+
+        /**
+         * The number of entries.
+         */
+        private int m_cSize;
+        }
+
+    /**
+     * The down-sampled bucket currently being filled.
+     */
+    private static class Bucket
+        {
+        /**
+         * Construct a bucket.
+         *
+         * @param cItems  the number of items of each value
+         */
+        private Bucket(int cItems)
+            {
+            f_alMin = new long[cItems];
+            f_alMax = new long[cItems];
+            f_adSum = new double[cItems];
+            f_adAvg = new double[cItems];
+            }
+
+        /**
+         * Accumulate values into the bucket.
+         *
+         * @param ldtStart  the start of the bucket
+         * @param alValues  the value of each item
+         */
+        private void accumulate(long ldtStart, long[] alValues)
+            {
+            if (m_cValues == 0)
+                {
+                m_ldtStart = ldtStart;
+                Arrays.fill(f_alMin, Long.MAX_VALUE);
+                Arrays.fill(f_alMax, Long.MIN_VALUE);
+                Arrays.fill(f_adSum, 0.0d);
+                }
+
+            for (int i = 0; i < alValues.length; i++)
+                {
+                long nValue = alValues[i];
+                f_alMin[i]  = Math.min(f_alMin[i], nValue);
+                f_alMax[i]  = Math.max(f_alMax[i], nValue);
+                f_adSum[i] += nValue;
+                }
+            m_cValues++;
+            }
+
+        /**
+         * Combine an entry which may itself be down-sampled into the bucket,
+         * using the timestamp of the first entry as the start of the bucket.
+         *
+         * @param ldtTimestamp  the timestamp of the entry
+         * @param alMin         the minimum of each item
+         * @param alMax         the maximum of each item
+         * @param adAvg         the average of each item
+         */
+        private void combine(long ldtTimestamp, long[] alMin, long[] alMax, double[] adAvg)
+            {
+            if (m_cValues == 0)
+                {
+                m_ldtStart = ldtTimestamp;
+                Arrays.fill(f_alMin, Long.MAX_VALUE);
+                Arrays.fill(f_alMax, Long.MIN_VALUE);
+                Arrays.fill(f_adSum, 0.0d);
+                }
+
+            for (int i = 0; i < adAvg.length; i++)
+                {
+                f_alMin[i]  = Math.min(f_alMin[i], alMin[i]);
+                f_alMax[i]  = Math.max(f_alMax[i], alMax[i]);
+                f_adSum[i] += adAvg[i];
+                }
+            m_cValues++;
+            }
+
+        /**
+         * Add the bucket to a ring buffer and reset it.
+         *
+         * @param ring  the {@link Ring} to add to
+         */
+        private void flush(Ring ring)
+            {
+            ring.add(m_ldtStart, f_alMin, f_alMax, average());
+            m_cValues = 0;
+            }
+
+        /**
+         * Visit the bucket if it has values and starts in the given range.
+         *
+         * @param ldtFrom  the first timestamp to include
+         * @param ldtTo    the timestamp to stop at, exclusive
+         * @param visitor  the {@link Visitor}
+         */
+        private void visit(long ldtFrom, long ldtTo, Visitor visitor)
+            {
+            if (m_cValues > 0 && m_ldtStart >= ldtFrom && m_ldtStart < ldtTo)
+                {
+                visitor.visit(m_ldtStart, f_alMin, f_alMax, average());
+                }
+            }
+
+        /**
+         * Returns the average of each item.
+         *
+         * @return the average of each item
+         */
+        private double[] average()
+            {
+            for (int i = 0; i < f_adSum.length; i++)
+                {
+                f_adAvg[i] = f_adSum[i] / m_cValues;
+                }
+            return f_adAvg;
+            }
+
+        /**
+         * The minimum of each item.
+         */
+        private final long[] f_alMin;
+
+        /**
+         * The maximum of each item.
+         */
+        private final long[] f_alMax;
+
+        /**
+         * The sum of each item.
+         */
+        private final double[] f_adSum;
+
+        /**
+         * The average of each item.
+         */
+        private final double[] f_adAvg;
+
+        /**
+         * The start of the bucket.
+         */
+        private long m_ldtStart;
+
+        /**
+         * The number of values accumulated.
+         */
+        private int m_cValues;
+        }
+
+    // ----- constants ------------------------------------------------------
+
+    /**
+     * Property to set the number of raw values kept per series.
+     */
+    public static final String PROP_HISTORY_RAW_LIMIT = "coherence.plugin.visualvm.history.raw.limit";
+
+    /**
+     * The default number of raw values kept per series, about four hours at a
+     * five second refresh.
+     */
+    private static final int DEFAULT_RAW_LIMIT = 2880;
+
+    /**
+     * The default number of one minute buckets kept per series, 24 hours.
+     */
+    private static final int DEFAULT_MINUTE_LIMIT = 1440;
+
+    /**
+     * The default number of ten minute buckets kept per series, seven days.
+     */
+    private static final int DEFAULT_TEN_MINUTE_LIMIT = 1008;
+
+    /**
+     * The initial number of entries of a ring buffer.
+     */
+    private static final int INITIAL_CAPACITY = 64;
+
+    // ----- data members ---------------------------------------------------
+
+    /**
+     * The limit of each {@link Resolution}.
+     */
+    private final int[] f_acLimits;
+
+    /**
+     * The number of times a series has been returned by {@link #getSeries(String)}.
+     */
+    private final AtomicLong f_cUses = new AtomicLong();
+
+    /**
+     * The series keyed by name.
+     */
+    private final ConcurrentHashMap<String, TimeSeries> f_mapSeries = new ConcurrentHashMap<>();
+    }
@@ -27,9 +27,13 @@ package com.oracle.coherence.plugin.visualvm.impl;
 
 import com.oracle.coherence.plugin.visualvm.datasource.CoherenceClusterDataSource;
 import com.oracle.coherence.plugin.visualvm.datasource.CoherenceClustersDataSource;
+import com.oracle.coherence.plugin.visualvm.datasource.CoherenceRecordingDataSource;
+
+import com.oracle.coherence.plugin.visualvm.recording.RecordingReader;
 
 import java.io.File;
 import java.io.FilenameFilter;
+import java.io.IOException;
 
 import java.net.MalformedURLException;
 import java.net.URL;
@@ -114,6 +118,55 @@ public class CoherenceClusterProvider
             }
         }
 
+    /**
+     * Create a data source for the Coherence cluster recording in the provided directory.
+     *
+     * @param dirRecording  the directory holding the recording
+     */
+    public static void createCoherenceRecordingDataSource(File dirRecording)
+        {
+        RequestProcessor.getDefault().post(() -> createCoherenceRecordingDataSourceImpl(dirRecording));
+        }
+
+    /**
+     * Create a Coherence cluster recording data source and add it to the repository.
+     *
+     * @param dirRecording  the directory holding the recording
+     */
+    private static void createCoherenceRecordingDataSourceImpl(File dirRecording)
+        {
+        RecordingReader reader = new RecordingReader(dirRecording);
+        try
+            {
+            reader.refresh();
+            }
+        catch (IOException e)
+            {
+            LOGGER.log(Level.SEVERE, "Error reading coherence cluster recording", e);
+            return;
+            }
+
+        String sClusterName = reader.getClusterName();
+        if (sClusterName == null || sClusterName.isEmpty())
+            {
+            sClusterName = dirRecording.getName();
+            }
+
+        String[] propNames  = new String[]{RECORDING_DIR, CLUSTER_NAME};
+        String[] propValues = new String[]{dirRecording.getAbsolutePath(), sClusterName};
+
+        File customPropertiesStorage =
+                Utils.getUniqueFile(getStorageDirectory(), "recording_" + dirRecording.getName(),
+                                    Storage.DEFAULT_PROPERTIES_EXT);
+
+        Storage storage = new Storage(customPropertiesStorage.getParentFile(), customPropertiesStorage.getName());
+
+        CoherenceRecordingDataSource dataSource = new CoherenceRecordingDataSource(dirRecording, sClusterName, storage);
+        storage.setCustomProperties(propNames, propValues);
+
+        CoherenceClustersDataSource.sharedInstance().getRepository().addDataSource(dataSource);
+        }
+
     /**
      * Initialize the Coherence cluster data source st JVisualVM startup. This included search the storage
      * directory and loading the data sources into the repository.
@@ -156,7 +209,16 @@ public class CoherenceClusterProvider
         Set<CoherenceClusterDataSource> coherenceClusters = new HashSet();
         for (File file : files)
             {
-            Storage  storage    = new Storage(file.getParentFile(), file.getName());
+            Storage storage       = new Storage(file.getParentFile(), file.getName());
+            String  sRecordingDir = storage.getCustomProperty(RECORDING_DIR);
+
+            if (sRecordingDir != null)
+                {
+                coherenceClusters.add(new CoherenceRecordingDataSource(new File(sRecordingDir),
+                                                                       storage.getCustomProperty(CLUSTER_NAME), storage));
+                continue;
+                }
+
             String[] propNames  = new String[]{APPLICATION_URL, CLUSTER_NAME};
             String[] propValues = storage.getCustomProperties(propNames);
 
@@ -249,6 +311,11 @@ public class CoherenceClusterProvider
      */
     private static final String CLUSTER_NAME = "cluster_name";
 
+    /**
+     * The key for the directory of a Coherence cluster recording.
+     */
+    private static final String RECORDING_DIR = "recording_dir";
+
     // ----- data members ---------------------------------------------------
 
     /**
@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.oracle.coherence.plugin.visualvm.impl;
+
+import com.oracle.coherence.plugin.visualvm.Localization;
+import com.oracle.coherence.plugin.visualvm.VisualVMView;
+import com.oracle.coherence.plugin.visualvm.datasource.CoherenceClustersDataSource;
+import com.oracle.coherence.plugin.visualvm.helper.DialogHelper;
+import com.oracle.coherence.plugin.visualvm.recording.RecordingReader;
+import com.oracle.coherence.plugin.visualvm.recording.SnapshotRecorder;
+
+import java.awt.event.ActionEvent;
+
+import java.io.File;
+
+import javax.swing.ImageIcon;
+import javax.swing.JFileChooser;
+
+import org.graalvm.visualvm.core.ui.actions.SingleDataSourceAction;
+
+import org.openide.windows.WindowManager;
+
+/**
+ * The {@link SingleDataSourceAction} for opening a recording of a Coherence cluster,
+ * which is added to the {@link CoherenceClustersDataSource} to be replayed.
+ *
+ * @since  1.8.0
+ */
+public class OpenCoherenceRecordingAction
+        extends SingleDataSourceAction<CoherenceClustersDataSource>
+    {
+    // ----- constructors ---------------------------------------------------
+
+    /**
+     * Create an instance of {@link OpenCoherenceRecordingAction}.
+     */
+    private OpenCoherenceRecordingAction()
+        {
+        super(CoherenceClustersDataSource.class);
+        putValue(NAME, Localization.getLocalText("LBL_Open_Coherence_Recording"));
+        putValue(SHORT_DESCRIPTION, Localization.getLocalText("TTIP_Open_Coherence_Recording"));
+        }
+
+    // ----- SingleDataSourceAction methods ---------------------------------
+
+    @Override
+    protected void actionPerformed(CoherenceClustersDataSource coherenceApplicationsDataSource, ActionEvent actionEvent)
+        {
+        String       sDir    = System.getProperty(SnapshotRecorder.PROP_RECORDING_DIR);
+        JFileChooser chooser = new JFileChooser(sDir == null ? null : new File(sDir.trim()));
+
+        chooser.setDialogTitle(Localization.getLocalText("LBL_Open_Coherence_Recording"));
+        chooser.setFileSelectionMode(JFileChooser.DIRECTORIES_ONLY);
+
+        if (chooser.showOpenDialog(WindowManager.getDefault().getMainWindow()) == JFileChooser.APPROVE_OPTION)
+            {
+            File dir = chooser.getSelectedFile();
+            if (RecordingReader.isRecording(dir))
+                {
+                CoherenceClusterProvider.createCoherenceRecordingDataSource(dir);
+                }
+            else
+                {
+                DialogHelper.showWarningDialog(Localization.getLocalText("ERR_no_recording", dir.getAbsolutePath()));
+                }
+            }
+        }
+
+    @Override
+    protected boolean isEnabled(CoherenceClustersDataSource coherenceApplicationsDataSource)
+        {
+        return true;
+        }
+
+    // ----- OpenCoherenceRecordingAction methods ---------------------------
+
+    /**
+     * Return the always enabled action. This method is specified in the layer.xml.
+     *
+     * @return the always enabled action
+     */
+    public static synchronized OpenCoherenceRecordingAction alwaysEnabled()
+        {
+        if (s_alwaysEnabled == null)
+            {
+            s_alwaysEnabled = new OpenCoherenceRecordingAction();
+            s_alwaysEnabled.putValue(SMALL_ICON, new ImageIcon(VisualVMView.NODE_ICON));
+            s_alwaysEnabled.putValue("iconBase", VisualVMView.IMAGE_PATH);
+            }
+        return s_alwaysEnabled;
+        }
+
+    /**
+     * Return the selection aware action. This method is specified in the layer.xml.
+     *
+     * @return the selection aware action
+     */
+    public static synchronized OpenCoherenceRecordingAction selectionAware()
+        {
+        if (s_selectionAware == null)
+            {
+            s_selectionAware = new OpenCoherenceRecordingAction();
+            }
+        return s_selectionAware;
+        }
+
+    // ----- data members ---------------------------------------------------
+
+    /**
+     * The always enabled application action.
+     */
+    // This variable name is exposed to layer.xml, so it does not follow source code naming convention.
+    private static OpenCoherenceRecordingAction s_alwaysEnabled;
+
+    /**
+     * The selection aware application action.
+     */
+    // This variable name is exposed to layer.xml, so it does not follow source code naming convention.
+    private static OpenCoherenceRecordingAction s_selectionAware;
+    }
@@ -25,15 +25,15 @@
 
 package com.oracle.coherence.plugin.visualvm.panel;
 
-
-import com.fasterxml.jackson.databind.ObjectMapper;
-
 import com.oracle.coherence.plugin.visualvm.Localization;
 import com.oracle.coherence.plugin.visualvm.helper.DialogHelper;
 import com.oracle.coherence.plugin.visualvm.helper.GraphHelper;
 import com.oracle.coherence.plugin.visualvm.helper.HttpRequestSender;
+import com.oracle.coherence.plugin.visualvm.helper.JsonHelper;
 import com.oracle.coherence.plugin.visualvm.helper.RenderHelper;
 import com.oracle.coherence.plugin.visualvm.helper.RequestSender;
+import com.oracle.coherence.plugin.visualvm.helper.TimeSeriesStore;
+import com.oracle.coherence.plugin.visualvm.tablemodel.AbstractCoherenceTableModel;
 import com.oracle.coherence.plugin.visualvm.tablemodel.model.Data;
 import com.oracle.coherence.plugin.visualvm.tablemodel.model.FederationData;
 import com.oracle.coherence.plugin.visualvm.tablemodel.model.MachineData;
@@ -54,11 +54,13 @@ import com.oracle.coherence.plugin.visualvm.tablemodel.model.TopicSubscriberData
 import com.oracle.coherence.plugin.visualvm.tablemodel.model.TopicSubscriberGroupsData;
 
 import java.awt.Component;
+import java.awt.Container;
 import java.awt.Dimension;
 import java.awt.LayoutManager;
 import java.awt.Toolkit;
 import java.awt.event.ActionEvent;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
@@ -89,6 +91,8 @@ import javax.swing.table.DefaultTableCellRenderer;
 import javax.swing.table.DefaultTableModel;
 import javax.swing.table.TableModel;
 
+import org.graalvm.visualvm.charts.SimpleXYChartSupport;
+
 import static com.oracle.coherence.plugin.visualvm.helper.GraphHelper.MB;
 
 
@@ -121,15 +125,25 @@ public abstract class AbstractCoherencePanel
     // ----- AbstractCoherencePanel methods ----------------------------------
 
     /**
-     * Called to update any GUI related artifacts. Called from done().
+     * Called to update any GUI related artifacts from the data collected by
+     * {@link #updateData()}. Called on the event dispatch thread.
      */
     public abstract void updateGUI();
 
     /**
-     * Update any data. Called from doInBackground().
+     * Update any data. Called on a background thread and must not touch any
+     * Swing components, table models only stage their new data list.
      */
     public abstract void updateData();
 
+    /**
+     * Returns the {@link VisualVMModel.DataType}s displayed by this panel. While the
+     * panel is not visible these types are only retrieved at a slow background cadence.
+     *
+     * @return the {@link VisualVMModel.DataType}s displayed by this panel
+     */
+    public abstract Set<VisualVMModel.DataType> getDataTypes();
+
     // ----- accessors -------------------------------------------------------
 
     /**
@@ -245,7 +259,44 @@ public abstract class AbstractCoherencePanel
         }
 
     /**
-     * Fire a tableDataChanged but save and re-apply any selection.
+     * Returns the {@link ExportableJTable}s shown in this panel.
+     *
+     * @return the {@link ExportableJTable}s shown in this panel
+     */
+    public List<ExportableJTable> getExportableTables()
+        {
+        List<ExportableJTable> listTables = new ArrayList<>();
+        addExportableTables(this, listTables);
+        return listTables;
+        }
+
+    /**
+     * Add the {@link ExportableJTable}s contained in a {@link Container} to a list.
+     *
+     * @param container   the {@link Container} to search
+     * @param listTables  the list to add to
+     */
+    private static void addExportableTables(Container container, List<ExportableJTable> listTables)
+        {
+        for (Component component : container.getComponents())
+            {
+            if (component instanceof ExportableJTable)
+                {
+                listTables.add((ExportableJTable) component);
+                }
+            else if (component instanceof Container)
+                {
+                addExportableTables((Container) component, listTables);
+                }
+            }
+        }
+
+    /**
+     * Fire a tableDataChanged but save and re-apply any selection. For an
+     * {@link AbstractCoherenceTableModel} only the rows that changed since the
+     * last refresh are reported, and the table moves the selection with the
+     * rows that are deleted and inserted. If all the rows were reported as
+     * changed, the row with the key that was selected is selected again.
      *
      * @param table the {@link ExportableJTable} to save selection for
      * @param model the {@link AbstractTableModel} to refresh
@@ -254,7 +305,32 @@ public abstract class AbstractCoherencePanel
         {
         int nSelectedRow = table.getListener().getSelectedRow();
 
-        model.fireTableDataChanged();
+        if (model instanceof AbstractCoherenceTableModel)
+            {
+            AbstractCoherenceTableModel<?, ?> tableModel = (AbstractCoherenceTableModel<?, ?>) model;
+
+            Object oSelectedKey = null;
+            if (nSelectedRow != -1 && nSelectedRow < table.getRowCount())
+                {
+                int nModelRow = table.convertRowIndexToModel(nSelectedRow);
+                if (nModelRow < tableModel.getDataList().size())
+                    {
+                    oSelectedKey = tableModel.getDataList().get(nModelRow).getKey();
+                    }
+                }
+
+            if (!tableModel.fireTableRowsChanged())
+                {
+                return;
+                }
+
+            int nModelRow = tableModel.indexOfKey(oSelectedKey);
+            nSelectedRow = nModelRow == -1 ? -1 : table.convertRowIndexToView(nModelRow);
+            }
+        else
+            {
+            model.fireTableDataChanged();
+            }
         table.getListener().setSelectedRow(nSelectedRow);
         }
 
@@ -319,6 +395,21 @@ public abstract class AbstractCoherencePanel
         return false;
         }
 
+    /**
+     * Bind a graph to a series of the {@link TimeSeriesStore} of the model, so the
+     * graph shows any history already held for the series and its values are kept
+     * once the graph is discarded.
+     *
+     * @param graph    the graph to bind
+     * @param sSeries  the name of the series, unique within the panel
+     *
+     * @return the graph
+     */
+    protected SimpleXYChartSupport bindHistory(SimpleXYChartSupport graph, String sSeries)
+        {
+        return GraphHelper.bindHistory(graph, f_model.getTimeSeriesStore(), getClass().getSimpleName() + "." + sSeries);
+        }
+
     /**
      * Set a column renderer for right aligned and optionally set tool tip text.
      *
@@ -602,10 +693,9 @@ public abstract class AbstractCoherencePanel
         private Map<String, Object> processJSON(String sJson)
             {
             final Map<String, Object> mapResults = new TreeMap<>();
-            ObjectMapper              mapper     = new ObjectMapper();
             try
                 {
-                Object jsonData = mapper.readValue(sJson, Object.class);
+                Object jsonData = JsonHelper.readValue(sJson);
                 if (jsonData instanceof Map)
                     {
                     Map mapData = (Map) jsonData;
@@ -673,6 +763,9 @@ public abstract class AbstractCoherencePanel
             }
         else
             {
+            // the lists of a model snapshot are read only, so merge into a copy
+            fedDstData = new ArrayList<>(fedDstData);
+
             // remove duplicate entries
             for (Map.Entry<Object, Data> entryOrig : fedOriginData)
                 {
@@ -64,6 +64,7 @@ import java.awt.event.MouseEvent;
 import java.awt.event.MouseMotionListener;
 import java.awt.geom.Rectangle2D;
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -325,6 +326,16 @@ public class CoherenceCachePanel
 
     // ---- AbstractCoherencePanel methods ----------------------------------
 
+    @Override
+    public Set<VisualVMModel.DataType> getDataTypes()
+        {
+        return EnumSet.of(VisualVMModel.DataType.CACHE,
+                          VisualVMModel.DataType.CACHE_DETAIL,
+                          VisualVMModel.DataType.CACHE_FRONT_DETAIL,
+                          VisualVMModel.DataType.CACHE_STORAGE_MANAGER,
+                          VisualVMModel.DataType.VIEW);
+        }
+
     @Override
     public void updateData()
         {
@@ -488,7 +499,7 @@ public class CoherenceCachePanel
             f_txtMaxQueryDuration.setText(String.format("%5d", lMaxQueryMillis));
             }
 
-        f_tmodel.fireTableDataChanged();
+        f_tmodel.fireTableRowsChanged();
 
         fireTableDataChangedWithSelection(f_tableDetail, f_tmodelDetail);
         fireTableDataChangedWithSelection(f_tableFrontDetail, f_tmodelFrontDetail);
@@ -45,8 +45,10 @@ import java.awt.GridLayout;
 import java.awt.event.KeyEvent;
 
 import java.util.Date;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Map.Entry;
+import java.util.Set;
 import java.util.logging.Logger;
 
 import javax.swing.*;
@@ -117,7 +119,7 @@ public class CoherenceClusterOverviewPanel
         pnlData.setLayout(new GridLayout(2, 2));
 
         // create a chart for total cluster memory
-        f_memoryGraph = GraphHelper.createClusterMemoryGraph();
+        f_memoryGraph = bindHistory(GraphHelper.createClusterMemoryGraph(), "memoryGraph");
 
         JPanel pnlPlotter = new JPanel(new GridLayout(1, 1));
 
@@ -126,7 +128,7 @@ public class CoherenceClusterOverviewPanel
         pnlData.add(pnlPlotter);
 
         // create a chart for publisher success rate
-        f_publisherGraph = GraphHelper.createPublisherGraph();
+        f_publisherGraph = bindHistory(GraphHelper.createPublisherGraph(), "publisherGraph");
 
         JPanel pnlPlotter2 = new JPanel(new GridLayout(1, 1));
 
@@ -134,7 +136,7 @@ public class CoherenceClusterOverviewPanel
         pnlData.add(pnlPlotter2);
 
         // create a chart for machine load average
-        f_loadAverageGraph = GraphHelper.createMachineLoadAverageGraph(model);
+        f_loadAverageGraph = bindHistory(GraphHelper.createMachineLoadAverageGraph(model), "loadAverageGraph");
 
         JPanel pnlPlotter4 = new JPanel(new GridLayout(1, 1));
 
@@ -142,7 +144,7 @@ public class CoherenceClusterOverviewPanel
         pnlData.add(pnlPlotter4);
 
         // create a chart for receiver success rate
-        f_receiverGraph = GraphHelper.createReceiverGraph();
+        f_receiverGraph = bindHistory(GraphHelper.createReceiverGraph(), "receiverGraph");
 
         JPanel pnlPlotter3 = new JPanel(new GridLayout(1, 1));
 
@@ -281,6 +283,16 @@ public class CoherenceClusterOverviewPanel
             }
         }
 
+    @Override
+    public Set<VisualVMModel.DataType> getDataTypes()
+        {
+        return EnumSet.of(VisualVMModel.DataType.CLUSTER,
+                          VisualVMModel.DataType.MACHINE,
+                          VisualVMModel.DataType.MEMBER,
+                          VisualVMModel.DataType.SERVICE,
+                          VisualVMModel.DataType.NODE_STORAGE);
+        }
+
     @Override
     public void updateData()
         {
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020, 2025 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2020, 2026 Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -27,6 +27,7 @@ package com.oracle.coherence.plugin.visualvm.panel;
 
 
 import com.oracle.coherence.plugin.visualvm.Localization;
+import com.oracle.coherence.plugin.visualvm.ModelSnapshot;
 import com.oracle.coherence.plugin.visualvm.VisualVMModel;
 
 import com.oracle.coherence.plugin.visualvm.helper.DialogHelper;
@@ -60,9 +61,13 @@ import java.awt.event.KeyEvent;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Date;
+import java.util.EnumMap;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import java.util.logging.Logger;
 
@@ -74,6 +79,10 @@ import javax.swing.BorderFactory;
 import javax.swing.JTextField;
 import javax.swing.SwingConstants;
 
+import javax.swing.text.Document;
+import javax.swing.text.Element;
+import javax.swing.text.html.HTMLDocument;
+
 import static com.oracle.coherence.plugin.visualvm.Localization.getLocalText;
 import static com.oracle.coherence.plugin.visualvm.helper.RenderHelper.getRenderedBytes;
 
@@ -145,20 +154,42 @@ public class CoherenceClusterSnapshotPanel
     @Override
     public void updateGUI()
         {
-        if (!isRefreshing())
+        Rendered rendered = m_rendered;
+        if (!isRefreshing() || rendered == null || rendered == m_renderedShown)
             {
-            // ignore if we are paused
+            // ignore if we are paused or nothing has been rendered since the last update
             return;
             }
         try
             {
-            String sCurrent = getContent();
-            if (!sCurrent.equals(m_lastValue))
+            Document document = f_htmlTextArea.getDocument();
+            if (m_renderedShown == null || !rendered.f_listSections.equals(m_renderedShown.f_listSections)
+                || !(document instanceof HTMLDocument))
+                {
+                // the sections shown have changed so the whole document has to be replaced
+                f_htmlTextArea.setText(rendered.getContent());
+                }
+            else
                 {
-                // the value has changed so update. This stops flicker if the data has not been refreshed
-                f_htmlTextArea.setText(sCurrent);
-                m_lastValue = sCurrent;
+                // only replace the sections which have changed, which stops flicker and avoids
+                // parsing and laying out the whole document again
+                HTMLDocument htmlDocument = (HTMLDocument) document;
+                for (Section section : rendered.f_listSections)
+                    {
+                    String sHtml = rendered.f_mapHtml.get(section);
+                    if (!sHtml.equals(m_renderedShown.f_mapHtml.get(section)))
+                        {
+                        Element element = htmlDocument.getElement(section.getId());
+                        if (element == null)
+                            {
+                            f_htmlTextArea.setText(rendered.getContent());
+                            break;
+                            }
+                        htmlDocument.setInnerHTML(element, sHtml);
+                        }
+                    }
                 }
+            m_renderedShown = rendered;
             }
         catch (Exception e)
             {
@@ -168,57 +199,164 @@ public class CoherenceClusterSnapshotPanel
             }
         }
 
+    /**
+     * Returns the complete HTML of the most recently rendered snapshot.
+     *
+     * @return the complete HTML
+     */
     private String getContent()
         {
-        StringBuilder sb =
-                new StringBuilder(htmlHead())
-                        .append(clusterOverview())
-                        .append(HR)
-                        .append(machinesOverview())
-                        .append(HR)
-                        .append(membersOverview())
-                        .append(HR)
-                        .append(servicesOverview())
-                        .append(HR)
-                        .append(cachesOverview())
-                        .append(HR);
-
-        if (f_model.isCoherenceExtendConfigured())
-            {
-            sb.append(proxyServerOverview()).append(HR);
-            }
-        if (f_model.isPersistenceConfigured())
-            {
-            sb.append(persistenceOverview()).append(HR);
-            }
-        if (f_model.isHttpProxyConfigured())
-            {
-            sb.append(httpProxyOverview()).append(HR);
-            }
-        if (f_model.isFederationCongfigured())
+        Rendered rendered = m_rendered;
+        return rendered == null ? htmlHead() + "</body></html>" : rendered.getContent();
+        }
+
+    /**
+     * Render the sections which are shown for the current model snapshot. A section
+     * is only rendered again if the data of a {@link VisualVMModel.DataType} it
+     * reads has changed since it was last rendered.
+     *
+     * @param snapshot  the {@link ModelSnapshot} the data was read from
+     */
+    private void render(ModelSnapshot snapshot)
+        {
+        List<Section>        listSections = new ArrayList<>();
+        Map<Section, String> mapHtml      = new EnumMap<>(Section.class);
+
+        for (Section section : Section.values())
             {
-            sb.append(federationOverview()).append(HR);
+            if (!isShown(section))
+                {
+                continue;
+                }
+
+            long[] alKey = getSectionKey(section, snapshot);
+            String sHtml = f_mapSectionHtml.get(section);
+            if (sHtml == null || !Arrays.equals(alKey, f_mapSectionKeys.get(section)))
+                {
+                try
+                    {
+                    sHtml = renderSection(section) + HR;
+                    f_mapSectionKeys.put(section, alKey);
+                    f_mapSectionHtml.put(section, sHtml);
+                    }
+                catch (Exception e)
+                    {
+                    LOGGER.warning("Failed to render cluster snapshot section " + section + ": " + e.getMessage());
+                    if (sHtml == null)
+                        {
+                        continue;
+                        }
+                    }
+                }
+
+            listSections.add(section);
+            mapHtml.put(section, sHtml);
             }
-        if (f_model.isElasticDataConfigured())
+
+        Rendered previous = m_rendered;
+        if (previous == null || !previous.f_listSections.equals(listSections) || !previous.f_mapHtml.equals(mapHtml))
             {
-            sb.append(elasticDataOverview("RAM"))
-              .append(elasticDataOverview("FLASH"))
-              .append(HR);
+            m_rendered = new Rendered(listSections, mapHtml);
             }
-        if (f_model.isExecutorConfigured())
+        }
+
+    /**
+     * Returns the key of a section for a snapshot, which is the data version of
+     * each {@link VisualVMModel.DataType} the section reads.
+     *
+     * @param section   the {@link Section}
+     * @param snapshot  the {@link ModelSnapshot}
+     *
+     * @return the key of the section
+     */
+    private long[] getSectionKey(Section section, ModelSnapshot snapshot)
+        {
+        VisualVMModel.DataType[] aTypes = section.f_aTypes;
+        long[]                   alKey  = new long[aTypes.length + 1];
+
+        for (int i = 0; i < aTypes.length; i++)
             {
-            sb.append(executorOverview()).append(HR);
+            alKey[i] = snapshot.getDataVersion(aTypes[i]);
             }
-        if (f_model.isTopicsConfigured())
+
+        // the cluster overview also shows the time of the last refresh
+        alKey[aTypes.length] = section == Section.CLUSTER ? f_model.getLastUpdate() : 0L;
+
+        return alKey;
+        }
+
+    /**
+     * Returns true if a section is shown.
+     *
+     * @param section  the {@link Section}
+     *
+     * @return true if the section is shown
+     */
+    private boolean isShown(Section section)
+        {
+        switch (section)
             {
-            sb.append(topicsOverview()).append(HR);
+            case PROXY:
+                return f_model.isCoherenceExtendConfigured();
+            case PERSISTENCE:
+                return f_model.isPersistenceConfigured();
+            case HTTP_PROXY:
+                return f_model.isHttpProxyConfigured();
+            case FEDERATION:
+                return f_model.isFederationCongfigured();
+            case ELASTIC_DATA:
+                return f_model.isElasticDataConfigured();
+            case EXECUTOR:
+                return f_model.isExecutorConfigured();
+            case TOPICS:
+                return f_model.isTopicsConfigured();
+            case GRPC:
+                return f_model.isGrpcProxyConfigured();
+            default:
+                return true;
             }
-        if (f_model.isGrpcProxyConfigured())
+        }
+
+    /**
+     * Render the HTML of a section.
+     *
+     * @param section  the {@link Section}
+     *
+     * @return the HTML of the section
+     */
+    private String renderSection(Section section)
+        {
+        switch (section)
             {
-            sb.append(grpcOverview()).append(HR);
+            case CLUSTER:
+                return clusterOverview();
+            case MACHINES:
+                return machinesOverview();
+            case MEMBERS:
+                return membersOverview();
+            case SERVICES:
+                return servicesOverview();
+            case CACHES:
+                return cachesOverview();
+            case PROXY:
+                return proxyServerOverview();
+            case PERSISTENCE:
+                return persistenceOverview();
+            case HTTP_PROXY:
+                return httpProxyOverview();
+            case FEDERATION:
+                return federationOverview();
+            case ELASTIC_DATA:
+                return elasticDataOverview("RAM") + elasticDataOverview("FLASH");
+            case EXECUTOR:
+                return executorOverview();
+            case TOPICS:
+                return topicsOverview();
+            case GRPC:
+                return grpcOverview();
+            default:
+                throw new IllegalArgumentException(section.name());
             }
-
-        return  sb.append("</body></html>").toString();
         }
 
     // ----- helpers --------------------------------------------------------
@@ -433,7 +571,7 @@ public class CoherenceClusterSnapshotPanel
 
         int cTotalConnections = 0;
 
-        for (Map.Entry<Object, Data> entry : m_cacheData)
+        for (Map.Entry<Object, Data> entry : m_proxyData)
             {
             cTotalConnections += (Integer) entry.getValue().getColumn(ProxyData.CONNECTION_COUNT);
             }
@@ -711,9 +849,7 @@ public class CoherenceClusterSnapshotPanel
                 .append(th(getLocalizedText("LBL_max_file_size")))
                 .append("</tr>");
 
-        List<Map.Entry<Object, Data>> tableData = f_model.getData(fIsRamJournal
-                                                                  ? VisualVMModel.DataType.RAMJOURNAL
-                                                                  : VisualVMModel.DataType.FLASHJOURNAL);
+        List<Map.Entry<Object, Data>> tableData = fIsRamJournal ? m_ramJournalData : m_flashJournalData;
 
 
         for (Map.Entry<Object, Data> entry : tableData)
@@ -845,43 +981,62 @@ public class CoherenceClusterSnapshotPanel
         return "</table>";
         }
 
+    @Override
+    public Set<VisualVMModel.DataType> getDataTypes()
+        {
+        // the snapshot summarizes all the data
+        return EnumSet.allOf(VisualVMModel.DataType.class);
+        }
+
     @Override
     public void updateData()
         {
-        m_memberData = f_model.getData(VisualVMModel.DataType.MEMBER);
-        m_clusterData = f_model.getData(VisualVMModel.DataType.CLUSTER);
-        m_serviceData = f_model.getData(VisualVMModel.DataType.SERVICE);
-        m_machineData = f_model.getData(VisualVMModel.DataType.MACHINE);
-        m_cacheData = f_model.getData(VisualVMModel.DataType.CACHE);
-        m_cacheDetailData = f_model.getData(VisualVMModel.DataType.CACHE_DETAIL);
-        m_cacheFrontDetailData = f_model.getData(VisualVMModel.DataType.CACHE_FRONT_DETAIL);
-        m_cacheStorageData = f_model.getData(VisualVMModel.DataType.CACHE_STORAGE_MANAGER);
-        m_proxyData = f_model.getData(VisualVMModel.DataType.PROXY);
-        m_ramJournalData = f_model.getData(VisualVMModel.DataType.RAMJOURNAL);
-        m_flashJournalData = f_model.getData(VisualVMModel.DataType.FLASHJOURNAL);
+        if (!isRefreshing())
+            {
+            // nothing is shown while paused so there is no need to render
+            return;
+            }
+
+        // read all the data from the same snapshot so the sections are consistent
+        ModelSnapshot snapshot = f_model.getSnapshot();
+
+        m_memberData = snapshot.getData(VisualVMModel.DataType.MEMBER);
+        m_clusterData = snapshot.getData(VisualVMModel.DataType.CLUSTER);
+        m_serviceData = snapshot.getData(VisualVMModel.DataType.SERVICE);
+        m_machineData = snapshot.getData(VisualVMModel.DataType.MACHINE);
+        m_cacheData = snapshot.getData(VisualVMModel.DataType.CACHE);
+        m_cacheDetailData = snapshot.getData(VisualVMModel.DataType.CACHE_DETAIL);
+        m_cacheFrontDetailData = snapshot.getData(VisualVMModel.DataType.CACHE_FRONT_DETAIL);
+        m_cacheStorageData = snapshot.getData(VisualVMModel.DataType.CACHE_STORAGE_MANAGER);
+        m_proxyData = snapshot.getData(VisualVMModel.DataType.PROXY);
+        m_ramJournalData = snapshot.getData(VisualVMModel.DataType.RAMJOURNAL);
+        m_flashJournalData = snapshot.getData(VisualVMModel.DataType.FLASHJOURNAL);
         m_federationData = getMergedFederationData();
 
         // check if there is a row selected in the tableFed
         if (f_model.getSelectedServiceParticipant() != null)
             {
             // get outbound details data
-            m_fedDestinationDetailsData = f_model.getData(VisualVMModel.DataType.FEDERATION_DESTINATION_DETAILS);
+            m_fedDestinationDetailsData = snapshot.getData(VisualVMModel.DataType.FEDERATION_DESTINATION_DETAILS);
 
             // get inbound details data
-            m_fedOriginDetailData = f_model.getData(VisualVMModel.DataType.FEDERATION_ORIGIN_DETAILS);
+            m_fedOriginDetailData = snapshot.getData(VisualVMModel.DataType.FEDERATION_ORIGIN_DETAILS);
             }
 
-        m_hotcacheData         = f_model.getData(VisualVMModel.DataType.HOTCACHE);
-        m_hotcachepercacheData = f_model.getData(VisualVMModel.DataType.HOTCACHE_PERCACHE);
-        m_httpProxyData        = f_model.getData(VisualVMModel.DataType.HTTP_PROXY);
-        m_httpProxyMemberData  = f_model.getData(VisualVMModel.DataType.HTTP_PROXY_DETAIL);
-        m_httpSessionData      = f_model.getData(VisualVMModel.DataType.HTTP_SESSION);
-        m_configData           = f_model.getData(VisualVMModel.DataType.JCACHE_CONFIG);
-        m_statsData            = f_model.getData(VisualVMModel.DataType.JCACHE_STATS);
-        m_persistenceData      = f_model.getData(VisualVMModel.DataType.PERSISTENCE);
-        m_topicData            = f_model.getData(VisualVMModel.DataType.TOPICS);
-        m_executorData         = f_model.getData(VisualVMModel.DataType.EXECUTOR);
-        m_grpcData             = f_model.getData(VisualVMModel.DataType.GRPC_PROXY);
+        m_hotcacheData         = snapshot.getData(VisualVMModel.DataType.HOTCACHE);
+        m_hotcachepercacheData = snapshot.getData(VisualVMModel.DataType.HOTCACHE_PERCACHE);
+        m_httpProxyData        = snapshot.getData(VisualVMModel.DataType.HTTP_PROXY);
+        m_httpProxyMemberData  = snapshot.getData(VisualVMModel.DataType.HTTP_PROXY_DETAIL);
+        m_httpSessionData      = snapshot.getData(VisualVMModel.DataType.HTTP_SESSION);
+        m_configData           = snapshot.getData(VisualVMModel.DataType.JCACHE_CONFIG);
+        m_statsData            = snapshot.getData(VisualVMModel.DataType.JCACHE_STATS);
+        m_persistenceData      = snapshot.getData(VisualVMModel.DataType.PERSISTENCE);
+        m_topicData            = snapshot.getData(VisualVMModel.DataType.TOPICS);
+        m_executorData         = snapshot.getData(VisualVMModel.DataType.EXECUTOR);
+        m_grpcData             = snapshot.getData(VisualVMModel.DataType.GRPC_PROXY);
+
+        // render off the EDT so that only the changed sections have to be applied in updateGUI()
+        render(snapshot);
         }
 
     /**
@@ -890,7 +1045,7 @@ public class CoherenceClusterSnapshotPanel
      */
     private boolean isRefreshing()
         {
-        return f_txtStatus.getText().equals(REFRESHING_MESSAGE);
+        return !m_fPaused;
         }
 
     // ----- constants ------------------------------------------------------
@@ -981,6 +1136,120 @@ public class CoherenceClusterSnapshotPanel
         private final String f_sContents;
         }
 
+    /**
+     * The sections of the snapshot, in the order they are shown, and the
+     * {@link VisualVMModel.DataType}s each section reads.
+     */
+    private enum Section
+        {
+        CLUSTER(VisualVMModel.DataType.CLUSTER, VisualVMModel.DataType.MEMBER, VisualVMModel.DataType.SERVICE),
+        MACHINES(VisualVMModel.DataType.MACHINE),
+        MEMBERS(VisualVMModel.DataType.MEMBER),
+        SERVICES(VisualVMModel.DataType.SERVICE),
+        CACHES(VisualVMModel.DataType.CACHE),
+        PROXY(VisualVMModel.DataType.PROXY),
+        PERSISTENCE(VisualVMModel.DataType.PERSISTENCE),
+        HTTP_PROXY(VisualVMModel.DataType.HTTP_PROXY),
+        FEDERATION(VisualVMModel.DataType.FEDERATION_DESTINATION, VisualVMModel.DataType.FEDERATION_ORIGIN),
+        ELASTIC_DATA(VisualVMModel.DataType.RAMJOURNAL, VisualVMModel.DataType.FLASHJOURNAL),
+        EXECUTOR(VisualVMModel.DataType.EXECUTOR),
+        TOPICS(VisualVMModel.DataType.TOPICS),
+        GRPC(VisualVMModel.DataType.GRPC_PROXY);
+
+        // ----- constructors -----------------------------------------------
+
+        /**
+         * Construct a {@link Section}.
+         *
+         * @param aTypes  the {@link VisualVMModel.DataType}s the section reads
+         */
+        Section(VisualVMModel.DataType... aTypes)
+            {
+            f_aTypes = aTypes;
+            }
+
+        // ----- Section methods --------------------------------------------
+
+        /**
+         * Returns the id of the element which holds the section.
+         *
+         * @return the id of the element which holds the section
+         */
+        String getId()
+            {
+            return "section-" + name();
+            }
+
+        // ----- data members -----------------------------------------------
+
+        /**
+         * The {@link VisualVMModel.DataType}s the section reads.
+         */
+        private final VisualVMModel.DataType[] f_aTypes;
+        }
+
+    /**
+     * The rendered HTML of the shown sections.
+     */
+    private class Rendered
+        {
+        // ----- constructors -----------------------------------------------
+
+        /**
+         * Construct a {@link Rendered}.
+         *
+         * @param listSections  the shown sections in order
+         * @param mapHtml       the HTML of each shown section
+         */
+        Rendered(List<Section> listSections, Map<Section, String> mapHtml)
+            {
+            f_listSections = Collections.unmodifiableList(listSections);
+            f_mapHtml      = Collections.unmodifiableMap(mapHtml);
+            }
+
+        // ----- Rendered methods -------------------------------------------
+
+        /**
+         * Returns the complete HTML of the shown sections, each section being
+         * held in an element which can be replaced on its own.
+         *
+         * @return the complete HTML
+         */
+        String getContent()
+            {
+            String sContent = m_sContent;
+            if (sContent == null)
+                {
+                StringBuilder sb = new StringBuilder(htmlHead());
+                for (Section section : f_listSections)
+                    {
+                    sb.append("<div id=\"").append(section.getId()).append("\">")
+                      .append(f_mapHtml.get(section))
+                      .append("</div>");
+                    }
+                sContent = m_sContent = sb.append("</body></html>").toString();
+                }
+            return sContent;
+            }
+
+        // ----- data members -----------------------------------------------
+
+        /**
+         * The shown sections in order.
+         */
+        private final List<Section> f_listSections;
+
+        /**
+         * The HTML of each shown section.
+         */
+        private final Map<Section, String> f_mapHtml;
+
+        /**
+         * The complete HTML, built on first use.
+         */
+        private volatile String m_sContent;
+        }
+
     /**
      * A class to react to button press to toggle refresh.
      */
@@ -994,6 +1263,7 @@ public class CoherenceClusterSnapshotPanel
             {
             if (isRefreshing())
                 {
+                m_fPaused = true;
                 f_txtStatus.setText(PAUSED_MESSAGE);
                 f_btnPause.setText(RESUME);
                 f_txtStatus.setBackground(Color.orange);
@@ -1001,6 +1271,7 @@ public class CoherenceClusterSnapshotPanel
                 }
             else
                 {
+                m_fPaused = false;
                 f_txtStatus.setText(REFRESHING_MESSAGE);
                 f_btnPause.setText(PAUSE);
                 f_txtStatus.setBackground(Color.green);
@@ -1154,7 +1425,28 @@ public class CoherenceClusterSnapshotPanel
     private List<Map.Entry<Object, Data>> m_topicData;
 
     /**
-     * Last value.
+     * Indicates if the refresh of the snapshot has been paused.
+     */
+    private volatile boolean m_fPaused;
+
+    /**
+     * The key of each rendered section, which is the data versions it was rendered from.
+     * Only accessed by the refresh thread.
+     */
+    private final Map<Section, long[]> f_mapSectionKeys = new EnumMap<>(Section.class);
+
+    /**
+     * The HTML of each rendered section. Only accessed by the refresh thread.
+     */
+    private final Map<Section, String> f_mapSectionHtml = new EnumMap<>(Section.class);
+
+    /**
+     * The most recently rendered sections.
+     */
+    private volatile Rendered m_rendered;
+
+    /**
+     * The rendered sections currently shown. Only accessed on the EDT.
      */
-    private String m_lastValue;
+    private Rendered m_renderedShown;
     }
@@ -43,7 +43,9 @@ import java.awt.Toolkit;
 import java.awt.event.MouseEvent;
 import java.awt.event.MouseListener;
 
+import java.util.EnumSet;
 import java.util.Map;
+import java.util.Set;
 
 import javax.swing.JLabel;
 import javax.swing.JOptionPane;
@@ -117,21 +119,21 @@ public class CoherenceElasticDataPanel
         // create a chart for ram journal memory
         JPanel pnlPlotter = new JPanel(new GridLayout(1, 1));
 
-        f_ramJournalMemoryGraph = GraphHelper.createRamJournalMemoryGraph();
+        f_ramJournalMemoryGraph = bindHistory(GraphHelper.createRamJournalMemoryGraph(), "ramJournalMemoryGraph");
 
         // ramJournalMemoryGraph.getChart().setPreferredSize(new Dimension(500, 300));
         pnlData.add(f_ramJournalMemoryGraph.getChart());
 
         // create a chart for flash journal memory
-        f_flashJournalMemoryGraph = GraphHelper.createFlashJournalMemoryGraph();
+        f_flashJournalMemoryGraph = bindHistory(GraphHelper.createFlashJournalMemoryGraph(), "flashJournalMemoryGraph");
         pnlData.add(f_flashJournalMemoryGraph.getChart());
 
         // create a chart for ram journal compactions
-        f_ramJournalCompactionGraph = GraphHelper.createRamJournalCompactionGraph();
+        f_ramJournalCompactionGraph = bindHistory(GraphHelper.createRamJournalCompactionGraph(), "ramJournalCompactionGraph");
         pnlData.add(f_ramJournalCompactionGraph.getChart());
 
         // create a chart for flash journal compactions
-        f_flashJournalCompactionGraph = GraphHelper.createFlashJournalCompactionGraph();
+        f_flashJournalCompactionGraph = bindHistory(GraphHelper.createFlashJournalCompactionGraph(), "flashJournalCompactionGraph");
         pnlData.add(f_flashJournalCompactionGraph.getChart());
 
         add(pnlHeader, BorderLayout.PAGE_START);
@@ -224,6 +226,12 @@ public class CoherenceElasticDataPanel
         m_cLastRamExhaustive   = cRamExhaustive;
         }
 
+    @Override
+    public Set<VisualVMModel.DataType> getDataTypes()
+        {
+        return EnumSet.of(VisualVMModel.DataType.RAMJOURNAL, VisualVMModel.DataType.FLASHJOURNAL);
+        }
+
     @Override
     public void updateData()
         {
@@ -28,8 +28,10 @@ package com.oracle.coherence.plugin.visualvm.panel;
 import java.awt.BorderLayout;
 import java.awt.Dimension;
 import java.awt.FlowLayout;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Map.Entry;
+import java.util.Set;
 
 import com.oracle.coherence.plugin.visualvm.VisualVMModel;
 import com.oracle.coherence.plugin.visualvm.helper.GraphHelper;
@@ -121,8 +123,8 @@ public class CoherenceExecutorPanel
         pneSplitPlotter.setOpaque(false);
 
         // create a chart for the count of executing and completed tasks
-        f_executorGraph = GraphHelper.createInProgressExecutorTasksGraph();
-        f_completedTasksGraph = GraphHelper.createCompletedTasksGraph();
+        f_executorGraph = bindHistory(GraphHelper.createInProgressExecutorTasksGraph(), "executorGraph");
+        f_completedTasksGraph = bindHistory(GraphHelper.createCompletedTasksGraph(), "completedTasksGraph");
 
         pneSplitPlotter.add(f_executorGraph.getChart());
         pneSplitPlotter.add(f_completedTasksGraph.getChart());
@@ -192,6 +194,12 @@ public class CoherenceExecutorPanel
             }
         }
 
+    @Override
+    public Set<VisualVMModel.DataType> getDataTypes()
+        {
+        return EnumSet.of(VisualVMModel.DataType.EXECUTOR);
+        }
+
     @Override
     public void updateData()
         {
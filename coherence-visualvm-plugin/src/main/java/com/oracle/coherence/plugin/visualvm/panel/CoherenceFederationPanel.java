@@ -51,6 +51,7 @@ import java.awt.Dimension;
 
 import java.awt.event.ActionEvent;
 
+import java.util.EnumSet;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
@@ -350,13 +351,24 @@ public class CoherenceFederationPanel
             pneDetailTabs.removeTabAt(0);
             }
 
-        m_bandwidthUtilGraph = GraphHelper.createBandwidthUtilGraph();
+        m_bandwidthUtilGraph = bindHistory(GraphHelper.createBandwidthUtilGraph(), "bandwidthUtilGraph." + getOutboundSeriesSuffix());
         pneDetailTabs.addTab(getLocalizedText("LBL_bandwidth_utilization"), m_bandwidthUtilGraph.getChart());
 
-        m_recordBacklogDelayGraph = GraphHelper.createOutboundPercentileGraph();
+        m_recordBacklogDelayGraph = bindHistory(GraphHelper.createOutboundPercentileGraph(), "recordBacklogDelayGraph." + getOutboundSeriesSuffix());
         pneDetailTabs.addTab(getLocalizedText("LBL_replication_percentile_millis"), m_recordBacklogDelayGraph.getChart());
         }
 
+    /**
+     * Returns the suffix of the history series of the outbound graphs, which are
+     * kept for each service, participant and node.
+     *
+     * @return the suffix of the history series
+     */
+    private String getOutboundSeriesSuffix()
+        {
+        return f_model.getSelectedServiceParticipant() + "." + f_model.getSelectedNodeOutbound();
+        }
+
     /**
      * Populate the graphs in the inbound detail tabs.
      *
@@ -372,7 +384,8 @@ public class CoherenceFederationPanel
             pneDetailTabs.removeTabAt(0);
             }
 
-        m_graphInboundPercentile = GraphHelper.createInboundPercentileGraph();
+        m_graphInboundPercentile = bindHistory(GraphHelper.createInboundPercentileGraph(), "graphInboundPercentile." + f_model.getSelectedServiceParticipant() + "."
+                                                   + f_model.getSelectedNodeInbound());
         pneDetailTabs.addTab(getLocalizedText("LBL_replication_percentile_millis"), m_graphInboundPercentile.getChart());
         }
 
@@ -386,6 +399,14 @@ public class CoherenceFederationPanel
         m_tmodelOutbound.fireTableDataChanged();
         m_tmodelInbound.fireTableDataChanged();
 
+        String sErrorDesp = m_sOutboundErrorDesp;
+        if (sErrorDesp != null)
+            {
+            // update the error description in textfield
+            m_txtOutboundErrorDesp.setText(sErrorDesp);
+            m_txtOutboundErrorDesp.setToolTipText(sErrorDesp);
+            }
+
         // re-select the selected rows
         if (f_model.getSelectedServiceParticipant() != null)
             {
@@ -393,17 +414,26 @@ public class CoherenceFederationPanel
             }
         }
 
+    @Override
+    public Set<VisualVMModel.DataType> getDataTypes()
+        {
+        return EnumSet.of(VisualVMModel.DataType.FEDERATION_DESTINATION,
+                          VisualVMModel.DataType.FEDERATION_DESTINATION_DETAILS,
+                          VisualVMModel.DataType.FEDERATION_ORIGIN,
+                          VisualVMModel.DataType.FEDERATION_ORIGIN_DETAILS);
+        }
+
     @Override
     public void updateData()
         {
         // get the merged data for tableFed
-        m_federationData = getMergedFederationData();
+        m_federationData     = getMergedFederationData();
+        m_sOutboundErrorDesp = null;
 
         if (m_federationData != null)
             {
             // update data for tableFEd
             m_tmodelFed.setDataList(m_federationData);
-            m_tmodelFed.fireTableDataChanged();
             }
 
         // check if there is a row selected in the tableFed
@@ -417,11 +447,9 @@ public class CoherenceFederationPanel
 
             // update outbound details data
             m_tmodelOutbound.setDataList(m_fedDestinationDetailsData);
-            m_tmodelOutbound.fireTableDataChanged();
 
             // update inbound details data
             m_tmodelInbound.setDataList(m_fedOriginDetailData);
-            m_tmodelInbound.fireTableDataChanged();
 
             // update the outbound tab
             String sSelectedNode = f_model.getSelectedNodeOutbound();
@@ -445,9 +473,8 @@ public class CoherenceFederationPanel
                             GraphHelper.addValuesToOutboundPercentileDelayGraph(m_recordBacklogDelayGraph, backlog, network, apply);
                             GraphHelper.addValuesToBandwidthUtilGraph(m_bandwidthUtilGraph, Float.valueOf(maxBandwidth), currentBandwidth);
 
-                            // update the error description in textfield
-                            m_txtOutboundErrorDesp.setText(sErrorDesp);
-                            m_txtOutboundErrorDesp.setToolTipText(sErrorDesp);
+                            // the error description is displayed in updateGUI()
+                            m_sOutboundErrorDesp = sErrorDesp;
                             }
                         }
                     }
@@ -1062,6 +1089,11 @@ public class CoherenceFederationPanel
      */
     private JTextField m_txtOutboundErrorDesp;
 
+    /**
+     * The error description for the selected outbound node from the last refresh.
+     */
+    private volatile String m_sOutboundErrorDesp;
+
     /**
      * The {@link FederationTableModel} to display the merged destination and origin data.
      */
@@ -28,8 +28,10 @@ package com.oracle.coherence.plugin.visualvm.panel;
 import java.awt.BorderLayout;
 import java.awt.Dimension;
 import java.awt.FlowLayout;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Map.Entry;
+import java.util.Set;
 
 import com.oracle.coherence.plugin.visualvm.GlobalPreferences;
 import com.oracle.coherence.plugin.visualvm.VisualVMModel;
@@ -133,8 +135,8 @@ public class CoherenceGrpcProxyPanel
         pneSplitPlotter.setOpaque(false);
 
         // create a chart for the count of proxy server connections
-        f_GrpcMessagesGraph = GraphHelper.createGrpcMessagesGraph();
-        f_grpcProxyMeanGraph = GraphHelper.createMeanGrpcStatsGraph();
+        f_GrpcMessagesGraph = bindHistory(GraphHelper.createGrpcMessagesGraph(), "grpcMessagesGraph");
+        f_grpcProxyMeanGraph = bindHistory(GraphHelper.createMeanGrpcStatsGraph(), "grpcProxyMeanGraph");
 
         pneSplitPlotter.add(f_GrpcMessagesGraph.getChart());
         pneSplitPlotter.add(f_grpcProxyMeanGraph.getChart());
@@ -215,6 +217,12 @@ public class CoherenceGrpcProxyPanel
             }
         }
 
+    @Override
+    public Set<VisualVMModel.DataType> getDataTypes()
+        {
+        return EnumSet.of(VisualVMModel.DataType.GRPC_PROXY);
+        }
+
     @Override
     public void updateData()
         {
@@ -31,8 +31,10 @@ import java.awt.Dimension;
 import java.awt.FlowLayout;
 
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Map.Entry;
+import java.util.Set;
 import java.util.SortedMap;
 import java.util.TreeMap;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -128,7 +130,30 @@ public class CoherenceHealthPanel
     @Override
     public void updateGUI()
         {
-        // no-op, done in update data
+        int cTotalChecks = m_cTotalChecks;
+        int cTotalOk     = m_cTotalOk;
+
+        // update total health
+        f_txtTotalHealthChecks.setForeground(Color.black);
+        f_txtTotalHealthChecks.setText(String.format(FORMAT, cTotalOk, cTotalChecks));
+        if (cTotalOk != cTotalChecks)
+            {
+            // means at least 1 is not ready so make orange
+            f_txtTotalHealthChecks.setBackground(Color.orange);
+            }
+        else
+            {
+            // must be ok so make it green
+            f_txtTotalHealthChecks.setBackground(Color.green);
+            }
+
+        f_tmodel.fireTableRowsChanged();
+        }
+
+    @Override
+    public Set<VisualVMModel.DataType> getDataTypes()
+        {
+        return EnumSet.of(VisualVMModel.DataType.HEALTH);
         }
 
     @Override
@@ -213,24 +238,10 @@ public class CoherenceHealthPanel
             totalOk.addAndGet(cStarted + cLive + cReady + cSafe);
             });
 
-        // update total health
-        f_txtTotalHealthChecks.setForeground(Color.black);
-        String sValue = String.format(FORMAT, totalOk.get(), totalChecks.get());
-        
-        f_txtTotalHealthChecks.setText(sValue);
-        if (totalOk.get() != totalChecks.get())
-            {
-            // means at least 1 is not ready so make orange
-            f_txtTotalHealthChecks.setBackground(Color.orange);
-            }
-        else
-            {
-            // must be ok so make it green
-            f_txtTotalHealthChecks.setBackground(Color.green);
-            }
-        
+        m_cTotalChecks = totalChecks.get();
+        m_cTotalOk     = totalOk.get();
+
         f_tmodel.setDataList(new ArrayList<>(mapData.entrySet()));
-        f_tmodel.fireTableDataChanged();
         }
 
     // ----- constants ------------------------------------------------------
@@ -256,6 +267,16 @@ public class CoherenceHealthPanel
      */
     protected final ExportableJTable f_table;
 
+    /**
+     * The total number of health checks from the last refresh.
+     */
+    private int m_cTotalChecks;
+
+    /**
+     * The number of successful health checks from the last refresh.
+     */
+    private int m_cTotalOk;
+
     /**
      * Labels for Health table.
      */
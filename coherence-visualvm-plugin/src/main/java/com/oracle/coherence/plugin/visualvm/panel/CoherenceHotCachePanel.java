@@ -47,7 +47,9 @@ import javax.swing.event.ListSelectionListener;
 import java.awt.BorderLayout;
 import java.awt.Dimension;
 
+import java.util.EnumSet;
 import java.util.Map;
+import java.util.Set;
 
 import org.graalvm.visualvm.charts.SimpleXYChartSupport;
 
@@ -148,25 +150,25 @@ public class CoherenceHotCachePanel
             pneTabs.removeTabAt(0);
             }
 
-        m_hotcacheGraph1 = GraphHelper.createHotcacheValueinNanosGraph(sSelectedMember);
+        m_hotcacheGraph1 = bindHistory(GraphHelper.createHotcacheValueinNanosGraph(sSelectedMember), "hotcacheGraph1." + sSelectedMember);
         pneTabs.addTab(Localization.getLocalText("LBL_ExecTimePerOp"), m_hotcacheGraph1.getChart());
 
-        m_hotcacheGraph2 = GraphHelper.createHotcacheValueinNanosGraph(sSelectedMember);
+        m_hotcacheGraph2 = bindHistory(GraphHelper.createHotcacheValueinNanosGraph(sSelectedMember), "hotcacheGraph2." + sSelectedMember);
         pneTabs.addTab(Localization.getLocalText("LBL_ExecTimePerTr"), m_hotcacheGraph2.getChart());
 
-        m_hotcacheGraph3 = GraphHelper.createHotcacheValueGraph(sSelectedMember);
+        m_hotcacheGraph3 = bindHistory(GraphHelper.createHotcacheValueGraph(sSelectedMember), "hotcacheGraph3." + sSelectedMember);
         pneTabs.addTab(Localization.getLocalText("LBL_InvPerOp"), m_hotcacheGraph3.getChart());
 
-        m_hotcacheGraph4 = GraphHelper.createHotcacheValueinNanosGraph(sSelectedMember);
+        m_hotcacheGraph4 = bindHistory(GraphHelper.createHotcacheValueinNanosGraph(sSelectedMember), "hotcacheGraph4." + sSelectedMember);
         pneTabs.addTab(Localization.getLocalText("LBL_LastExecTimePerOp"), m_hotcacheGraph4.getChart());
 
-        m_hotcacheGraph5 = GraphHelper.createHotcacheValueinMillisGraph(sSelectedMember);
+        m_hotcacheGraph5 = bindHistory(GraphHelper.createHotcacheValueinMillisGraph(sSelectedMember), "hotcacheGraph5." + sSelectedMember);
         pneTabs.addTab(Localization.getLocalText("LBL_LastOpRepLag"), m_hotcacheGraph5.getChart());
 
-        m_hotcacheGraph6 = GraphHelper.createHotcacheValueinMillisGraph(sSelectedMember);
+        m_hotcacheGraph6 = bindHistory(GraphHelper.createHotcacheValueinMillisGraph(sSelectedMember), "hotcacheGraph6." + sSelectedMember);
         pneTabs.addTab(Localization.getLocalText("LBL_OpRepLag"), m_hotcacheGraph6.getChart());
 
-        m_hotcacheGraph7 = GraphHelper.createHotcacheValueGraph(sSelectedMember);
+        m_hotcacheGraph7 = bindHistory(GraphHelper.createHotcacheValueGraph(sSelectedMember), "hotcacheGraph7." + sSelectedMember);
         pneTabs.addTab(Localization.getLocalText("LBL_OpPerTr"), m_hotcacheGraph7.getChart());
         }
 
@@ -184,7 +186,7 @@ public class CoherenceHotCachePanel
             {
             pnebottom.remove(2);
             }
-        m_hotcacheGraph8 = GraphHelper.createHotcacheValueinNanosGraph(sSelectedHotcachePercacheOperation);
+        m_hotcacheGraph8 = bindHistory(GraphHelper.createHotcacheValueinNanosGraph(sSelectedHotcachePercacheOperation), "hotcacheGraph8." + sSelectedHotcachePercacheOperation);
         pnebottom.setDividerLocation(lastLoc);
         pnebottom.add(m_hotcacheGraph8.getChart());
         }
@@ -201,6 +203,12 @@ public class CoherenceHotCachePanel
             }
         }
 
+    @Override
+    public Set<VisualVMModel.DataType> getDataTypes()
+        {
+        return EnumSet.of(VisualVMModel.DataType.HOTCACHE, VisualVMModel.DataType.HOTCACHE_PERCACHE);
+        }
+
     @Override
     public void updateData()
         {
@@ -208,7 +216,6 @@ public class CoherenceHotCachePanel
         if(m_hotcacheData != null)
             {
             f_tmodel.setDataList(m_hotcacheData);
-            f_tmodel.fireTableDataChanged();
             }
         m_hotcachepercacheData = f_model.getData(VisualVMModel.DataType.HOTCACHE_PERCACHE);
         if(m_hotcachepercacheData != null)
@@ -47,8 +47,10 @@ import javax.swing.event.ListSelectionEvent;
 import javax.swing.event.ListSelectionListener;
 import java.awt.BorderLayout;
 import java.awt.Dimension;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.graalvm.visualvm.charts.SimpleXYChartSupport;
 
@@ -265,19 +267,19 @@ public class CoherenceHttpProxyPanel
                 pneDetailTabs.removeTabAt(0);
                 }
 
-            m_requestTimeGraph = GraphHelper.createAverageRequestTimeGraph(sServiceName);
+            m_requestTimeGraph = bindHistory(GraphHelper.createAverageRequestTimeGraph(sServiceName), "requestTimeGraph." + sServiceName);
             pneDetailTabs.addTab(getLocalizedText("LBL_average_request_time"),
                     m_requestTimeGraph.getChart());
 
-            m_requestsPerSecondGraph = GraphHelper.createAverageRequestsPerSecondGraph(sServiceName);
+            m_requestsPerSecondGraph = bindHistory(GraphHelper.createAverageRequestsPerSecondGraph(sServiceName), "requestsPerSecondGraph." + sServiceName);
             pneDetailTabs.addTab(getLocalizedText("LBL_average_request_per_second"),
                     m_requestsPerSecondGraph.getChart());
 
-            m_requestsGraph = GraphHelper.createHttpRequestGraph(sServiceName);
+            m_requestsGraph = bindHistory(GraphHelper.createHttpRequestGraph(sServiceName), "requestsGraph." + sServiceName);
             pneDetailTabs.addTab(getLocalizedText("LBL_request_history"),
                     m_requestsGraph.getChart());
 
-            m_responseGraph = GraphHelper.createHttpResponseGraph(sServiceName);
+            m_responseGraph = bindHistory(GraphHelper.createHttpResponseGraph(sServiceName), "responseGraph." + sServiceName);
             pneDetailTabs.addTab(getLocalizedText("LBL_response_history"),
                     m_responseGraph.getChart());
             }
@@ -289,12 +291,26 @@ public class CoherenceHttpProxyPanel
         f_tmodel.fireTableDataChanged();
         fireTableDataChangedWithSelection(f_tableDetail, f_tmodelDetail);
 
-        if (f_model.getSelectedHttpProxyService() != null)
+        String sSelectedService = f_model.getSelectedHttpProxyService();
+
+        if (sSelectedService == null)
             {
+            f_txtSelectedService.setText("");
+            f_txtSelectedService.setToolTipText("");
+            }
+        else
+            {
+            f_txtSelectedService.setText(sSelectedService);
             f_listener.updateRowSelection();
             }
         }
 
+    @Override
+    public Set<VisualVMModel.DataType> getDataTypes()
+        {
+        return EnumSet.of(VisualVMModel.DataType.HTTP_PROXY, VisualVMModel.DataType.HTTP_PROXY_DETAIL);
+        }
+
     @Override
     public void updateData()
         {
@@ -430,18 +446,6 @@ public class CoherenceHttpProxyPanel
                     }
                 }
             }
-
-        String sSelectedService = f_model.getSelectedHttpProxyService();
-
-        if (sSelectedService == null)
-            {
-            f_txtSelectedService.setText("");
-            f_txtSelectedService.setToolTipText("");
-            }
-        else
-            {
-            f_txtSelectedService.setText(sSelectedService);
-            }
         }
 
     // ----- data members ---------------------------------------------------
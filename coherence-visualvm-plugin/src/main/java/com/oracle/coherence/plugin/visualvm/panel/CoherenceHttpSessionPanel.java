@@ -37,6 +37,7 @@ import java.awt.BorderLayout;
 import java.awt.Dimension;
 import java.awt.FlowLayout;
 
+import java.util.EnumSet;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -122,8 +123,8 @@ public class CoherenceHttpSessionPanel
         pneSplit.add(pnlTop);
 
         // create a chart for the machine load averages
-        f_sessionCountGraph = GraphHelper.createSessionCountGraph();
-        f_reapDurationGraph = GraphHelper.createReapDurationGraph();
+        f_sessionCountGraph = bindHistory(GraphHelper.createSessionCountGraph(), "sessionCountGraph");
+        f_reapDurationGraph = bindHistory(GraphHelper.createReapDurationGraph(), "reapDurationGraph");
 
         JSplitPane pneSplitPlotter = new JSplitPane(JSplitPane.HORIZONTAL_SPLIT);
 
@@ -205,6 +206,12 @@ public class CoherenceHttpSessionPanel
         fireTableDataChangedWithSelection(f_table, f_tmodel);
         }
 
+    @Override
+    public Set<VisualVMModel.DataType> getDataTypes()
+        {
+        return EnumSet.of(VisualVMModel.DataType.HTTP_SESSION);
+        }
+
     @Override
     public void updateData()
         {
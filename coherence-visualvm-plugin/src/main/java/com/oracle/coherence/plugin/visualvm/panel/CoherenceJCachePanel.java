@@ -41,8 +41,10 @@ import java.awt.BorderLayout;
 import java.awt.Dimension;
 
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.SortedMap;
 import java.util.TreeMap;
 
@@ -148,8 +150,8 @@ public class CoherenceJCachePanel
         String               sCacheName     = selectedJCache == null ? "None Selected" : selectedJCache.getY();
 
         m_pneSplitBottom = new JSplitPane(JSplitPane.HORIZONTAL_SPLIT);
-        m_operationAverageGraph = GraphHelper.createJCacheAverageGraph(sCacheName);
-        m_hitRateGraph = GraphHelper.createJCacheHitPercentageGraph(sCacheName);
+        m_operationAverageGraph = bindHistory(GraphHelper.createJCacheAverageGraph(sCacheName), "operationAverageGraph." + sCacheName);
+        m_hitRateGraph = bindHistory(GraphHelper.createJCacheHitPercentageGraph(sCacheName), "hitRateGraph." + sCacheName);
         m_pneSplitBottom.setResizeWeight(0.3);
 
         m_pneSplitBottom.add(m_operationAverageGraph.getChart());
@@ -199,6 +201,12 @@ public class CoherenceJCachePanel
             }
         }
 
+    @Override
+    public Set<VisualVMModel.DataType> getDataTypes()
+        {
+        return EnumSet.of(VisualVMModel.DataType.JCACHE_CONFIG, VisualVMModel.DataType.JCACHE_STATS);
+        }
+
     @Override
     public void updateData()
         {
@@ -38,8 +38,10 @@ import java.awt.Dimension;
 import java.awt.FlowLayout;
 import java.awt.GridLayout;
 
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Map.Entry;
+import java.util.Set;
 
 import javax.swing.JPanel;
 import javax.swing.JScrollPane;
@@ -118,7 +120,7 @@ public class CoherenceMachinePanel
         pneSplit.add(pnlTop);
 
         // create a chart for the machine load averages
-        f_machineGraph = GraphHelper.createMachineLoadAverageGraph(model);
+        f_machineGraph = bindHistory(GraphHelper.createMachineLoadAverageGraph(model), "machineGraph");
 
         JPanel pnlPlotter = new JPanel(new GridLayout(1, 1));
 
@@ -174,6 +176,12 @@ public class CoherenceMachinePanel
         fireTableDataChangedWithSelection(f_table, f_tmodel);
         }
 
+    @Override
+    public Set<VisualVMModel.DataType> getDataTypes()
+        {
+        return EnumSet.of(VisualVMModel.DataType.MACHINE);
+        }
+
     @Override
     public void updateData()
         {
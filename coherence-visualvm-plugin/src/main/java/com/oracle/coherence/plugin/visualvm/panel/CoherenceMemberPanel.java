@@ -52,9 +52,11 @@ import java.io.PrintWriter;
 
 import java.util.ArrayList;
 import java.util.Date;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
 
 import java.util.logging.Logger;
 import com.oracle.coherence.plugin.visualvm.threaddump.ThreadDumpImpl;
@@ -210,7 +212,7 @@ public class CoherenceMemberPanel
         topPanel.add(scrollPane, BorderLayout.CENTER);
 
         // create a chart for the total cluster memory
-        f_memoryGraph = GraphHelper.createClusterMemoryGraph();
+        f_memoryGraph = bindHistory(GraphHelper.createClusterMemoryGraph(), "memoryGraph");
 
         JPanel pnlPlotter = new JPanel(new GridLayout(1, 1));
 
@@ -276,6 +278,14 @@ public class CoherenceMemberPanel
             }
         }
 
+    @Override
+    public Set<VisualVMModel.DataType> getDataTypes()
+        {
+        return EnumSet.of(VisualVMModel.DataType.CLUSTER,
+                          VisualVMModel.DataType.MEMBER,
+                          VisualVMModel.DataType.NODE_STORAGE);
+        }
+
     @Override
     public void updateData()
         {
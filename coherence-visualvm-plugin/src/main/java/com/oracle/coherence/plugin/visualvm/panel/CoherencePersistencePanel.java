@@ -58,10 +58,12 @@ import java.awt.event.KeyEvent;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Date;
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
 import java.util.SortedMap;
 import java.util.TreeMap;
 import java.util.concurrent.ConcurrentHashMap;
@@ -244,8 +246,8 @@ public class CoherencePersistencePanel
         configureScrollPane(scrollPaneNotifications, f_tableNotifications);
 
         // create a chart for the machine load averages
-        f_persistenceLatencyGraph = GraphHelper.createPersistenceLatencyGraph();
-        f_persistenceTotalSpaceGraph = GraphHelper.createPersistenceActiveTotalGraph();
+        f_persistenceLatencyGraph = bindHistory(GraphHelper.createPersistenceLatencyGraph(), "persistenceLatencyGraph");
+        f_persistenceTotalSpaceGraph = bindHistory(GraphHelper.createPersistenceActiveTotalGraph(), "persistenceTotalSpaceGraph");
 
         JSplitPane pneSplitPlotter = new JSplitPane(JSplitPane.HORIZONTAL_SPLIT);
 
@@ -303,6 +305,12 @@ public class CoherencePersistencePanel
         fireTableDataChangedWithSelection(f_tableNotifications, f_tmodelNotifications);
         }
 
+    @Override
+    public Set<VisualVMModel.DataType> getDataTypes()
+        {
+        return EnumSet.of(VisualVMModel.DataType.PERSISTENCE, VisualVMModel.DataType.PERSISTENCE_NOTIFICATIONS);
+        }
+
     @Override
     public void updateData()
         {
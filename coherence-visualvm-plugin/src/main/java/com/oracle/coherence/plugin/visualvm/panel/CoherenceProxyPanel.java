@@ -50,6 +50,7 @@ import java.awt.event.KeyEvent;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.EnumSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -166,8 +167,8 @@ public class CoherenceProxyPanel
         pneSplitPlotter.setOpaque(false);
 
         // create a chart for the count of proxy server connections
-        f_proxyGraph = GraphHelper.createTotalProxyConnectionsGraph();
-        f_proxyStatsGraph = GraphHelper.createProxyServerStatsGraph();
+        f_proxyGraph = bindHistory(GraphHelper.createTotalProxyConnectionsGraph(), "proxyGraph");
+        f_proxyStatsGraph = bindHistory(GraphHelper.createProxyServerStatsGraph(), "proxyStatsGraph");
 
         pneSplitPlotter.add(f_proxyGraph.getChart());
         pneSplitPlotter.add(f_proxyStatsGraph.getChart());
@@ -235,6 +236,12 @@ public class CoherenceProxyPanel
             }
         }
 
+    @Override
+    public Set<VisualVMModel.DataType> getDataTypes()
+        {
+        return EnumSet.of(VisualVMModel.DataType.PROXY);
+        }
+
     @Override
     public void updateData()
         {
@@ -47,6 +47,7 @@ import java.awt.BorderLayout;
 import java.awt.Dimension;
 import java.awt.event.ActionEvent;
 
+import java.util.EnumSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map.Entry;
@@ -220,19 +221,19 @@ public class CoherenceServicePanel
             pneDetailTabs.removeTabAt(0);
             }
 
-        m_threadUtilGraph = GraphHelper.createThreadUtilizationGraph(sServiceName);
+        m_threadUtilGraph = bindHistory(GraphHelper.createThreadUtilizationGraph(sServiceName), "threadUtilGraph." + sServiceName);
         pneDetailTabs.addTab(getLocalizedText("LBL_thread_utilization"), m_threadUtilGraph.getChart());
 
-        m_taskAverageGraph = GraphHelper.createTaskDurationGraph(sServiceName);
+        m_taskAverageGraph = bindHistory(GraphHelper.createTaskDurationGraph(sServiceName), "taskAverageGraph." + sServiceName);
         pneDetailTabs.addTab(getLocalizedText("LBL_task_average_duration"), m_taskAverageGraph.getChart());
 
-        m_taskBacklogGraph = GraphHelper.createTaskBacklogGraph(sServiceName);
+        m_taskBacklogGraph = bindHistory(GraphHelper.createTaskBacklogGraph(sServiceName), "taskBacklogGraph." + sServiceName);
         pneDetailTabs.addTab(getLocalizedText("LBL_task_backlog"), m_taskBacklogGraph.getChart());
 
-        m_requestAverageGraph = GraphHelper.createRequestDurationGraph(sServiceName);
+        m_requestAverageGraph = bindHistory(GraphHelper.createRequestDurationGraph(sServiceName), "requestAverageGraph." + sServiceName);
         pneDetailTabs.addTab(getLocalizedText("LBL_request_average_duration"), m_requestAverageGraph.getChart());
 
-        m_servicePartitionsGraph = GraphHelper.createServicePartitionGraph(sServiceName);
+        m_servicePartitionsGraph = bindHistory(GraphHelper.createServicePartitionGraph(sServiceName), "servicePartitionsGraph." + sServiceName);
         pneDetailTabs.addTab(getLocalizedText("LBL_service_partitions"), m_servicePartitionsGraph.getChart());
         }
 
@@ -241,15 +242,31 @@ public class CoherenceServicePanel
     @Override
     public void updateGUI()
         {
-        f_tmodel.fireTableDataChanged();
+        f_tmodel.fireTableRowsChanged();
 
         fireTableDataChangedWithSelection(f_tableDetail, f_tmodelDetail);
 
-        if (f_model.getSelectedService() != null)
+        String sSelectedService = f_model.getSelectedService();
+
+        if (sSelectedService == null)
+            {
+            f_txtSelectedService.setText("");
+            }
+        else
             {
+            f_txtSelectedService.setText(sSelectedService);
             m_listener.updateRowSelection();
             }
 
+        setThreadValues(m_nTotalThreads, m_nTotalIdle, m_flThreadUtil);
+        }
+
+    @Override
+    public Set<VisualVMModel.DataType> getDataTypes()
+        {
+        return EnumSet.of(VisualVMModel.DataType.SERVICE,
+                          VisualVMModel.DataType.SERVICE_DETAIL,
+                          VisualVMModel.DataType.MEMBER);
         }
 
     @Override
@@ -369,22 +386,15 @@ public class CoherenceServicePanel
                     }
                 }
 
-            setThreadValues(nTotalThreads, nTotalIdle, threadUtil);
-            }
-        else
-            {
-            setThreadValues(0, 0, 0f);
-            }
-
-        String sSelectedService = f_model.getSelectedService();
-
-        if (sSelectedService == null)
-            {
-            f_txtSelectedService.setText("");
+            m_nTotalThreads = nTotalThreads;
+            m_nTotalIdle    = nTotalIdle;
+            m_flThreadUtil  = threadUtil;
             }
         else
             {
-            f_txtSelectedService.setText(sSelectedService);
+            m_nTotalThreads = 0;
+            m_nTotalIdle    = 0;
+            m_flThreadUtil  = 0f;
             }
         }
 
@@ -703,6 +713,21 @@ public class CoherenceServicePanel
      */
     private final JTextField f_txtTotalThreadUtil;
 
+    /**
+     * The total number of threads for the selected service from the last refresh.
+     */
+    private int m_nTotalThreads;
+
+    /**
+     * The total number of idle threads for the selected service from the last refresh.
+     */
+    private int m_nTotalIdle;
+
+    /**
+     * The thread utilization for the selected service from the last refresh.
+     */
+    private float m_flThreadUtil;
+
     /**
      * The {@link ServiceTableModel} to display service data.
      */
@@ -30,16 +30,16 @@ import java.awt.Dimension;
 import java.awt.FlowLayout;
 import java.awt.GridLayout;
 import java.awt.event.ActionEvent;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Map.Entry;
-
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.SerializationFeature;
+import java.util.Set;
 
 import com.oracle.coherence.plugin.visualvm.Localization;
 import com.oracle.coherence.plugin.visualvm.VisualVMModel;
 import com.oracle.coherence.plugin.visualvm.helper.DialogHelper;
 import com.oracle.coherence.plugin.visualvm.helper.GraphHelper;
+import com.oracle.coherence.plugin.visualvm.helper.JsonHelper;
 import com.oracle.coherence.plugin.visualvm.helper.RenderHelper;
 import com.oracle.coherence.plugin.visualvm.helper.RequestSender;
 import com.oracle.coherence.plugin.visualvm.panel.util.AbstractMenuOption;
@@ -221,7 +221,7 @@ public class CoherenceTopicPanel
         pneSplitDetail.setOpaque(false);
         pneSplitDetail.setResizeWeight(0.6);
         
-        f_topicsRatesGraph = GraphHelper.createTopicsRateGraph();
+        f_topicsRatesGraph = bindHistory(GraphHelper.createTopicsRateGraph(), "topicsRatesGraph");
         JPanel pnlPlotter = new JPanel(new GridLayout(1, 1));
 
         pnlPlotter.add(f_topicsRatesGraph.getChart());
@@ -267,6 +267,15 @@ public class CoherenceTopicPanel
 
     // ---- AbstractCoherencePanel methods ----------------------------------
 
+    @Override
+    public Set<VisualVMModel.DataType> getDataTypes()
+        {
+        return EnumSet.of(VisualVMModel.DataType.TOPICS,
+                          VisualVMModel.DataType.TOPIC_DETAIL,
+                          VisualVMModel.DataType.TOPIC_SUBSCRIBERS,
+                          VisualVMModel.DataType.TOPIC_SUBSCRIBER_GROUPS);
+        }
+
     @Override
     public void updateData()
         {
@@ -560,10 +569,7 @@ public class CoherenceTopicPanel
                             else if (sResult.startsWith("{"))
                                 {
                                 // JSON so format it
-                                ObjectMapper mapper = new ObjectMapper();
-                                mapper.enable(SerializationFeature.INDENT_OUTPUT);
-                                Object jsonData = mapper.readValue(sResult, Object.class);
-                                sResult = mapper.writeValueAsString(jsonData);
+                                sResult = JsonHelper.writePretty(JsonHelper.readValue(sResult));
                                 }
                             }
                         }
@@ -33,38 +33,36 @@ import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
 
 import java.io.File;
-import java.io.FileOutputStream;
-import java.io.IOException;
-import java.io.PrintStream;
 
 import java.net.URI;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.logging.Level;
-import java.util.logging.Logger;
+import java.util.function.Supplier;
 
 import com.oracle.coherence.plugin.visualvm.VisualVMModel;
 import com.oracle.coherence.plugin.visualvm.helper.DialogHelper;
+import javax.swing.DefaultRowSorter;
 import javax.swing.JComponent;
 import javax.swing.JFileChooser;
 import javax.swing.JMenuItem;
 import javax.swing.JPopupMenu;
 import javax.swing.JTable;
 import javax.swing.ListSelectionModel;
+import javax.swing.RowSorter;
 import javax.swing.UIManager;
 import javax.swing.event.ListSelectionEvent;
 import javax.swing.event.ListSelectionListener;
 
 import javax.swing.filechooser.FileNameExtensionFilter;
 
-import javax.swing.table.AbstractTableModel;
-import javax.swing.table.TableColumnModel;
 import javax.swing.table.TableModel;
 
 /**
- * An implementation of a {@link JTable} that allows exporting table data as CSV
- * as well as addition of additional menu options for right click.
+ * An implementation of a {@link JTable} that allows exporting table data as CSV,
+ * TSV or JSON lines as well as addition of additional menu options for right click.
  *
  * @author tam  2013.11.14
  * @since  12.1.3
@@ -112,6 +110,20 @@ public class ExportableJTable
 
     // ---- JTable methods --------------------------------------------------
 
+    @Override
+    public void setRowSorter(RowSorter<? extends TableModel> sorter)
+        {
+        // rows are reported as updated rather than the whole table changing on
+        // each refresh, so the sorter must re-sort when a sorted value changes.
+        // This also applies to the sorters created when the model structure changes
+        if (sorter instanceof DefaultRowSorter)
+            {
+            ((DefaultRowSorter<?, ?>) sorter).setSortsOnUpdates(true);
+            }
+
+        super.setRowSorter(sorter);
+        }
+
     @Override
     public JPopupMenu getComponentPopupMenu()
         {
@@ -124,6 +136,14 @@ public class ExportableJTable
 
             m_menuItemSaveAs.addActionListener(this);
             m_menu.add(m_menuItemSaveAs);
+
+            if (m_supplierAllTables != null)
+                {
+                m_menuItemSaveAllAs = new JMenuItem(Localization.getLocalText("LBL_save_all_data_as"));
+                m_menuItemSaveAllAs.addActionListener(this);
+                m_menu.add(m_menuItemSaveAllAs);
+                }
+
             m_menuItemHelp.addActionListener(this);
             m_menu.add(m_menuItemHelp);
 
@@ -176,6 +196,15 @@ public class ExportableJTable
                 saveTableDataToFile(fileChooser.getSelectedFile());
                 }
             }
+        else if (src.equals(m_menuItemSaveAllAs))
+            {
+            int result = archiveFileChooser.showSaveDialog(this);
+
+            if (result == JFileChooser.APPROVE_OPTION)
+                {
+                saveAllTableDataToFile(archiveFileChooser.getSelectedFile());
+                }
+            }
         else if (src.equals(m_menuItemHelp))
             {
             String sSimpleName = dataModel.getClass().getSimpleName();
@@ -229,62 +258,77 @@ public class ExportableJTable
         return f_listener;
         }
 
+    /**
+     * Set the supplier of all the tables which can be saved together with
+     * this table, keyed by the name to save each table as. If set, a menu
+     * option to save all the tables to a single archive is shown.
+     *
+     * @param supplier  the supplier of all the tables
+     */
+    public void setAllTablesSupplier(Supplier<Map<String, JTable>> supplier)
+        {
+        m_supplierAllTables = supplier;
+        }
+
     // ----- helpers --------------------------------------------------------
 
     /**
-     * Save the data for the table to a CSV file.
+     * Save the data for the table to a file on a background thread.
      *
      * @param file  the {@link File} to save to
      */
     private void saveTableDataToFile(File file)
         {
-        PrintStream fileWriter = null;
+        TableExporter.Format format = f_exportOptions.getFormat();
+        boolean              fGzip  = f_exportOptions.isGzip() || file.getName().endsWith(".gz");
+        File                 fileTo = TableExporter.getExportFile(file, format.getExtension(), fGzip);
 
-        try
+        if (confirmOverwrite(file, fileTo))
             {
-            fileWriter = new PrintStream(new FileOutputStream(file));
-
-            AbstractTableModel tableModel = (AbstractTableModel) this.getModel();
-
-            // Get the column headers
-            TableColumnModel columnModel = this.getTableHeader().getColumnModel();
-            int              columnCount = columnModel.getColumnCount();
-
-            for (int i = 0; i < columnCount; i++)
-                {
-                fileWriter.print("\"" + columnModel.getColumn(i).getHeaderValue()
-                                 + (i < columnCount - 1 ? "\"," : "\""));
-                }
-
-            fileWriter.print(LF);
-
-            // output the data line by line
-            for (int r = 0; r < tableModel.getRowCount(); r++)
-                {
-                for (int c = 0; c < columnCount; c++)
-                    {
-                    Object oValue = tableModel.getValueAt(r, c);
-
-                    fileWriter.print((oValue == null ? "" : oValue.toString()) + (c < columnCount - 1 ? "," : ""));
-                    }
+            String sName = dataModel.getClass().getSimpleName();
+            TableExporter.export(this, TableExporter.capture(this, sName), fileTo, format, fGzip);
+            }
+        }
 
-                fileWriter.print(LF);
-                }
+    /**
+     * Save the data for all the tables to a zip archive on a background thread.
+     *
+     * @param file  the {@link File} to save to
+     */
+    private void saveAllTableDataToFile(File file)
+        {
+        TableExporter.Format format = f_archiveOptions.getFormat();
+        File                 fileTo = TableExporter.getExportFile(file, "zip", false);
 
-            }
-        catch (IOException ioe)
+        if (confirmOverwrite(file, fileTo))
             {
-            LOGGER.log(Level.WARNING, Localization.getLocalText("LBL_unable_to_save", file.toString(), ioe.getMessage()));
-            }
-        finally
-            {
-            if (fileWriter != null)
+            // capture all the tables at once so they are consistent with each other
+            List<TableExporter.TableData> listData = new ArrayList<>();
+            for (Map.Entry<String, JTable> entry : m_supplierAllTables.get().entrySet())
                 {
-                fileWriter.close();
+                listData.add(TableExporter.capture(entry.getValue(), entry.getKey()));
                 }
+
+            TableExporter.exportAll(this, listData, fileTo, format);
             }
         }
 
+    /**
+     * Confirm the overwrite of a file if an extension was added to the
+     * selected file and the resulting file exists.
+     *
+     * @param fileSelected  the selected {@link File}, already confirmed
+     * @param fileTo        the {@link File} to save to
+     *
+     * @return true if the file can be saved
+     */
+    private static boolean confirmOverwrite(File fileSelected, File fileTo)
+        {
+        return fileSelected.equals(fileTo) || !fileTo.exists()
+               || DialogHelper.showConfirmDialog(Localization.getLocalText("LBL_file_already_exists",
+                                                                           fileTo.getAbsolutePath()));
+        }
+
     /**
      * An implementation of a {@link JFileChooser} that will confirm overwrite of
      * an existing file.
@@ -485,19 +529,24 @@ public class ExportableJTable
     private static final long serialVersionUID = 5999795232769091368L;
 
     /**
-     * The line separator for the platform this process is running on.
+     * File chooser to select a file.
      */
-    private static final String LF = System.getProperty("line.separator");
+    private static JFileChooser fileChooser = null;
 
     /**
-     * File chooser to select a file.
+     * File chooser to select an archive to save all tables to.
      */
-    private static JFileChooser fileChooser = null;
+    private static JFileChooser archiveFileChooser = null;
+
+    /**
+     * The options of saving a single table.
+     */
+    private static final TableExporter.ExportOptions f_exportOptions = new TableExporter.ExportOptions(true);
 
     /**
-     * The logger object to use.
+     * The options of saving all tables.
      */
-    private static final Logger LOGGER = Logger.getLogger(ExportableJTable.class.getName());
+    private static final TableExporter.ExportOptions f_archiveOptions = new TableExporter.ExportOptions(false);
 
     /**
      * Initialize so that we only get one instance.
@@ -505,7 +554,13 @@ public class ExportableJTable
     static
         {
         fileChooser = new CheckExistsFileChooser();
-        fileChooser.setFileFilter(new FileNameExtensionFilter(Localization.getLocalText("LBL_csv_file"), "csv"));
+        fileChooser.setFileFilter(new FileNameExtensionFilter(Localization.getLocalText("LBL_export_file"),
+                                                              "csv", "tsv", "jsonl", "gz"));
+        fileChooser.setAccessory(f_exportOptions);
+
+        archiveFileChooser = new CheckExistsFileChooser();
+        archiveFileChooser.setFileFilter(new FileNameExtensionFilter(Localization.getLocalText("LBL_zip_file"), "zip"));
+        archiveFileChooser.setAccessory(f_archiveOptions);
         }
 
     // ----- data members ---------------------------------------------------
@@ -524,6 +579,16 @@ public class ExportableJTable
      */
     private JMenuItem m_menuItemSaveAs;
 
+    /**
+     * Menu item for "Save all as".
+     */
+    private JMenuItem m_menuItemSaveAllAs;
+
+    /**
+     * The supplier of all the tables which can be saved together with this table.
+     */
+    private Supplier<Map<String, JTable>> m_supplierAllTables;
+
     /**
      * Menu item for "Help".
      */
@@ -0,0 +1,226 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.oracle.coherence.plugin.visualvm.panel.util;
+
+import com.oracle.coherence.plugin.visualvm.Localization;
+
+import com.oracle.coherence.plugin.visualvm.helper.ReplayRequestSender;
+
+import java.awt.BorderLayout;
+import java.awt.FlowLayout;
+
+import java.text.SimpleDateFormat;
+
+import java.util.Date;
+
+import javax.swing.JButton;
+import javax.swing.JComboBox;
+import javax.swing.JLabel;
+import javax.swing.JPanel;
+import javax.swing.JSlider;
+
+/**
+ * The controls to play, pause, seek and change the speed of the replay of a
+ * recording by a {@link ReplayRequestSender}. The controls only change the
+ * playback position of the sender, which is picked up by the next refresh.
+ * All the methods must be called on the event dispatch thread.
+ *
+ * @since  1.8.0
+ */
+public class ReplayControlPanel
+        extends JPanel
+    {
+    // ----- constructors ---------------------------------------------------
+
+    /**
+     * Construct the controls.
+     *
+     * @param requestSender  the {@link ReplayRequestSender} to control
+     * @param onChange       called when the playback position has been changed
+     *                       so the view can be refreshed without waiting
+     */
+    public ReplayControlPanel(ReplayRequestSender requestSender, Runnable onChange)
+        {
+        super(new BorderLayout());
+
+        f_requestSender = requestSender;
+        f_onChange      = onChange;
+
+        f_btnPlay = new JButton(Localization.getLocalText("LBL_replay_play"));
+        f_btnPlay.addActionListener(e ->
+            {
+            if (f_requestSender.isPlaying())
+                {
+                f_requestSender.pause();
+                }
+            else
+                {
+                f_requestSender.play();
+                }
+            changed();
+            });
+
+        f_slider = new JSlider(0, 0, 0);
+        f_slider.setToolTipText(Localization.getLocalText("TTIP_replay_position"));
+        f_slider.addChangeListener(e ->
+            {
+            // only seek once the user has released the slider
+            if (!m_fUpdating && !f_slider.getValueIsAdjusting())
+                {
+                f_requestSender.seek(f_requestSender.getReader().getStartTime() + f_slider.getValue() * 1000L);
+                changed();
+                }
+            });
+
+        String[] asSpeeds = new String[SPEEDS.length];
+        for (int i = 0; i < SPEEDS.length; i++)
+            {
+            asSpeeds[i] = (SPEEDS[i] == Math.rint(SPEEDS[i]) ? String.valueOf((long) SPEEDS[i])
+                                                              : String.valueOf(SPEEDS[i])) + "x";
+            }
+
+        f_comboSpeed = new JComboBox<>(asSpeeds);
+        f_comboSpeed.setSelectedIndex(DEFAULT_SPEED);
+        f_comboSpeed.addActionListener(e ->
+            {
+            f_requestSender.setSpeed(SPEEDS[f_comboSpeed.getSelectedIndex()]);
+            changed();
+            });
+
+        f_lblPosition = new JLabel();
+
+        JPanel pnlButtons = new JPanel(new FlowLayout(FlowLayout.LEFT));
+        pnlButtons.add(f_btnPlay);
+        pnlButtons.add(new JLabel(Localization.getLocalText("LBL_replay_speed")));
+        pnlButtons.add(f_comboSpeed);
+        pnlButtons.add(f_lblPosition);
+
+        add(pnlButtons, BorderLayout.WEST);
+        add(f_slider, BorderLayout.CENTER);
+
+        update();
+        }
+
+    // ----- ReplayControlPanel methods -------------------------------------
+
+    /**
+     * Update the controls from the playback position and the length of the
+     * recording, which grows if the recording is still in progress.
+     */
+    public void update()
+        {
+        ReplayRequestSender requestSender = f_requestSender;
+        long                ldtStart      = requestSender.getReader().getStartTime();
+        long                ldtEnd        = requestSender.getReader().getEndTime();
+        long                ldtPosition   = Math.max(ldtStart, Math.min(requestSender.getPosition(), ldtEnd));
+
+        f_btnPlay.setText(Localization.getLocalText(requestSender.isPlaying() ? "LBL_replay_pause" : "LBL_replay_play"));
+        f_lblPosition.setText(Localization.getLocalText("LBL_replay_position",
+                                                        f_dateFormat.format(new Date(ldtPosition)),
+                                                        f_dateFormat.format(new Date(ldtEnd))));
+
+        if (!f_slider.getValueIsAdjusting())
+            {
+            m_fUpdating = true;
+            try
+                {
+                f_slider.setMaximum((int) ((ldtEnd - ldtStart) / 1000L));
+                f_slider.setValue((int) ((ldtPosition - ldtStart) / 1000L));
+                }
+            finally
+                {
+                m_fUpdating = false;
+                }
+            }
+        }
+
+    // ----- helpers --------------------------------------------------------
+
+    /**
+     * Called when the user has changed the playback.
+     */
+    private void changed()
+        {
+        update();
+        f_onChange.run();
+        }
+
+    // ----- constants ------------------------------------------------------
+
+    private static final long serialVersionUID = 6120893614322471503L;
+
+    /**
+     * The playback speeds to choose from.
+     */
+    private static final double[] SPEEDS = {0.5d, 1.0d, 2.0d, 5.0d, 10.0d, 30.0d, 60.0d};
+
+    /**
+     * The index of the default playback speed.
+     */
+    private static final int DEFAULT_SPEED = 1;
+
+    // ----- data members ---------------------------------------------------
+
+    /**
+     * The sender replaying the recording.
+     */
+    private final ReplayRequestSender f_requestSender;
+
+    /**
+     * Called when the playback position has been changed.
+     */
+    private final Runnable f_onChange;
+
+    /**
+     * The play and pause button.
+     */
+    private final JButton f_btnPlay;
+
+    /**
+     * The playback position in seconds since the start of the recording.
+     */
+    private final JSlider f_slider;
+
+    /**
+     * The playback speed selection.
+     */
+    private final JComboBox<String> f_comboSpeed;
+
+    /**
+     * The playback position and end of the recording.
+     */
+    private final JLabel f_lblPosition;
+
+    /**
+     * The format of the playback position.
+     */
+    private final SimpleDateFormat f_dateFormat = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss");
+
+    /**
+     * True while the slider is updated from the playback position.
+     */
+    private boolean m_fUpdating;
+    }
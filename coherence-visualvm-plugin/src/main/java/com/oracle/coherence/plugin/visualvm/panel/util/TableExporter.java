@@ -0,0 +1,935 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.oracle.coherence.plugin.visualvm.panel.util;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import com.oracle.coherence.plugin.visualvm.Localization;
+import com.oracle.coherence.plugin.visualvm.helper.DialogHelper;
+import com.oracle.coherence.plugin.visualvm.tablemodel.AbstractCoherenceTableModel;
+
+import java.awt.Component;
+import java.awt.FlowLayout;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import javax.swing.BoxLayout;
+import javax.swing.JCheckBox;
+import javax.swing.JComboBox;
+import javax.swing.JDialog;
+import javax.swing.JLabel;
+import javax.swing.JOptionPane;
+import javax.swing.JPanel;
+import javax.swing.JProgressBar;
+import javax.swing.JTable;
+import javax.swing.SwingUtilities;
+import javax.swing.UIManager;
+
+import javax.swing.table.TableColumn;
+import javax.swing.table.TableColumnModel;
+import javax.swing.table.TableModel;
+
+import org.openide.util.RequestProcessor;
+
+/**
+ * Exports the data of one or more {@link JTable}s to a file on a background
+ * thread.
+ * <p>
+ * The rows of a table are captured on the event dispatch thread, which for an
+ * {@link AbstractCoherenceTableModel} only takes a reference to its immutable
+ * data list, and are then written through a buffered writer as CSV, TSV or
+ * JSON lines, optionally compressed with gzip. A progress dialog shows the
+ * progress of the export and allows it to be cancelled. Several
+ * tables can be written to a single zip archive in one pass.
+ *
+ * @since  1.8.0
+ */
+public class TableExporter
+    {
+    // ----- constructors ---------------------------------------------------
+
+    private TableExporter()
+        {
+        // cannot instantiate
+        }
+
+    // ----- TableExporter methods ------------------------------------------
+
+    /**
+     * Capture the rows of a table, in the order they are shown, so that they
+     * can be exported on another thread. Must be called on the event dispatch
+     * thread.
+     *
+     * @param table  the {@link JTable} to capture
+     * @param sName  the name of the table
+     *
+     * @return the captured {@link TableData}
+     */
+    @SuppressWarnings("unchecked")
+    public static TableData capture(JTable table, String sName)
+        {
+        TableModel       model       = table.getModel();
+        TableColumnModel columnModel = table.getColumnModel();
+        int              cColumns    = columnModel.getColumnCount();
+        String[]         asColumns   = new String[cColumns];
+        int[]            anColumns   = new int[cColumns];
+
+        for (int i = 0; i < cColumns; i++)
+            {
+            TableColumn column  = columnModel.getColumn(i);
+            Object      oHeader = column.getHeaderValue();
+
+            asColumns[i] = oHeader == null ? "" : oHeader.toString();
+            anColumns[i] = column.getModelIndex();
+            }
+
+        int   cRows  = table.getRowCount();
+        int[] anRows = new int[cRows];
+        for (int i = 0; i < cRows; i++)
+            {
+            anRows[i] = table.convertRowIndexToModel(i);
+            }
+
+        List<Object[]> listRows;
+        if (model instanceof AbstractCoherenceTableModel)
+            {
+            // the data list is never modified once set, so the values can be
+            // read from it on the export thread
+            AbstractCoherenceTableModel<Object, Object> tableModel = (AbstractCoherenceTableModel<Object, Object>) model;
+            List<Map.Entry<Object, Object>>             listData   = tableModel.getDataList();
+
+            listRows = new AbstractList<Object[]>()
+                {
+                @Override
+                public Object[] get(int nRow)
+                    {
+                    Map.Entry<Object, Object> entry  = listData.get(anRows[nRow]);
+                    Object[]                  aoRow  = new Object[cColumns];
+                    for (int i = 0; i < cColumns; i++)
+                        {
+                        aoRow[i] = tableModel.getValueAt(entry, anColumns[i]);
+                        }
+                    return aoRow;
+                    }
+
+                @Override
+                public int size()
+                    {
+                    return cRows;
+                    }
+                };
+            }
+        else
+            {
+            // other models may change at any time so copy the values
+            listRows = new ArrayList<>(cRows);
+            for (int nRow : anRows)
+                {
+                Object[] aoRow = new Object[cColumns];
+                for (int i = 0; i < cColumns; i++)
+                    {
+                    aoRow[i] = model.getValueAt(nRow, anColumns[i]);
+                    }
+                listRows.add(aoRow);
+                }
+            }
+
+        return new TableData(sName, asColumns, listRows);
+        }
+
+    /**
+     * Export a single table to a file on a background thread.
+     *
+     * @param parent  the parent {@link Component} of the progress monitor
+     * @param data    the {@link TableData} to export
+     * @param file    the {@link File} to write to
+     * @param format  the {@link Format} to write
+     * @param fGzip   true if the file should be compressed with gzip
+     */
+    public static void export(Component parent, TableData data, File file, Format format, boolean fGzip)
+        {
+        RequestProcessor.getDefault().post(
+                new ExportTask(parent, Collections.singletonList(data), file, format, fGzip, false));
+        }
+
+    /**
+     * Export several tables to a single zip archive on a background thread.
+     * Each table is written to its own entry named after the table.
+     *
+     * @param parent    the parent {@link Component} of the progress monitor
+     * @param listData  the {@link TableData} to export
+     * @param file      the {@link File} to write to
+     * @param format    the {@link Format} to write each table in
+     */
+    public static void exportAll(Component parent, List<TableData> listData, File file, Format format)
+        {
+        RequestProcessor.getDefault().post(new ExportTask(parent, listData, file, format, false, true));
+        }
+
+    /**
+     * Returns the file to export to, adding the extension of the format and
+     * of gzip if the file name does not already end with them.
+     *
+     * @param file        the selected {@link File}
+     * @param sExtension  the extension the file should have
+     * @param fGzip       true if the file is compressed with gzip
+     *
+     * @return the file to export to
+     */
+    public static File getExportFile(File file, String sExtension, boolean fGzip)
+        {
+        String sName = file.getName();
+        String sBase = fGzip && sName.endsWith(GZIP_SUFFIX)
+                       ? sName.substring(0, sName.length() - GZIP_SUFFIX.length())
+                       : sName;
+
+        if (!sBase.toLowerCase().endsWith("." + sExtension))
+            {
+            sBase += "." + sExtension;
+            }
+
+        String sResult = fGzip ? sBase + GZIP_SUFFIX : sBase;
+
+        return sResult.equals(sName) ? file : new File(file.getParentFile(), sResult);
+        }
+
+    /**
+     * Write the data of a table.
+     *
+     * @param data      the {@link TableData} to write
+     * @param format    the {@link Format} to write
+     * @param writer    the {@link Writer} to write to
+     * @param progress  the {@link Progress} to report to, may be null
+     *
+     * @return true if all the rows were written or false if the export was cancelled
+     *
+     * @throws IOException if the data could not be written
+     */
+    public static boolean write(TableData data, Format format, Writer writer, Progress progress)
+            throws IOException
+        {
+        String[]       asColumns = data.getColumnNames();
+        List<Object[]> listRows  = data.getRows();
+        int            cRows     = listRows.size();
+
+        if (format == Format.JSON)
+            {
+            JsonGenerator generator = JSON_FACTORY.createGenerator(writer);
+            generator.setRootValueSeparator(null);
+
+            for (int nRow = 0; nRow < cRows; nRow++)
+                {
+                if (nRow % PROGRESS_ROWS == 0 && !reportProgress(progress, nRow))
+                    {
+                    return false;
+                    }
+
+                Object[] aoRow = listRows.get(nRow);
+
+                generator.writeStartObject();
+                for (int i = 0; i < asColumns.length; i++)
+                    {
+                    generator.writeFieldName(asColumns[i]);
+                    writeJsonValue(generator, aoRow[i]);
+                    }
+                generator.writeEndObject();
+                generator.writeRaw('\n');
+                }
+
+            generator.close();
+            }
+        else
+            {
+            char chSeparator = format == Format.CSV ? ',' : '\t';
+
+            writeLine(writer, format, chSeparator, asColumns);
+            for (int nRow = 0; nRow < cRows; nRow++)
+                {
+                if (nRow % PROGRESS_ROWS == 0 && !reportProgress(progress, nRow))
+                    {
+                    return false;
+                    }
+                writeLine(writer, format, chSeparator, listRows.get(nRow));
+                }
+            }
+
+        reportProgress(progress, cRows);
+        writer.flush();
+        return true;
+        }
+
+    // ----- helpers --------------------------------------------------------
+
+    /**
+     * Report the number of rows written to a {@link Progress}.
+     *
+     * @param progress  the {@link Progress}, may be null
+     * @param cRows     the number of rows written of the current table
+     *
+     * @return false if the export was cancelled
+     */
+    private static boolean reportProgress(Progress progress, int cRows)
+        {
+        return progress == null || progress.rowsWritten(cRows);
+        }
+
+    /**
+     * Write a line of delimited values.
+     *
+     * @param writer       the {@link Writer} to write to
+     * @param format       the {@link Format}, either CSV or TSV
+     * @param chSeparator  the separator between values
+     * @param aoValues     the values to write
+     *
+     * @throws IOException if the line could not be written
+     */
+    private static void writeLine(Writer writer, Format format, char chSeparator, Object[] aoValues)
+            throws IOException
+        {
+        for (int i = 0; i < aoValues.length; i++)
+            {
+            if (i > 0)
+                {
+                writer.write(chSeparator);
+                }
+
+            Object oValue = aoValues[i];
+            if (oValue == null)
+                {
+                continue;
+                }
+
+            String sValue = oValue.toString();
+            if (format == Format.CSV)
+                {
+                writeCsvValue(writer, sValue);
+                }
+            else
+                {
+                writeTsvValue(writer, sValue);
+                }
+            }
+        writer.write(LF);
+        }
+
+    /**
+     * Write a CSV value, quoting it as described by RFC 4180 if it contains
+     * a comma, a quote or a line break.
+     *
+     * @param writer  the {@link Writer} to write to
+     * @param sValue  the value to write
+     *
+     * @throws IOException if the value could not be written
+     */
+    private static void writeCsvValue(Writer writer, String sValue)
+            throws IOException
+        {
+        int cch = sValue.length();
+        int i   = 0;
+        while (i < cch)
+            {
+            char ch = sValue.charAt(i);
+            if (ch == ',' || ch == '"' || ch == '\n' || ch == '\r')
+                {
+                break;
+                }
+            i++;
+            }
+
+        if (i == cch)
+            {
+            writer.write(sValue);
+            return;
+            }
+
+        writer.write('"');
+        int nStart = 0;
+        for (int nQuote = sValue.indexOf('"'); nQuote >= 0; nQuote = sValue.indexOf('"', nStart))
+            {
+            writer.write(sValue, nStart, nQuote + 1 - nStart);
+            writer.write('"');
+            nStart = nQuote + 1;
+            }
+        writer.write(sValue, nStart, cch - nStart);
+        writer.write('"');
+        }
+
+    /**
+     * Write a TSV value, escaping tabs, line breaks and backslashes as TSV
+     * does not allow values to be quoted.
+     *
+     * @param writer  the {@link Writer} to write to
+     * @param sValue  the value to write
+     *
+     * @throws IOException if the value could not be written
+     */
+    private static void writeTsvValue(Writer writer, String sValue)
+            throws IOException
+        {
+        int cch    = sValue.length();
+        int nStart = 0;
+        for (int i = 0; i < cch; i++)
+            {
+            char   ch       = sValue.charAt(i);
+            String sEscaped = ch == '\t' ? "\\t"
+                            : ch == '\n' ? "\\n"
+                            : ch == '\r' ? "\\r"
+                            : ch == '\\' ? "\\\\"
+                            : null;
+
+            if (sEscaped != null)
+                {
+                writer.write(sValue, nStart, i - nStart);
+                writer.write(sEscaped);
+                nStart = i + 1;
+                }
+            }
+        writer.write(sValue, nStart, cch - nStart);
+        }
+
+    /**
+     * Write a value as JSON, keeping numbers and booleans as JSON types.
+     *
+     * @param generator  the {@link JsonGenerator} to write to
+     * @param oValue     the value to write
+     *
+     * @throws IOException if the value could not be written
+     */
+    private static void writeJsonValue(JsonGenerator generator, Object oValue)
+            throws IOException
+        {
+        if (oValue == null)
+            {
+            generator.writeNull();
+            }
+        else if (oValue instanceof Integer || oValue instanceof Long
+                 || oValue instanceof Short || oValue instanceof Byte)
+            {
+            generator.writeNumber(((Number) oValue).longValue());
+            }
+        else if ((oValue instanceof Double || oValue instanceof Float)
+                 && Double.isFinite(((Number) oValue).doubleValue()))
+            {
+            generator.writeNumber(((Number) oValue).doubleValue());
+            }
+        else if (oValue instanceof BigDecimal)
+            {
+            generator.writeNumber((BigDecimal) oValue);
+            }
+        else if (oValue instanceof BigInteger)
+            {
+            generator.writeNumber((BigInteger) oValue);
+            }
+        else if (oValue instanceof Boolean)
+            {
+            generator.writeBoolean((Boolean) oValue);
+            }
+        else
+            {
+            generator.writeString(oValue.toString());
+            }
+        }
+
+    // ----- inner classes --------------------------------------------------
+
+    /**
+     * The formats the data can be exported as.
+     */
+    public enum Format
+        {
+        CSV("csv", "LBL_format_csv"),
+        TSV("tsv", "LBL_format_tsv"),
+        JSON("jsonl", "LBL_format_json");
+
+        // ----- constructors -----------------------------------------------
+
+        /**
+         * Construct a {@link Format}.
+         *
+         * @param sExtension  the file extension of the format
+         * @param sLabel      the key of the label of the format
+         */
+        Format(String sExtension, String sLabel)
+            {
+            f_sExtension = sExtension;
+            f_sLabel     = sLabel;
+            }
+
+        // ----- Format methods ---------------------------------------------
+
+        /**
+         * Returns the file extension of the format.
+         *
+         * @return the file extension of the format
+         */
+        public String getExtension()
+            {
+            return f_sExtension;
+            }
+
+        @Override
+        public String toString()
+            {
+            return Localization.getLocalText(f_sLabel);
+            }
+
+        // ----- data members -----------------------------------------------
+
+        /**
+         * The file extension of the format.
+         */
+        private final String f_sExtension;
+
+        /**
+         * The key of the label of the format.
+         */
+        private final String f_sLabel;
+        }
+
+    /**
+     * Receives the progress of an export.
+     */
+    public interface Progress
+        {
+        /**
+         * Called as rows of the current table are written.
+         *
+         * @param cRows  the number of rows of the current table written so far
+         *
+         * @return false if the export should be cancelled
+         */
+        boolean rowsWritten(int cRows);
+        }
+
+    /**
+     * The captured data of a table.
+     */
+    public static class TableData
+        {
+        // ----- constructors -----------------------------------------------
+
+        /**
+         * Construct a {@link TableData}.
+         *
+         * @param sName      the name of the table
+         * @param asColumns  the column names
+         * @param listRows   the rows, each holding a value per column
+         */
+        public TableData(String sName, String[] asColumns, List<Object[]> listRows)
+            {
+            f_sName     = sName;
+            f_asColumns = asColumns;
+            f_listRows  = listRows;
+            }
+
+        // ----- accessors --------------------------------------------------
+
+        /**
+         * Returns the name of the table.
+         *
+         * @return the name of the table
+         */
+        public String getName()
+            {
+            return f_sName;
+            }
+
+        /**
+         * Returns the column names.
+         *
+         * @return the column names
+         */
+        public String[] getColumnNames()
+            {
+            return f_asColumns;
+            }
+
+        /**
+         * Returns the rows.
+         *
+         * @return the rows
+         */
+        public List<Object[]> getRows()
+            {
+            return f_listRows;
+            }
+
+        // ----- data members -----------------------------------------------
+
+        /**
+         * The name of the table.
+         */
+        private final String f_sName;
+
+        /**
+         * The column names.
+         */
+        private final String[] f_asColumns;
+
+        /**
+         * The rows.
+         */
+        private final List<Object[]> f_listRows;
+        }
+
+    /**
+     * The options of an export shown as an accessory of a file chooser.
+     */
+    public static class ExportOptions
+            extends JPanel
+        {
+        // ----- constructors -----------------------------------------------
+
+        /**
+         * Construct the options.
+         *
+         * @param fGzip  true if the option to compress with gzip should be shown
+         */
+        public ExportOptions(boolean fGzip)
+            {
+            setLayout(new BoxLayout(this, BoxLayout.Y_AXIS));
+
+            JPanel pnlFormat = new JPanel(new FlowLayout(FlowLayout.LEFT));
+            f_comboFormat = new JComboBox<>(Format.values());
+            pnlFormat.add(new JLabel(Localization.getLocalText("LBL_export_format")));
+            pnlFormat.add(f_comboFormat);
+            add(pnlFormat);
+
+            f_chkGzip = new JCheckBox(Localization.getLocalText("LBL_export_gzip"));
+            f_chkGzip.setVisible(fGzip);
+            add(f_chkGzip);
+            }
+
+        // ----- accessors --------------------------------------------------
+
+        /**
+         * Returns the selected {@link Format}.
+         *
+         * @return the selected {@link Format}
+         */
+        public Format getFormat()
+            {
+            return (Format) f_comboFormat.getSelectedItem();
+            }
+
+        /**
+         * Returns true if the file should be compressed with gzip.
+         *
+         * @return true if the file should be compressed with gzip
+         */
+        public boolean isGzip()
+            {
+            return f_chkGzip.isVisible() && f_chkGzip.isSelected();
+            }
+
+        // ----- constants --------------------------------------------------
+
+        private static final long serialVersionUID = -3209612385237755417L;
+
+        // ----- data members -----------------------------------------------
+
+        /**
+         * The format selection.
+         */
+        private final JComboBox<Format> f_comboFormat;
+
+        /**
+         * The gzip option.
+         */
+        private final JCheckBox f_chkGzip;
+        }
+
+    /**
+     * Writes the captured tables to a file and reports the progress to a
+     * progress dialog. Cancelling or closing the dialog sets the cancelled
+     * flag directly, so the writer stops at the next batch of rows.
+     */
+    private static class ExportTask
+            implements Runnable, Progress
+        {
+        // ----- constructors -----------------------------------------------
+
+        /**
+         * Construct an {@link ExportTask}. Must be called on the event dispatch
+         * thread.
+         *
+         * @param parent    the parent {@link Component} of the progress monitor
+         * @param listData  the {@link TableData} to export
+         * @param file      the {@link File} to write to
+         * @param format    the {@link Format} to write
+         * @param fGzip     true if the file should be compressed with gzip
+         * @param fArchive  true if each table should be written to a zip entry
+         */
+        ExportTask(Component parent, List<TableData> listData, File file, Format format,
+                   boolean fGzip, boolean fArchive)
+            {
+            int cTotal = 0;
+            for (TableData data : listData)
+                {
+                cTotal += data.getRows().size();
+                }
+
+            f_listData = listData;
+            f_file     = file;
+            f_format   = format;
+            f_fGzip    = fGzip;
+            f_fArchive = fArchive;
+            f_progress = new JProgressBar(0, Math.max(1, cTotal));
+
+            JOptionPane pane = new JOptionPane(new Object[] {Localization.getLocalText("LBL_exporting", file.getName()),
+                                                             f_progress},
+                                               JOptionPane.INFORMATION_MESSAGE, JOptionPane.DEFAULT_OPTION, null,
+                                               new Object[] {UIManager.getString("OptionPane.cancelButtonText")});
+
+            // the value changes when the cancel button is pressed or the dialog is closed
+            pane.addPropertyChangeListener(JOptionPane.VALUE_PROPERTY, e -> m_fCancelled = true);
+
+            f_dialog = pane.createDialog(parent, UIManager.getString("ProgressMonitor.progressText"));
+            f_dialog.setModal(false);
+            f_dialog.setVisible(true);
+            }
+
+        // ----- Runnable methods -------------------------------------------
+
+        @Override
+        public void run()
+            {
+            boolean fComplete = false;
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(f_file.toPath()), BUFFER_SIZE))
+                {
+                fComplete = f_fArchive ? writeArchive(out) : writeFile(out);
+                }
+            catch (Exception e)
+                {
+                String sMessage = Localization.getLocalText("LBL_unable_to_save", f_file.toString(), e.getMessage());
+                LOGGER.log(Level.WARNING, sMessage, e);
+                SwingUtilities.invokeLater(() -> DialogHelper.showWarningDialog(sMessage));
+                }
+            finally
+                {
+                SwingUtilities.invokeLater(f_dialog::dispose);
+                }
+
+            if (!fComplete)
+                {
+                // do not leave a partial file behind
+                try
+                    {
+                    Files.deleteIfExists(f_file.toPath());
+                    }
+                catch (IOException e)
+                    {
+                    LOGGER.log(Level.WARNING, "Unable to delete " + f_file, e);
+                    }
+                }
+            }
+
+        // ----- Progress methods -------------------------------------------
+
+        @Override
+        public boolean rowsWritten(int cRows)
+            {
+            if (m_fCancelled)
+                {
+                return false;
+                }
+
+            int nProgress = m_cRowsDone + cRows;
+            SwingUtilities.invokeLater(() -> f_progress.setValue(nProgress));
+            return true;
+            }
+
+        // ----- helpers ----------------------------------------------------
+
+        /**
+         * Write a single table to the file.
+         *
+         * @param out  the {@link OutputStream} of the file
+         *
+         * @return false if the export was cancelled
+         *
+         * @throws IOException if the data could not be written
+         */
+        private boolean writeFile(OutputStream out)
+                throws IOException
+            {
+            OutputStream outData = f_fGzip ? new GZIPOutputStream(out, BUFFER_SIZE) : out;
+            Writer       writer  = new BufferedWriter(new OutputStreamWriter(outData, StandardCharsets.UTF_8), BUFFER_SIZE);
+
+            boolean fComplete = write(f_listData.get(0), f_format, writer, this);
+            writer.close();
+            return fComplete;
+            }
+
+        /**
+         * Write each table to its own entry of a zip archive.
+         *
+         * @param out  the {@link OutputStream} of the file
+         *
+         * @return false if the export was cancelled
+         *
+         * @throws IOException if the data could not be written
+         */
+        private boolean writeArchive(OutputStream out)
+                throws IOException
+            {
+            ZipOutputStream zip      = new ZipOutputStream(out, StandardCharsets.UTF_8);
+            Writer          writer   = new BufferedWriter(new OutputStreamWriter(zip, StandardCharsets.UTF_8), BUFFER_SIZE);
+            Set<String>     setNames = new HashSet<>();
+
+            for (TableData data : f_listData)
+                {
+                // make sure each entry has a unique name
+                String sName = data.getName();
+                for (int i = 2; !setNames.add(sName); i++)
+                    {
+                    sName = data.getName() + "-" + i;
+                    }
+
+                zip.putNextEntry(new ZipEntry(sName + "." + f_format.getExtension()));
+                if (!write(data, f_format, writer, this))
+                    {
+                    return false;
+                    }
+                zip.closeEntry();
+
+                m_cRowsDone += data.getRows().size();
+                }
+
+            writer.close();
+            return true;
+            }
+
+        // ----- data members -----------------------------------------------
+
+        /**
+         * The tables to export.
+         */
+        private final List<TableData> f_listData;
+
+        /**
+         * The file to write to.
+         */
+        private final File f_file;
+
+        /**
+         * The format to write.
+         */
+        private final Format f_format;
+
+        /**
+         * True if the file should be compressed with gzip.
+         */
+        private final boolean f_fGzip;
+
+        /**
+         * True if each table should be written to a zip entry.
+         */
+        private final boolean f_fArchive;
+
+        /**
+         * The progress dialog, only accessed on the event dispatch thread.
+         */
+        private final JDialog f_dialog;
+
+        /**
+         * The progress bar of the dialog, only accessed on the event dispatch
+         * thread.
+         */
+        private final JProgressBar f_progress;
+
+        /**
+         * The number of rows of the tables already written.
+         */
+        private int m_cRowsDone;
+
+        /**
+         * True if the export was cancelled, set by the progress dialog.
+         */
+        private volatile boolean m_fCancelled;
+        }
+
+    // ----- constants ------------------------------------------------------
+
+    /**
+     * The logger object to use.
+     */
+    private static final Logger LOGGER = Logger.getLogger(TableExporter.class.getName());
+
+    /**
+     * The factory for the JSON generators.
+     */
+    private static final JsonFactory JSON_FACTORY = new JsonFactory()
+            .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+    /**
+     * The line separator for the platform this process is running on.
+     */
+    private static final String LF = System.getProperty("line.separator");
+
+    /**
+     * The suffix of a gzip compressed file.
+     */
+    private static final String GZIP_SUFFIX = ".gz";
+
+    /**
+     * The size of the write buffers.
+     */
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * The number of rows written between progress updates.
+     */
+    private static final int PROGRESS_ROWS = 1000;
+    }
@@ -0,0 +1,326 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.oracle.coherence.plugin.visualvm.recording;
+
+import com.oracle.coherence.plugin.visualvm.VisualVMModel;
+
+import com.oracle.coherence.plugin.visualvm.tablemodel.model.AbstractData;
+import com.oracle.coherence.plugin.visualvm.tablemodel.model.Data;
+import com.oracle.coherence.plugin.visualvm.tablemodel.model.Pair;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+import java.nio.ByteBuffer;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.oracle.coherence.plugin.visualvm.recording.RecordingFormat.*;
+
+/**
+ * Decodes the refresh cycles of a segment written by a {@link RecordingEncoder}.
+ * <p>
+ * The cycles of a segment must be decoded in order starting from a key frame,
+ * and every dictionary record before the last decoded cycle must have been read.
+ *
+ * @since  1.8.0
+ */
+class RecordingDecoder
+    {
+    // ----- RecordingDecoder methods ---------------------------------------
+
+    /**
+     * Forget the dictionary and the previous cycle, which is done before
+     * decoding a different segment.
+     */
+    void reset()
+        {
+        f_listDictionary.clear();
+        resetCycles();
+        }
+
+    /**
+     * Forget the previous cycle but keep the dictionary, which is done before
+     * decoding from a key frame of the same segment.
+     */
+    void resetCycles()
+        {
+        f_mapPrevious.clear();
+        f_mapData.clear();
+        }
+
+    /**
+     * Add the strings of a dictionary record.
+     *
+     * @param buffer  the payload of the record
+     */
+    void readDictionary(ByteBuffer buffer)
+        {
+        for (long i = 0, c = readVarLong(buffer); i < c; i++)
+            {
+            f_listDictionary.add(readUTF(buffer));
+            }
+        }
+
+    /**
+     * Returns the number of strings in the dictionary.
+     *
+     * @return the number of strings in the dictionary
+     */
+    int getDictionarySize()
+        {
+        return f_listDictionary.size();
+        }
+
+    /**
+     * Returns the time of a cycle record without decoding it.
+     *
+     * @param buffer  the payload of the record, which is not consumed
+     *
+     * @return the time of the cycle
+     */
+    static long readCycleTime(ByteBuffer buffer)
+        {
+        return buffer.getLong(buffer.position());
+        }
+
+    /**
+     * Returns true if a cycle record is a key frame without decoding it.
+     *
+     * @param buffer  the payload of the record, which is not consumed
+     *
+     * @return true if the cycle is a key frame
+     */
+    static boolean isKeyframe(ByteBuffer buffer)
+        {
+        return buffer.get(buffer.position() + 8) != 0;
+        }
+
+    /**
+     * Decode a cycle record.
+     *
+     * @param buffer  the payload of the record
+     *
+     * @return the data of each type in the cycle
+     */
+    Map<VisualVMModel.DataType, List<Map.Entry<Object, Data>>> readCycle(ByteBuffer buffer)
+        {
+        buffer.getLong();
+        boolean fKeyframe = buffer.get() != 0;
+        if (fKeyframe)
+            {
+            resetCycles();
+            }
+
+        Map<VisualVMModel.DataType, List<Map.Entry<Object, Data>>> mapData = new EnumMap<>(VisualVMModel.DataType.class);
+        Map<VisualVMModel.DataType, Map<Object, Data>>             mapRows = new EnumMap<>(VisualVMModel.DataType.class);
+
+        for (long nType = 0, cTypes = readVarLong(buffer); nType < cTypes; nType++)
+            {
+            VisualVMModel.DataType type = getDataType(f_listDictionary.get((int) readVarLong(buffer)));
+
+            if (buffer.get() == DATA_UNCHANGED)
+                {
+                if (type != null && f_mapData.containsKey(type))
+                    {
+                    mapData.put(type, f_mapData.get(type));
+                    mapRows.put(type, f_mapPrevious.get(type));
+                    }
+                continue;
+                }
+
+            Map<Object, Data>             mapPrevious = f_mapPrevious.get(type);
+            int                           cRows       = (int) readVarLong(buffer);
+            List<Map.Entry<Object, Data>> listRows    = new ArrayList<>(cRows);
+            Map<Object, Data>             mapCurrent  = new HashMap<>(cRows * 2);
+
+            for (int nRow = 0; nRow < cRows; nRow++)
+                {
+                Object       key      = readValue(buffer, null);
+                Data         previous = mapPrevious == null ? null : mapPrevious.get(key);
+                int          cColumns = (int) readVarLong(buffer);
+                AbstractData data     = newData(type);
+                int          cMax     = data == null ? 0 : data.getColumnCount();
+
+                for (int i = 0; i < cColumns; i++)
+                    {
+                    Object oValue = readValue(buffer, previous == null || i >= cMax ? null : previous.getColumn(i));
+                    if (i < cMax)
+                        {
+                        data.setColumn(i, oValue);
+                        }
+                    }
+
+                if (data != null)
+                    {
+                    listRows.add(new AbstractMap.SimpleImmutableEntry<>(key, data));
+                    mapCurrent.put(key, data);
+                    }
+                }
+
+            if (type != null)
+                {
+                mapData.put(type, listRows);
+                mapRows.put(type, mapCurrent);
+                }
+            }
+
+        f_mapData.clear();
+        f_mapData.putAll(mapData);
+        f_mapPrevious.clear();
+        f_mapPrevious.putAll(mapRows);
+
+        return mapData;
+        }
+
+    // ----- helpers --------------------------------------------------------
+
+    /**
+     * Read a value.
+     *
+     * @param buffer     the {@link ByteBuffer} to read from
+     * @param oPrevious  the value of the previous cycle
+     *
+     * @return the value
+     */
+    private Object readValue(ByteBuffer buffer, Object oPrevious)
+        {
+        byte bTag = buffer.get();
+        switch (bTag)
+            {
+            case T_NULL:
+                return null;
+            case T_INT:
+                return (int) readSignedVarLong(buffer);
+            case T_LONG:
+                return readSignedVarLong(buffer);
+            case T_FLOAT:
+                return Float.intBitsToFloat(buffer.getInt());
+            case T_DOUBLE:
+                return Double.longBitsToDouble(buffer.getLong());
+            case T_STRING:
+                return f_listDictionary.get((int) readVarLong(buffer));
+            case T_STRING_INLINE:
+                return readUTF(buffer);
+            case T_TRUE:
+                return Boolean.TRUE;
+            case T_FALSE:
+                return Boolean.FALSE;
+            case T_PAIR:
+                return new Pair<>(readValue(buffer, null), readValue(buffer, null));
+            case T_DATE:
+                return new Date(buffer.getLong());
+            case T_SHORT:
+                return (short) readSignedVarLong(buffer);
+            case T_BYTE:
+                return buffer.get();
+            case T_BIG_INTEGER:
+                return new BigInteger(readUTF(buffer));
+            case T_BIG_DECIMAL:
+                return new BigDecimal(readUTF(buffer));
+            case T_SAME:
+                return oPrevious;
+            case T_INT_DELTA:
+                {
+                long lDelta = readSignedVarLong(buffer);
+                return oPrevious instanceof Integer ? (int) ((Integer) oPrevious + lDelta) : null;
+                }
+            case T_LONG_DELTA:
+                {
+                long lDelta = readSignedVarLong(buffer);
+                return oPrevious instanceof Long ? (Long) oPrevious + lDelta : null;
+                }
+            default:
+                throw new IllegalStateException("Invalid value tag " + bTag);
+            }
+        }
+
+    /**
+     * Returns the {@link VisualVMModel.DataType} with the given name.
+     *
+     * @param sName  the name of the type
+     *
+     * @return the type or null if this version does not have it
+     */
+    private static VisualVMModel.DataType getDataType(String sName)
+        {
+        try
+            {
+            return VisualVMModel.DataType.valueOf(sName);
+            }
+        catch (IllegalArgumentException e)
+            {
+            return null;
+            }
+        }
+
+    /**
+     * Create an empty row of the given type.
+     *
+     * @param type  the {@link VisualVMModel.DataType} or null
+     *
+     * @return the new row or null if the type is unknown
+     */
+    private static AbstractData newData(VisualVMModel.DataType type)
+        {
+        if (type == null)
+            {
+            return null;
+            }
+
+        try
+            {
+            return (AbstractData) type.getClassName().getDeclaredConstructor().newInstance();
+            }
+        catch (ReflectiveOperationException e)
+            {
+            throw new IllegalStateException("Unable to create " + type.getClassName(), e);
+            }
+        }
+
+    // ----- data members ---------------------------------------------------
+
+    /**
+     * The dictionary of the segment.
+     */
+    private final List<String> f_listDictionary = new ArrayList<>();
+
+    /**
+     * The rows of the previous cycle of each type, by row key.
+     */
+    private final Map<VisualVMModel.DataType, Map<Object, Data>> f_mapPrevious = new EnumMap<>(VisualVMModel.DataType.class);
+
+    /**
+     * The data of each type in the previous cycle.
+     */
+    private final Map<VisualVMModel.DataType, List<Map.Entry<Object, Data>>> f_mapData = new EnumMap<>(VisualVMModel.DataType.class);
+    }
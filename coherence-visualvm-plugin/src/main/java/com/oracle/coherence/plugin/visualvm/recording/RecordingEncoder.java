@@ -0,0 +1,360 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.oracle.coherence.plugin.visualvm.recording;
+
+import com.oracle.coherence.plugin.visualvm.ModelSnapshot;
+import com.oracle.coherence.plugin.visualvm.VisualVMModel;
+
+import com.oracle.coherence.plugin.visualvm.tablemodel.model.AbstractData;
+import com.oracle.coherence.plugin.visualvm.tablemodel.model.Data;
+import com.oracle.coherence.plugin.visualvm.tablemodel.model.Pair;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import static com.oracle.coherence.plugin.visualvm.recording.RecordingFormat.*;
+
+/**
+ * Encodes the refresh cycles of a segment.
+ * <p>
+ * Strings are replaced by their index in a dictionary which is written to
+ * the segment as new strings are seen. A column value which has not changed
+ * since the previous cycle for the same row key is written as a single byte
+ * and int and long values are written as the difference to the previous
+ * cycle, while the data of a type which has not been refreshed at all since
+ * the previous cycle is skipped. A key frame holds every value in full so a
+ * reader can start decoding from it.
+ *
+ * @since  1.8.0
+ */
+class RecordingEncoder
+    {
+    // ----- RecordingEncoder methods ---------------------------------------
+
+    /**
+     * Forget the dictionary and the previous cycle, which is done when a new
+     * segment is started.
+     */
+    void reset()
+        {
+        f_mapDictionary.clear();
+        f_mapPrevious.clear();
+        f_mapVersions.clear();
+        }
+
+    /**
+     * Encode a refresh cycle and append its records to the given output.
+     *
+     * @param snapshot   the {@link ModelSnapshot} of the cycle
+     * @param fKeyframe  true if every value should be written in full
+     * @param out        the {@link Output} to append the records to
+     */
+    void encode(ModelSnapshot snapshot, boolean fKeyframe, Output out)
+        {
+        Output cycle = f_outCycle;
+        cycle.reset();
+        f_listNewStrings.clear();
+
+        cycle.writeLong(snapshot.getTimestamp());
+        cycle.writeByte(fKeyframe ? 1 : 0);
+
+        Map<VisualVMModel.DataType, List<Map.Entry<Object, Data>>> mapData = new EnumMap<>(VisualVMModel.DataType.class);
+        for (VisualVMModel.DataType type : snapshot.getDataTypes())
+            {
+            mapData.put(type, snapshot.getData(type));
+            }
+
+        // types without data are not carried over to the next cycle
+        f_mapPrevious.keySet().retainAll(mapData.keySet());
+        f_mapVersions.keySet().retainAll(mapData.keySet());
+
+        cycle.writeVarLong(mapData.size());
+        for (Map.Entry<VisualVMModel.DataType, List<Map.Entry<Object, Data>>> entryType : mapData.entrySet())
+            {
+            VisualVMModel.DataType type     = entryType.getKey();
+            long                   nVersion = snapshot.getDataVersion(type);
+
+            cycle.writeVarLong(getStringId(type.name()));
+
+            if (!fKeyframe && Long.valueOf(nVersion).equals(f_mapVersions.get(type)))
+                {
+                cycle.writeByte(DATA_UNCHANGED);
+                continue;
+                }
+
+            List<Map.Entry<Object, Data>> listRows    = entryType.getValue();
+            Map<Object, Data>             mapPrevious = fKeyframe ? null : f_mapPrevious.get(type);
+            Map<Object, Data>             mapCurrent  = new HashMap<>(listRows.size() * 2);
+
+            cycle.writeByte(DATA_ROWS);
+            cycle.writeVarLong(listRows.size());
+            for (Map.Entry<Object, Data> entry : listRows)
+                {
+                Object key      = entry.getKey();
+                Data   data     = entry.getValue();
+                Data   previous = mapPrevious == null ? null : mapPrevious.get(key);
+                int    cColumns = data instanceof AbstractData ? ((AbstractData) data).getColumnCount() : 0;
+
+                writeValue(cycle, key);
+                cycle.writeVarLong(cColumns);
+                for (int i = 0; i < cColumns; i++)
+                    {
+                    if (previous != null)
+                        {
+                        writeColumn(cycle, data, previous, i);
+                        }
+                    else
+                        {
+                        writeValue(cycle, data.getColumn(i));
+                        }
+                    }
+
+                mapCurrent.put(key, data);
+                }
+
+            f_mapPrevious.put(type, mapCurrent);
+            f_mapVersions.put(type, nVersion);
+            }
+
+        // the strings first seen in this cycle must be known before it is read
+        List<String> listNewStrings = f_listNewStrings;
+        if (!listNewStrings.isEmpty())
+            {
+            Output dictionary = f_outDictionary;
+            dictionary.reset();
+            dictionary.writeVarLong(listNewStrings.size());
+            for (String s : listNewStrings)
+                {
+                dictionary.writeUTF(s);
+                }
+            out.writeRecord(RECORD_DICTIONARY, dictionary);
+            }
+
+        out.writeRecord(RECORD_CYCLE, cycle);
+        }
+
+    // ----- helpers --------------------------------------------------------
+
+    /**
+     * Write the value of a column relative to its value in the previous cycle.
+     * The type tag is taken from the value, and int and long values are read
+     * using the typed accessors of the {@link Data}.
+     *
+     * @param out       the {@link Output} to write to
+     * @param data      the row
+     * @param previous  the row in the previous cycle
+     * @param nColumn   the column to write
+     */
+    private void writeColumn(Output out, Data data, Data previous, int nColumn)
+        {
+        Object oValue    = data.getColumn(nColumn);
+        Object oPrevious = previous.getColumn(nColumn);
+
+        if (Objects.equals(oValue, oPrevious))
+            {
+            out.writeByte(T_SAME);
+            }
+        else if (oValue instanceof Integer && oPrevious instanceof Integer)
+            {
+            out.writeByte(T_INT_DELTA);
+            out.writeSignedVarLong(data.getLong(nColumn) - previous.getLong(nColumn));
+            }
+        else if (oValue instanceof Long && oPrevious instanceof Long)
+            {
+            out.writeByte(T_LONG_DELTA);
+            out.writeSignedVarLong(data.getLong(nColumn) - previous.getLong(nColumn));
+            }
+        else
+            {
+            writeValue(out, oValue);
+            }
+        }
+
+    /**
+     * Write a value in full.
+     *
+     * @param out     the {@link Output} to write to
+     * @param oValue  the value
+     */
+    private void writeValue(Output out, Object oValue)
+        {
+        if (oValue == null)
+            {
+            out.writeByte(T_NULL);
+            }
+        else if (oValue instanceof Integer)
+            {
+            out.writeByte(T_INT);
+            out.writeSignedVarLong((Integer) oValue);
+            }
+        else if (oValue instanceof Long)
+            {
+            out.writeByte(T_LONG);
+            out.writeSignedVarLong((Long) oValue);
+            }
+        else if (oValue instanceof Float)
+            {
+            out.writeByte(T_FLOAT);
+            out.writeInt(Float.floatToRawIntBits((Float) oValue));
+            }
+        else if (oValue instanceof Double)
+            {
+            out.writeByte(T_DOUBLE);
+            out.writeLong(Double.doubleToRawLongBits((Double) oValue));
+            }
+        else if (oValue instanceof Boolean)
+            {
+            out.writeByte((Boolean) oValue ? T_TRUE : T_FALSE);
+            }
+        else if (oValue instanceof Pair)
+            {
+            Pair<?, ?> pair = (Pair<?, ?>) oValue;
+            out.writeByte(T_PAIR);
+            writeValue(out, pair.getX());
+            writeValue(out, pair.getY());
+            }
+        else if (oValue instanceof Date)
+            {
+            out.writeByte(T_DATE);
+            out.writeLong(((Date) oValue).getTime());
+            }
+        else if (oValue instanceof Short)
+            {
+            out.writeByte(T_SHORT);
+            out.writeSignedVarLong((Short) oValue);
+            }
+        else if (oValue instanceof Byte)
+            {
+            out.writeByte(T_BYTE);
+            out.writeByte((Byte) oValue);
+            }
+        else if (oValue instanceof BigInteger)
+            {
+            out.writeByte(T_BIG_INTEGER);
+            out.writeUTF(oValue.toString());
+            }
+        else if (oValue instanceof BigDecimal)
+            {
+            out.writeByte(T_BIG_DECIMAL);
+            out.writeUTF(oValue.toString());
+            }
+        else if (oValue instanceof Number)
+            {
+            // keep any other number numeric, so it still renders and sorts as one when replayed
+            out.writeByte(T_DOUBLE);
+            out.writeLong(Double.doubleToRawLongBits(((Number) oValue).doubleValue()));
+            }
+        else
+            {
+            // any other value, such as an array or composite data, is only
+            // ever displayed as text so is recorded as its string form
+            String s = oValue.toString();
+            if (s.length() <= MAX_DICTIONARY_STRING && f_mapDictionary.size() < MAX_DICTIONARY_SIZE)
+                {
+                out.writeByte(T_STRING);
+                out.writeVarLong(getStringId(s));
+                }
+            else
+                {
+                out.writeByte(T_STRING_INLINE);
+                out.writeUTF(s);
+                }
+            }
+        }
+
+    /**
+     * Returns the dictionary index of a string, adding it to the dictionary
+     * if required.
+     *
+     * @param s  the string
+     *
+     * @return the dictionary index of the string
+     */
+    private int getStringId(String s)
+        {
+        Integer nId = f_mapDictionary.get(s);
+        if (nId == null)
+            {
+            nId = f_mapDictionary.size();
+            f_mapDictionary.put(s, nId);
+            f_listNewStrings.add(s);
+            }
+        return nId;
+        }
+
+    // ----- constants ------------------------------------------------------
+
+    /**
+     * The longest string which is added to the dictionary.
+     */
+    private static final int MAX_DICTIONARY_STRING = 256;
+
+    /**
+     * The maximum number of strings in the dictionary of a segment, which
+     * stops values that never repeat from growing it without bound.
+     */
+    private static final int MAX_DICTIONARY_SIZE = 1 << 18;
+
+    // ----- data members ---------------------------------------------------
+
+    /**
+     * The index of each string in the dictionary of the segment.
+     */
+    private final Map<String, Integer> f_mapDictionary = new HashMap<>();
+
+    /**
+     * The strings added to the dictionary by the cycle being encoded.
+     */
+    private final List<String> f_listNewStrings = new ArrayList<>();
+
+    /**
+     * The rows of the previous cycle of each type, by row key.
+     */
+    private final Map<VisualVMModel.DataType, Map<Object, Data>> f_mapPrevious = new EnumMap<>(VisualVMModel.DataType.class);
+
+    /**
+     * The data version of each type when it was last written.
+     */
+    private final Map<VisualVMModel.DataType, Long> f_mapVersions = new EnumMap<>(VisualVMModel.DataType.class);
+
+    /**
+     * The buffer the cycle is encoded into.
+     */
+    private final Output f_outCycle = new Output();
+
+    /**
+     * The buffer the new dictionary strings are encoded into.
+     */
+    private final Output f_outDictionary = new Output();
+    }
@@ -0,0 +1,410 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.oracle.coherence.plugin.visualvm.recording;
+
+import java.nio.ByteBuffer;
+
+import java.nio.charset.StandardCharsets;
+
+import java.util.Arrays;
+
+/**
+ * The constants and primitive encodings of the segment files written by the
+ * {@link SnapshotRecorder}.
+ * <p>
+ * A segment file starts with a header holding {@link #MAGIC}, {@link #VERSION},
+ * the time the segment was created and the name and version of the cluster.
+ * It is followed by records, each made of a one byte record type, a four byte
+ * payload length and the payload, so a reader can skip records it does not
+ * need. A {@link #RECORD_DICTIONARY} record adds strings to the dictionary of
+ * the segment and a {@link #RECORD_CYCLE} record holds the data of one refresh
+ * cycle.
+ *
+ * @since  1.8.0
+ */
+final class RecordingFormat
+    {
+    // ----- constructors ---------------------------------------------------
+
+    private RecordingFormat()
+        {
+        // cannot instantiate
+        }
+
+    // ----- helpers --------------------------------------------------------
+
+    /**
+     * Read a variable length unsigned long.
+     *
+     * @param buffer  the {@link ByteBuffer} to read from
+     *
+     * @return the value
+     */
+    static long readVarLong(ByteBuffer buffer)
+        {
+        long lValue = 0L;
+        for (int nShift = 0; ; nShift += 7)
+            {
+            byte b = buffer.get();
+            lValue |= (long) (b & 0x7F) << nShift;
+            if (b >= 0)
+                {
+                return lValue;
+                }
+            }
+        }
+
+    /**
+     * Read a variable length zig-zag encoded signed long.
+     *
+     * @param buffer  the {@link ByteBuffer} to read from
+     *
+     * @return the value
+     */
+    static long readSignedVarLong(ByteBuffer buffer)
+        {
+        long lValue = readVarLong(buffer);
+        return (lValue >>> 1) ^ -(lValue & 1);
+        }
+
+    /**
+     * Read a string written by {@link Output#writeUTF(String)}.
+     *
+     * @param buffer  the {@link ByteBuffer} to read from
+     *
+     * @return the string
+     */
+    static String readUTF(ByteBuffer buffer)
+        {
+        int    cb = (int) readVarLong(buffer);
+        byte[] ab = new byte[cb];
+        buffer.get(ab);
+        return new String(ab, StandardCharsets.UTF_8);
+        }
+
+    // ----- inner classes --------------------------------------------------
+
+    /**
+     * A growable output buffer for encoding records.
+     */
+    static final class Output
+        {
+        // ----- Output methods ---------------------------------------------
+
+        /**
+         * Write a byte.
+         *
+         * @param b  the byte to write
+         */
+        void writeByte(int b)
+            {
+            ensure(1);
+            m_ab[m_cb++] = (byte) b;
+            }
+
+        /**
+         * Write a fixed length int.
+         *
+         * @param n  the int to write
+         */
+        void writeInt(int n)
+            {
+            ensure(4);
+            byte[] ab = m_ab;
+            int    of = m_cb;
+            ab[of]     = (byte) (n >>> 24);
+            ab[of + 1] = (byte) (n >>> 16);
+            ab[of + 2] = (byte) (n >>> 8);
+            ab[of + 3] = (byte) n;
+            m_cb = of + 4;
+            }
+
+        /**
+         * Write a fixed length long.
+         *
+         * @param l  the long to write
+         */
+        void writeLong(long l)
+            {
+            writeInt((int) (l >>> 32));
+            writeInt((int) l);
+            }
+
+        /**
+         * Write a variable length unsigned long.
+         *
+         * @param l  the long to write
+         */
+        void writeVarLong(long l)
+            {
+            ensure(10);
+            byte[] ab = m_ab;
+            int    of = m_cb;
+            while ((l & ~0x7FL) != 0L)
+                {
+                ab[of++] = (byte) ((l & 0x7F) | 0x80);
+                l >>>= 7;
+                }
+            ab[of++] = (byte) l;
+            m_cb = of;
+            }
+
+        /**
+         * Write a variable length zig-zag encoded signed long, so that small
+         * negative values are as compact as small positive ones.
+         *
+         * @param l  the long to write
+         */
+        void writeSignedVarLong(long l)
+            {
+            writeVarLong((l << 1) ^ (l >> 63));
+            }
+
+        /**
+         * Write a string as its UTF-8 length and bytes.
+         *
+         * @param s  the string to write
+         */
+        void writeUTF(String s)
+            {
+            byte[] ab = s.getBytes(StandardCharsets.UTF_8);
+            writeVarLong(ab.length);
+            writeBytes(ab, 0, ab.length);
+            }
+
+        /**
+         * Write a range of bytes.
+         *
+         * @param ab  the bytes
+         * @param of  the offset of the first byte
+         * @param cb  the number of bytes
+         */
+        void writeBytes(byte[] ab, int of, int cb)
+            {
+            ensure(cb);
+            System.arraycopy(ab, of, m_ab, m_cb, cb);
+            m_cb += cb;
+            }
+
+        /**
+         * Write a record holding the contents of another buffer.
+         *
+         * @param nType    the record type
+         * @param payload  the payload of the record
+         */
+        void writeRecord(int nType, Output payload)
+            {
+            writeByte(nType);
+            writeInt(payload.m_cb);
+            writeBytes(payload.m_ab, 0, payload.m_cb);
+            }
+
+        /**
+         * Returns the number of bytes written.
+         *
+         * @return the number of bytes written
+         */
+        int size()
+            {
+            return m_cb;
+            }
+
+        /**
+         * Discard the bytes written so the buffer can be reused.
+         */
+        void reset()
+            {
+            m_cb = 0;
+            }
+
+        /**
+         * Returns a {@link ByteBuffer} over the bytes written.
+         *
+         * @return a {@link ByteBuffer} over the bytes written
+         */
+        ByteBuffer toByteBuffer()
+            {
+            return ByteBuffer.wrap(m_ab, 0, m_cb);
+            }
+
+        /**
+         * Ensure there is room for a number of bytes.
+         *
+         * @param cb  the number of bytes
+         */
+        private void ensure(int cb)
+            {
+            if (m_cb + cb > m_ab.length)
+                {
+                m_ab = Arrays.copyOf(m_ab, Math.max(m_ab.length * 2, m_cb + cb));
+                }
+            }
+
+        // ----- data members -----------------------------------------------
+
+        /**
+         * The bytes written.
+         */
+        private byte[] m_ab = new byte[4096];
+
+        /**
+         * The number of bytes written.
+         */
+        private int m_cb;
+        }
+
+    // ----- constants ------------------------------------------------------
+
+    /**
+     * The magic number at the start of a segment file.
+     */
+    static final int MAGIC = 0x43565231;
+
+    /**
+     * The version of the segment file format.
+     */
+    static final short VERSION = 2;
+
+    /**
+     * The prefix of the name of a segment file.
+     */
+    static final String SEGMENT_PREFIX = "segment-";
+
+    /**
+     * The suffix of the name of a segment file.
+     */
+    static final String SEGMENT_SUFFIX = ".cvr";
+
+    /**
+     * A record which adds strings to the dictionary of the segment.
+     */
+    static final byte RECORD_DICTIONARY = 1;
+
+    /**
+     * A record which holds the data of a refresh cycle.
+     */
+    static final byte RECORD_CYCLE = 2;
+
+    /**
+     * The data of a type has not changed since the previous cycle.
+     */
+    static final byte DATA_UNCHANGED = 0;
+
+    /**
+     * The rows of the data of a type follow.
+     */
+    static final byte DATA_ROWS = 1;
+
+    /**
+     * A null value.
+     */
+    static final byte T_NULL = 0;
+
+    /**
+     * An int value.
+     */
+    static final byte T_INT = 1;
+
+    /**
+     * A long value.
+     */
+    static final byte T_LONG = 2;
+
+    /**
+     * A float value.
+     */
+    static final byte T_FLOAT = 3;
+
+    /**
+     * A double value.
+     */
+    static final byte T_DOUBLE = 4;
+
+    /**
+     * A string held in the dictionary.
+     */
+    static final byte T_STRING = 5;
+
+    /**
+     * A string written in place.
+     */
+    static final byte T_STRING_INLINE = 6;
+
+    /**
+     * A true boolean value.
+     */
+    static final byte T_TRUE = 7;
+
+    /**
+     * A false boolean value.
+     */
+    static final byte T_FALSE = 8;
+
+    /**
+     * A pair of values.
+     */
+    static final byte T_PAIR = 9;
+
+    /**
+     * A date as milliseconds since the epoch.
+     */
+    static final byte T_DATE = 10;
+
+    /**
+     * The same value as the previous cycle.
+     */
+    static final byte T_SAME = 11;
+
+    /**
+     * An int value as the difference to the previous cycle.
+     */
+    static final byte T_INT_DELTA = 12;
+
+    /**
+     * A long value as the difference to the previous cycle.
+     */
+    static final byte T_LONG_DELTA = 13;
+
+    /**
+     * A short value, since version 2.
+     */
+    static final byte T_SHORT = 14;
+
+    /**
+     * A byte value, since version 2.
+     */
+    static final byte T_BYTE = 15;
+
+    /**
+     * A {@link java.math.BigInteger} value in its string form, since version 2.
+     */
+    static final byte T_BIG_INTEGER = 16;
+
+    /**
+     * A {@link java.math.BigDecimal} value in its string form, since version 2.
+     */
+    static final byte T_BIG_DECIMAL = 17;
+    }
@@ -0,0 +1,625 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.oracle.coherence.plugin.visualvm.recording;
+
+import com.oracle.coherence.plugin.visualvm.VisualVMModel;
+
+import com.oracle.coherence.plugin.visualvm.tablemodel.model.Data;
+
+import java.io.File;
+import java.io.IOException;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+import java.nio.file.StandardOpenOption;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import static com.oracle.coherence.plugin.visualvm.recording.RecordingFormat.*;
+
+/**
+ * Reads the refresh cycles recorded by a {@link SnapshotRecorder}.
+ * <p>
+ * The segments of the recording are memory-mapped and indexed by
+ * {@link #refresh()}, which skips from record header to record header so only
+ * the pages holding the headers are touched. The index holds the time, location
+ * and preceding key frame of each cycle, which means reading any cycle only
+ * decodes the dictionary of its segment and the cycles since the key frame
+ * before it, regardless of the size of the recording. Cycles read in order are
+ * decoded incrementally.
+ * <p>
+ * Calling {@link #refresh()} again picks up the cycles written since, if the
+ * recording is still in progress.
+ *
+ * @since  1.8.0
+ */
+public class RecordingReader
+    {
+    // ----- constructors ---------------------------------------------------
+
+    /**
+     * Construct a reader for the recording in a directory. The recording is
+     * indexed by calling {@link #refresh()}.
+     *
+     * @param dir  the directory holding the segments
+     */
+    public RecordingReader(File dir)
+        {
+        f_dir = dir;
+        }
+
+    // ----- RecordingReader methods ----------------------------------------
+
+    /**
+     * Returns true if a directory holds a recording.
+     *
+     * @param dir  the directory
+     *
+     * @return true if the directory holds at least one segment
+     */
+    public static boolean isRecording(File dir)
+        {
+        return dir != null && !SnapshotRecorder.listSegments(dir).isEmpty();
+        }
+
+    /**
+     * Index the segments and the cycles which have been written since the
+     * recording was last indexed.
+     *
+     * @return true if any cycles were added to the index
+     *
+     * @throws IOException if a segment could not be mapped
+     */
+    public synchronized boolean refresh()
+            throws IOException
+        {
+        int cCycles = m_cCycles;
+
+        Segment segmentLast = f_listSegments.isEmpty() ? null : f_listSegments.get(f_listSegments.size() - 1);
+        for (File file : SnapshotRecorder.listSegments(f_dir))
+            {
+            if (segmentLast != null && file.getName().compareTo(segmentLast.f_file.getName()) < 0)
+                {
+                // indexed already or deleted by the retention of the recorder
+                continue;
+                }
+
+            Segment segment;
+            if (segmentLast != null && file.equals(segmentLast.f_file))
+                {
+                segment = segmentLast;
+                }
+            else
+                {
+                segment = new Segment(file, f_listSegments.size());
+                f_listSegments.add(segment);
+                }
+
+            if (segment.map())
+                {
+                index(segment);
+                }
+            }
+
+        return m_cCycles > cCycles;
+        }
+
+    /**
+     * Returns the directory of the recording.
+     *
+     * @return the directory of the recording
+     */
+    public File getDirectory()
+        {
+        return f_dir;
+        }
+
+    /**
+     * Returns the name of the recorded cluster.
+     *
+     * @return the name of the recorded cluster
+     */
+    public synchronized String getClusterName()
+        {
+        return m_sClusterName;
+        }
+
+    /**
+     * Returns the version of the recorded cluster.
+     *
+     * @return the version of the recorded cluster
+     */
+    public synchronized String getClusterVersion()
+        {
+        return m_sClusterVersion;
+        }
+
+    /**
+     * Returns the number of cycles in the recording.
+     *
+     * @return the number of cycles in the recording
+     */
+    public synchronized int getCycleCount()
+        {
+        return m_cCycles;
+        }
+
+    /**
+     * Returns the time of the first cycle.
+     *
+     * @return the time of the first cycle or -1 if there are none
+     */
+    public synchronized long getStartTime()
+        {
+        return m_cCycles == 0 ? -1L : m_aldtCycles[0];
+        }
+
+    /**
+     * Returns the time of the last cycle.
+     *
+     * @return the time of the last cycle or -1 if there are none
+     */
+    public synchronized long getEndTime()
+        {
+        return m_cCycles == 0 ? -1L : m_aldtCycles[m_cCycles - 1];
+        }
+
+    /**
+     * Returns the time of a cycle.
+     *
+     * @param nCycle  the index of the cycle
+     *
+     * @return the time of the cycle
+     */
+    public synchronized long getCycleTime(int nCycle)
+        {
+        checkCycle(nCycle);
+        return m_aldtCycles[nCycle];
+        }
+
+    /**
+     * Returns the last cycle taken at or before a time.
+     *
+     * @param ldt  the time
+     *
+     * @return the index of the cycle, or the first cycle if the time is
+     *         before the start of the recording, or -1 if there are no cycles
+     */
+    public synchronized int findCycle(long ldt)
+        {
+        int nCycle = Arrays.binarySearch(m_aldtCycles, 0, m_cCycles, ldt);
+        if (nCycle < 0)
+            {
+            nCycle = -nCycle - 2;
+            }
+        else
+            {
+            // several cycles may have been taken in the same millisecond
+            while (nCycle + 1 < m_cCycles && m_aldtCycles[nCycle + 1] == ldt)
+                {
+                nCycle++;
+                }
+            }
+        return m_cCycles == 0 ? -1 : Math.max(nCycle, 0);
+        }
+
+    /**
+     * Decode a cycle. The rows of a type which did not change since the
+     * previous cycle are returned as the same list instance when the cycles
+     * are read in order.
+     *
+     * @param nCycle  the index of the cycle
+     *
+     * @return the data of each type in the cycle
+     */
+    public synchronized Map<VisualVMModel.DataType, List<Map.Entry<Object, Data>>> readCycle(int nCycle)
+        {
+        checkCycle(nCycle);
+
+        Segment segment   = getSegment(nCycle);
+        int     nDecoded  = m_nDecodedCycle;
+        int     nKeyframe = m_anKeyframes[nCycle];
+        int     nStart;
+
+        if (nDecoded >= 0 && nDecoded < nCycle && getSegment(nDecoded) == segment)
+            {
+            // carry on from the last decoded cycle, or the last key frame if it is closer
+            nStart = Math.max(nDecoded + 1, nKeyframe);
+            }
+        else
+            {
+            f_decoder.reset();
+            m_cDictionariesRead = 0;
+            nStart              = nKeyframe;
+            }
+
+        try
+            {
+            Map<VisualVMModel.DataType, List<Map.Entry<Object, Data>>> mapData = null;
+            for (int i = nStart; i <= nCycle; i++)
+                {
+                int of = getOffset(i);
+
+                // the dictionary records are written before the cycle that uses them
+                while (m_cDictionariesRead < segment.m_cDictionaries
+                       && segment.m_aofDictionaries[m_cDictionariesRead] < of)
+                    {
+                    f_decoder.readDictionary(segment.getPayload(segment.m_aofDictionaries[m_cDictionariesRead++]));
+                    }
+
+                mapData         = f_decoder.readCycle(segment.getPayload(of));
+                m_nDecodedCycle = i;
+                }
+            return mapData;
+            }
+        catch (RuntimeException e)
+            {
+            m_nDecodedCycle = -1;
+            throw e;
+            }
+        }
+
+    // ----- helpers --------------------------------------------------------
+
+    /**
+     * Index the records of a segment which have not been indexed yet. A
+     * record which has not been written completely is left for the next
+     * call.
+     *
+     * @param segment  the {@link Segment} to index
+     */
+    private void index(Segment segment)
+        {
+        ByteBuffer buffer = segment.m_buffer;
+        int        cb     = buffer.limit();
+        int        of     = segment.m_cbIndexed;
+
+        if (of == 0)
+            {
+            of = readHeader(segment);
+            if (of <= 0)
+                {
+                return;
+                }
+            }
+
+        while (cb - of >= RECORD_HEADER_SIZE)
+            {
+            byte bType     = buffer.get(of);
+            int  cbPayload = buffer.getInt(of + 1);
+            if (cbPayload < 0 || cb - of - RECORD_HEADER_SIZE < cbPayload)
+                {
+                break;
+                }
+
+            if (bType == RECORD_DICTIONARY)
+                {
+                segment.addDictionary(of);
+                }
+            else if (bType == RECORD_CYCLE && cbPayload > 8)
+                {
+                int ofPayload = of + RECORD_HEADER_SIZE;
+                addCycle(segment, of, buffer.getLong(ofPayload), buffer.get(ofPayload + 8) != 0);
+                }
+
+            of += RECORD_HEADER_SIZE + cbPayload;
+            }
+
+        segment.m_cbIndexed = of;
+        }
+
+    /**
+     * Read the header of a segment.
+     *
+     * @param segment  the {@link Segment}
+     *
+     * @return the offset of the first record, zero if the header has not been
+     *         written completely or -1 if the segment is not valid
+     */
+    private int readHeader(Segment segment)
+        {
+        ByteBuffer buffer = segment.m_buffer.duplicate();
+        try
+            {
+            if (buffer.getInt() != MAGIC || buffer.getShort() > VERSION)
+                {
+                LOGGER.log(Level.WARNING, "Ignoring segment {0} which is not supported", segment.f_file);
+                segment.m_cbIndexed = -1;
+                return -1;
+                }
+
+            buffer.getLong();
+            String sClusterName    = readUTF(buffer);
+            String sClusterVersion = readUTF(buffer);
+
+            if (m_sClusterName == null)
+                {
+                m_sClusterName    = sClusterName;
+                m_sClusterVersion = sClusterVersion;
+                }
+            return buffer.position();
+            }
+        catch (BufferUnderflowException e)
+            {
+            return 0;
+            }
+        }
+
+    /**
+     * Add a cycle to the index.
+     *
+     * @param segment    the {@link Segment} holding the cycle
+     * @param of         the offset of the record in the segment
+     * @param ldt        the time of the cycle
+     * @param fKeyframe  true if the cycle is a key frame
+     */
+    private void addCycle(Segment segment, int of, long ldt, boolean fKeyframe)
+        {
+        int nCycle = m_cCycles;
+        if (nCycle == m_aldtCycles.length)
+            {
+            int cNew = Math.max(16, nCycle * 2);
+            m_aldtCycles  = Arrays.copyOf(m_aldtCycles, cNew);
+            m_alLocations = Arrays.copyOf(m_alLocations, cNew);
+            m_anKeyframes = Arrays.copyOf(m_anKeyframes, cNew);
+            }
+
+        boolean fFirst = nCycle == 0 || getSegment(nCycle - 1) != segment;
+
+        // keep the times ordered for the binary search even if the clock went back
+        m_aldtCycles[nCycle]  = nCycle == 0 ? ldt : Math.max(ldt, m_aldtCycles[nCycle - 1]);
+        m_alLocations[nCycle] = ((long) segment.f_nIndex << 32) | of;
+        m_anKeyframes[nCycle] = fKeyframe || fFirst ? nCycle : m_anKeyframes[nCycle - 1];
+        m_cCycles             = nCycle + 1;
+        }
+
+    /**
+     * Returns the segment holding a cycle.
+     *
+     * @param nCycle  the index of the cycle
+     *
+     * @return the {@link Segment} holding the cycle
+     */
+    private Segment getSegment(int nCycle)
+        {
+        return f_listSegments.get((int) (m_alLocations[nCycle] >>> 32));
+        }
+
+    /**
+     * Returns the offset of the record of a cycle in its segment.
+     *
+     * @param nCycle  the index of the cycle
+     *
+     * @return the offset of the record
+     */
+    private int getOffset(int nCycle)
+        {
+        return (int) m_alLocations[nCycle];
+        }
+
+    /**
+     * Ensure a cycle is in the index.
+     *
+     * @param nCycle  the index of the cycle
+     */
+    private void checkCycle(int nCycle)
+        {
+        if (nCycle < 0 || nCycle >= m_cCycles)
+            {
+            throw new IndexOutOfBoundsException("Cycle " + nCycle + " of " + m_cCycles);
+            }
+        }
+
+    // ----- inner classes --------------------------------------------------
+
+    /**
+     * A memory-mapped segment of the recording.
+     */
+    private static class Segment
+        {
+        /**
+         * Construct a segment.
+         *
+         * @param file    the segment file
+         * @param nIndex  the index of the segment in the recording
+         */
+        Segment(File file, int nIndex)
+            {
+            f_file   = file;
+            f_nIndex = nIndex;
+            }
+
+        /**
+         * Map the segment if it is new or has grown since it was last mapped.
+         *
+         * @return true if the segment may have records which have not been indexed
+         *
+         * @throws IOException if the segment could not be mapped
+         */
+        boolean map()
+                throws IOException
+            {
+            if (m_cbIndexed < 0)
+                {
+                return false;
+                }
+
+            try (FileChannel channel = FileChannel.open(f_file.toPath(), StandardOpenOption.READ))
+                {
+                long cb = Math.min(channel.size(), Integer.MAX_VALUE);
+                if (m_buffer != null && cb <= m_buffer.limit())
+                    {
+                    return false;
+                    }
+
+                // the mapping remains valid once the channel is closed
+                m_buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0L, cb);
+                return true;
+                }
+            }
+
+        /**
+         * Add a dictionary record.
+         *
+         * @param of  the offset of the record
+         */
+        void addDictionary(int of)
+            {
+            if (m_cDictionaries == m_aofDictionaries.length)
+                {
+                m_aofDictionaries = Arrays.copyOf(m_aofDictionaries, Math.max(8, m_cDictionaries * 2));
+                }
+            m_aofDictionaries[m_cDictionaries++] = of;
+            }
+
+        /**
+         * Returns the payload of a record.
+         *
+         * @param of  the offset of the record
+         *
+         * @return a {@link ByteBuffer} holding the payload
+         */
+        ByteBuffer getPayload(int of)
+            {
+            ByteBuffer buffer = m_buffer.duplicate();
+            int        cb     = buffer.getInt(of + 1);
+
+            buffer.position(of + RECORD_HEADER_SIZE);
+            buffer.limit(of + RECORD_HEADER_SIZE + cb);
+            return buffer.slice();
+            }
+
+        /**
+         * The segment file.
+         */
+        private final File f_file;
+
+        /**
+         * The index of the segment in the recording.
+         */
+        private final int f_nIndex;
+
+        /**
+         * The mapped content of the segment.
+         */
+        private MappedByteBuffer m_buffer;
+
+        /**
+         * The offset up to which the segment has been indexed, or -1 if the
+         * segment is not valid.
+         */
+        private int m_cbIndexed;
+
+        /**
+         * The offsets of the dictionary records.
+         */
+        private int[] m_aofDictionaries = new int[0];
+
+        /**
+         * The number of dictionary records.
+         */
+        private int m_cDictionaries;
+        }
+
+    // ----- constants ------------------------------------------------------
+
+    /**
+     * The size of the type and length preceding the payload of a record.
+     */
+    private static final int RECORD_HEADER_SIZE = 5;
+
+    /**
+     * The logger to use.
+     */
+    private static final Logger LOGGER = Logger.getLogger(RecordingReader.class.getName());
+
+    // ----- data members ---------------------------------------------------
+
+    /**
+     * The directory of the recording.
+     */
+    private final File f_dir;
+
+    /**
+     * The segments of the recording in time order.
+     */
+    private final List<Segment> f_listSegments = new ArrayList<>();
+
+    /**
+     * The decoder of the segment of the last decoded cycle.
+     */
+    private final RecordingDecoder f_decoder = new RecordingDecoder();
+
+    /**
+     * The name of the recorded cluster.
+     */
+    private String m_sClusterName;
+
+    /**
+     * The version of the recorded cluster.
+     */
+    private String m_sClusterVersion;
+
+    /**
+     * The time of each cycle.
+     */
+    private long[] m_aldtCycles = new long[0];
+
+    /**
+     * The segment index in the high and record offset in the low 32 bits of each cycle.
+     */
+    private long[] m_alLocations = new long[0];
+
+    /**
+     * The key frame each cycle is decoded from.
+     */
+    private int[] m_anKeyframes = new int[0];
+
+    /**
+     * The number of cycles in the index.
+     */
+    private int m_cCycles;
+
+    /**
+     * The last decoded cycle or -1.
+     */
+    private int m_nDecodedCycle = -1;
+
+    /**
+     * The number of dictionary records of the segment of the last decoded
+     * cycle which have been read.
+     */
+    private int m_cDictionariesRead;
+    }
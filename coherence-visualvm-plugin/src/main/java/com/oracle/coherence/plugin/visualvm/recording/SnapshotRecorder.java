@@ -0,0 +1,523 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.oracle.coherence.plugin.visualvm.recording;
+
+import com.oracle.coherence.plugin.visualvm.ModelSnapshot;
+
+import java.io.File;
+import java.io.IOException;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+import java.nio.file.StandardOpenOption;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import static com.oracle.coherence.plugin.visualvm.recording.RecordingFormat.*;
+
+/**
+ * Records every refresh cycle of a cluster to append-only segment files, so
+ * the state of the cluster at any point in time can be looked at later.
+ * <p>
+ * Each published {@link ModelSnapshot} is handed to a single background
+ * thread which encodes it with a {@link RecordingEncoder} and appends it to
+ * the current segment with one write. A new segment is started once the
+ * current one reaches a maximum size or age, and the oldest segments are
+ * deleted once they are older than the retention time or the total size of
+ * the recording exceeds its limit.
+ * <p>
+ * Recording is enabled by setting the {@value #PROP_RECORDING_DIR} system
+ * property to the directory the recordings are written to. Each cluster is
+ * recorded in its own sub-directory.
+ *
+ * @since  1.8.0
+ */
+public class SnapshotRecorder
+    {
+    // ----- constructors ---------------------------------------------------
+
+    /**
+     * Construct a recorder.
+     *
+     * @param dir              the directory to write the segments to
+     * @param sClusterName     the name of the cluster
+     * @param sClusterVersion  the version of the cluster
+     * @param cbSegment        the size after which a new segment is started
+     * @param cMillisSegment   the age after which a new segment is started
+     * @param cMillisRetain    the age after which a segment is deleted
+     * @param cbRetain         the total size of the segments to retain
+     */
+    public SnapshotRecorder(File dir, String sClusterName, String sClusterVersion, long cbSegment,
+                            long cMillisSegment, long cMillisRetain, long cbRetain)
+        {
+        f_dir             = dir;
+        f_sClusterName    = sClusterName == null ? "" : sClusterName;
+        f_sClusterVersion = sClusterVersion == null ? "" : sClusterVersion;
+        f_cbSegment       = cbSegment;
+        f_cMillisSegment  = cMillisSegment;
+        f_cMillisRetain   = cMillisRetain;
+        f_cbRetain        = cbRetain;
+
+        // a cycle which arrives while the queue is full is dropped rather than
+        // delaying the refresh
+        f_executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(QUEUE_SIZE),
+                                            r ->
+                                                {
+                                                Thread thread = new Thread(r, "CoherenceVisualVMRecorder");
+                                                thread.setDaemon(true);
+                                                return thread;
+                                                },
+                                            (r, executor) -> f_cDropped.incrementAndGet())
+            {
+            @Override
+            protected void terminated()
+                {
+                // called by the recorder thread once the last cycle has been
+                // written, so the segment is never closed during a write
+                closeSegment();
+                }
+            };
+        }
+
+    // ----- SnapshotRecorder methods ---------------------------------------
+
+    /**
+     * Create a recorder for a cluster if recording is enabled.
+     *
+     * @param sClusterName     the name of the cluster
+     * @param sClusterVersion  the version of the cluster
+     *
+     * @return a new recorder or null if recording is not enabled
+     */
+    public static SnapshotRecorder create(String sClusterName, String sClusterVersion)
+        {
+        String sDir = System.getProperty(PROP_RECORDING_DIR);
+        if (sDir == null || sDir.trim().isEmpty())
+            {
+            return null;
+            }
+
+        String sName = sClusterName == null || sClusterName.isEmpty()
+                       ? "cluster" : sClusterName.replaceAll("[^A-Za-z0-9._-]", "_");
+
+        return new SnapshotRecorder(new File(sDir.trim(), sName), sClusterName, sClusterVersion,
+                Long.getLong(PROP_RECORDING_SEGMENT_SIZE, DEFAULT_SEGMENT_SIZE_MB) * MB,
+                TimeUnit.MINUTES.toMillis(Long.getLong(PROP_RECORDING_SEGMENT_MINUTES, DEFAULT_SEGMENT_MINUTES)),
+                TimeUnit.HOURS.toMillis(Long.getLong(PROP_RECORDING_RETENTION_HOURS, DEFAULT_RETENTION_HOURS)),
+                Long.getLong(PROP_RECORDING_RETENTION_SIZE, DEFAULT_RETENTION_SIZE_MB) * MB);
+        }
+
+    /**
+     * Record a refresh cycle. The cycle is written on a background thread so
+     * this returns immediately.
+     *
+     * @param snapshot  the {@link ModelSnapshot} of the cycle
+     */
+    public void record(ModelSnapshot snapshot)
+        {
+        if (!m_fFailed && !f_executor.isShutdown())
+            {
+            f_executor.execute(() -> write(snapshot));
+            }
+        }
+
+    /**
+     * Stop recording and close the current segment once the cycles already
+     * handed to the recorder have been written. Cycles which have not been
+     * written within {@link #CLOSE_TIMEOUT} are dropped, and the segment is
+     * then closed by the recorder thread once the cycle being written
+     * completes.
+     */
+    public void close()
+        {
+        f_executor.shutdown();
+        try
+            {
+            if (!f_executor.awaitTermination(CLOSE_TIMEOUT, TimeUnit.MILLISECONDS))
+                {
+                f_cDropped.addAndGet(f_executor.shutdownNow().size());
+                }
+            }
+        catch (InterruptedException e)
+            {
+            f_cDropped.addAndGet(f_executor.shutdownNow().size());
+            Thread.currentThread().interrupt();
+            }
+
+        long cDropped = f_cDropped.get();
+        if (cDropped > 0)
+            {
+            LOGGER.log(Level.INFO, "{0} refresh cycles were not recorded as the recorder was busy", cDropped);
+            }
+        }
+
+    /**
+     * Returns the directory the segments are written to.
+     *
+     * @return the directory the segments are written to
+     */
+    public File getDirectory()
+        {
+        return f_dir;
+        }
+
+    // ----- helpers --------------------------------------------------------
+
+    /**
+     * Append a refresh cycle to the current segment, starting a new segment if
+     * required. Only called on the recorder thread.
+     *
+     * @param snapshot  the {@link ModelSnapshot} of the cycle
+     */
+    private void write(ModelSnapshot snapshot)
+        {
+        try
+            {
+            long ldtNow = System.currentTimeMillis();
+            if (m_channel != null && (m_cbWritten >= f_cbSegment || ldtNow - m_ldtSegmentStart >= f_cMillisSegment))
+                {
+                closeSegment();
+                }
+
+            if (m_channel == null)
+                {
+                openSegment(ldtNow);
+                }
+
+            boolean fKeyframe = m_cCyclesSinceKeyframe == 0 || m_cCyclesSinceKeyframe >= KEYFRAME_INTERVAL;
+            m_cCyclesSinceKeyframe = fKeyframe ? 1 : m_cCyclesSinceKeyframe + 1;
+
+            Output out = f_out;
+            out.reset();
+            f_encoder.encode(snapshot, fKeyframe, out);
+            writeFully(out.toByteBuffer());
+            }
+        catch (Exception e)
+            {
+            // stop recording rather than fail on every refresh
+            m_fFailed = true;
+            LOGGER.log(Level.WARNING, "Unable to record to " + f_dir + ", recording stopped", e);
+            closeSegment();
+            }
+        }
+
+    /**
+     * Start a new segment.
+     *
+     * @param ldtNow  the current time
+     *
+     * @throws IOException if the segment could not be created
+     */
+    private void openSegment(long ldtNow)
+            throws IOException
+        {
+        if (!f_dir.isDirectory() && !f_dir.mkdirs())
+            {
+            throw new IOException("Unable to create directory " + f_dir);
+            }
+
+        File file = new File(f_dir, String.format("%s%013d%s", SEGMENT_PREFIX, ldtNow, SEGMENT_SUFFIX));
+
+        m_channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                                     StandardOpenOption.TRUNCATE_EXISTING);
+        m_ldtSegmentStart      = ldtNow;
+        m_cbWritten            = 0L;
+        m_cCyclesSinceKeyframe = 0;
+        f_encoder.reset();
+
+        Output out = f_out;
+        out.reset();
+        out.writeInt(MAGIC);
+        out.writeByte(VERSION >>> 8);
+        out.writeByte(VERSION);
+        out.writeLong(ldtNow);
+        out.writeUTF(f_sClusterName);
+        out.writeUTF(f_sClusterVersion);
+        writeFully(out.toByteBuffer());
+
+        applyRetention(file);
+        }
+
+    /**
+     * Close the current segment if there is one.
+     */
+    private void closeSegment()
+        {
+        FileChannel channel = m_channel;
+        if (channel != null)
+            {
+            m_channel = null;
+            try
+                {
+                channel.close();
+                }
+            catch (IOException e)
+                {
+                LOGGER.log(Level.WARNING, "Unable to close segment", e);
+                }
+            }
+        }
+
+    /**
+     * Write a buffer to the current segment.
+     *
+     * @param buffer  the {@link ByteBuffer} to write
+     *
+     * @throws IOException if the buffer could not be written
+     */
+    private void writeFully(ByteBuffer buffer)
+            throws IOException
+        {
+        m_cbWritten += buffer.remaining();
+        while (buffer.hasRemaining())
+            {
+            m_channel.write(buffer);
+            }
+        }
+
+    /**
+     * Delete the oldest segments which are older than the retention time or
+     * which take the recording over its size limit.
+     *
+     * @param fileCurrent  the current segment, which is never deleted
+     */
+    private void applyRetention(File fileCurrent)
+        {
+        List<File> listSegments = listSegments(f_dir);
+        long       ldtOldest    = System.currentTimeMillis() - f_cMillisRetain;
+        long       cbTotal      = 0L;
+
+        for (File file : listSegments)
+            {
+            cbTotal += file.length();
+            }
+
+        for (File file : listSegments)
+            {
+            if (file.equals(fileCurrent) || (cbTotal <= f_cbRetain && file.lastModified() >= ldtOldest))
+                {
+                break;
+                }
+
+            long cb = file.length();
+            if (file.delete())
+                {
+                cbTotal -= cb;
+                }
+            else
+                {
+                LOGGER.log(Level.WARNING, "Unable to delete segment {0}", file);
+                }
+            }
+        }
+
+    /**
+     * Returns the segment files in a directory, oldest first.
+     *
+     * @param dir  the directory
+     *
+     * @return the segment files in the directory
+     */
+    static List<File> listSegments(File dir)
+        {
+        File[] aFiles = dir.listFiles((d, sName) -> sName.startsWith(SEGMENT_PREFIX) && sName.endsWith(SEGMENT_SUFFIX));
+        if (aFiles == null)
+            {
+            return new ArrayList<>();
+            }
+
+        // the names hold the zero padded start time so they sort in time order
+        Arrays.sort(aFiles);
+        return new ArrayList<>(Arrays.asList(aFiles));
+        }
+
+    // ----- constants ------------------------------------------------------
+
+    /**
+     * Property to set the directory refresh cycles are recorded to. Recording
+     * is disabled if not set.
+     */
+    public static final String PROP_RECORDING_DIR = "coherence.plugin.visualvm.recording.dir";
+
+    /**
+     * Property to set the size in MB after which a new segment is started.
+     */
+    public static final String PROP_RECORDING_SEGMENT_SIZE = "coherence.plugin.visualvm.recording.segment.size";
+
+    /**
+     * Property to set the age in minutes after which a new segment is started.
+     */
+    public static final String PROP_RECORDING_SEGMENT_MINUTES = "coherence.plugin.visualvm.recording.segment.minutes";
+
+    /**
+     * Property to set the age in hours after which a segment is deleted.
+     */
+    public static final String PROP_RECORDING_RETENTION_HOURS = "coherence.plugin.visualvm.recording.retention.hours";
+
+    /**
+     * Property to set the total size in MB of the segments to retain per cluster.
+     */
+    public static final String PROP_RECORDING_RETENTION_SIZE = "coherence.plugin.visualvm.recording.retention.size";
+
+    /**
+     * The default size in MB after which a new segment is started.
+     */
+    private static final long DEFAULT_SEGMENT_SIZE_MB = 64L;
+
+    /**
+     * The default age in minutes after which a new segment is started.
+     */
+    private static final long DEFAULT_SEGMENT_MINUTES = 60L;
+
+    /**
+     * The default age in hours after which a segment is deleted.
+     */
+    private static final long DEFAULT_RETENTION_HOURS = 72L;
+
+    /**
+     * The default total size in MB of the segments to retain per cluster.
+     */
+    private static final long DEFAULT_RETENTION_SIZE_MB = 2048L;
+
+    /**
+     * The number of cycles between key frames.
+     */
+    static final int KEYFRAME_INTERVAL = 60;
+
+    /**
+     * The number of cycles which can wait to be written.
+     */
+    private static final int QUEUE_SIZE = 4;
+
+    /**
+     * The time to wait for the pending cycles to be written on close.
+     */
+    private static final long CLOSE_TIMEOUT = 10_000L;
+
+    /**
+     * The number of bytes in a MB.
+     */
+    private static final long MB = 1024L * 1024L;
+
+    /**
+     * The logger object to use.
+     */
+    private static final Logger LOGGER = Logger.getLogger(SnapshotRecorder.class.getName());
+
+    // ----- data members ---------------------------------------------------
+
+    /**
+     * The directory the segments are written to.
+     */
+    private final File f_dir;
+
+    /**
+     * The name of the cluster.
+     */
+    private final String f_sClusterName;
+
+    /**
+     * The version of the cluster.
+     */
+    private final String f_sClusterVersion;
+
+    /**
+     * The size after which a new segment is started.
+     */
+    private final long f_cbSegment;
+
+    /**
+     * The age after which a new segment is started.
+     */
+    private final long f_cMillisSegment;
+
+    /**
+     * The age after which a segment is deleted.
+     */
+    private final long f_cMillisRetain;
+
+    /**
+     * The total size of the segments to retain.
+     */
+    private final long f_cbRetain;
+
+    /**
+     * The single thread the cycles are written on.
+     */
+    private final ThreadPoolExecutor f_executor;
+
+    /**
+     * The encoder of the current segment, only used on the recorder thread.
+     */
+    private final RecordingEncoder f_encoder = new RecordingEncoder();
+
+    /**
+     * The buffer records are encoded into, only used on the recorder thread.
+     */
+    private final Output f_out = new Output();
+
+    /**
+     * The channel of the current segment, only used on the recorder thread.
+     */
+    private FileChannel m_channel;
+
+    /**
+     * The time the current segment was started.
+     */
+    private long m_ldtSegmentStart;
+
+    /**
+     * The number of bytes written to the current segment.
+     */
+    private long m_cbWritten;
+
+    /**
+     * The number of cycles written since the last key frame.
+     */
+    private int m_cCyclesSinceKeyframe;
+
+    /**
+     * The number of cycles dropped as the recorder was busy.
+     */
+    private final AtomicLong f_cDropped = new AtomicLong();
+
+    /**
+     * True if writing failed and recording has stopped.
+     */
+    private volatile boolean m_fFailed;
+    }
@@ -26,12 +26,18 @@ package com.oracle.coherence.plugin.visualvm.tablemodel;
 
 import com.oracle.coherence.plugin.visualvm.tablemodel.model.Data;
 
+import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 
 import javax.swing.JTable;
 
+import javax.swing.event.TableModelEvent;
+
 import javax.swing.table.AbstractTableModel;
 
 /**
@@ -117,35 +123,287 @@ public abstract class AbstractCoherenceTableModel<K, V>
 
         Map.Entry<K, V> entry = m_dataList.get(row);
 
-        if (entry != null)
+        return entry == null ? null : getColumnValue(entry.getValue(), col);
+        }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void fireTableDataChanged()
+        {
+        applyDataList();
+
+        m_listPublished = m_dataList;
+        super.fireTableDataChanged();
+        }
+
+    // ----- AbstractCoherenceTableModel methods ----------------------------
+
+    /**
+     * Sets the data list for this model. This may be called from a background
+     * thread, the list is only used by the model once listeners are notified
+     * on the event dispatch thread via {@link #fireTableRowsChanged()} or
+     * {@link #fireTableDataChanged()}, so the rows never change under a table
+     * that is painting. The list must not be modified after it has been set.
+     *
+     * @param dataList the data list for this model
+     */
+    public void setDataList(List<Map.Entry<K, V>> dataList)
+        {
+        m_dataListPending = dataList;
+        m_fPending        = true;
+        }
+
+    /**
+     * Notify listeners of the differences between the rows they were last
+     * told about and the current data list. Rows are matched by key, and only
+     * rows that were deleted, inserted or have a changed cell are reported,
+     * so a {@link JTable} does not need to re-layout and re-render every row
+     * on each refresh. If the rows were re-ordered or most of them changed,
+     * a single {@link #fireTableDataChanged()} is fired instead.
+     *
+     * @return true if {@link #fireTableDataChanged()} was fired, in which case
+     *         the table selection has been cleared
+     */
+    public boolean fireTableRowsChanged()
+        {
+        applyDataList();
+
+        List<Map.Entry<K, V>> listPrevious = m_listPublished;
+        List<Map.Entry<K, V>> listCurrent  = m_dataList;
+
+        int cPrevious = listPrevious == null ? 0 : listPrevious.size();
+        int cCurrent  = listCurrent  == null ? 0 : listCurrent.size();
+
+        // the previous rows cannot be compared if the list was modified in place
+        if (listPrevious == listCurrent || cPrevious == 0 || cCurrent == 0)
             {
-            Object value = entry.getValue();
+            fireTableDataChanged();
+            return true;
+            }
 
-            if (value instanceof Data)
+        // index the current rows by key
+        Map<Object, Integer> mapCurrentIndex = new HashMap<>(cCurrent * 2);
+        for (int i = 0; i < cCurrent; i++)
+            {
+            if (mapCurrentIndex.put(listCurrent.get(i).getKey(), i) != null)
                 {
-                return ((Data) value).getColumn(col);
+                fireTableDataChanged();
+                return true;
+                }
+            }
+
+        // work out which previous rows have gone and make sure the remaining
+        // rows are still in the same relative order
+        BitSet setDeleted  = new BitSet(cPrevious);
+        BitSet setRetained = new BitSet(cCurrent);
+        int    nLast       = -1;
+
+        for (int i = 0; i < cPrevious; i++)
+            {
+            Integer nIndex = mapCurrentIndex.get(listPrevious.get(i).getKey());
+            if (nIndex == null)
+                {
+                setDeleted.set(i);
+                }
+            else if (nIndex < nLast)
+                {
+                fireTableDataChanged();
+                return true;
                 }
             else
                 {
-                return null;
+                nLast = nIndex;
+                setRetained.set(nIndex);
                 }
             }
-        else
+
+        int cDeleted  = setDeleted.cardinality();
+        int cInserted = cCurrent - setRetained.cardinality();
+
+        if ((cDeleted + cInserted) * 2 > Math.max(cPrevious, cCurrent))
             {
-            return null;
+            fireTableDataChanged();
+            return true;
+            }
+
+        // listeners query the model while handling each event, so the model
+        // must reflect the rows as they are after each individual change
+        List<Map.Entry<K, V>> listWorking = new ArrayList<>(listPrevious);
+
+        try
+            {
+            // deletes are reported from the highest row down so that the
+            // indexes of the rows still to be deleted are not affected
+            for (int nEnd = setDeleted.previousSetBit(cPrevious - 1); nEnd >= 0; )
+                {
+                int nStart = setDeleted.previousClearBit(nEnd) + 1;
+
+                listWorking.subList(nStart, nEnd + 1).clear();
+                m_dataList = listWorking;
+                fireTableRowsDeleted(nStart, nEnd);
+
+                nEnd = nStart == 0 ? -1 : setDeleted.previousSetBit(nStart - 1);
+                }
+
+            for (int nStart = setRetained.nextClearBit(0); nStart < cCurrent; )
+                {
+                int nEnd = setRetained.nextSetBit(nStart);
+                if (nEnd < 0)
+                    {
+                    nEnd = cCurrent;
+                    }
+
+                listWorking.addAll(nStart, listCurrent.subList(nStart, nEnd));
+                m_dataList = listWorking;
+                fireTableRowsInserted(nStart, nEnd - 1);
+
+                nStart = setRetained.nextClearBit(nEnd);
+                }
+            }
+        finally
+            {
+            m_dataList      = listCurrent;
+            m_listPublished = listCurrent;
+            }
+
+        // compare the retained rows cell by cell
+        Map<Object, V> mapPrevious = new HashMap<>(cPrevious * 2);
+        for (Map.Entry<K, V> entry : listPrevious)
+            {
+            mapPrevious.put(entry.getKey(), entry.getValue());
+            }
+
+        int      cColumns        = getColumnCount();
+        BitSet[] aChangedColumns = new BitSet[cCurrent];
+
+        for (int i = setRetained.nextSetBit(0); i >= 0; i = setRetained.nextSetBit(i + 1))
+            {
+            V valuePrevious = mapPrevious.get(listCurrent.get(i).getKey());
+            V valueCurrent  = listCurrent.get(i).getValue();
+
+            if (valuePrevious == valueCurrent)
+                {
+                continue;
+                }
+
+            BitSet setChanged = null;
+            for (int nColumn = 0; nColumn < cColumns; nColumn++)
+                {
+                if (!Objects.equals(getColumnValue(valuePrevious, nColumn), getColumnValue(valueCurrent, nColumn)))
+                    {
+                    if (setChanged == null)
+                        {
+                        setChanged = new BitSet(cColumns);
+                        }
+                    setChanged.set(nColumn);
+                    }
+                }
+            aChangedColumns[i] = setChanged;
+            }
+
+        // report contiguous runs of updated rows, narrowed to a single column
+        // when only that column changed in the whole run
+        for (int nStart = 0; nStart < cCurrent; )
+            {
+            if (aChangedColumns[nStart] == null)
+                {
+                nStart++;
+                continue;
+                }
+
+            BitSet setColumns = (BitSet) aChangedColumns[nStart].clone();
+            int    nEnd       = nStart;
+
+            while (nEnd + 1 < cCurrent && aChangedColumns[nEnd + 1] != null)
+                {
+                setColumns.or(aChangedColumns[++nEnd]);
+                }
+
+            fireTableChanged(setColumns.cardinality() == 1
+                    ? new TableModelEvent(this, nStart, nEnd, setColumns.nextSetBit(0))
+                    : new TableModelEvent(this, nStart, nEnd));
+
+            nStart = nEnd + 1;
             }
+
+        return false;
         }
 
-    // ----- AbstractCoherenceTableModel methods ----------------------------
+    /**
+     * Make the most recently set data list the one used by the model.
+     */
+    private void applyDataList()
+        {
+        if (m_fPending)
+            {
+            m_fPending = false;
+            m_dataList = m_dataListPending;
+            }
+        }
 
     /**
-     * Returns the data list for this model.
+     * Returns the data list currently used by the model. The list is never
+     * modified once it has been set, so it may be read on another thread.
      *
-     * @param dataList the data list for this model
+     * @return the data list currently used by the model
      */
-    public void setDataList(List<Map.Entry<K, V>> dataList)
+    public List<Map.Entry<K, V>> getDataList()
         {
-        this.m_dataList = dataList;
+        return m_dataList == null ? Collections.emptyList() : m_dataList;
+        }
+
+    /**
+     * Returns the index of the row with the given key in the data list
+     * currently used by the model.
+     *
+     * @param oKey  the key of the row
+     *
+     * @return the index of the row in the model, or -1 if there is no such row
+     */
+    public int indexOfKey(Object oKey)
+        {
+        List<Map.Entry<K, V>> listData = getDataList();
+
+        if (oKey != null)
+            {
+            for (int i = 0, c = listData.size(); i < c; i++)
+                {
+                if (oKey.equals(listData.get(i).getKey()))
+                    {
+                    return i;
+                    }
+                }
+            }
+
+        return -1;
+        }
+
+    /**
+     * Returns the value to display for a column of a row of the data list.
+     *
+     * @param entry    the row of the data list
+     * @param nColumn  the column index in the model
+     *
+     * @return the value to display
+     */
+    public Object getValueAt(Map.Entry<K, V> entry, int nColumn)
+        {
+        return entry == null ? null : getColumnValue(entry.getValue(), nColumn);
+        }
+
+    /**
+     * Returns the value to display for a column of a row value.
+     *
+     * @param value    the row value
+     * @param nColumn  the column index in the model
+     *
+     * @return the value to display
+     */
+    protected Object getColumnValue(V value, int nColumn)
+        {
+        return value instanceof Data ? ((Data) value).getColumn(nColumn) : null;
         }
 
     /**
@@ -174,4 +432,19 @@ public abstract class AbstractCoherenceTableModel<K, V>
      * The column names for the model.
      */
     protected final String[] f_asColumnNames;
+
+    /**
+     * The data list set by {@link #setDataList(List)} and not yet applied.
+     */
+    private volatile List<Map.Entry<K, V>> m_dataListPending;
+
+    /**
+     * Indicates if {@link #m_dataListPending} has to be applied.
+     */
+    private volatile boolean m_fPending;
+
+    /**
+     * The data list that listeners were last notified about.
+     */
+    private List<Map.Entry<K, V>> m_listPublished;
     }
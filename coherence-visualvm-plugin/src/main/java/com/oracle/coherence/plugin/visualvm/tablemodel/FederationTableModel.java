@@ -28,8 +28,6 @@ package com.oracle.coherence.plugin.visualvm.tablemodel;
 import com.oracle.coherence.plugin.visualvm.tablemodel.model.Data;
 import com.oracle.coherence.plugin.visualvm.tablemodel.model.FederationDestinationData;
 
-import java.util.Map;
-
 /**
  * A model for holding federation data.
  *
@@ -54,37 +52,24 @@ public class FederationTableModel
     /**
      * {@inheritDoc}
      */
-    public Object getValueAt(int row, int col)
+    @Override
+    protected Object getColumnValue(Data data, int col)
         {
-        Map.Entry<Object, Data> entry = m_dataList.get(row);
-
-        if (entry != null)
+        if (data == null)
             {
-            Object value = entry.getValue();
-
-            if (value instanceof Data)
-                {
-                    Data data = (Data) value;
-                switch(col)
-                    {
-                    case 0 : return data.getColumn(FederationDestinationData.Column.SERVICE.ordinal());
-                    case 1 : return data.getColumn(FederationDestinationData.Column.PARTICIPANT.ordinal());
-                    case 2 : return data.getColumn(FederationDestinationData.Column.STATUS.ordinal());
-                    case 3 : return data.getColumn(FederationDestinationData.Column.TOTAL_BYTES_SENT.ordinal());
-                    case 4 : return data.getColumn(FederationDestinationData.Column.TOTAL_MSGS_SENT.ordinal());
-                    case 5 : return data.getColumn(FederationDestinationData.Column.TOTAL_BYTES_RECEIVED.ordinal());
-                    case 6 : return data.getColumn(FederationDestinationData.Column.TOTAL_MSGS_RECEIVED.ordinal());
-                    default : return null;
-                    }
-                }
-            else
-                {
-                return null;
-                }
+            return null;
             }
-        else
+
+        switch(col)
             {
-            return null;
+            case 0 : return data.getColumn(FederationDestinationData.Column.SERVICE.ordinal());
+            case 1 : return data.getColumn(FederationDestinationData.Column.PARTICIPANT.ordinal());
+            case 2 : return data.getColumn(FederationDestinationData.Column.STATUS.ordinal());
+            case 3 : return data.getColumn(FederationDestinationData.Column.TOTAL_BYTES_SENT.ordinal());
+            case 4 : return data.getColumn(FederationDestinationData.Column.TOTAL_MSGS_SENT.ordinal());
+            case 5 : return data.getColumn(FederationDestinationData.Column.TOTAL_BYTES_RECEIVED.ordinal());
+            case 6 : return data.getColumn(FederationDestinationData.Column.TOTAL_MSGS_RECEIVED.ordinal());
+            default : return null;
             }
         }
 
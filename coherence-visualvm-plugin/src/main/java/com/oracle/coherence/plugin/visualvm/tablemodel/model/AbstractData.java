@@ -28,6 +28,7 @@ package com.oracle.coherence.plugin.visualvm.tablemodel.model;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.oracle.coherence.plugin.visualvm.Localization;
 import com.oracle.coherence.plugin.visualvm.helper.JMXRequestSender;
+import com.oracle.coherence.plugin.visualvm.helper.ReportBatch;
 import com.oracle.coherence.plugin.visualvm.helper.RequestSender;
 import com.oracle.coherence.plugin.visualvm.VisualVMModel;
 
@@ -36,6 +37,8 @@ import java.io.Serializable;
 import java.math.BigDecimal;
 
 import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Map;
 import java.util.Set;
 import java.util.SortedMap;
 import java.util.TreeMap;
@@ -103,6 +106,15 @@ public abstract class AbstractData
         return postProcessReporterData(mapData, model);
         }
 
+    /**
+     * {@inheritDoc}
+     */
+    public Set<VisualVMModel.DataType> getDependencies()
+        {
+        // CLUSTER determines the cluster version and if the reporter can be used
+        return EnumSet.of(VisualVMModel.DataType.CLUSTER);
+        }
+
     /**
      * Perform any pre-processing before reporter is called.
      *
@@ -140,10 +152,24 @@ public abstract class AbstractData
     /**
      * {@inheritDoc}
      */
-    public String preProcessReporterXML(VisualVMModel model, String sReporterXML)
+    public String preProcessReporterXML(VisualVMModel model, ReportTemplate template)
         {
-        // default is to leave as is
-        return sReporterXML;
+        return template.apply(getReportParameters(model));
+        }
+
+    /**
+     * Returns the values to substitute into the report XML keyed by the token,
+     * e.g. %SERVICE_NAME%. This method should be overridden by implementations
+     * whose report contains tokens.
+     *
+     * @param  model  the {@link VisualVMModel} to use
+     *
+     * @return the values keyed by token or null if there is nothing to substitute
+     */
+    protected Map<String, String> getReportParameters(VisualVMModel model)
+        {
+        // default is to leave the report as is
+        return null;
         }
 
     /**
@@ -163,30 +189,29 @@ public abstract class AbstractData
         }
 
     @Override
-    public SortedMap<Object, Data> getAggregatedDataUsingReport(VisualVMModel model,
-                                                                RequestSender requestSender,
-                                                                String        sReportXML)
+    public SortedMap<Object, Data> getAggregatedDataUsingReport(VisualVMModel  model,
+                                                                RequestSender  requestSender,
+                                                                ReportTemplate template)
         {
         SortedMap<Object, Data> mapCollectedData = null;
 
         JMXRequestSender jmxRequestSender = (JMXRequestSender) requestSender;
         // carry out any parameter substitution or pre-processing of reporter XML
-        sReportXML = preProcessReporterXML(model, sReportXML);
+        String sReportXML = preProcessReporterXML(model, template);
 
-        if (m_sReporterLocation == null)
-            {
-            // reporter location has not been defined, so lets find it
-            m_sReporterLocation = jmxRequestSender.getReporterObjectName(jmxRequestSender.getLocalMemberId());
-            }
+        String sReporterLocation = jmxRequestSender.getReporterLocation();
 
-        if (m_sReporterLocation != null)
+        if (sReporterLocation != null)
             {
             try
                 {
-                // run the given report
-                TabularData reportData =
-                        (TabularData) jmxRequestSender.invoke(new ObjectName(m_sReporterLocation),
-                                "runTabularReport", new Object[]{sReportXML}, new String[]{"java.lang.String"});
+                // run the given report, collecting it from the batch of reports for this
+                // refresh cycle if there is one
+                ReportBatch batch      = model.getReportBatch();
+                TabularData reportData = batch != null
+                        ? batch.runTabularReport(sReportXML)
+                        : (TabularData) jmxRequestSender.invoke(new ObjectName(sReporterLocation),
+                                ReportBatch.RUN_TABULAR_REPORT, new Object[]{sReportXML}, new String[]{"java.lang.String"});
 
                 if (reportData != null)
                     {
@@ -199,7 +224,7 @@ public abstract class AbstractData
                     // report data is null - this can occur when the reporter has not been correctly started
                     // due to a configuration error. Check that the reporter state == "Error" and
                     // ensure we raise and exception to fall back tp JMX if it is
-                    String sState = jmxRequestSender.getAttribute(new ObjectName(m_sReporterLocation), "State");
+                    String sState = jmxRequestSender.getAttribute(new ObjectName(sReporterLocation), "State");
                     if ("Error".equalsIgnoreCase(sState))
                         {
                         throw new ReporterException("Reporter returned null and may not have been started correctly. Class=" +
@@ -255,8 +280,83 @@ public abstract class AbstractData
         m_oColumnValues[nColumn] = oValue;
         }
 
+    /**
+     * {@inheritDoc}
+     */
+    public int getInt(int nColumn)
+        {
+        return (int) getLong(nColumn);
+        }
+
+    /**
+     * {@inheritDoc}
+     */
+    public long getLong(int nColumn)
+        {
+        return toLong(getColumn(nColumn));
+        }
+
+    /**
+     * {@inheritDoc}
+     */
+    public double getDouble(int nColumn)
+        {
+        Object oValue = getColumn(nColumn);
+        if (oValue instanceof Number)
+            {
+            return ((Number) oValue).doubleValue();
+            }
+        if (oValue instanceof String)
+            {
+            try
+                {
+                return Double.parseDouble((String) oValue);
+                }
+            catch (NumberFormatException e)
+                {
+                return 0.0;
+                }
+            }
+        return 0.0;
+        }
+
     // ----- helpers --------------------------------------------------------
 
+    /**
+     * Convert a column value to a long.
+     *
+     * @param oValue  the value to convert
+     *
+     * @return the value as a long or 0 if it is not numeric
+     */
+    private static long toLong(Object oValue)
+        {
+        if (oValue instanceof Number)
+            {
+            return ((Number) oValue).longValue();
+            }
+        if (oValue instanceof String)
+            {
+            try
+                {
+                return Long.parseLong((String) oValue);
+                }
+            catch (NumberFormatException e)
+                {
+                // a floating point string is truncated like a floating point value
+                try
+                    {
+                    return (long) Double.parseDouble((String) oValue);
+                    }
+                catch (NumberFormatException eDouble)
+                    {
+                    return 0L;
+                    }
+                }
+            }
+        return 0L;
+        }
+
     /**
      * Turn a String number value that may have decimal points to one without.
      *
@@ -377,23 +477,6 @@ public abstract class AbstractData
         return null;
         }
 
-    /**
-     * Escape a string, by replacing $ with \$, so it can be used in replaceAll without
-     * causing an Illegal group reference.
-     *
-     * @param sValue value to escape
-     * @return escaped value
-     */
-    protected static String escape(String sValue)
-        {
-        StringBuilder sb = new StringBuilder();
-        for (int i = 0; i < sValue.length() ; i++)
-            {
-            sb.append(sValue.charAt(i) == '$' ? "\\$" : sValue.charAt(i));
-             }
-        return sb.toString();
-        }
-
     // ----- inner classes --------------------------------------------------
 
     /**
@@ -443,11 +526,6 @@ public abstract class AbstractData
     protected final int f_nColumnCount;
 
 
-    /**
-     * The report object location to use to run reports.
-     */
-    private static String m_sReporterLocation = null;
-
     /**
      * The logger object to use.
      */
@@ -33,6 +33,7 @@ import com.oracle.coherence.plugin.visualvm.helper.RequestSender;
 import com.oracle.coherence.plugin.visualvm.VisualVMModel;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -247,12 +248,12 @@ public abstract class AbstractElasticData
      * {@inheritDoc}
      */
     @Override
-    public String preProcessReporterXML(VisualVMModel model, String sReporterXML)
+    protected Map<String, String> getReportParameters(VisualVMModel model)
         {
         // the report XML contains the following tokens that require substitution:
         // %QUERY_PREFIX%
 
-        return sReporterXML.replaceAll("%QUERY_PREFIX%", getJMXQueryPrefix());
+        return Collections.singletonMap("%QUERY_PREFIX%", getJMXQueryPrefix());
         }
 
     // ----- constants ------------------------------------------------------
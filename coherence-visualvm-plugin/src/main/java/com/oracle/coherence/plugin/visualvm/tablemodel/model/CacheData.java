@@ -30,10 +30,13 @@ import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.oracle.coherence.plugin.visualvm.VisualVMModel;
 
 import com.oracle.coherence.plugin.visualvm.helper.HttpRequestSender;
+import com.oracle.coherence.plugin.visualvm.helper.JsonItemIterator;
 import com.oracle.coherence.plugin.visualvm.helper.RequestSender;
 
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -43,6 +46,9 @@ import java.util.TreeMap;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
 import javax.management.AttributeList;
 import javax.management.ObjectName;
 
@@ -130,7 +136,7 @@ public class CacheData
 
                 if (setDistributedCache == null)
                     {
-                    throw new RuntimeException("setDistributedCache must not be null. Make sure SERVICE is before CACHE in enum.");
+                    throw new RuntimeException("setDistributedCache must not be null. Make sure CACHE depends on SERVICE.");
                     }
 
                 boolean fIsDistributedCache = setDistributedCache.contains(sRawServiceName);
@@ -139,47 +145,52 @@ public class CacheData
                 String   sDomainPartition = asServiceDetails[0];
                 String   sServiceName     = asServiceDetails[1];
 
-                Set resultSet = sender.getCacheMembers(sServiceName, sCacheName, sDomainPartition);
-
-                boolean fisSizeCounted = false;    // indicates if non dist cache size has been counted
+                Set<ObjectName> resultSet = sender.getCacheMembers(sServiceName, sCacheName, sDomainPartition);
+                Set<ObjectName> setBack   = new LinkedHashSet<>();
 
-                for (Iterator iter = resultSet.iterator(); iter.hasNext(); )
+                for (ObjectName objectName : resultSet)
                     {
-                    ObjectName objectName = (ObjectName) iter.next();
-
                     if (objectName.getKeyProperty("tier").equals("back"))
                         {
-                        data = (CacheData) mapData.get(key);
+                        setBack.add(objectName);
+                        }
+                    }
 
-                        if (fIsDistributedCache || !fisSizeCounted)
-                            {
-                            data.setColumn(CacheData.SIZE,
-                                           (Integer) data.getColumn(CacheData.SIZE)
-                                           + Integer.parseInt(sender.getAttribute(objectName, "Size")));
-
-                            if (!fisSizeCounted)
-                                {
-                                fisSizeCounted = true;
-                                }
-                            }
+                // retrieve the attributes of all the back tier members at once
+                Map<ObjectName, AttributeList> mapAttributes = sender.getAttributes(setBack,
+                    new String[]{ "Size", CacheDetailData.ATTR_UNITS, CacheDetailData.ATTR_UNIT_FACTOR, MEMORY_UNITS});
 
-                        AttributeList listAttr = sender.getAttributes(objectName,
-                          new String[]{ CacheDetailData.ATTR_UNITS, CacheDetailData.ATTR_UNIT_FACTOR, MEMORY_UNITS});
+                boolean fisSizeCounted = false;    // indicates if non dist cache size has been counted
 
-                        data.setColumn(CacheData.MEMORY_USAGE_BYTES,
-                                       (Long) data.getColumn(CacheData.MEMORY_USAGE_BYTES)
-                                       + (Integer.parseInt(getAttributeValueAsString(listAttr, CacheDetailData.ATTR_UNITS)) * 1L *
-                                          Integer.parseInt(getAttributeValueAsString(listAttr, CacheDetailData.ATTR_UNIT_FACTOR))));
+                for (AttributeList listAttr : mapAttributes.values())
+                    {
+                    data = (CacheData) mapData.get(key);
 
-                        // set unit calculator if its not already set
-                        if (data.getColumn(UNIT_CALCULATOR) == null)
+                    if (fIsDistributedCache || !fisSizeCounted)
+                        {
+                        data.setColumn(CacheData.SIZE,
+                                       data.getInt(CacheData.SIZE)
+                                       + Integer.parseInt(getAttributeValueAsString(listAttr, "Size")));
+
+                        if (!fisSizeCounted)
                             {
-                            boolean fMemoryUnits = Boolean.valueOf(getAttributeValue(listAttr, MEMORY_UNITS).toString());
-                            data.setColumn(CacheData.UNIT_CALCULATOR, fMemoryUnits ? "BINARY" : "FIXED");
+                            fisSizeCounted = true;
                             }
+                        }
 
-                        mapData.put(key, data);
+                    data.setColumn(CacheData.MEMORY_USAGE_BYTES,
+                                   data.getLong(CacheData.MEMORY_USAGE_BYTES)
+                                   + (Integer.parseInt(getAttributeValueAsString(listAttr, CacheDetailData.ATTR_UNITS)) * 1L *
+                                      Integer.parseInt(getAttributeValueAsString(listAttr, CacheDetailData.ATTR_UNIT_FACTOR))));
+
+                    // set unit calculator if its not already set
+                    if (data.getColumn(UNIT_CALCULATOR) == null)
+                        {
+                        boolean fMemoryUnits = Boolean.valueOf(getAttributeValue(listAttr, MEMORY_UNITS).toString());
+                        data.setColumn(CacheData.UNIT_CALCULATOR, fMemoryUnits ? "BINARY" : "FIXED");
                         }
+
+                    mapData.put(key, data);
                     }
 
                 // update the cache entry averages
@@ -193,16 +204,16 @@ public class CacheData
                     data.setColumn(CacheData.MEMORY_USAGE_MB, 0);
                     }
                 else {
-                    if ((Integer) data.getColumn(CacheData.SIZE) != 0)
+                    if (data.getInt(CacheData.SIZE) != 0)
                         {
                         data.setColumn(CacheData.AVG_OBJECT_SIZE,
-                                       (Long) data.getColumn(CacheData.MEMORY_USAGE_BYTES)
-                                       / (Integer) data.getColumn(CacheData.SIZE));
+                                       data.getLong(CacheData.MEMORY_USAGE_BYTES)
+                                       / data.getInt(CacheData.SIZE));
                         }
 
-                    Long nMemoryUsageMB = ((Long) data.getColumn(CacheData.MEMORY_USAGE_BYTES)) / 1024 / 1024;
-                    
-                    data.setColumn(CacheData.MEMORY_USAGE_MB, nMemoryUsageMB.intValue());
+                    long nMemoryUsageMB = data.getLong(CacheData.MEMORY_USAGE_BYTES) / 1024 / 1024;
+
+                    data.setColumn(CacheData.MEMORY_USAGE_MB, (int) nMemoryUsageMB);
                 }
 
                 mapData.put(key, data);
@@ -219,6 +230,13 @@ public class CacheData
             }
         }
 
+    @Override
+    public Set<VisualVMModel.DataType> getDependencies()
+        {
+        // the list of distributed caches is set by SERVICE
+        return EnumSet.of(VisualVMModel.DataType.CLUSTER, VisualVMModel.DataType.SERVICE);
+        }
+
     @Override
     public String getReporterReport()
         {
@@ -237,13 +255,13 @@ public class CacheData
         Pair<String, String> key = new Pair<String, String>(aoColumns[2].toString(), aoColumns[3].toString());
 
         data.setColumn(CacheData.CACHE_NAME, key);
-        data.setColumn(CacheData.SIZE, Integer.valueOf(getNumberValue(aoColumns[4].toString())));
-        data.setColumn(CacheData.MEMORY_USAGE_BYTES, Long.valueOf(getNumberValue(aoColumns[5].toString())));
-        data.setColumn(CacheData.MEMORY_USAGE_MB, Integer.valueOf(getNumberValue(aoColumns[5].toString())) / 1024 / 1024);
+        data.setColumn(CacheData.SIZE, Integer.parseInt(getNumberValue(aoColumns[4].toString())));
+        data.setColumn(CacheData.MEMORY_USAGE_BYTES, Long.parseLong(getNumberValue(aoColumns[5].toString())));
+        data.setColumn(CacheData.MEMORY_USAGE_MB, Integer.parseInt(getNumberValue(aoColumns[5].toString())) / 1024 / 1024);
 
         if (aoColumns[7] != null)
             {
-            data.setColumn(CacheData.AVG_OBJECT_SIZE, Integer.valueOf(getNumberValue(aoColumns[7].toString())));
+            data.setColumn(CacheData.AVG_OBJECT_SIZE, Integer.parseInt(getNumberValue(aoColumns[7].toString())));
             }
         else
             {
@@ -257,55 +275,38 @@ public class CacheData
     public SortedMap<Object, Data> getAggregatedDataFromHttpQuerying(VisualVMModel model, HttpRequestSender requestSender)
             throws Exception
         {
-        List<Map.Entry<Object, Data>> serviceData = model.getData(VisualVMModel.DataType.SERVICE);
-        JsonNode listOfOptimizedCaches = null;
+        List<Map.Entry<Object, Data>> serviceData = model.getCollectedData(VisualVMModel.DataType.SERVICE);
+        Boolean fOptimizationAvailable = model.isRestCacheOptimizationAvailable();
         final SortedMap<Object, Data> mapData = new TreeMap<>();
 
-        if (model.isRestCacheOptimizationAvailable() == null)
+        // determine if the cluster supports the optimization. We must use one of the services
+        // and determine if there is a domain partition as we cannot rely on a cluster version
+        boolean fDetect = fOptimizationAvailable == null && serviceData != null && serviceData.size() > 0;
+
+        if (fDetect || (fOptimizationAvailable != null && fOptimizationAvailable))
             {
-            // determine if the cluster supports the optimization. We must use one of the services
-            // and determine if there is a domain partition as we cannot rely on a cluster version
-            if (serviceData != null && serviceData.size() > 0)
+            // the caches are read from the response one at a time so only the collected data is held in memory
+            try (JsonItemIterator iterCaches = requestSender.iterateListOfCaches())
                 {
-                listOfOptimizedCaches           = requestSender.getListOfCaches();
-                JsonNode itemsNodeCaches        = listOfOptimizedCaches.get("items");
-
-                boolean fFoundService = false;
-
-                if (itemsNodeCaches != null && itemsNodeCaches.isArray())
+                while (iterCaches.hasNext())
                     {
-                    for (int i = 0; i < itemsNodeCaches.size(); i++)
+                    JsonNode cacheDetails = iterCaches.next();
+                    JsonNode nodeService  = cacheDetails.get("service");
+
+                    // the service is only returned by clusters which support the optimization
+                    if (nodeService == null)
                         {
-                        JsonNode cacheDetails = itemsNodeCaches.get(i);
-                        if (cacheDetails.get("service") != null)
+                        if (!fDetect)
                             {
-                            fFoundService = true;
-                            break;
+                            return null;
                             }
+                        fOptimizationAvailable = false;
+                        break;
                         }
-                    }
 
-                model.setRestCacheOptimizationAvailable(fFoundService);
-                }
-            }
+                    fOptimizationAvailable = true;
 
-        if (model.isRestCacheOptimizationAvailable() != null && model.isRestCacheOptimizationAvailable())
-            {
-            // we can use the optimization, but check if the listOfOptimizedCaches is populated
-            // otherwise populate it
-            if (listOfOptimizedCaches == null)
-                {
-                listOfOptimizedCaches = requestSender.getListOfCaches();
-                }
-
-            JsonNode itemsNodeCaches = listOfOptimizedCaches.get("items");
-
-            if (itemsNodeCaches != null && itemsNodeCaches.isArray())
-                {
-                for (int i = 0; i < itemsNodeCaches.size(); i++)
-                    {
-                    JsonNode cacheDetails = itemsNodeCaches.get(i);
-                    String sServiceName = cacheDetails.get("service").asText();
+                    String sServiceName = nodeService.asText();
                     String sCacheName = cacheDetails.get("name").asText();
 
                     Data data = getData(model, sServiceName, cacheDetails);
@@ -320,20 +321,48 @@ public class CacheData
                     mapData.put(key, data);
                     }
                 }
-            // return the collected data as we can use optimization
-            return mapData;
+
+            if (fDetect)
+                {
+                model.setRestCacheOptimizationAvailable(fOptimizationAvailable != null && fOptimizationAvailable);
+                }
+
+            if (fOptimizationAvailable != null && fOptimizationAvailable)
+                {
+                // return the collected data as we can use optimization
+                return mapData;
+                }
+
+            mapData.clear();
             }
 
         if (serviceData != null && serviceData.size() > 0)
             {
+            // issue the requests for all services up front so they run concurrently,
+            // and then process the responses in service order
+            List<String>                      listServiceNames = new ArrayList<>(serviceData.size());
+            List<CompletableFuture<JsonNode>> listFutures      = new ArrayList<>(serviceData.size());
             for (Map.Entry<Object, Data> service : serviceData)
                 {
-                String   sService            = (String) service.getKey();
-                String[] asServiceDetails    = getDomainAndService(sService);
-                String   sDomainPartition    = asServiceDetails[0];
-                String   sServiceName        = asServiceDetails[1];
+                String[] asServiceDetails = getDomainAndService((String) service.getKey());
+                listServiceNames.add(asServiceDetails[1]);
+                listFutures.add(requestSender.getListOfServiceCachesAsync(asServiceDetails[1], asServiceDetails[0]));
+                }
+
+            for (int n = 0; n < listFutures.size(); n++)
+                {
+                String   sServiceName        = listServiceNames.get(n);
+                JsonNode listOfServiceCaches;
+                try
+                    {
+                    listOfServiceCaches = listFutures.get(n).get();
+                    }
+                catch (ExecutionException e)
+                    {
+                    listFutures.forEach(future -> future.cancel(true));
+                    throw e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+                    }
 
-                JsonNode listOfServiceCaches = requestSender.getListOfServiceCaches(sServiceName, sDomainPartition);
                 JsonNode itemsNode           = listOfServiceCaches.get("items");
 
                 if (itemsNode != null && itemsNode.isArray())
@@ -349,6 +378,7 @@ public class CacheData
                         if (data == null)
                             {
                             // Connecting to version without Bug 32134281 fix so force less efficient way
+                            listFutures.forEach(future -> future.cancel(true));
                             return null;
                             }
 
@@ -428,7 +458,7 @@ public class CacheData
 
         if (setDistributedCache == null)
             {
-            throw new RuntimeException("setDistributedCache must not be null. Make sure SERVICE is before CACHE in enum.");
+            throw new RuntimeException("setDistributedCache must not be null. Make sure CACHE depends on SERVICE.");
             }
 
         // we need to check to see if this cache is not a distributed cache and adjust the
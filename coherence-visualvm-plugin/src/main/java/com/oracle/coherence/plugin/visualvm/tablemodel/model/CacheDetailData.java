@@ -30,9 +30,11 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.oracle.coherence.plugin.visualvm.VisualVMModel;
 
 import com.oracle.coherence.plugin.visualvm.helper.HttpRequestSender;
+import com.oracle.coherence.plugin.visualvm.helper.JsonItemIterator;
 import com.oracle.coherence.plugin.visualvm.helper.RequestSender;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -196,7 +198,7 @@ public class CacheDetailData
         }
 
     @Override
-    public String preProcessReporterXML(VisualVMModel model, String sReporterXML)
+    protected Map<String, String> getReportParameters(VisualVMModel model)
         {
         // the report XML contains the following tokens that require substitution:
         // %SERVICE_NAME%
@@ -205,22 +207,23 @@ public class CacheDetailData
 
         Pair<String, String> selectedCache = model.getSelectedCache();
 
-        // see if we have domainPartition key
-        String sServiceName     = null;
-        String sDomainPartition = null;
-
-        if (selectedCache != null)
+        if (selectedCache == null)
             {
-            String[] asServiceDetails = getDomainAndService(selectedCache.getX());
-            sServiceName              = asServiceDetails[1];
-            sDomainPartition          = asServiceDetails[0];
+            return null;
             }
 
-        return sServiceName == null ? sReporterXML :
-                sReporterXML.replaceAll("%SERVICE_NAME%", escape(sServiceName) +
-                                        (sDomainPartition != null ? ",domainPartition=" + sDomainPartition : "") )
-                            .replaceAll("%CACHE_NAME%", escape(selectedCache.getY()))
-                            .replaceAll("%TIER_TYPE%", m_type.getValue());
+        // see if we have domainPartition key
+        String[] asServiceDetails = getDomainAndService(selectedCache.getX());
+        String   sServiceName     = asServiceDetails[1];
+        String   sDomainPartition = asServiceDetails[0];
+
+        Map<String, String> mapParameters = new HashMap<>();
+        mapParameters.put("%SERVICE_NAME%", sServiceName +
+                                            (sDomainPartition != null ? ",domainPartition=" + sDomainPartition : ""));
+        mapParameters.put("%CACHE_NAME%", selectedCache.getY());
+        mapParameters.put("%TIER_TYPE%", m_type.getValue());
+
+        return mapParameters;
         }
 
     @Override
@@ -255,9 +258,6 @@ public class CacheDetailData
         String sDomainPartition         = asServiceDetails[0];
         SortedMap<Object, Data> mapData = new TreeMap<Object, Data>();
 
-        JsonNode rootNode         = requestSender.getDataForCacheMembers(sServiceName, selectedCache.getY(), sDomainPartition);
-        JsonNode nodeCacheMembers = rootNode.get("items");
-
         // get columns
 
         boolean fIsBack = m_type == CacheType.BACK_TIER;
@@ -265,11 +265,12 @@ public class CacheDetailData
         // the following offset is required due to the difference in the column numbers for front and back
         int     nOffset = fIsBack ? 0 : 1;
 
-        if (nodeCacheMembers != null && nodeCacheMembers.isArray())
+        try (JsonItemIterator iterCacheMembers =
+                     requestSender.iterateDataForCacheMembers(sServiceName, selectedCache.getY(), sDomainPartition))
             {
-            for (int i = 0; i < nodeCacheMembers.size(); i++)
+            while (iterCacheMembers.hasNext())
                 {
-                JsonNode nodeCacheMember = nodeCacheMembers.get(i);
+                JsonNode nodeCacheMember = iterCacheMembers.next();
 
                 if (nodeCacheMember.get("tier").asText().equals(m_type.getValue()))
                     {
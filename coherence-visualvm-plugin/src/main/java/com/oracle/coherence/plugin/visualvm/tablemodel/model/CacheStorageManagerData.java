@@ -32,6 +32,7 @@ import com.oracle.coherence.plugin.visualvm.helper.RequestSender;
 import com.oracle.coherence.plugin.visualvm.VisualVMModel;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -157,7 +158,7 @@ public class CacheStorageManagerData
         }
 
     @Override
-    public String preProcessReporterXML(VisualVMModel model, String sReporterXML)
+    protected Map<String, String> getReportParameters(VisualVMModel model)
         {
         // the report XML contains the following tokens that require substitution:
         // %SERVICE_NAME%
@@ -165,21 +166,22 @@ public class CacheStorageManagerData
 
         Pair<String, String> selectedCache = model.getSelectedCache();
 
-        // see if we have domainPartition key
-        String sServiceName     = null;
-        String sDomainPartition = null;
-
-        if (selectedCache != null)
+        if (selectedCache == null)
             {
-            String[] asServiceDetails = getDomainAndService(selectedCache.getX());
-            sServiceName              = asServiceDetails[1];
-            sDomainPartition          = asServiceDetails[0];
+            return null;
             }
 
-        return sServiceName == null ? sReporterXML :
-                     sReporterXML.replaceAll("%SERVICE_NAME%", escape(sServiceName) +
-                                             (sDomainPartition != null ? ",domainPartition=" + sDomainPartition : "") )
-                                 .replaceAll("%CACHE_NAME%",   escape(selectedCache.getY()));
+        // see if we have domainPartition key
+        String[] asServiceDetails = getDomainAndService(selectedCache.getX());
+        String   sServiceName     = asServiceDetails[1];
+        String   sDomainPartition = asServiceDetails[0];
+
+        Map<String, String> mapParameters = new HashMap<>();
+        mapParameters.put("%SERVICE_NAME%", sServiceName +
+                                            (sDomainPartition != null ? ",domainPartition=" + sDomainPartition : ""));
+        mapParameters.put("%CACHE_NAME%", selectedCache.getY());
+
+        return mapParameters;
         }
 
     @Override
@@ -34,6 +34,7 @@ import com.oracle.coherence.plugin.visualvm.VisualVMModel;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.EnumSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -77,6 +78,13 @@ public class ClusterData
         return new ArrayList<>(getJMXDataMap(requestSender, model).entrySet());
         }
 
+    @Override
+    public Set<VisualVMModel.DataType> getDependencies()
+        {
+        // CLUSTER is always refreshed first as it determines the version
+        return EnumSet.noneOf(VisualVMModel.DataType.class);
+        }
+
     @Override
     public String getReporterReport()
         {
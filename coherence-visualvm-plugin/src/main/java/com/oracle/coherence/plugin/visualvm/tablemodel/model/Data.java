@@ -53,4 +53,43 @@ public interface Data
      * @param oValue  the value to set
      */
     public void setColumn(int nColumn, Object oValue);
+
+    /**
+     * Get a given column value as an int, without the caller having to know
+     * its type. Floating point values are truncated, numeric strings are
+     * parsed and a column without a numeric value returns 0.
+     *
+     * @param nColumn the column index
+     *
+     * @return the column value as an int
+     *
+     * @since 1.8.0
+     */
+    public int getInt(int nColumn);
+
+    /**
+     * Get a given column value as a long, without the caller having to know
+     * its type. Floating point values are truncated, numeric strings are
+     * parsed and a column without a numeric value returns 0.
+     *
+     * @param nColumn the column index
+     *
+     * @return the column value as a long
+     *
+     * @since 1.8.0
+     */
+    public long getLong(int nColumn);
+
+    /**
+     * Get a given column value as a double, without the caller having to know
+     * its type. Numeric strings are parsed and a column without a numeric
+     * value returns 0.
+     *
+     * @param nColumn the column index
+     *
+     * @return the column value as a double
+     *
+     * @since 1.8.0
+     */
+    public double getDouble(int nColumn);
     }
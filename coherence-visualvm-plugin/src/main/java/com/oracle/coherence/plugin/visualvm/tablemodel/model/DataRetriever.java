@@ -31,6 +31,7 @@ import com.oracle.coherence.plugin.visualvm.helper.HttpRequestSender;
 import com.oracle.coherence.plugin.visualvm.helper.RequestSender;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.SortedMap;
 
 import javax.management.openmbean.TabularData;
@@ -62,6 +63,14 @@ public interface DataRetriever
      */
     public String getReporterReport();
 
+    /**
+     * Return the {@link VisualVMModel.DataType}s which must be refreshed before
+     * this retriever is run, as it consumes data they collect in the same cycle.
+     *
+     * @return the {@link Set} of {@link VisualVMModel.DataType}s this retriever depends on
+     */
+    public Set<VisualVMModel.DataType> getDependencies();
+
     /**
      * Return a {@link List} of statistics given a {@link TabularData} output
      * generated by the reporter.
@@ -88,30 +97,30 @@ public interface DataRetriever
     public Data processReporterData(Object[] aoColumns, VisualVMModel model);
 
     /**
-     * Perform any pre-processing of the generated reporter XML to do things such as
+     * Assemble the reporter XML from its template, carrying out any
      * parameter substitution.
      *
-     * @param  model         the {@link VisualVMModel} to use
-     * @param  sReporterXML  the report XML read from the XML file
+     * @param  model     the {@link VisualVMModel} to use
+     * @param  template  the {@link ReportTemplate} parsed from the XML file
      *
-     * @return a String representing the modified reporter XML
+     * @return a String representing the reporter XML to run
      */
-    public String preProcessReporterXML(VisualVMModel model, String sReporterXML) ;
+    public String preProcessReporterXML(VisualVMModel model, ReportTemplate template) ;
 
     /**
      * Get the aggregated data using the corresponding report.
      *
      * @param model          the {@link VisualVMModel} to use
      * @param requestSender  the request sender to use
-     * @param sReportXML     the report XML to use
+     * @param template       the {@link ReportTemplate} of the report to use
      *
      * @return the result after running the report
      *
      * @throws Exception in case of error
      */
-    SortedMap<Object, Data> getAggregatedDataUsingReport(VisualVMModel model,
-                                                         RequestSender requestSender,
-                                                         String        sReportXML) throws Exception;
+    SortedMap<Object, Data> getAggregatedDataUsingReport(VisualVMModel  model,
+                                                         RequestSender  requestSender,
+                                                         ReportTemplate template) throws Exception;
 
     /**
      * Get the aggregated data using REST api.
@@ -28,12 +28,13 @@ package com.oracle.coherence.plugin.visualvm.tablemodel.model;
 
 
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.oracle.coherence.plugin.visualvm.VisualVMModel;
 
 import com.oracle.coherence.plugin.visualvm.helper.HttpRequestSender;
+import com.oracle.coherence.plugin.visualvm.helper.JsonItemIterator;
 import com.oracle.coherence.plugin.visualvm.helper.RequestSender;
 
+import java.util.EnumSet;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -71,6 +72,14 @@ public abstract class FederationData
         return null;
         }
 
+    /**
+     * {@inheritDoc}
+     */
+    public Set<VisualVMModel.DataType> getDependencies()
+        {
+        // federation is only retrieved once SERVICE has determined it is available
+        return EnumSet.of(VisualVMModel.DataType.CLUSTER, VisualVMModel.DataType.SERVICE);
+        }
 
     /**
      * Defines the data collected from destination MBeans, origin MBeans and aggregations.
@@ -117,15 +126,13 @@ public abstract class FederationData
      */
     protected Set<String> retrieveFederatedServices(HttpRequestSender requestSender) throws Exception
         {
-        Set<String> setServices       = new HashSet<>();
-        JsonNode    allStorageMembers = requestSender.getAllStorageMembers();
-        JsonNode    serviceItemsNode  = allStorageMembers.get("items");
+        Set<String> setServices = new HashSet<>();
 
-        if (serviceItemsNode != null && serviceItemsNode.isArray())
+        try (JsonItemIterator iterStorageMembers = requestSender.iterateAllStorageMembers())
             {
-            for (int i = 0; i < ((ArrayNode) serviceItemsNode).size(); i++)
+            while (iterStorageMembers.hasNext())
                 {
-                JsonNode details = serviceItemsNode.get(i);
+                JsonNode details = iterStorageMembers.next();
                 String sServiceName = details.get("name").asText();
                 JsonNode domainPartition = details.get("domainPartition");
                 String sDomainPartition = domainPartition == null ? null : domainPartition.asText();
@@ -31,8 +31,11 @@ import com.oracle.coherence.plugin.visualvm.VisualVMModel;
 
 import com.oracle.coherence.plugin.visualvm.helper.HttpRequestSender;
 import com.oracle.coherence.plugin.visualvm.helper.RequestSender;
+import java.util.EnumSet;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import java.util.SortedMap;
 import java.util.TreeMap;
@@ -68,6 +71,13 @@ public class FederationDestinationDetailsData
         return null;
         }
 
+    @Override
+    public Set<VisualVMModel.DataType> getDependencies()
+        {
+        // federation is only retrieved once SERVICE has determined it is available
+        return EnumSet.of(VisualVMModel.DataType.CLUSTER, VisualVMModel.DataType.SERVICE);
+        }
+
     @Override
     public String getReporterReport()
         {
@@ -75,23 +85,35 @@ public class FederationDestinationDetailsData
         }
 
     @Override
-    public String preProcessReporterXML(VisualVMModel model, String sReporterXML)
+    protected Map<String, String> getReportParameters(VisualVMModel model)
         {
-        return preProcessReporterXMLInternal(model, sReporterXML);
+        return getReportParametersInternal(model);
         }
 
-    protected static String preProcessReporterXMLInternal(VisualVMModel model, String sReporterXML)
+    /**
+     * Returns the parameters to substitute into the federation details reports.
+     *
+     * @param model  the {@link VisualVMModel} to use
+     *
+     * @return the parameters keyed by token or null if no participant is selected
+     */
+    protected static Map<String, String> getReportParametersInternal(VisualVMModel model)
         {
         // the report XML contains the following tokens that require substitution:
         // %SERVICE_NAME%
         // %PARTICIPANT_NAME%
         Pair<String, String> serviceParticipant = model.getSelectedServiceParticipant();
 
-        String query = serviceParticipant == null ? sReporterXML :
-               sReporterXML.replaceAll("%SERVICE_NAME%", escape(serviceParticipant.getX()))
-                           .replaceAll("%PARTICIPANT_NAME%", escape(serviceParticipant.getY()));
+        if (serviceParticipant == null)
+            {
+            return null;
+            }
+
+        Map<String, String> mapParameters = new HashMap<>();
+        mapParameters.put("%SERVICE_NAME%", serviceParticipant.getX());
+        mapParameters.put("%PARTICIPANT_NAME%", serviceParticipant.getY());
 
-        return query;
+        return mapParameters;
         }
 
     @Override
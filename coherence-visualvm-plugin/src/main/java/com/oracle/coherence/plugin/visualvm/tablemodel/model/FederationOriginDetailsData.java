@@ -32,8 +32,10 @@ import com.oracle.coherence.plugin.visualvm.helper.HttpRequestSender;
 import com.oracle.coherence.plugin.visualvm.helper.RequestSender;
 import com.oracle.coherence.plugin.visualvm.VisualVMModel;
 
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.SortedMap;
 import java.util.TreeMap;
 
@@ -62,6 +64,13 @@ public class FederationOriginDetailsData
 
     // ----- DataRetriever methods ------------------------------------------
 
+    @Override
+    public Set<VisualVMModel.DataType> getDependencies()
+        {
+        // federation is only retrieved once SERVICE has determined it is available
+        return EnumSet.of(VisualVMModel.DataType.CLUSTER, VisualVMModel.DataType.SERVICE);
+        }
+
     @Override
     public String getReporterReport()
         {
@@ -76,9 +85,9 @@ public class FederationOriginDetailsData
         }
 
     @Override
-    public String preProcessReporterXML(VisualVMModel model, String sReporterXML)
+    protected Map<String, String> getReportParameters(VisualVMModel model)
         {
-        return FederationDestinationDetailsData.preProcessReporterXMLInternal(model, sReporterXML);
+        return FederationDestinationDetailsData.getReportParametersInternal(model);
         }
 
     @Override
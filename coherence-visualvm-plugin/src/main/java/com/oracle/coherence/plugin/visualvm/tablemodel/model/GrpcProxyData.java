@@ -25,6 +25,7 @@
 
 package com.oracle.coherence.plugin.visualvm.tablemodel.model;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.SortedMap;
@@ -89,14 +90,14 @@ public class GrpcProxyData
         }
 
     @Override
-    public String preProcessReporterXML(VisualVMModel model, String sReporterXML)
+    protected Map<String, String> getReportParameters(VisualVMModel model)
         {
         // get the gRPC version from the preferences
         int nVersion = GlobalPreferences.sharedInstance().getGrpcVersion();
 
         String sMBeanName = nVersion == 0 ? "GrpcNamedCacheProxy" : "GrpcProxy";
 
-        return sReporterXML.replaceAll("%MBEAN%", escape(sMBeanName));
+        return Collections.singletonMap("%MBEAN%", sMBeanName);
         }
 
     @Override
@@ -32,6 +32,7 @@ import com.oracle.coherence.plugin.visualvm.VisualVMModel;
 import com.oracle.coherence.plugin.visualvm.helper.HttpRequestSender;
 import com.oracle.coherence.plugin.visualvm.helper.RequestSender;
 
+import java.util.Collections;
 import java.util.Set;
 import java.util.SortedMap;
 import java.util.TreeMap;
@@ -98,19 +99,14 @@ public class HttpProxyMemberData extends AbstractData
         }
 
     @Override
-    public String preProcessReporterXML(VisualVMModel model, String sReporterXML)
+    protected Map<String, String> getReportParameters(VisualVMModel model)
         {
         // the report XML contains the following tokens that require substitution:
         // %SERVICE_NAME%
 
         String sServiceName  = model.getSelectedHttpProxyService();
 
-        if (sServiceName != null)
-            {
-            return sReporterXML.replaceAll(SERVICE_NAME, escape(sServiceName));
-            }
-
-        return sReporterXML;
+        return sServiceName == null ? null : Collections.singletonMap(SERVICE_NAME, sServiceName);
         }
 
     @Override
@@ -30,6 +30,7 @@ import com.oracle.coherence.plugin.visualvm.helper.RequestSender;
 import com.oracle.coherence.plugin.visualvm.VisualVMModel;
 
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -43,8 +44,11 @@ import java.util.TreeMap;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import javax.management.AttributeList;
 import javax.management.ObjectName;
 
+import static com.oracle.coherence.plugin.visualvm.helper.JMXUtils.getAttributeValueAsString;
+
 /**
  * A class to hold basic HTTP session data.
  *
@@ -87,17 +91,21 @@ public class HttpSessionData
                 applicationSet = requestSender.getAllCoherenceWebMembers("HttpSessionManager");
                 }
 
-            for (Iterator<ObjectName> applicationIter = applicationSet.iterator(); applicationIter.hasNext(); )
+            Map<ObjectName, AttributeList> mapApplications = requestSender.getAttributes(applicationSet,
+                    new String[] { "SessionTimeout", "SessionCacheName", "OverflowCacheName" });
+
+            for (Map.Entry<ObjectName, AttributeList> entry : mapApplications.entrySet())
                 {
-                ObjectName objName = (ObjectName) applicationIter.next();
-                String     sAppId  = objName.getKeyProperty("appId");
+                ObjectName    objName  = entry.getKey();
+                AttributeList listAttr = entry.getValue();
+                String        sAppId   = objName.getKeyProperty("appId");
 
                 data = new HttpSessionData();
 
                 data.setColumn(HttpSessionData.APPLICATION_ID, sAppId);
                 data.setColumn(HttpSessionData.PLATFORM, isWebLogicServer ? "WebLogic" : "Other");
                 data.setColumn(HttpSessionData.SESSION_TIMEOUT,
-                               Integer.parseInt(requestSender.getAttribute(objName, "SessionTimeout")));
+                               Integer.parseInt(getAttributeValueAsString(listAttr, "SessionTimeout")));
                 data.setColumn(HttpSessionData.LAST_REAP_DURATION_MAX, 0L);
                 data.setColumn(HttpSessionData.SESSION_UPDATES, 0);
                 data.setColumn(HttpSessionData.AVG_SESSION_SIZE, 0);
@@ -105,9 +113,9 @@ public class HttpSessionData
                 data.setColumn(HttpSessionData.AVG_REAPED_SESSIONS, 0L);
                 data.setColumn(HttpSessionData.TOTAL_REAPED_SESSIONS, 0L);
                 data.setColumn(HttpSessionData.SESSION_CACHE_NAME,
-                        requestSender.getAttribute(objName, "SessionCacheName").toString());
+                        getAttributeValueAsString(listAttr, "SessionCacheName"));
                 data.setColumn(HttpSessionData.OVERFLOW_CACHE_NAME,
-                        requestSender.getAttribute(objName, "OverflowCacheName").toString());
+                        getAttributeValueAsString(listAttr, "OverflowCacheName"));
 
                 mapData.put(sAppId, data);
                 }
@@ -128,14 +136,16 @@ public class HttpSessionData
                 Set<ObjectName> resultSet = requestSender.getCoherenceWebMembersForApplication(
                         isWebLogicServer ?"WebLogicHttpSessionManager" :  "HttpSessionManager", sAppId);
 
-                for (Iterator<ObjectName> iterDetail = resultSet.iterator(); iterDetail.hasNext(); )
-                    {
-                    ObjectName objName = (ObjectName) iterDetail.next();
+                Map<ObjectName, AttributeList> mapAttributes = requestSender.getAttributes(resultSet,
+                        new String[] { "LastReapDuration", "SessionUpdates", "SessionAverageSize",
+                                       "AverageReapDuration", "AverageReapedSessions", "ReapedSessions" });
 
+                for (AttributeList listAttr : mapAttributes.values())
+                    {
                     data = mapData.get(sAppId);
 
                     // update the max LastReapDuration
-                    long nCurrentLastReapDuration = Long.parseLong(requestSender.getAttribute(objName, "LastReapDuration"));
+                    long nCurrentLastReapDuration = Long.parseLong(getAttributeValueAsString(listAttr, "LastReapDuration"));
 
                     if (nCurrentLastReapDuration
                         > ((Long) data.getColumn(HttpSessionData.LAST_REAP_DURATION_MAX)).longValue())
@@ -145,20 +155,20 @@ public class HttpSessionData
 
                     data.setColumn(HttpSessionData.SESSION_UPDATES,
                                    (Integer) data.getColumn(HttpSessionData.SESSION_UPDATES)
-                                   + Integer.parseInt(requestSender.getAttribute(objName, "SessionUpdates")));
+                                   + Integer.parseInt(getAttributeValueAsString(listAttr, "SessionUpdates")));
 
                     data.setColumn(HttpSessionData.AVG_SESSION_SIZE,
                                    (Integer) data.getColumn(HttpSessionData.AVG_SESSION_SIZE)
-                                   + Integer.parseInt(requestSender.getAttribute(objName, "SessionAverageSize")));
+                                   + Integer.parseInt(getAttributeValueAsString(listAttr, "SessionAverageSize")));
                     data.setColumn(HttpSessionData.AVG_REAP_DURATION,
                                    (Long) data.getColumn(HttpSessionData.AVG_REAP_DURATION)
-                                   + Long.parseLong(requestSender.getAttribute(objName, "AverageReapDuration")));
+                                   + Long.parseLong(getAttributeValueAsString(listAttr, "AverageReapDuration")));
                     data.setColumn(HttpSessionData.AVG_REAPED_SESSIONS,
                                    (Long) data.getColumn(HttpSessionData.AVG_REAPED_SESSIONS)
-                                   + Long.parseLong(requestSender.getAttribute(objName, "AverageReapedSessions")));
+                                   + Long.parseLong(getAttributeValueAsString(listAttr, "AverageReapedSessions")));
                     data.setColumn(HttpSessionData.TOTAL_REAPED_SESSIONS,
                                    (Long) data.getColumn(HttpSessionData.TOTAL_REAPED_SESSIONS)
-                                   + Long.parseLong(requestSender.getAttribute(objName, "ReapedSessions")));
+                                   + Long.parseLong(getAttributeValueAsString(listAttr, "ReapedSessions")));
 
                     mapData.put(sAppId, data);
                     }
@@ -196,6 +206,13 @@ public class HttpSessionData
         return null;
         }
 
+    @Override
+    public Set<VisualVMModel.DataType> getDependencies()
+        {
+        // session cache sizes are taken from CACHE
+        return EnumSet.of(VisualVMModel.DataType.CLUSTER, VisualVMModel.DataType.CACHE);
+        }
+
     @Override
     public String getReporterReport()
         {
@@ -225,7 +242,7 @@ public class HttpSessionData
     @SuppressWarnings("unchecked")
     public static int getCacheCount(VisualVMModel model, String sCacheName)
         {
-        List<Entry<Object, Data>> cacheData = model.getData(VisualVMModel.DataType.CACHE);
+        List<Entry<Object, Data>> cacheData = model.getCollectedData(VisualVMModel.DataType.CACHE);
 
         if (sCacheName != null)
             {
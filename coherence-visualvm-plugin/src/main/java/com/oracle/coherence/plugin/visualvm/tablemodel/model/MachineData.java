@@ -30,7 +30,8 @@ import com.oracle.coherence.plugin.visualvm.helper.RequestSender;
 import com.oracle.coherence.plugin.visualvm.VisualVMModel;
 
 import java.util.ArrayList;
-import java.util.Iterator;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -80,57 +81,60 @@ public class MachineData
             {
             // loop through each of the entries and get the data for a given node only
             // as we know that nodes on the same machine will have the same results
-            Iterator<Map.Entry<String, Integer>> iter = initialMachineMap.entrySet().iterator();
+            Map<ObjectName, String> mapMachineNames = new LinkedHashMap<>();
 
-            while (iter.hasNext())
+            for (Map.Entry<String, Integer> entry : initialMachineMap.entrySet())
                 {
-                Map.Entry<String, Integer> entry = iter.next();
-                String machineName = entry.getKey();
-
-                Set<ObjectName> resultSet = requestSender.getClusterMemberOS(entry.getValue());
-
-                for (Iterator<ObjectName> iterResults = resultSet.iterator(); iterResults.hasNext(); )
+                for (ObjectName objectName : requestSender.getClusterMemberOS(entry.getValue()))
                     {
-                    ObjectName objectName = iterResults.next();
+                    mapMachineNames.put(objectName, entry.getKey());
+                    }
+                }
 
-                    // IBM JVM on AIX for some reason has different attribute name TotalPhysicalMemory
-                    // in java.lang:type=OperatingSystem than other JVM's which use
-                    // TotalPhysicalMemorySize. (see Bug 22366612)
-                    // we cannot use System.getProperty("os.name") as this will only get the O/S the
-                    // JVisualvm plug-in is running on, not the target JVM O/S.
+            // retrieve the attributes for all machines at once
+            Map<ObjectName, AttributeList> mapAttributes = requestSender.getAttributes(mapMachineNames.keySet(),
+                    new String[] { "Name", ATTR_FREE_MEM, ATTR_LOAD_AVG, ATTR_AVAIL_PROC, ATTR_TOTAL_MEM_AIX, ATTR_TOTAL_MEM,
+                                   ATTR_CPU_LOAD });
 
-                    data = new MachineData();
+            for (Map.Entry<ObjectName, AttributeList> entry : mapAttributes.entrySet())
+                {
+                String        machineName = mapMachineNames.get(entry.getKey());
+                AttributeList listAttr    = entry.getValue();
 
-                    AttributeList listAttr = requestSender.getAttributes(objectName,
-                            new String[] { "Name", ATTR_FREE_MEM, ATTR_LOAD_AVG, ATTR_AVAIL_PROC, ATTR_TOTAL_MEM_AIX, ATTR_TOTAL_MEM });
+                // IBM JVM on AIX for some reason has different attribute name TotalPhysicalMemory
+                // in java.lang:type=OperatingSystem than other JVM's which use
+                // TotalPhysicalMemorySize. (see Bug 22366612)
+                // we cannot use System.getProperty("os.name") as this will only get the O/S the
+                // JVisualvm plug-in is running on, not the target JVM O/S.
 
-                    String sOSType     = getAttributeValueAsString(listAttr, "Name");
-                    String sMemoryAttr = sOSType != null && sOSType.toLowerCase().contains("aix") ? ATTR_TOTAL_MEM_AIX : ATTR_TOTAL_MEM;
+                data = new MachineData();
 
-                    data.setColumn(MACHINE_NAME, machineName);
-                    data.setColumn(FREE_PHYSICAL_MEMORY, Long.parseLong(getAttributeValueAsString(listAttr, ATTR_FREE_MEM)));
+                String sOSType     = getAttributeValueAsString(listAttr, "Name");
+                String sMemoryAttr = sOSType != null && sOSType.toLowerCase().contains("aix") ? ATTR_TOTAL_MEM_AIX : ATTR_TOTAL_MEM;
 
-                    loadAverage = Double.parseDouble(getAttributeValueAsString(listAttr, ATTR_LOAD_AVG));
-                    if (loadAverage == -1)
-                        {
-                        model.setLoadAverageAvailable(false);
-                        }
-                    if (!model.isLoadAverageAvailable())
-                        {
-                        loadAverage = Double.parseDouble(requestSender.getAttribute(objectName, "SystemCpuLoad"));
-                        }
+                data.setColumn(MACHINE_NAME, machineName);
+                data.setColumn(FREE_PHYSICAL_MEMORY, Long.parseLong(getAttributeValueAsString(listAttr, ATTR_FREE_MEM)));
+
+                loadAverage = Double.parseDouble(getAttributeValueAsString(listAttr, ATTR_LOAD_AVG));
+                if (loadAverage == -1)
+                    {
+                    model.setLoadAverageAvailable(false);
+                    }
+                if (!model.isLoadAverageAvailable())
+                    {
+                    loadAverage = Double.parseDouble(getAttributeValueAsString(listAttr, ATTR_CPU_LOAD));
+                    }
 
-                    data.setColumn(SYSTEM_LOAD_AVERAGE, Double.valueOf(loadAverage));
-                    data.setColumn(PROCESSOR_COUNT, Integer.parseInt(getAttributeValueAsString(listAttr, ATTR_AVAIL_PROC)));
-                    data.setColumn(TOTAL_PHYSICAL_MEMORY, Long.parseLong(getAttributeValueAsString(listAttr, sMemoryAttr)));
+                data.setColumn(SYSTEM_LOAD_AVERAGE, Double.valueOf(loadAverage));
+                data.setColumn(PROCESSOR_COUNT, Integer.parseInt(getAttributeValueAsString(listAttr, ATTR_AVAIL_PROC)));
+                data.setColumn(TOTAL_PHYSICAL_MEMORY, Long.parseLong(getAttributeValueAsString(listAttr, sMemoryAttr)));
 
-                    data.setColumn(PERCENT_FREE_MEMORY,
-                                   ((Long) data.getColumn(FREE_PHYSICAL_MEMORY) * 1.0f)
-                                   / (Long) data.getColumn(TOTAL_PHYSICAL_MEMORY));
+                data.setColumn(PERCENT_FREE_MEMORY,
+                               ((Long) data.getColumn(FREE_PHYSICAL_MEMORY) * 1.0f)
+                               / (Long) data.getColumn(TOTAL_PHYSICAL_MEMORY));
 
-                    // put it into the mapData with just a machine as the key
-                    mapData.put(machineName, data);
-                    }
+                // put it into the mapData with just a machine as the key
+                mapData.put(machineName, data);
                 }
 
             return new ArrayList<>(mapData.entrySet());
@@ -144,6 +148,13 @@ public class MachineData
             }
         }
 
+    @Override
+    public Set<VisualVMModel.DataType> getDependencies()
+        {
+        // the list of machines is derived from MEMBER
+        return EnumSet.of(VisualVMModel.DataType.CLUSTER, VisualVMModel.DataType.MEMBER);
+        }
+
     @Override
     public String getReporterReport()
         {
@@ -227,4 +238,9 @@ public class MachineData
      * JMX attribute name for Total Physical Memory Size for IBM JDK on AIX.
      */
     protected static final String ATTR_TOTAL_MEM_AIX = "TotalPhysicalMemory";
+
+    /**
+     * JMX attribute name for System CPU Load.
+     */
+    protected static final String ATTR_CPU_LOAD = "SystemCpuLoad";
     }
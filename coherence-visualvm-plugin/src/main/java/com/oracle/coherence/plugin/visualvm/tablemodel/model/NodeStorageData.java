@@ -29,12 +29,14 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.oracle.coherence.plugin.visualvm.VisualVMModel;
 import com.oracle.coherence.plugin.visualvm.helper.HttpRequestSender;
 import com.oracle.coherence.plugin.visualvm.helper.JMXRequestSender;
+import com.oracle.coherence.plugin.visualvm.helper.JsonItemIterator;
 import com.oracle.coherence.plugin.visualvm.helper.RequestSender;
 
 import javax.management.AttributeList;
 import javax.management.ObjectName;
 
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
@@ -77,6 +79,13 @@ public class NodeStorageData
                 : getAggregatedDataFromHttpQuerying(model, (HttpRequestSender) requestSender).entrySet());
         }
 
+    @Override
+    public Set<VisualVMModel.DataType> getDependencies()
+        {
+        // the list of distributed caches is set by SERVICE
+        return EnumSet.of(VisualVMModel.DataType.CLUSTER, VisualVMModel.DataType.SERVICE);
+        }
+
     @Override
     public String getReporterReport()
         {
@@ -92,22 +101,16 @@ public class NodeStorageData
     @Override
     public SortedMap<Object, Data> getAggregatedDataFromHttpQuerying(VisualVMModel model, HttpRequestSender requestSender)
         {
-        try
+        try (JsonItemIterator iterNodeStorage = requestSender.iterateNodeStorage())
             {
-            JsonNode nodeStorage = requestSender.getNodeStorage();
             Map<Integer, Integer> mapNodes = new HashMap<>();
 
-            JsonNode nodeDetails = nodeStorage.get("items");
-
-            if (nodeDetails != null && nodeDetails.isArray())
+            while (iterNodeStorage.hasNext())
                 {
-                for (int i = 0; i < nodeDetails.size(); i++)
-                    {
-                    JsonNode details = nodeDetails.get(i);
-                    int nNodeId = details.get("nodeId").asInt();
-                    int nOwnedPartitions = details.get("ownedPartitionsPrimary").asInt();
-                    checkNode(mapNodes, nNodeId, nOwnedPartitions);
-                    }
+                JsonNode details = iterNodeStorage.next();
+                int nNodeId = details.get("nodeId").asInt();
+                int nOwnedPartitions = details.get("ownedPartitionsPrimary").asInt();
+                checkNode(mapNodes, nNodeId, nOwnedPartitions);
                 }
 
             return populateMap(mapNodes);
@@ -26,12 +26,12 @@
 package com.oracle.coherence.plugin.visualvm.tablemodel.model;
 
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.oracle.coherence.plugin.visualvm.VisualVMModel;
 
 import com.oracle.coherence.plugin.visualvm.helper.GraphHelper;
 import com.oracle.coherence.plugin.visualvm.helper.HttpRequestSender;
 import com.oracle.coherence.plugin.visualvm.helper.JMXUtils;
+import com.oracle.coherence.plugin.visualvm.helper.JsonItemIterator;
 import com.oracle.coherence.plugin.visualvm.helper.RequestSender;
 
 import java.util.ArrayList;
@@ -140,15 +140,14 @@ public class PersistenceData
                 // members.
                 Set<ObjectName> resultSet = requestSender.getMembersOfService(sServiceName, sDomainPartition);
 
+                Map<ObjectName, AttributeList> mapAttributes = requestSender.getAttributes(resultSet,
+                        new String[] { "StorageEnabled", MBEAN_ACTIVE_SPACE, MBEAN_BACKUP_SPACE, "PersistenceLatencyMax",
+                                "PersistenceLatencyAverage", "PersistenceMode" });
+
                 int cNodes = 0;
-                for (Iterator<ObjectName> iter = resultSet.iterator(); iter.hasNext(); )
+                for (AttributeList listAttr : mapAttributes.values())
                     {
-                    ObjectName objectName = (ObjectName) iter.next();
-
                     // only include storage-enabled members
-                    AttributeList listAttr = requestSender.getAttributes(objectName,
-                            new String[] { "StorageEnabled", MBEAN_ACTIVE_SPACE, MBEAN_BACKUP_SPACE, "PersistenceLatencyMax",
-                                    "PersistenceLatencyAverage", "PersistenceMode" });
                     String sPersistenceMode = getAttributeValueAsString(listAttr, "PersistenceMode");
 
                     if (Boolean.parseBoolean(getAttributeValueAsString(listAttr, "StorageEnabled")))
@@ -237,19 +236,17 @@ public class PersistenceData
     public SortedMap<Object, Data> getAggregatedDataFromHttpQuerying(VisualVMModel model, HttpRequestSender requestSender)
             throws Exception
         {
-        JsonNode allStorageMembers = requestSender.getAllStorageMembers();
-        JsonNode serviceItemsNode  = allStorageMembers.get("items");
         Set<String> setDomainPartitions = model.getDomainPartitions();
 
         Map<String,Integer>     mapNodeCount = new HashMap<>();
         SortedMap<Object, Data> mapData = new TreeMap<>();
         Data                    data;
 
-        if (serviceItemsNode != null && serviceItemsNode.isArray())
+        try (JsonItemIterator iterStorageMembers = requestSender.iterateAllStorageMembers())
             {
-            for (int i = 0; i < ((ArrayNode) serviceItemsNode).size(); i++)
+            while (iterStorageMembers.hasNext())
                 {
-                JsonNode details = serviceItemsNode.get(i);
+                JsonNode details = iterStorageMembers.next();
                 String sPersistenceMode = details.get("persistenceMode").asText();
                 if (details.get("storageEnabled").asBoolean() && !"n/a".equals(sPersistenceMode))
                     {
@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.oracle.coherence.plugin.visualvm.tablemodel.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * A report XML which has been parsed once into literal text and the
+ * substitution slots, such as {@code %SERVICE_NAME%}, so that a report can
+ * be assembled on each refresh without searching the full XML for each token.
+ *
+ * @since  1.8.0
+ */
+public class ReportTemplate
+    {
+    // ----- constructors ---------------------------------------------------
+
+    /**
+     * Parse the given report XML into a template.
+     *
+     * @param sReportXML  the report XML
+     */
+    public ReportTemplate(String sReportXML)
+        {
+        List<String> listLiterals = new ArrayList<>();
+        List<String> listSlots    = new ArrayList<>();
+        Matcher      matcher      = TOKEN.matcher(sReportXML);
+        int          nStart       = 0;
+
+        while (matcher.find())
+            {
+            listLiterals.add(sReportXML.substring(nStart, matcher.start()));
+            listSlots.add(matcher.group());
+            nStart = matcher.end();
+            }
+        listLiterals.add(sReportXML.substring(nStart));
+
+        f_sReportXML = sReportXML;
+        f_asLiterals = listLiterals.toArray(new String[0]);
+        f_asSlots    = listSlots.toArray(new String[0]);
+        }
+
+    // ----- ReportTemplate methods -----------------------------------------
+
+    /**
+     * Assemble the report XML substituting the given parameters. A slot without
+     * a parameter is left as is.
+     *
+     * @param mapParameters  the values keyed by the token, e.g. {@code %SERVICE_NAME%},
+     *                       which may be null if there are no parameters
+     *
+     * @return the report XML
+     */
+    public String apply(Map<String, String> mapParameters)
+        {
+        if (f_asSlots.length == 0 || mapParameters == null || mapParameters.isEmpty())
+            {
+            return f_sReportXML;
+            }
+
+        StringBuilder sb = new StringBuilder(f_sReportXML.length() + 64);
+        for (int i = 0; i < f_asSlots.length; i++)
+            {
+            String sValue = mapParameters.get(f_asSlots[i]);
+
+            sb.append(f_asLiterals[i]).append(sValue == null ? f_asSlots[i] : sValue);
+            }
+
+        return sb.append(f_asLiterals[f_asSlots.length]).toString();
+        }
+
+    /**
+     * Returns the report XML without any substitution.
+     *
+     * @return the report XML without any substitution
+     */
+    public String getReportXML()
+        {
+        return f_sReportXML;
+        }
+
+    // ----- constants ------------------------------------------------------
+
+    /**
+     * The pattern of a substitution token.
+     */
+    private static final Pattern TOKEN = Pattern.compile("%[A-Z_]+%");
+
+    // ----- data members ---------------------------------------------------
+
+    /**
+     * The report XML without any substitution.
+     */
+    private final String f_sReportXML;
+
+    /**
+     * The literal text before each slot, followed by the text after the last slot.
+     */
+    private final String[] f_asLiterals;
+
+    /**
+     * The token of each slot.
+     */
+    private final String[] f_asSlots;
+    }
@@ -80,12 +80,13 @@ public class ServiceData
 
         try
             {
-            // firstly obtain the list of services
-            Set<ObjectName> servicesSet = sender.getAllServiceMembers();
+            // firstly obtain the list of services and their types
+            Set<ObjectName>                servicesSet = sender.getAllServiceMembers();
+            Map<ObjectName, AttributeList> mapTypes    = sender.getAttributes(servicesSet, new String[]{ "Type" });
 
-            for (Iterator<ObjectName> cacheNameIter = servicesSet.iterator(); cacheNameIter.hasNext(); )
+            for (Map.Entry<ObjectName, AttributeList> entry : mapTypes.entrySet())
                 {
-                ObjectName cacheNameObjName = cacheNameIter.next();
+                ObjectName cacheNameObjName = entry.getKey();
                 String     sServiceName     = cacheNameObjName.getKeyProperty("name");
                 String     sDomainPartition = cacheNameObjName.getKeyProperty("domainPartition");
 
@@ -103,7 +104,7 @@ public class ServiceData
 
                 // if its dist cache or federated then save, so we don't, double count size for repl
                 // caches
-                String sServiceType = (String) sender.getAttribute(cacheNameObjName, "Type");
+                String sServiceType = getAttributeValueAsString(entry.getValue(), "Type");
                 if (isDistributed(sServiceType))
                     {
                     setDistributedCaches.add(sServiceName);
@@ -123,21 +124,20 @@ public class ServiceData
                 String   sServiceName     = asServiceDetails[1];
                 // select only the current service, so we can determine the number of storage-enabled
                 // members.
-                Set resultSet = sender.getMembersOfService(sServiceName, sDomainPartition);
+                Set<ObjectName> resultSet = sender.getMembersOfService(sServiceName, sDomainPartition);
 
-                for (Iterator iter = resultSet.iterator(); iter.hasNext(); )
-                    {
-                    ObjectName objName = (ObjectName) iter.next();
+                // retrieve the attributes for all members at once
+                Map<ObjectName, AttributeList> mapAttributes = sender.getAttributes(resultSet,
+                    new String[]{ ATTR_PART_ENDANGERED, ATTR_PART_UNBALANCED, ATTR_PART_VULNERABLE,
+                                  ATTR_STATUS_HA, ATTR_REQ_PENDING, ATTR_PARTITIONS_ALL, "StorageEnabled" });
 
+                for (AttributeList listAttr : mapAttributes.values())
+                    {
                     data = mapData.get(sServiceName);
 
                     // only update the static information once as it will be the same across all members
                     if (data.getColumn(ServiceData.PARTITION_COUNT) == null)
                         {
-                        AttributeList listAttr = sender.getAttributes(objName,
-                            new String[]{ ATTR_PART_ENDANGERED, ATTR_PART_UNBALANCED, ATTR_PART_VULNERABLE,
-                                          ATTR_STATUS_HA, ATTR_REQ_PENDING, ATTR_PARTITIONS_ALL });
-
                         data.setColumn(ServiceData.PARTITIONS_ENDANGERED,
                                 Integer.parseInt(getAttributeValueAsString(listAttr, ATTR_PART_ENDANGERED)));
                         data.setColumn(ServiceData.PARTITIONS_UNBALANCED,
@@ -153,7 +153,7 @@ public class ServiceData
 
                     data.setColumn(ServiceData.MEMBERS, (Integer) data.getColumn(ServiceData.MEMBERS) + 1);
 
-                    if (Boolean.parseBoolean(sender.getAttribute(objName, "StorageEnabled")))
+                    if (Boolean.parseBoolean(getAttributeValueAsString(listAttr, "StorageEnabled")))
                         {
                         data.setColumn(ServiceData.STORAGE_MEMBERS,
                           (Integer) data.getColumn(ServiceData.STORAGE_MEMBERS) + 1);
@@ -30,6 +30,7 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.oracle.coherence.plugin.visualvm.VisualVMModel;
 
 import com.oracle.coherence.plugin.visualvm.helper.HttpRequestSender;
+import com.oracle.coherence.plugin.visualvm.helper.JsonItemIterator;
 import com.oracle.coherence.plugin.visualvm.helper.RequestSender;
 
 import java.util.ArrayList;
@@ -194,15 +195,13 @@ public class ServiceMemberData
     @Override
     public SortedMap<Object, Data> getAggregatedDataFromHttpQuerying(VisualVMModel model, HttpRequestSender requestSender) throws Exception
         {
-        JsonNode                nodeRoot         = requestSender.getDataForServiceMembers();
-        SortedMap<Object, Data> mapData          = new TreeMap<Object, Data>();
-        JsonNode                nodeServiceItems = nodeRoot.get("items");
+        SortedMap<Object, Data> mapData = new TreeMap<Object, Data>();
 
-        if (nodeServiceItems != null && nodeServiceItems.isArray())
+        try (JsonItemIterator iterServiceMembers = requestSender.iterateDataForServiceMembers())
             {
-            for (int i = 0; i < nodeServiceItems.size(); i++)
+            while (iterServiceMembers.hasNext())
                 {
-                JsonNode nodeServiceMember   = nodeServiceItems.get(i);
+                JsonNode nodeServiceMember   = iterServiceMembers.next();
                 JsonNode domainPartitionNode = nodeServiceMember.get("domainPartition");
                 String   sDomainPartition    = domainPartitionNode == null ? null : domainPartitionNode.asText();
                 String   sName               = nodeServiceMember.get("name").asText();
@@ -36,7 +36,7 @@ import com.oracle.coherence.plugin.visualvm.VisualVMModel;
 import com.oracle.coherence.plugin.visualvm.helper.HttpRequestSender;
 import com.oracle.coherence.plugin.visualvm.helper.RequestSender;
 
-import static com.oracle.coherence.plugin.visualvm.tablemodel.model.TopicSubscriberData.preProcessReporterXMLCommon;
+import static com.oracle.coherence.plugin.visualvm.tablemodel.model.TopicSubscriberData.getReportParametersCommon;
 
 
 /**
@@ -91,9 +91,9 @@ public class TopicDetailData
         }
 
     @Override
-    public String preProcessReporterXML(VisualVMModel model, String sReporterXML)
+    protected Map<String, String> getReportParameters(VisualVMModel model)
         {
-        return preProcessReporterXMLCommon(model, sReporterXML);
+        return getReportParametersCommon(model);
         }
 
     @Override
@@ -25,6 +25,7 @@
 
 package com.oracle.coherence.plugin.visualvm.tablemodel.model;
 
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.SortedMap;
@@ -92,25 +93,35 @@ public class TopicSubscriberData
 
 
     @Override
-    public String preProcessReporterXML(VisualVMModel model, String sReporterXML)
+    protected Map<String, String> getReportParameters(VisualVMModel model)
         {
-        return preProcessReporterXMLCommon(model, sReporterXML);
+        return getReportParametersCommon(model);
         }
 
-    public static String preProcessReporterXMLCommon(VisualVMModel model, String sReporterXML)
+    /**
+     * Returns the parameters to substitute into the topic reports.
+     *
+     * @param model  the {@link VisualVMModel} to use
+     *
+     * @return the parameters keyed by token or null if no topic is selected
+     */
+    public static Map<String, String> getReportParametersCommon(VisualVMModel model)
         {
         // the report XML contains the following tokens that require substitution:
         // %SERVICE_NAME%
         // %TOPIC_NAME%
         Pair<String, String> selectedTopic = model.getSelectedTopic();
 
-        if (selectedTopic != null)
+        if (selectedTopic == null)
             {
-            return sReporterXML.replaceAll("%SERVICE_NAME%", escape(selectedTopic.getX()))
-                               .replaceAll("%TOPIC_NAME%", escape(selectedTopic.getY()));
+            return null;
             }
 
-        return sReporterXML;
+        Map<String, String> mapParameters = new HashMap<>();
+        mapParameters.put("%SERVICE_NAME%", selectedTopic.getX());
+        mapParameters.put("%TOPIC_NAME%", selectedTopic.getY());
+
+        return mapParameters;
         }
 
 
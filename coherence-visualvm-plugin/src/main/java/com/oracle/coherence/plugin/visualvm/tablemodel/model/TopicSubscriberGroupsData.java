@@ -89,9 +89,9 @@ public class TopicSubscriberGroupsData
 
 
     @Override
-    public String preProcessReporterXML(VisualVMModel model, String sReporterXML)
+    protected Map<String, String> getReportParameters(VisualVMModel model)
         {
-        return TopicSubscriberData.preProcessReporterXMLCommon(model, sReporterXML);
+        return TopicSubscriberData.getReportParametersCommon(model);
         }
 
     @Override
@@ -26,6 +26,7 @@
 package com.oracle.coherence.plugin.visualvm.tablemodel.model;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -121,7 +122,7 @@ public class ViewData
         }
 
     @Override
-    public String preProcessReporterXML(VisualVMModel model, String sReporterXML)
+    protected Map<String, String> getReportParameters(VisualVMModel model)
         {
         // the report XML contains the following tokens that require substitution: %SERVICE_NAME% and %VIEW_NAME%
         Pair<String, String> selectedCache = model.getSelectedCache();
@@ -133,9 +134,11 @@ public class ViewData
             sViewName    = selectedCache.getY();
             }
 
-        return sServiceName == null ? sReporterXML :
-              sReporterXML.replaceAll("%SERVICE_NAME%", escape(sServiceName))
-                          .replaceAll("%VIEW_NAME%", escape(sViewName));
+        Map<String, String> mapParameters = new HashMap<>();
+        mapParameters.put("%SERVICE_NAME%", sServiceName);
+        mapParameters.put("%VIEW_NAME%", sViewName);
+
+        return mapParameters;
         }
 
     @Override
@@ -25,11 +25,21 @@
 package com.oracle.coherence.plugin.visualvm.tracer;
 
 import com.oracle.coherence.plugin.visualvm.Localization;
+import com.oracle.coherence.plugin.visualvm.ModelSnapshot;
 import com.oracle.coherence.plugin.visualvm.VisualVMModel;
 
+import com.oracle.coherence.plugin.visualvm.helper.RequestSender;
+
+import com.oracle.coherence.plugin.visualvm.panel.AbstractCoherencePanel;
+
 import com.oracle.coherence.plugin.visualvm.tablemodel.model.Data;
+import com.oracle.coherence.plugin.visualvm.tablemodel.model.MemberData;
 import com.oracle.coherence.plugin.visualvm.tablemodel.model.ServiceMemberData;
 
+import javax.management.Attribute;
+import javax.management.AttributeList;
+import javax.management.ObjectName;
+
 import javax.swing.Icon;
 import javax.swing.ImageIcon;
 
@@ -42,8 +52,12 @@ import org.graalvm.visualvm.modules.tracer.TracerProbe;
 import org.openide.util.ImageUtilities;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+
+import java.util.function.BiFunction;
 
 import static com.oracle.coherence.plugin.visualvm.VisualVMView.IMAGE_PATH;
 
@@ -70,24 +84,58 @@ public abstract class AbstractCoherenceMonitorProbe
         super(itemDescriptors);
         this.f_nValuesCount = valuesCount;
         this.f_resolver     = resolver;
+        this.f_alValues     = new long[valuesCount];
         }
 
     /**
-     * Return the values for the given timestamp.
+     * Return the values for the given timestamp. The values are only
+     * calculated again once the model has published a new snapshot, and are
+     * returned in a buffer owned by the probe which is reused by the next call,
+     * as the tracer copies the values of each probe as soon as it has sampled it.
      * @param timestamp timestamp to return values for
      * @return values for the given timestamp
      */
-    public final synchronized long[] getItemValues(long timestamp)
+    public final long[] getItemValues(long timestamp)
         {
         VisualVMModel model = f_resolver.getMonitoredData();
         if (model != null)
             {
-            return getValues(model);
+            // keep the data for the probe refreshed while the tracer is running, even if its tab is not visible
+            model.setDataTypesInUse(f_resolver.getDataTypes());
+
+            // prefer the latest sample taken between full refreshes
+            long[] alSampled = m_alSampledValues;
+            if (alSampled != null)
+                {
+                return copyValues(alSampled);
+                }
+
+            long       nVersion = model.getSnapshot().getVersion();
+            LastValues last     = m_lastValues;
+            if (last == null || last.f_model != model || last.f_nVersion != nVersion)
+                {
+                last = new LastValues(model, nVersion, getValues(model));
+                m_lastValues = last;
+                }
+            return copyValues(last.f_alValues);
             }
-        
-        long[] noData = new long[f_nValuesCount];
-        Arrays.fill(noData, ProbeItemDescriptor.VALUE_UNDEFINED);
-        return noData;
+
+        long[] alNoData = f_alValues;
+        Arrays.fill(alNoData, ProbeItemDescriptor.VALUE_UNDEFINED);
+        return alNoData;
+        }
+
+    /**
+     * Copy values into the buffer returned by {@link #getItemValues(long)}, so
+     * that the values kept by the probe can never be changed by the tracer.
+     * @param alValues the values to copy
+     * @return the buffer holding the values
+     */
+    private long[] copyValues(long[] alValues)
+        {
+        long[] alBuffer = f_alValues;
+        System.arraycopy(alValues, 0, alBuffer, 0, Math.min(alValues.length, alBuffer.length));
+        return alBuffer;
         }
 
         /**
@@ -107,6 +155,87 @@ public abstract class AbstractCoherenceMonitorProbe
      */
     protected abstract long[] getValues(VisualVMModel model);
 
+    /**
+     * Returns the attributes the {@link HighResolutionSampler} should query for this
+     * probe between full refreshes, or null if the probe only uses the model snapshots.
+     * @return the attributes to sample or null
+     */
+    protected String[] getSampledAttributes()
+        {
+        return null;
+        }
+
+    /**
+     * Returns the MBeans to sample the attributes from. This is only called again
+     * once the model has published a new snapshot.
+     * @param model          the {@link VisualVMModel} to use
+     * @param requestSender  the {@link RequestSender} to use
+     * @return the MBeans to sample
+     * @throws Exception if any errors
+     */
+    protected Set<ObjectName> getSampledObjectNames(VisualVMModel model, RequestSender requestSender)
+            throws Exception
+        {
+        return Collections.emptySet();
+        }
+
+    /**
+     * Returns the values for the sampled attributes.
+     * @param mapAttributes  the sampled attributes for each MBean
+     * @return the values, or null to use the model snapshot
+     */
+    protected long[] getSampledValues(Map<ObjectName, AttributeList> mapAttributes)
+        {
+        return null;
+        }
+
+    /**
+     * Set the values of the latest sample, or null to use the model snapshots.
+     * @param alValues  the sampled values
+     */
+    void setSampledValues(long[] alValues)
+        {
+        m_alSampledValues = alValues;
+        }
+
+    /**
+     * Returns the numeric values of an attribute from each sampled MBean. Values
+     * which are missing or not numeric are skipped.
+     * @param mapAttributes  the sampled attributes for each MBean
+     * @param sAttribute     the attribute name
+     * @return the values of the attribute
+     */
+    protected static double[] getSampledAttribute(Map<ObjectName, AttributeList> mapAttributes, String sAttribute)
+        {
+        double[] adValues = new double[mapAttributes.size()];
+        int      c        = 0;
+
+        for (AttributeList listAttr : mapAttributes.values())
+            {
+            for (Attribute attr : listAttr.asList())
+                {
+                if (attr.getName().equals(sAttribute) && attr.getValue() != null)
+                    {
+                    Object oValue = attr.getValue();
+                    try
+                        {
+                        double dValue = oValue instanceof Number
+                                        ? ((Number) oValue).doubleValue()
+                                        : Double.parseDouble(oValue.toString());
+                        adValues[c++] = dValue;
+                        }
+                    catch (NumberFormatException e)
+                        {
+                        // skip values which are not numeric
+                        }
+                    break;
+                    }
+                }
+            }
+
+        return Arrays.copyOf(adValues, c);
+        }
+
     /**
      * An interface defining monitored data resolvers.
      */
@@ -117,6 +246,12 @@ public abstract class AbstractCoherenceMonitorProbe
          * @return the monitored data.
          */
         VisualVMModel getMonitoredData();
+
+        /**
+         * Returns the {@link VisualVMModel.DataType}s used by the probes.
+         * @return the {@link VisualVMModel.DataType}s used by the probes
+         */
+        Set<VisualVMModel.DataType> getDataTypes();
         }
 
         /**
@@ -156,13 +291,9 @@ public abstract class AbstractCoherenceMonitorProbe
      */
     protected long[] getSingValue(VisualVMModel model, VisualVMModel.DataType dataType, int nColumn, long[] aDefault)
        {
-       List<Map.Entry<Object, Data>> data = model.getData(dataType);
-       if (data == null || data.isEmpty())
-            {
-            return aDefault;
-            }
+       ModelSnapshot.Aggregate aggregate = model.getSnapshot().getAggregate(dataType, nColumn);
 
-       return new long[] {getValueAsLong(data.get(0).getValue().getColumn(nColumn))};
+       return aggregate.getCount() == 0L ? aDefault : new long[] {aggregate.getFirst()};
        }
 
     /**
@@ -176,18 +307,7 @@ public abstract class AbstractCoherenceMonitorProbe
      */
     protected long[] getSingValueSum(VisualVMModel model, VisualVMModel.DataType dataType, int nColumn, long[] aDefault)
        {
-       List<Map.Entry<Object, Data>> data = model.getData(dataType);
-       long nSum = 0L;
-
-       if (data != null && !data.isEmpty())
-            {
-            for (Map.Entry<Object, Data> entry : data)
-                {
-                nSum += getValueAsLong(entry.getValue().getColumn(nColumn));
-                }
-            }
-
-       return new long[] {nSum};
+       return new long[] {model.getSnapshot().getAggregate(dataType, nColumn).getSum()};
        }
 
      /**
@@ -201,24 +321,7 @@ public abstract class AbstractCoherenceMonitorProbe
      */
     protected long[] getSingValueMax(VisualVMModel model, VisualVMModel.DataType dataType, int nColumn, long[] aDefault)
        {
-       List<Map.Entry<Object, Data>> data = model.getData(dataType);
-       long nMax   = 0L;
-       long nValue = 0L;
-
-       if (data != null && !data.isEmpty())
-            {
-            for (Map.Entry<Object, Data> entry : data)
-                {
-                nValue = getValueAsLong(entry.getValue().getColumn(nColumn));
-
-                if (nValue > nMax)
-                    {
-                    nMax = nValue;
-                    }
-                }
-            }
-
-       return new long[] {nMax};
+       return new long[] {model.getSnapshot().getAggregate(dataType, nColumn).getMax()};
        }
 
      /**
@@ -231,18 +334,12 @@ public abstract class AbstractCoherenceMonitorProbe
      */
     protected Object[] getSelectedServiceThreadValues(VisualVMModel model)
        {
-       List<Map.Entry<Object, Data>> data = model.getData(VisualVMModel.DataType.SERVICE_DETAIL);
-       int nTotalThreadCount = 0;
-       int nTotalIdleThreads = 0;
-
-       if (data != null && !data.isEmpty())
-           {
-           for (Map.Entry<Object, Data> entry : data)
-               {
-               nTotalThreadCount += (Integer) entry.getValue().getColumn(ServiceMemberData.THREAD_COUNT);
-               nTotalIdleThreads += (Integer) entry.getValue().getColumn(ServiceMemberData.THREAD_IDLE_COUNT);
-               }
-           }
+       ModelSnapshot snapshot = model.getSnapshot();
+
+       int nTotalThreadCount = (int) snapshot.getAggregate(VisualVMModel.DataType.SERVICE_DETAIL,
+                                                           ServiceMemberData.THREAD_COUNT).getSum();
+       int nTotalIdleThreads = (int) snapshot.getAggregate(VisualVMModel.DataType.SERVICE_DETAIL,
+                                                           ServiceMemberData.THREAD_IDLE_COUNT).getSum();
 
        return new Object[] {nTotalThreadCount, nTotalIdleThreads};
        }
@@ -259,33 +356,11 @@ public abstract class AbstractCoherenceMonitorProbe
      */
     protected Long[] getSelectedServiceMaxAndAverage(VisualVMModel model, int nColumn)
        {
-       List<Map.Entry<Object, Data>> data = model.getData(VisualVMModel.DataType.SERVICE_DETAIL);
-
-       long nTotal   = 0L;
-       long nMax     = 0L;
-       long nCount   = 0L;
-       long nCurrent = 0L;
-
-       if (data != null && !data.isEmpty())
-           {
-           for (Map.Entry<Object, Data> entry : data)
-               {
-               nCurrent = (long) ((Float) entry.getValue().getColumn(nColumn) * 1000L);
-               if (nCurrent <= 0)
-                   {
-                   // exclude negative values
-                   continue;
-                   }
-               nCount++;
-               nTotal  += nCurrent;
-               if (nCurrent > nMax)
-                   {
-                   nMax = nCurrent;
-                   }
-               }
-           }
-
-       return nCount == 0L ? new Long[] {0L,0L} : new Long[] {nMax, nTotal / nCount};
+       // negative values are excluded
+       ModelSnapshot.Aggregate aggregate = model.getSnapshot().getAggregate(VisualVMModel.DataType.SERVICE_DETAIL, nColumn);
+       long                    nCount    = aggregate.getPositiveCount();
+
+       return nCount == 0L ? new Long[] {0L,0L} : new Long[] {aggregate.getScaledMax(), aggregate.getScaledSum() / nCount};
        }
 
     /**
@@ -298,19 +373,7 @@ public abstract class AbstractCoherenceMonitorProbe
      */
     protected long getSelectedServiceSumInteger(VisualVMModel model, int nColumn)
        {
-       List<Map.Entry<Object, Data>> data = model.getData(VisualVMModel.DataType.SERVICE_DETAIL);
-
-       int nTotal = 0;
-
-       if (data != null && !data.isEmpty())
-           {
-           for (Map.Entry<Object, Data> entry : data)
-               {
-               nTotal += (Integer) entry.getValue().getColumn(nColumn);
-               }
-           }
-
-       return nTotal;
+       return (int) model.getSnapshot().getAggregate(VisualVMModel.DataType.SERVICE_DETAIL, nColumn).getSum();
        }
 
     /**
@@ -324,19 +387,7 @@ public abstract class AbstractCoherenceMonitorProbe
      */
     protected long getSelectedCacheSum(VisualVMModel model, VisualVMModel.DataType dataType, int nColumn)
        {
-       List<Map.Entry<Object, Data>> data = model.getData(dataType);
-
-       long nTotal = 0L;
-
-       if (data != null && !data.isEmpty())
-           {
-           for (Map.Entry<Object, Data> entry : data)
-               {
-               nTotal += getValueAsLong(entry.getValue().getColumn(nColumn));
-               }
-           }
-
-       return nTotal;
+       return model.getSnapshot().getAggregate(dataType, nColumn).getSum();
        }
 
     /**
@@ -350,23 +401,7 @@ public abstract class AbstractCoherenceMonitorProbe
      */
     protected long getSelectedCacheMax(VisualVMModel model, VisualVMModel.DataType dataType, int nColumn)
        {
-       List<Map.Entry<Object, Data>> data = model.getData(dataType);
-
-       long nMax = 0L;
-
-       if (data != null && !data.isEmpty())
-           {
-           for (Map.Entry<Object, Data> entry : data)
-               {
-               long nValue = getValueAsLong(entry.getValue().getColumn(nColumn));
-               if (nValue > nMax)
-                   {
-                   nMax = nValue;
-                   }
-               }
-           }
-
-       return nMax;
+       return model.getSnapshot().getAggregate(dataType, nColumn).getMax();
        }
 
     /**
@@ -380,25 +415,152 @@ public abstract class AbstractCoherenceMonitorProbe
      */
     protected long getSelectedCacheAverage(VisualVMModel model, VisualVMModel.DataType dataType, int nColumn)
        {
-       List<Map.Entry<Object, Data>> data = model.getData(dataType);
+       ModelSnapshot.Aggregate aggregate = model.getSnapshot().getAggregate(dataType, nColumn);
+       long                    nCount    = aggregate.getCount();
+
+       return nCount == 0 ? 0L : aggregate.getSum() * 1000L / nCount;
+       }
 
-       long nTotal = 0L;
-       long nCount = 0L;
+    /**
+     * Returns the member memory and packet rate data for the snapshot, which
+     * is calculated once per snapshot and shared by all the probes using it.
+     *
+     * @param model  the {@link VisualVMModel} to use
+     *
+     * @return the result of {@link AbstractCoherencePanel#getMemberMemoryRateData}
+     *         or null if there is no member data
+     */
+    protected static Object[] getMemberMemoryRateData(VisualVMModel model)
+       {
+       return model.getSnapshot().getDerived(model, MEMBER_MEMORY_RATE_DATA);
+       }
 
-       if (data != null && !data.isEmpty())
-           {
-           for (Map.Entry<Object, Data> entry : data)
-               {
-               nTotal += getValueAsLong(entry.getValue().getColumn(nColumn)) * 1000L;
-               nCount++;
-               }
-           }
+    /**
+     * Returns the cluster load average data for the snapshot, which is
+     * calculated once per snapshot and shared by all the probes using it.
+     *
+     * @param model  the {@link VisualVMModel} to use
+     *
+     * @return the result of {@link AbstractCoherencePanel#getClusterLoadAverage}
+     *         or null if there is no machine data
+     */
+    protected static Object[] getClusterLoadAverage(VisualVMModel model)
+       {
+       return model.getSnapshot().getDerived(model, CLUSTER_LOAD_AVERAGE);
+       }
 
-       return nCount == 0 ? 0L : nTotal / nCount;
+    /**
+     * Returns the number of storage-enabled members for the snapshot, which is
+     * calculated once per snapshot and shared by all the probes using it.
+     *
+     * @param model  the {@link VisualVMModel} to use
+     *
+     * @return the number of storage-enabled members
+     */
+    protected static long getStorageEnabledCount(VisualVMModel model)
+       {
+       return model.getSnapshot().getDerived(model, STORAGE_ENABLED_COUNT);
        }
 
+    // ----- constants ------------------------------------------------------
+
+    /**
+     * Derives the member memory and packet rate data from a snapshot.
+     */
+    private static final BiFunction<VisualVMModel, ModelSnapshot, Object[]> MEMBER_MEMORY_RATE_DATA =
+            (model, snapshot) ->
+                {
+                List<Map.Entry<Object, Data>> data = snapshot.getData(VisualVMModel.DataType.MEMBER);
+                return data == null || data.isEmpty()
+                       ? null : AbstractCoherencePanel.getMemberMemoryRateData(model, data);
+                };
+
+    /**
+     * Derives the cluster load average data from a snapshot.
+     */
+    private static final BiFunction<VisualVMModel, ModelSnapshot, Object[]> CLUSTER_LOAD_AVERAGE =
+            (model, snapshot) ->
+                {
+                List<Map.Entry<Object, Data>> data = snapshot.getData(VisualVMModel.DataType.MACHINE);
+                return data == null || data.isEmpty() ? null : AbstractCoherencePanel.getClusterLoadAverage(data);
+                };
+
+    /**
+     * Derives the number of storage-enabled members from a snapshot.
+     */
+    private static final BiFunction<VisualVMModel, ModelSnapshot, Long> STORAGE_ENABLED_COUNT =
+            (model, snapshot) ->
+                {
+                List<Map.Entry<Object, Data>> data   = snapshot.getData(VisualVMModel.DataType.MEMBER);
+                long                          nCount = 0L;
+
+                if (data != null)
+                    {
+                    for (Map.Entry<Object, Data> entry : data)
+                        {
+                        if (AbstractCoherencePanel.isNodeStorageEnabled(model, entry.getValue().getInt(MemberData.NODE_ID)))
+                            {
+                            nCount++;
+                            }
+                        }
+                    }
+                return nCount;
+                };
+
+    // ----- inner classes --------------------------------------------------
+
+    /**
+     * The values calculated for a version of the model snapshot.
+     */
+    private static class LastValues
+        {
+        /**
+         * Create the values for a version of the model snapshot.
+         *
+         * @param model     the {@link VisualVMModel} the values were calculated from
+         * @param nVersion  the snapshot version
+         * @param alValues  the values
+         */
+        LastValues(VisualVMModel model, long nVersion, long[] alValues)
+            {
+            f_model    = model;
+            f_nVersion = nVersion;
+            f_alValues = alValues;
+            }
+
+        /**
+         * The {@link VisualVMModel} the values were calculated from.
+         */
+        final VisualVMModel f_model;
+
+        /**
+         * The snapshot version the values were calculated from.
+         */
+        final long f_nVersion;
+
+        /**
+         * The values.
+         */
+        final long[] f_alValues;
+        }
+
     // ----- data members ---------------------------------------------------
 
+    /**
+     * The values calculated for the most recent snapshot.
+     */
+    private volatile LastValues m_lastValues;
+
+    /**
+     * The values of the latest sample taken by the {@link HighResolutionSampler}, or null.
+     */
+    private volatile long[] m_alSampledValues;
+
+    /**
+     * The buffer returned by {@link #getItemValues(long)}.
+     */
+    private final long[] f_alValues;
+
     /**
      * The resolver.
      */
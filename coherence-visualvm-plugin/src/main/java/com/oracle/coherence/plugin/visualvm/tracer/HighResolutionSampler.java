@@ -0,0 +1,351 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.oracle.coherence.plugin.visualvm.tracer;
+
+import com.oracle.coherence.plugin.visualvm.VisualVMModel;
+
+import com.oracle.coherence.plugin.visualvm.helper.ReplayRequestSender;
+import com.oracle.coherence.plugin.visualvm.helper.RequestCache;
+import com.oracle.coherence.plugin.visualvm.helper.RequestSender;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import javax.management.AttributeList;
+import javax.management.ObjectName;
+
+import org.graalvm.visualvm.application.Application;
+
+import org.graalvm.visualvm.modules.tracer.PackageStateHandler;
+import org.graalvm.visualvm.modules.tracer.TracerProbe;
+import org.graalvm.visualvm.modules.tracer.TracerProgressObject;
+
+/**
+ * Samples the few attributes behind the active Tracer probes at the Tracer
+ * refresh rate, so the probes are not limited to the values captured by the
+ * full model refresh.
+ * <p>
+ * Only probes which return attributes from {@link AbstractCoherenceMonitorProbe#getSampledAttributes()}
+ * are sampled. The MBeans a probe queries are only resolved again when the model
+ * has published a new snapshot, so each sample is a single targeted
+ * {@link RequestSender#getAttributes(Set, String[])} call per probe. Samples are
+ * taken outside of the refresh cycle of the {@link RequestCache}, so they are
+ * always read from the cluster even while a refresh is in progress.
+ *
+ * @since  1.8.0
+ */
+public class HighResolutionSampler
+        extends PackageStateHandler.Adapter<Application>
+    {
+    // ----- constructors ---------------------------------------------------
+
+    /**
+     * Construct a sampler for the probes of a Tracer package.
+     *
+     * @param resolver  the {@link AbstractCoherenceMonitorProbe.MonitoredDataResolver} of the package
+     */
+    public HighResolutionSampler(AbstractCoherenceMonitorProbe.MonitoredDataResolver resolver)
+        {
+        f_resolver = resolver;
+        }
+
+    // ----- PackageStateHandler methods ------------------------------------
+
+    @Override
+    public void sessionStarting(TracerProbe<Application>[] aProbes, Application application)
+        {
+        start(aProbes, m_nInterval);
+        }
+
+    @Override
+    public void sessionStopping(TracerProbe<Application>[] aProbes, Application application)
+        {
+        stop();
+        }
+
+    @Override
+    public void refreshRateChanged(TracerProbe<Application>[] aProbes, Application application, int nRefreshRate)
+        {
+        setInterval(nRefreshRate);
+        }
+
+    @Override
+    public TracerProgressObject sessionInitializing(
+            TracerProbe<Application>[] aProbes, Application application, int nRefreshRate)
+        {
+        m_nInterval = nRefreshRate;
+        return null;
+        }
+
+    // ----- HighResolutionSampler methods ----------------------------------
+
+    /**
+     * Start sampling the given probes.
+     *
+     * @param aProbes    the probes selected in the Tracer
+     * @param nInterval  the interval in milliseconds between samples
+     */
+    public synchronized void start(TracerProbe<?>[] aProbes, int nInterval)
+        {
+        stop();
+
+        if (!Boolean.parseBoolean(System.getProperty(VisualVMModel.PROP_TRACER_SAMPLING, "true")))
+            {
+            return;
+            }
+
+        // a recording being replayed cannot be sampled, the probes use its snapshots
+        VisualVMModel model = f_resolver.getMonitoredData();
+        if (model != null && model.getRequestSender() instanceof ReplayRequestSender)
+            {
+            return;
+            }
+
+        List<AbstractCoherenceMonitorProbe> listProbes = new ArrayList<>();
+        for (TracerProbe<?> probe : aProbes)
+            {
+            if (probe instanceof AbstractCoherenceMonitorProbe
+                && ((AbstractCoherenceMonitorProbe) probe).getSampledAttributes() != null)
+                {
+                listProbes.add((AbstractCoherenceMonitorProbe) probe);
+                }
+            }
+
+        if (listProbes.isEmpty())
+            {
+            return;
+            }
+
+        m_listProbes = Collections.unmodifiableList(listProbes);
+        m_nInterval  = nInterval;
+        m_executor   = Executors.newSingleThreadScheduledExecutor(r ->
+            {
+            Thread thread = new Thread(r, "CoherenceVisualVMTracerSampler");
+            thread.setDaemon(true);
+            return thread;
+            });
+        schedule();
+        }
+
+    /**
+     * Change the interval between samples.
+     *
+     * @param nInterval  the interval in milliseconds between samples
+     */
+    public synchronized void setInterval(int nInterval)
+        {
+        m_nInterval = nInterval;
+        if (m_executor != null)
+            {
+            m_future.cancel(false);
+            schedule();
+            }
+        }
+
+    /**
+     * Stop sampling and let the probes fall back to the model snapshots.
+     */
+    public synchronized void stop()
+        {
+        if (m_executor != null)
+            {
+            m_executor.shutdownNow();
+            m_executor = null;
+            m_future   = null;
+            }
+
+        m_listProbes.forEach(probe -> probe.setSampledValues(null));
+        m_listProbes = Collections.emptyList();
+        f_mapResolved.clear();
+        }
+
+    /**
+     * Returns true if the probes are being sampled.
+     *
+     * @return true if the probes are being sampled
+     */
+    public synchronized boolean isRunning()
+        {
+        return m_executor != null;
+        }
+
+    // ----- helpers --------------------------------------------------------
+
+    /**
+     * Schedule the sampling task at the current interval.
+     */
+    private void schedule()
+        {
+        long nInterval = Math.max(MIN_INTERVAL, m_nInterval);
+        m_future = m_executor.scheduleWithFixedDelay(this::sample, 0L, nInterval, TimeUnit.MILLISECONDS);
+        }
+
+    /**
+     * Take one sample of each probe.
+     */
+    private void sample()
+        {
+        VisualVMModel model         = f_resolver.getMonitoredData();
+        RequestSender requestSender = model == null ? null : model.getRequestSender();
+        if (requestSender == null || requestSender instanceof ReplayRequestSender)
+            {
+            return;
+            }
+
+        List<AbstractCoherenceMonitorProbe> listProbes = m_listProbes;
+        long                                nVersion   = model.getSnapshot().getVersion();
+        for (AbstractCoherenceMonitorProbe probe : listProbes)
+            {
+            try
+                {
+                // samples must never see the results memoized by a refresh in progress
+                long[] alValues = requestSender.getRequestCache().uncached(() ->
+                    {
+                    Resolved resolved = f_mapResolved.get(probe);
+                    if (resolved == null || resolved.f_nVersion != nVersion)
+                        {
+                        resolved = new Resolved(nVersion, probe.getSampledObjectNames(model, requestSender));
+                        f_mapResolved.put(probe, resolved);
+                        }
+
+                    if (resolved.f_setObjectNames.isEmpty())
+                        {
+                        return null;
+                        }
+
+                    Map<ObjectName, AttributeList> mapAttributes =
+                            requestSender.getAttributes(resolved.f_setObjectNames, probe.getSampledAttributes());
+                    return probe.getSampledValues(mapAttributes);
+                    });
+
+                // don't publish a sample taken while the sampler was being stopped
+                if (listProbes == m_listProbes)
+                    {
+                    probe.setSampledValues(alValues);
+                    }
+                }
+            catch (Exception e)
+                {
+                // fall back to the model snapshot until the next successful sample
+                LOGGER.log(Level.FINE, "Unable to sample Tracer probe " + probe.getClass().getSimpleName(), e);
+                probe.setSampledValues(null);
+                f_mapResolved.remove(probe);
+                }
+            }
+        }
+
+    // ----- inner classes --------------------------------------------------
+
+    /**
+     * The MBeans resolved for a probe and the snapshot version they were resolved at.
+     */
+    private static class Resolved
+        {
+        /**
+         * Construct the resolved MBeans.
+         *
+         * @param nVersion        the snapshot version
+         * @param setObjectNames  the MBeans to sample
+         */
+        private Resolved(long nVersion, Set<ObjectName> setObjectNames)
+            {
+            f_nVersion       = nVersion;
+            f_setObjectNames = setObjectNames;
+            }
+
+        /**
+         * The snapshot version the MBeans were resolved at.
+         */
+        private final long f_nVersion;
+
+        /**
+         * The MBeans to sample.
+         */
+        private final Set<ObjectName> f_setObjectNames;
+        }
+
+    // ----- constants ------------------------------------------------------
+
+    /**
+     * The logger to use.
+     */
+    private static final Logger LOGGER = Logger.getLogger(HighResolutionSampler.class.getName());
+
+    /**
+     * The minimum interval in milliseconds between samples.
+     */
+    private static final long MIN_INTERVAL = 100L;
+
+    /**
+     * The default interval in milliseconds between samples.
+     */
+    private static final int DEFAULT_INTERVAL = 1000;
+
+    // ----- data members ---------------------------------------------------
+
+    /**
+     * The resolver for the model of the package.
+     */
+    private final AbstractCoherenceMonitorProbe.MonitoredDataResolver f_resolver;
+
+    /**
+     * The MBeans resolved for each probe.
+     */
+    private final Map<AbstractCoherenceMonitorProbe, Resolved> f_mapResolved =
+            Collections.synchronizedMap(new IdentityHashMap<>());
+
+    /**
+     * The probes being sampled.
+     */
+    private volatile List<AbstractCoherenceMonitorProbe> m_listProbes = Collections.emptyList();
+
+    /**
+     * The interval in milliseconds between samples.
+     */
+    private int m_nInterval = DEFAULT_INTERVAL;
+
+    /**
+     * The executor running the samples.
+     */
+    private ScheduledExecutorService m_executor;
+
+    /**
+     * The scheduled sampling task.
+     */
+    private ScheduledFuture<?> m_future;
+    }
@@ -39,6 +39,9 @@ import org.graalvm.visualvm.modules.tracer.TracerPackage;
 import org.graalvm.visualvm.modules.tracer.TracerProbe;
 import org.graalvm.visualvm.modules.tracer.TracerProbeDescriptor;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 
 /**
  * A {@link TracerPackage} to show cache related probes.
@@ -106,6 +109,12 @@ public class CacheMonitorPackage
         return f_model;
         }
 
+    @Override
+    public Set<VisualVMModel.DataType> getDataTypes()
+        {
+        return EnumSet.of(VisualVMModel.DataType.CACHE);
+        }
+
     // ----- constants ------------------------------------------------------
 
     private static final String NAME = Localization.getLocalText("LBL_cache_probe");
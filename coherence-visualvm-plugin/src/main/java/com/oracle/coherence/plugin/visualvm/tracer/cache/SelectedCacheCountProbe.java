@@ -28,10 +28,23 @@ package com.oracle.coherence.plugin.visualvm.tracer.cache;
 
 import com.oracle.coherence.plugin.visualvm.VisualVMModel;
 
+import com.oracle.coherence.plugin.visualvm.helper.RequestSender;
+
+import com.oracle.coherence.plugin.visualvm.tablemodel.model.AbstractData;
 import com.oracle.coherence.plugin.visualvm.tablemodel.model.CacheDetailData;
+import com.oracle.coherence.plugin.visualvm.tablemodel.model.Pair;
 
 import com.oracle.coherence.plugin.visualvm.tracer.AbstractCoherenceMonitorProbe;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import javax.management.AttributeList;
+import javax.management.ObjectName;
+
 import org.graalvm.visualvm.modules.tracer.ItemValueFormatter;
 import org.graalvm.visualvm.modules.tracer.ProbeItemDescriptor;
 import org.graalvm.visualvm.modules.tracer.TracerProbeDescriptor;
@@ -65,6 +78,36 @@ public class SelectedCacheCountProbe
         return new long[]{getSelectedCacheSum(model, VisualVMModel.DataType.CACHE_DETAIL, CacheDetailData.SIZE)};
         }
 
+    @Override
+    protected String[] getSampledAttributes()
+        {
+        return new String[] {ATTR_SIZE};
+        }
+
+    @Override
+    protected Set<ObjectName> getSampledObjectNames(VisualVMModel model, RequestSender requestSender)
+            throws Exception
+        {
+        Pair<String, String> selectedCache = model.getSelectedCache();
+        if (selectedCache == null)
+            {
+            return Collections.emptySet();
+            }
+
+        String[] asServiceDetails = AbstractData.getDomainAndService(selectedCache.getX());
+
+        // only the back tier holds the entries counted by CacheDetailData
+        return requestSender.getCacheMembers(asServiceDetails[1], selectedCache.getY(), asServiceDetails[0]).stream()
+                .filter(objName -> CacheDetailData.CacheType.BACK_TIER.getValue().equals(objName.getKeyProperty("tier")))
+                .collect(Collectors.toSet());
+        }
+
+    @Override
+    protected long[] getSampledValues(Map<ObjectName, AttributeList> mapAttributes)
+        {
+        return new long[] {(long) Arrays.stream(getSampledAttribute(mapAttributes, ATTR_SIZE)).sum()};
+        }
+
     /**
      * Create the descriptor for this probe.
      * @param available indicates to {@link TracerProbeDescriptor} if available
@@ -93,4 +136,9 @@ public class SelectedCacheCountProbe
     // ----- constants ------------------------------------------------------
 
     private static final String LBL = "LBL_size";
+
+    /**
+     * The Cache attribute sampled between full refreshes.
+     */
+    private static final String ATTR_SIZE = "Size";
     }
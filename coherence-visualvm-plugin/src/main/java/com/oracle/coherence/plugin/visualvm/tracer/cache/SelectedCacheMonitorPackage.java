@@ -32,13 +32,18 @@ import com.oracle.coherence.plugin.visualvm.VisualVMModel;
 import com.oracle.coherence.plugin.visualvm.VisualVMView;
 
 import com.oracle.coherence.plugin.visualvm.tracer.AbstractCoherenceMonitorProbe;
+import com.oracle.coherence.plugin.visualvm.tracer.HighResolutionSampler;
 
 import org.graalvm.visualvm.application.Application;
 
+import org.graalvm.visualvm.modules.tracer.PackageStateHandler;
 import org.graalvm.visualvm.modules.tracer.TracerPackage;
 import org.graalvm.visualvm.modules.tracer.TracerProbe;
 import org.graalvm.visualvm.modules.tracer.TracerProbeDescriptor;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 
 /**
  * A {@link TracerPackage} to show cache related probes for the currently selected cache.
@@ -56,7 +61,8 @@ public class SelectedCacheMonitorPackage
     public SelectedCacheMonitorPackage(Application application)
         {
         super(NAME, DESCR, ICON, POSITION);
-        this.f_model = VisualVMView.getModelForApplication(application);
+        this.f_model   = VisualVMView.getModelForApplication(application);
+        this.f_sampler = new HighResolutionSampler(this);
         }
 
     // ---- TracerPackage methods -------------------------------------------
@@ -117,6 +123,13 @@ public class SelectedCacheMonitorPackage
             }
         }
 
+    @Override
+    public PackageStateHandler<Application> getStateHandler()
+        {
+        // sample the selected probes between full refreshes while the Tracer session is running
+        return f_model == null ? null : f_sampler;
+        }
+
     // ---- AbstractCoherenceMonitorProbe.MonitoredDataResolver interface ---
 
     @Override
@@ -125,6 +138,12 @@ public class SelectedCacheMonitorPackage
         return f_model;
         }
 
+    @Override
+    public Set<VisualVMModel.DataType> getDataTypes()
+        {
+        return EnumSet.of(VisualVMModel.DataType.CACHE_DETAIL, VisualVMModel.DataType.CACHE_STORAGE_MANAGER);
+        }
+
     // ----- constants ------------------------------------------------------
 
     private static final String NAME = Localization.getLocalText("LBL_selected_cache_probe");
@@ -142,4 +161,6 @@ public class SelectedCacheMonitorPackage
     private AbstractCoherenceMonitorProbe m_queryProbe;
 
     private final VisualVMModel f_model;
+
+    private final HighResolutionSampler f_sampler;
     }
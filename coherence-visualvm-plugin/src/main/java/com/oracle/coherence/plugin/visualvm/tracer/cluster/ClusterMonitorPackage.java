@@ -29,13 +29,18 @@ import com.oracle.coherence.plugin.visualvm.Localization;
 import com.oracle.coherence.plugin.visualvm.VisualVMModel;
 import com.oracle.coherence.plugin.visualvm.VisualVMView;
 import com.oracle.coherence.plugin.visualvm.tracer.AbstractCoherenceMonitorProbe;
+import com.oracle.coherence.plugin.visualvm.tracer.HighResolutionSampler;
 
 import org.graalvm.visualvm.application.Application;
 
+import org.graalvm.visualvm.modules.tracer.PackageStateHandler;
 import org.graalvm.visualvm.modules.tracer.TracerPackage;
 import org.graalvm.visualvm.modules.tracer.TracerProbe;
 import org.graalvm.visualvm.modules.tracer.TracerProbeDescriptor;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 import static com.oracle.coherence.plugin.visualvm.tracer.AbstractCoherenceMonitorProbe.ICON;
 
 
@@ -56,7 +61,8 @@ public class ClusterMonitorPackage
     public ClusterMonitorPackage(Application application)
         {
         super(NAME, DESCR, ICON, POSITION);
-        this.f_model = VisualVMView.getModelForApplication(application);
+        this.f_model   = VisualVMView.getModelForApplication(application);
+        this.f_sampler = new HighResolutionSampler(this);
         }
 
     // ---- TracerPackage methods -------------------------------------------
@@ -137,6 +143,13 @@ public class ClusterMonitorPackage
             }
         }
 
+    @Override
+    public PackageStateHandler<Application> getStateHandler()
+        {
+        // sample the selected probes between full refreshes while the Tracer session is running
+        return f_model == null ? null : f_sampler;
+        }
+
     // ---- AbstractCoherenceMonitorProbe.MonitoredDataResolver interface ---
 
     @Override
@@ -145,6 +158,15 @@ public class ClusterMonitorPackage
         return f_model;
         }
 
+    @Override
+    public Set<VisualVMModel.DataType> getDataTypes()
+        {
+        return EnumSet.of(VisualVMModel.DataType.CLUSTER,
+                          VisualVMModel.DataType.MACHINE,
+                          VisualVMModel.DataType.MEMBER,
+                          VisualVMModel.DataType.NODE_STORAGE);
+        }
+
     // ----- constants ------------------------------------------------------
 
     private static final String NAME = Localization.getLocalText("LBL_cluster_probe");
@@ -166,4 +188,6 @@ public class ClusterMonitorPackage
     private AbstractCoherenceMonitorProbe m_loadAverageProbe;
 
     private final VisualVMModel f_model;
+
+    private final HighResolutionSampler f_sampler;
     }
@@ -29,18 +29,12 @@ import com.oracle.coherence.plugin.visualvm.Localization;
 import com.oracle.coherence.plugin.visualvm.VisualVMModel;
 import com.oracle.coherence.plugin.visualvm.tablemodel.model.ClusterData;
 
-import com.oracle.coherence.plugin.visualvm.tablemodel.model.Data;
-import com.oracle.coherence.plugin.visualvm.tablemodel.model.MemberData;
 import com.oracle.coherence.plugin.visualvm.tracer.AbstractCoherenceMonitorProbe;
 
 import org.graalvm.visualvm.modules.tracer.ItemValueFormatter;
 import org.graalvm.visualvm.modules.tracer.ProbeItemDescriptor;
 import org.graalvm.visualvm.modules.tracer.TracerProbeDescriptor;
 
-import java.util.Map;
-
-import static com.oracle.coherence.plugin.visualvm.panel.AbstractCoherencePanel.isNodeStorageEnabled;
-
 /**
  * Tracer probe to return the cluster size.
  *
@@ -66,17 +60,8 @@ public class ClusterSizeProbe
     public long[] getValues(VisualVMModel model)
         {
         long nTotalMembers = getSingValue(model, VisualVMModel.DataType.CLUSTER, ClusterData.CLUSTER_SIZE, ZERO_VALUES1)[0];
-        long nStorageCount = 0L;
+        long nStorageCount = getStorageEnabledCount(model);
 
-        // determine the number of storage-enabled members
-        for (Map.Entry<Object, Data> entry : model.getData(VisualVMModel.DataType.MEMBER))
-            {
-            // only include memory is the node is storage enabled
-            if (isNodeStorageEnabled(model, (Integer) entry.getValue().getColumn(MemberData.NODE_ID)))
-                {
-                nStorageCount++;
-                }
-            }
         return new long[]{nTotalMembers, nStorageCount};
         }
 
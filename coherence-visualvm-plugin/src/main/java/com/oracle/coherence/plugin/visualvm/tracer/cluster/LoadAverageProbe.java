@@ -25,11 +25,7 @@
 
 package com.oracle.coherence.plugin.visualvm.tracer.cluster;
 
-import java.util.List;
-import java.util.Map;
-
 import com.oracle.coherence.plugin.visualvm.VisualVMModel;
-import com.oracle.coherence.plugin.visualvm.tablemodel.model.Data;
 import com.oracle.coherence.plugin.visualvm.tracer.AbstractCoherenceMonitorProbe;
 import org.graalvm.visualvm.modules.tracer.ProbeItemDescriptor;
 import org.graalvm.visualvm.modules.tracer.TracerProbeDescriptor;
@@ -37,8 +33,6 @@ import org.graalvm.visualvm.modules.tracer.TracerProbeDescriptor;
 import static com.oracle.coherence.plugin.visualvm.Localization.getLocalText;
 import static com.oracle.coherence.plugin.visualvm.helper.GraphHelper.GRPH_CURRENT_AVERAGE;
 import static com.oracle.coherence.plugin.visualvm.helper.GraphHelper.GRPH_MAXIMUM;
-import static com.oracle.coherence.plugin.visualvm.panel.AbstractCoherencePanel.getClusterLoadAverage;
-
 
 /**
  * Tracer probe to return average and max load average.
@@ -64,14 +58,12 @@ public class LoadAverageProbe
     @Override
     public long[] getValues(VisualVMModel model)
         {
-        List<Map.Entry<Object, Data>> data = model.getData(VisualVMModel.DataType.MACHINE);
-        if (data == null || data.isEmpty())
+        Object[] aoValues = getClusterLoadAverage(model);
+        if (aoValues == null)
             {
             return ZERO_VALUES2;
             }
 
-        Object[] aoValues = getClusterLoadAverage(data);
-
        int    cCount            = (Integer) aoValues[0];
        double cTotalLoadAverage = (Double) aoValues[1];
        double cMax              = (Double) aoValues[2];
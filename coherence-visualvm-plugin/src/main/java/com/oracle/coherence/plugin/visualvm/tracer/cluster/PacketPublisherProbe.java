@@ -25,21 +25,24 @@
 
 package com.oracle.coherence.plugin.visualvm.tracer.cluster;
 
-import java.util.List;
-import java.util.Map;
-
 import com.oracle.coherence.plugin.visualvm.VisualVMModel;
-import com.oracle.coherence.plugin.visualvm.tablemodel.model.Data;
+
+import com.oracle.coherence.plugin.visualvm.helper.RequestSender;
+
 import com.oracle.coherence.plugin.visualvm.tracer.AbstractCoherenceMonitorProbe;
 
+import java.util.Map;
+import java.util.Set;
+
+import javax.management.AttributeList;
+import javax.management.ObjectName;
+
 import org.graalvm.visualvm.modules.tracer.ProbeItemDescriptor;
 import org.graalvm.visualvm.modules.tracer.TracerProbeDescriptor;
 
 import static com.oracle.coherence.plugin.visualvm.Localization.getLocalText;
 import static com.oracle.coherence.plugin.visualvm.helper.GraphHelper.GRPH_CURRENT_AVERAGE;
 import static com.oracle.coherence.plugin.visualvm.helper.GraphHelper.GRPH_MINIMUM;
-import static com.oracle.coherence.plugin.visualvm.panel.AbstractCoherencePanel.getMemberMemoryRateData;
-
 
 /**
  * Tracer probe to return average and minimum package publisher.
@@ -65,14 +68,12 @@ public class PacketPublisherProbe
     @Override
     public long[] getValues(VisualVMModel model)
         {
-        List<Map.Entry<Object, Data>> data = model.getData(VisualVMModel.DataType.MEMBER);
-        if (data == null || data.isEmpty())
+        Object[] aoValues = getMemberMemoryRateData(model);
+        if (aoValues == null)
             {
             return ZERO_VALUES2;
             }
 
-        Object[] aoValues = getMemberMemoryRateData(model, data);
-
         int   cCount              = (Integer) aoValues[0];
         float cTotalPublisherRate = (Float) aoValues[3];
         float cMinPublisherRate   = (Float) aoValues[5];
@@ -85,6 +86,25 @@ public class PacketPublisherProbe
 
         }
 
+    @Override
+    protected String[] getSampledAttributes()
+        {
+        return new String[] {ATTR_PUBLISHER_SUCCESS_RATE};
+        }
+
+    @Override
+    protected Set<ObjectName> getSampledObjectNames(VisualVMModel model, RequestSender requestSender)
+            throws Exception
+        {
+        return requestSender.getAllClusterMembers();
+        }
+
+    @Override
+    protected long[] getSampledValues(Map<ObjectName, AttributeList> mapAttributes)
+        {
+        return getAverageAndMinimum(getSampledAttribute(mapAttributes, ATTR_PUBLISHER_SUCCESS_RATE));
+        }
+
     /**
      * Create the descriptor for this probe.
      * @param available indicates to {@link TracerProbeDescriptor} if available
@@ -112,4 +132,38 @@ public class PacketPublisherProbe
                     1, 0, 1000)
             };
         }
+
+    /**
+     * Returns the average and minimum of sampled success rates, scaled by 1000.
+     * @param adRates  the sampled success rates
+     * @return the average and minimum, or null if there were no rates
+     */
+    protected static long[] getAverageAndMinimum(double[] adRates)
+        {
+        if (adRates.length == 0)
+            {
+            return null;
+            }
+
+        double dTotal = 0.0d;
+        double dMin   = Double.MAX_VALUE;
+        for (double dRate : adRates)
+            {
+            dTotal += dRate;
+            dMin    = Math.min(dMin, dRate);
+            }
+
+        return new long[]
+            {
+            (long) (dTotal / adRates.length * 1000),
+            (long) (dMin * 1000)
+            };
+        }
+
+    // ----- constants ------------------------------------------------------
+
+    /**
+     * The Node attribute sampled between full refreshes.
+     */
+    private static final String ATTR_PUBLISHER_SUCCESS_RATE = "PublisherSuccessRate";
     }
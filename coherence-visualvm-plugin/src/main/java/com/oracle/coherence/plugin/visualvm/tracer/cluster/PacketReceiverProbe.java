@@ -25,18 +25,21 @@
 
 package com.oracle.coherence.plugin.visualvm.tracer.cluster;
 
-import java.util.List;
-import java.util.Map;
-
 import com.oracle.coherence.plugin.visualvm.VisualVMModel;
-import com.oracle.coherence.plugin.visualvm.tablemodel.model.Data;
+
+import com.oracle.coherence.plugin.visualvm.helper.RequestSender;
+
 import com.oracle.coherence.plugin.visualvm.tracer.AbstractCoherenceMonitorProbe;
 
+import java.util.Map;
+import java.util.Set;
+
+import javax.management.AttributeList;
+import javax.management.ObjectName;
+
 import org.graalvm.visualvm.modules.tracer.TracerProbeDescriptor;
 
 import static com.oracle.coherence.plugin.visualvm.Localization.getLocalText;
-import static com.oracle.coherence.plugin.visualvm.panel.AbstractCoherencePanel.getMemberMemoryRateData;
-
 
 /**
  * Tracer probe to return average and minimum package receiver.
@@ -62,14 +65,12 @@ public class PacketReceiverProbe
     @Override
     public long[] getValues(VisualVMModel model)
         {
-        List<Map.Entry<Object, Data>> data = model.getData(VisualVMModel.DataType.MEMBER);
-        if (data == null || data.isEmpty())
+        Object[] aoValues = getMemberMemoryRateData(model);
+        if (aoValues == null)
             {
             return ZERO_VALUES2;
             }
 
-        Object[] aoValues = getMemberMemoryRateData(model, data);
-
         int   cCount              = (Integer) aoValues[0];
         float cTotalReceiverRate  = (Float) aoValues[4];
         float cMinReceiverRate    = (Float) aoValues[6];
@@ -82,6 +83,25 @@ public class PacketReceiverProbe
 
         }
 
+    @Override
+    protected String[] getSampledAttributes()
+        {
+        return new String[] {ATTR_RECEIVER_SUCCESS_RATE};
+        }
+
+    @Override
+    protected Set<ObjectName> getSampledObjectNames(VisualVMModel model, RequestSender requestSender)
+            throws Exception
+        {
+        return requestSender.getAllClusterMembers();
+        }
+
+    @Override
+    protected long[] getSampledValues(Map<ObjectName, AttributeList> mapAttributes)
+        {
+        return PacketPublisherProbe.getAverageAndMinimum(getSampledAttribute(mapAttributes, ATTR_RECEIVER_SUCCESS_RATE));
+        }
+
     /**
      * Create the descriptor for this probe.
      * @param available indicates to {@link TracerProbeDescriptor} if available
@@ -92,4 +112,11 @@ public class PacketReceiverProbe
         return new TracerProbeDescriptor(getLocalText("GRPH_packet_receiver"),
                 getLocalText("LBL_packet_receiver_desc"), ICON, 15, available);
         }
+
+    // ----- constants ------------------------------------------------------
+
+    /**
+     * The Node attribute sampled between full refreshes.
+     */
+    private static final String ATTR_RECEIVER_SUCCESS_RATE = "ReceiverSuccessRate";
     }
@@ -26,7 +26,6 @@
 package com.oracle.coherence.plugin.visualvm.tracer.cluster;
 
 import com.oracle.coherence.plugin.visualvm.VisualVMModel;
-import com.oracle.coherence.plugin.visualvm.tablemodel.model.Data;
 
 import com.oracle.coherence.plugin.visualvm.tracer.AbstractCoherenceMonitorProbe;
 
@@ -34,12 +33,8 @@ import org.graalvm.visualvm.modules.tracer.ItemValueFormatter;
 import org.graalvm.visualvm.modules.tracer.ProbeItemDescriptor;
 import org.graalvm.visualvm.modules.tracer.TracerProbeDescriptor;
 
-import java.util.List;
-import java.util.Map;
-
 import static com.oracle.coherence.plugin.visualvm.Localization.getLocalText;
 import static com.oracle.coherence.plugin.visualvm.helper.GraphHelper.MB;
-import static com.oracle.coherence.plugin.visualvm.panel.AbstractCoherencePanel.getMemberMemoryRateData;
 
 /**
  * Tracer probe to return maximum and used storage heap for a cluster.
@@ -65,12 +60,11 @@ public class StorageMembersHeapProbe
     @Override
     public long[] getValues(VisualVMModel model)
         {
-        List<Map.Entry<Object, Data>> data = model.getData(VisualVMModel.DataType.MEMBER);
-        if (data == null || data.isEmpty())
+        Object[] aoValues = getMemberMemoryRateData(model);
+        if (aoValues == null)
             {
             return ZERO_VALUES2;
             }
-        Object[] aoValues = getMemberMemoryRateData(model, model.getData(VisualVMModel.DataType.MEMBER));
 
         int cTotalMemory        = (Integer) aoValues[1];
         int cTotalMemoryUsed    = (Integer) aoValues[2];
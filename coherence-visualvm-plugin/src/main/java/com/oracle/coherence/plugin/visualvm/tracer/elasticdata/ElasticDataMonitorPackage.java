@@ -39,6 +39,9 @@ import org.graalvm.visualvm.modules.tracer.TracerPackage;
 import org.graalvm.visualvm.modules.tracer.TracerProbe;
 import org.graalvm.visualvm.modules.tracer.TracerProbeDescriptor;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 
 
 /**
@@ -127,6 +130,12 @@ public class ElasticDataMonitorPackage
         return f_model;
         }
 
+    @Override
+    public Set<VisualVMModel.DataType> getDataTypes()
+        {
+        return EnumSet.of(VisualVMModel.DataType.RAMJOURNAL, VisualVMModel.DataType.FLASHJOURNAL);
+        }
+
     // ----- constants ------------------------------------------------------
 
     private static final String NAME = Localization.getLocalText("LBL_elasticdata_probe");
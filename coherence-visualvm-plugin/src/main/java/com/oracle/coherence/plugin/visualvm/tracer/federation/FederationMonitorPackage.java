@@ -39,6 +39,9 @@ import org.graalvm.visualvm.modules.tracer.TracerPackage;
 import org.graalvm.visualvm.modules.tracer.TracerProbe;
 import org.graalvm.visualvm.modules.tracer.TracerProbeDescriptor;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 
 /**
  * A {@link TracerPackage} to show federation related probes.
@@ -126,6 +129,12 @@ public class FederationMonitorPackage
         return f_model;
         }
 
+    @Override
+    public Set<VisualVMModel.DataType> getDataTypes()
+        {
+        return EnumSet.of(VisualVMModel.DataType.FEDERATION_DESTINATION);
+        }
+
     // ----- constants ------------------------------------------------------
 
     private static final String NAME = Localization.getLocalText("LBL_federation_probe");
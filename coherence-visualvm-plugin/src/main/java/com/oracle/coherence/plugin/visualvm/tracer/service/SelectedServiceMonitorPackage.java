@@ -32,13 +32,18 @@ import com.oracle.coherence.plugin.visualvm.VisualVMModel;
 import com.oracle.coherence.plugin.visualvm.VisualVMView;
 
 import com.oracle.coherence.plugin.visualvm.tracer.AbstractCoherenceMonitorProbe;
+import com.oracle.coherence.plugin.visualvm.tracer.HighResolutionSampler;
 
 import org.graalvm.visualvm.application.Application;
 
+import org.graalvm.visualvm.modules.tracer.PackageStateHandler;
 import org.graalvm.visualvm.modules.tracer.TracerPackage;
 import org.graalvm.visualvm.modules.tracer.TracerProbe;
 import org.graalvm.visualvm.modules.tracer.TracerProbeDescriptor;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 
 /**
  * A {@link TracerPackage} to show service related probes for the currently selected service.
@@ -57,7 +62,8 @@ public class SelectedServiceMonitorPackage
     public SelectedServiceMonitorPackage(Application application)
         {
         super(NAME, DESCR, ICON, POSITION);
-        this.f_model = VisualVMView.getModelForApplication(application);
+        this.f_model   = VisualVMView.getModelForApplication(application);
+        this.f_sampler = new HighResolutionSampler(this);
         }
 
     // ---- TracerPackage methods -------------------------------------------
@@ -138,6 +144,13 @@ public class SelectedServiceMonitorPackage
             }
         }
 
+    @Override
+    public PackageStateHandler<Application> getStateHandler()
+        {
+        // sample the selected probes between full refreshes while the Tracer session is running
+        return f_model == null ? null : f_sampler;
+        }
+
     // ---- AbstractCoherenceMonitorProbe.MonitoredDataResolver interface ---
 
     @Override
@@ -146,6 +159,12 @@ public class SelectedServiceMonitorPackage
         return f_model;
         }
 
+    @Override
+    public Set<VisualVMModel.DataType> getDataTypes()
+        {
+        return EnumSet.of(VisualVMModel.DataType.SERVICE, VisualVMModel.DataType.SERVICE_DETAIL);
+        }
+
     // ----- constants ------------------------------------------------------
 
     private static final String NAME = Localization.getLocalText("LBL_selected_service_probe");
@@ -167,4 +186,6 @@ public class SelectedServiceMonitorPackage
     private AbstractCoherenceMonitorProbe m_partitionsProbe;
 
     private final VisualVMModel f_model;
+
+    private final HighResolutionSampler f_sampler;
     }
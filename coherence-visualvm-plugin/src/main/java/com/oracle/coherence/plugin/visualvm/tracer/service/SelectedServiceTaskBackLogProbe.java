@@ -28,10 +28,22 @@ package com.oracle.coherence.plugin.visualvm.tracer.service;
 import com.oracle.coherence.plugin.visualvm.Localization;
 import com.oracle.coherence.plugin.visualvm.VisualVMModel;
 
+import com.oracle.coherence.plugin.visualvm.helper.RequestSender;
+
+import com.oracle.coherence.plugin.visualvm.tablemodel.model.AbstractData;
 import com.oracle.coherence.plugin.visualvm.tablemodel.model.ServiceMemberData;
 
 import com.oracle.coherence.plugin.visualvm.tracer.AbstractCoherenceMonitorProbe;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import javax.management.AttributeList;
+import javax.management.ObjectName;
+
 import org.graalvm.visualvm.modules.tracer.ItemValueFormatter;
 
 import org.graalvm.visualvm.modules.tracer.ProbeItemDescriptor;
@@ -64,6 +76,38 @@ public class SelectedServiceTaskBackLogProbe
         return new long[] {getSelectedServiceSumInteger(model, ServiceMemberData.TASK_BACKLOG)};
         }
 
+    @Override
+    protected String[] getSampledAttributes()
+        {
+        return new String[] {ATTR_TASK_BACKLOG};
+        }
+
+    @Override
+    protected Set<ObjectName> getSampledObjectNames(VisualVMModel model, RequestSender requestSender)
+            throws Exception
+        {
+        String sSelectedService = model.getSelectedService();
+        if (sSelectedService == null)
+            {
+            return Collections.emptySet();
+            }
+
+        String[] asParts          = AbstractData.getServiceParts(sSelectedService);
+        String   sDomainPartition = asParts.length == 1 ? null : asParts[0];
+        String   sServiceName     = sDomainPartition == null ? sSelectedService : asParts[1];
+
+        // as for ServiceMemberData, ignore members of domain partitions unless one is selected
+        return requestSender.getMembersOfService(sServiceName, sDomainPartition).stream()
+                .filter(objName -> sDomainPartition != null || objName.getKeyProperty("domainPartition") == null)
+                .collect(Collectors.toSet());
+        }
+
+    @Override
+    protected long[] getSampledValues(Map<ObjectName, AttributeList> mapAttributes)
+        {
+        return new long[] {(long) Arrays.stream(getSampledAttribute(mapAttributes, ATTR_TASK_BACKLOG)).sum()};
+        }
+
     /**
      * Create the descriptor for this probe.
      * @param available indicates to {@link TracerProbeDescriptor} if available
@@ -92,4 +136,9 @@ public class SelectedServiceTaskBackLogProbe
     // ----- constants ------------------------------------------------------
 
     private static final String LBL  = "LBL_task_backlog";
+
+    /**
+     * The Service attribute sampled between full refreshes.
+     */
+    private static final String ATTR_TASK_BACKLOG = "TaskBacklog";
     }
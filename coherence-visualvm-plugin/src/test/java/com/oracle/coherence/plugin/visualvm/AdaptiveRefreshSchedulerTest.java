@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.oracle.coherence.plugin.visualvm;
+
+import com.oracle.coherence.plugin.visualvm.tablemodel.model.Data;
+
+import java.util.AbstractMap;
+import java.util.Collections;
+import java.util.List;
+
+import java.util.Map.Entry;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for the {@link AdaptiveRefreshScheduler}.
+ */
+public class AdaptiveRefreshSchedulerTest
+    {
+    @Test
+    public void testBackoffWhenUnchanged()
+        {
+        AdaptiveRefreshScheduler scheduler = new AdaptiveRefreshScheduler(4);
+        VisualVMModel.DataType   type      = VisualVMModel.DataType.CACHE;
+
+        assertTrue(scheduler.isDue(type, REFRESH, 0L));
+        assertEquals(REFRESH, scheduler.getInterval(type, REFRESH));
+
+        scheduler.recordResult(type, getData("a"), 0L);
+        assertEquals(REFRESH, scheduler.getInterval(type, REFRESH));
+
+        scheduler.recordResult(type, getData("a"), REFRESH);
+        assertEquals(2 * REFRESH, scheduler.getInterval(type, REFRESH));
+        assertFalse(scheduler.isDue(type, REFRESH, 2 * REFRESH));
+        assertTrue(scheduler.isDue(type, REFRESH, 3 * REFRESH));
+
+        scheduler.recordResult(type, getData("a"), 3 * REFRESH);
+        scheduler.recordResult(type, getData("a"), 7 * REFRESH);
+
+        // capped at the maximum back-off
+        assertEquals(4 * REFRESH, scheduler.getInterval(type, REFRESH));
+        }
+
+    @Test
+    public void testResetWhenChanged()
+        {
+        AdaptiveRefreshScheduler scheduler = new AdaptiveRefreshScheduler(8);
+        VisualVMModel.DataType   type      = VisualVMModel.DataType.SERVICE;
+
+        scheduler.recordResult(type, getData("a"), 0L);
+        scheduler.recordResult(type, getData("a"), REFRESH);
+        assertEquals(2 * REFRESH, scheduler.getInterval(type, REFRESH));
+
+        scheduler.recordResult(type, getData("b"), 3 * REFRESH);
+        assertEquals(REFRESH, scheduler.getInterval(type, REFRESH));
+
+        scheduler.recordResult(type, getData("b"), 4 * REFRESH);
+        scheduler.reset(type);
+        assertEquals(REFRESH, scheduler.getInterval(type, REFRESH));
+        assertTrue(scheduler.isDue(type, REFRESH, 4 * REFRESH));
+        }
+
+    @Test
+    public void testSlowlyChangingTypes()
+        {
+        AdaptiveRefreshScheduler scheduler = new AdaptiveRefreshScheduler(1);
+
+        assertEquals(6 * REFRESH, scheduler.getInterval(VisualVMModel.DataType.JCACHE_CONFIG, REFRESH));
+        assertEquals(2 * REFRESH, scheduler.getInterval(VisualVMModel.DataType.MACHINE, REFRESH));
+        }
+
+    /**
+     * Returns data containing a single row with the given key.
+     *
+     * @param sKey  the key of the row
+     *
+     * @return the data
+     */
+    private static List<Entry<Object, Data>> getData(String sKey)
+        {
+        return Collections.singletonList(new AbstractMap.SimpleEntry<Object, Data>(sKey, null));
+        }
+
+    /**
+     * The global refresh time in millis used by the tests.
+     */
+    private static final long REFRESH = 1000L;
+    }
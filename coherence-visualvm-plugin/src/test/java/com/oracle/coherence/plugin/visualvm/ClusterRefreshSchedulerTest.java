@@ -0,0 +1,201 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.oracle.coherence.plugin.visualvm;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for the {@link ClusterRefreshScheduler}.
+ */
+public class ClusterRefreshSchedulerTest
+    {
+    @Test
+    public void testFocusedBeforeBackground()
+            throws Exception
+        {
+        ClusterRefreshScheduler scheduler = new ClusterRefreshScheduler(1);
+        try
+            {
+            CountDownLatch latchStarted = new CountDownLatch(1);
+            CountDownLatch latchRelease = new CountDownLatch(1);
+            CountDownLatch latchDone    = new CountDownLatch(3);
+            List<String>   listOrder    = Collections.synchronizedList(new ArrayList<>());
+
+            ClusterRefreshScheduler.Registration blocker = scheduler.register("blocker", NEVER, NEVER, () ->
+                {
+                latchStarted.countDown();
+                await(latchRelease);
+                });
+
+            ClusterRefreshScheduler.Registration regA = register(scheduler, "a", false, listOrder, latchDone);
+            ClusterRefreshScheduler.Registration regB = register(scheduler, "b", true, listOrder, latchDone);
+            ClusterRefreshScheduler.Registration regC = register(scheduler, "c", false, listOrder, latchDone);
+
+            // views are only focused when registered as such
+            assertFalse(scheduler.register("d", NEVER, NEVER, () -> {}).isFocused());
+            assertFalse(regA.isFocused());
+            assertTrue(regB.isFocused());
+
+            // occupy the only thread so the others wait in the queue
+            blocker.requestRefresh();
+            assertTrue(latchStarted.await(10, TimeUnit.SECONDS));
+
+            regA.requestRefresh();
+            regC.requestRefresh();
+            regB.requestRefresh();
+
+            latchRelease.countDown();
+            assertTrue(latchDone.await(10, TimeUnit.SECONDS));
+
+            assertEquals(Arrays.asList("b", "a", "c"), listOrder);
+            }
+        finally
+            {
+            scheduler.shutdown();
+            }
+        }
+
+    @Test
+    public void testCoalesceWhileQueued()
+            throws Exception
+        {
+        ClusterRefreshScheduler scheduler = new ClusterRefreshScheduler(1);
+        try
+            {
+            CountDownLatch latchStarted = new CountDownLatch(1);
+            CountDownLatch latchRelease = new CountDownLatch(1);
+            AtomicInteger  cRuns        = new AtomicInteger();
+
+            ClusterRefreshScheduler.Registration blocker = scheduler.register("blocker", NEVER, NEVER, () ->
+                {
+                latchStarted.countDown();
+                await(latchRelease);
+                });
+            ClusterRefreshScheduler.Registration registration =
+                    scheduler.register("a", NEVER, NEVER, cRuns::incrementAndGet);
+
+            blocker.requestRefresh();
+            assertTrue(latchStarted.await(10, TimeUnit.SECONDS));
+
+            registration.requestRefresh();
+            registration.requestRefresh();
+            registration.requestRefresh();
+
+            latchRelease.countDown();
+
+            // a refresh queued after the others is run once they are done
+            CountDownLatch latchDone = new CountDownLatch(1);
+            scheduler.register("done", NEVER, NEVER, latchDone::countDown).requestRefresh();
+            assertTrue(latchDone.await(10, TimeUnit.SECONDS));
+
+            assertEquals(1, cRuns.get());
+
+            registration.cancel();
+            registration.requestRefresh();
+
+            CountDownLatch latchAfter = new CountDownLatch(1);
+            scheduler.register("after", NEVER, NEVER, latchAfter::countDown).requestRefresh();
+            assertTrue(latchAfter.await(10, TimeUnit.SECONDS));
+
+            assertEquals(1, cRuns.get());
+            }
+        finally
+            {
+            scheduler.shutdown();
+            }
+        }
+
+    @Test
+    public void testStaggerOffsets()
+        {
+        long      cInterval = 3000L;
+        Set<Long> setOffset = new HashSet<>();
+
+        for (int i = 0; i < 20; i++)
+            {
+            long cOffset = ClusterRefreshScheduler.getStaggerOffset(i, cInterval);
+
+            assertTrue(cOffset >= 0 && cOffset < cInterval);
+            setOffset.add(cOffset / 100);
+            }
+
+        // the offsets are spread across the interval rather than bunched together
+        assertTrue(setOffset.size() >= 18);
+        }
+
+    // ----- helpers --------------------------------------------------------
+
+    /**
+     * Register a task which records its name when it runs.
+     */
+    private static ClusterRefreshScheduler.Registration register(ClusterRefreshScheduler scheduler, String sName,
+            boolean fFocused, List<String> listOrder, CountDownLatch latchDone)
+        {
+        return scheduler.register(sName, NEVER, NEVER, fFocused, () ->
+            {
+            listOrder.add(sName);
+            latchDone.countDown();
+            });
+        }
+
+    /**
+     * Wait for the latch, ignoring interrupts.
+     */
+    private static void await(CountDownLatch latch)
+        {
+        try
+            {
+            latch.await(10, TimeUnit.SECONDS);
+            }
+        catch (InterruptedException e)
+            {
+            Thread.currentThread().interrupt();
+            }
+        }
+
+    // ----- constants ------------------------------------------------------
+
+    /**
+     * An interval long enough that the tasks are only run on request.
+     */
+    private static final long NEVER = TimeUnit.HOURS.toMillis(1);
+    }
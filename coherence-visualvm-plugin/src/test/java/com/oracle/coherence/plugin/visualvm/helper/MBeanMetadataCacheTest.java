@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.oracle.coherence.plugin.visualvm.helper;
+
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Proxy;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.management.MBeanServer;
+import javax.management.MBeanServerConnection;
+import javax.management.MBeanServerDelegate;
+import javax.management.MBeanServerNotification;
+import javax.management.ObjectName;
+import javax.management.timer.Timer;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for the {@link MBeanMetadataCache}.
+ */
+public class MBeanMetadataCacheTest
+    {
+    @Test
+    public void testQueryInvalidatedByRegistration()
+            throws Exception
+        {
+        MBeanServer        server   = ManagementFactory.getPlatformMBeanServer();
+        AtomicInteger      cQueries = new AtomicInteger();
+        MBeanMetadataCache cache    = new MBeanMetadataCache(countQueries(server, cQueries));
+        ObjectName         pattern  = new ObjectName("Coherence.Test:type=Timer,*");
+        ObjectName         objName  = new ObjectName("Coherence.Test:type=Timer,name=a");
+        ObjectName         other    = new ObjectName("Coherence.Test:type=Other,name=a");
+
+        assertTrue(cache.queryNames(pattern).isEmpty());
+        assertTrue(cache.queryNames(pattern).isEmpty());
+        assertEquals(1, cQueries.get());
+
+        // registering a non matching MBean doesn't invalidate the query
+        server.registerMBean(new Timer(), other);
+        try
+            {
+            assertTrue(cache.queryNames(pattern).isEmpty());
+            assertEquals(1, cQueries.get());
+
+            server.registerMBean(new Timer(), objName);
+            assertTrue(cache.queryNames(pattern).contains(objName));
+            assertEquals(2, cQueries.get());
+
+            server.unregisterMBean(objName);
+            assertTrue(cache.queryNames(pattern).isEmpty());
+            assertEquals(3, cQueries.get());
+            }
+        finally
+            {
+            server.unregisterMBean(other);
+            if (server.isRegistered(objName))
+                {
+                server.unregisterMBean(objName);
+                }
+            }
+        }
+
+    @Test
+    public void testClearedOnLostNotifications()
+            throws Exception
+        {
+        MBeanServer        server   = ManagementFactory.getPlatformMBeanServer();
+        AtomicInteger      cQueries = new AtomicInteger();
+        MBeanMetadataCache cache    = new MBeanMetadataCache(countQueries(server, cQueries));
+        ObjectName         pattern  = new ObjectName("Coherence.Test:type=Lost,*");
+        ObjectName         other    = new ObjectName("Coherence.Test:type=Other,name=b");
+        try
+            {
+            cache.queryNames(pattern);
+            cache.handleNotification(createNotification(other, 10L), null);
+            cache.handleNotification(createNotification(other, 11L), null);
+            cache.queryNames(pattern);
+            assertEquals(1, cQueries.get());
+
+            // a gap in the sequence means a matching registration may have been missed
+            cache.handleNotification(createNotification(other, 13L), null);
+            cache.queryNames(pattern);
+            assertEquals(2, cQueries.get());
+            }
+        finally
+            {
+            cache.close();
+            }
+
+        // once closed the cache is bypassed
+        cache.queryNames(pattern);
+        cache.queryNames(pattern);
+        assertEquals(4, cQueries.get());
+        }
+
+    /**
+     * Returns a registration notification with the given sequence number.
+     *
+     * @param objName    the name of the registered MBean
+     * @param nSequence  the sequence number
+     *
+     * @return the notification
+     */
+    private static MBeanServerNotification createNotification(ObjectName objName, long nSequence)
+        {
+        return new MBeanServerNotification(MBeanServerNotification.REGISTRATION_NOTIFICATION,
+                MBeanServerDelegate.DELEGATE_NAME, nSequence, objName);
+        }
+
+    /**
+     * Returns an {@link MBeanServerConnection} which counts the calls to queryNames.
+     *
+     * @param server    the {@link MBeanServer} to delegate to
+     * @param cQueries  the counter of queryNames calls
+     *
+     * @return the {@link MBeanServerConnection}
+     */
+    private static MBeanServerConnection countQueries(MBeanServer server, AtomicInteger cQueries)
+        {
+        return (MBeanServerConnection) Proxy.newProxyInstance(MBeanMetadataCacheTest.class.getClassLoader(),
+                new Class<?>[] {MBeanServerConnection.class}, (proxy, method, aoArgs) ->
+                    {
+                    if (method.getName().equals("queryNames"))
+                        {
+                        cQueries.incrementAndGet();
+                        }
+                    return method.invoke(server, aoArgs);
+                    });
+        }
+    }
@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.oracle.coherence.plugin.visualvm.helper;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for the {@link RequestCache}.
+ */
+public class RequestCacheTest
+    {
+    @Test
+    public void testOnlyCycleThreadsAreCached()
+            throws Exception
+        {
+        RequestCache      cache    = new RequestCache();
+        AtomicInteger     cLoads   = new AtomicInteger();
+        Callable<Integer> loader   = cLoads::incrementAndGet;
+        ExecutorService   executor = Executors.newSingleThreadExecutor();
+        try
+            {
+            cache.startCycle();
+
+            assertEquals(Integer.valueOf(1), cache.get("a", loader));
+            assertEquals(Integer.valueOf(1), cache.get("a", loader));
+
+            // a task bound to the cycle shares the cached result
+            assertEquals(Integer.valueOf(1), executor.submit(cache.bind(() -> cache.get("a", loader))).get());
+
+            // any other thread always sends the request
+            assertEquals(Integer.valueOf(2), executor.submit(() -> cache.get("a", loader)).get());
+            assertEquals(Integer.valueOf(3), executor.submit(() -> cache.get("a", loader)).get());
+
+            cache.endCycle();
+
+            assertFalse(cache.isActive());
+            assertEquals(Integer.valueOf(4), cache.get("a", loader));
+            }
+        finally
+            {
+            executor.shutdownNow();
+            }
+        }
+
+    @Test
+    public void testBoundTaskAfterCycleIsNotCached()
+            throws Exception
+        {
+        RequestCache      cache  = new RequestCache();
+        AtomicInteger     cLoads = new AtomicInteger();
+        Callable<Integer> loader = cLoads::incrementAndGet;
+
+        cache.startCycle();
+        Callable<Integer> task = cache.bind(() -> cache.get("a", loader));
+        cache.endCycle();
+
+        cache.startCycle();
+        assertEquals(Integer.valueOf(1), cache.get("a", loader));
+
+        // the task was bound to the previous cycle so does not see the current one
+        assertEquals(Integer.valueOf(2), task.call());
+        cache.endCycle();
+        }
+
+    @Test
+    public void testUncached()
+            throws Exception
+        {
+        RequestCache      cache  = new RequestCache();
+        AtomicInteger     cLoads = new AtomicInteger();
+        Callable<Integer> loader = cLoads::incrementAndGet;
+
+        cache.startCycle();
+        assertEquals(Integer.valueOf(1), cache.get("a", loader));
+
+        // an uncached task always sends the request, even on the cycle thread
+        assertEquals(Integer.valueOf(2), cache.uncached(() -> cache.get("a", loader)));
+        assertFalse(cache.uncached(() -> cache.isRepeated("a")));
+
+        // and the cycle thread still uses the cache afterwards
+        assertTrue(cache.isActive());
+        assertEquals(Integer.valueOf(1), cache.get("a", loader));
+        cache.endCycle();
+        }
+
+    @Test
+    public void testRepeated()
+        {
+        RequestCache cache = new RequestCache();
+
+        assertFalse(cache.isRepeated("a"));
+
+        cache.startCycle();
+        assertFalse(cache.isRepeated("a"));
+        assertFalse(cache.isRepeated("a"));
+        assertFalse(cache.isRepeated("b"));
+        cache.endCycle();
+
+        cache.startCycle();
+        assertTrue(cache.isRepeated("a"));
+        assertFalse(cache.isRepeated("b"));
+        cache.endCycle();
+
+        // no longer repeated as it was only requested once in the previous cycle
+        cache.startCycle();
+        assertFalse(cache.isRepeated("a"));
+        cache.endCycle();
+        }
+    }
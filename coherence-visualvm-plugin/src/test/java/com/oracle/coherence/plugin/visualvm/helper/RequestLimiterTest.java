@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.oracle.coherence.plugin.visualvm.helper;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * Tests for the {@link RequestLimiter}.
+ */
+public class RequestLimiterTest
+    {
+    @Test
+    public void testStreamHoldsPermitUntilClosed()
+            throws Exception
+        {
+        int cPermits = RequestLimiter.getAvailablePermits();
+
+        InputStream stream = RequestLimiter.callStream(() -> new ByteArrayInputStream(new byte[] {1, 2}));
+        assertEquals(cPermits - 1, RequestLimiter.getAvailablePermits());
+        assertEquals(1, stream.read());
+
+        // a nested request made while reading does not take another permit
+        assertEquals(Integer.valueOf(1), RequestLimiter.call(() -> RequestLimiter.getAvailablePermits() == cPermits - 1 ? 1 : 0));
+
+        stream.close();
+        assertEquals(cPermits, RequestLimiter.getAvailablePermits());
+
+        // closing again does not release the permit twice
+        stream.close();
+        assertEquals(cPermits, RequestLimiter.getAvailablePermits());
+        }
+
+    @Test
+    public void testNoStreamReleasesPermit()
+            throws Exception
+        {
+        int cPermits = RequestLimiter.getAvailablePermits();
+
+        assertNull(RequestLimiter.callStream(() -> null));
+        assertEquals(cPermits, RequestLimiter.getAvailablePermits());
+
+        try
+            {
+            RequestLimiter.callStream(() ->
+                {
+                throw new IllegalStateException();
+                });
+            }
+        catch (IllegalStateException e)
+            {
+            // expected
+            }
+        assertEquals(cPermits, RequestLimiter.getAvailablePermits());
+        }
+    }
@@ -0,0 +1,214 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.oracle.coherence.plugin.visualvm.helper;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for the {@link TimeSeriesStore}.
+ */
+public class TimeSeriesStoreTest
+    {
+    @Test
+    public void testRawValuesWrapAtLimit()
+        {
+        TimeSeriesStore            store  = new TimeSeriesStore(100, 10, 10);
+        TimeSeriesStore.TimeSeries series = store.getSeries("test");
+
+        for (int i = 0; i < 250; i++)
+            {
+            series.add(i * 1000L, new long[] {i, -i});
+            }
+
+        assertEquals(2, series.getItemCount());
+        assertEquals(100, series.size(TimeSeriesStore.Resolution.RAW));
+
+        List<Long> listValues = new ArrayList<>();
+        series.forEach(TimeSeriesStore.Resolution.RAW, (ldt, alMin, alMax, adAvg) ->
+            {
+            assertEquals(ldt / 1000L, alMin[0]);
+            assertEquals(-alMin[0], alMax[1]);
+            listValues.add(alMin[0]);
+            });
+
+        assertEquals(100, listValues.size());
+        assertEquals(150L, (long) listValues.get(0));
+        assertEquals(249L, (long) listValues.get(99));
+        }
+
+    @Test
+    public void testDownSampling()
+        {
+        TimeSeriesStore            store  = new TimeSeriesStore(10, 100, 100);
+        TimeSeriesStore.TimeSeries series = store.getSeries("test");
+
+        // three minutes of values every ten seconds
+        for (int i = 0; i < 18; i++)
+            {
+            series.add(i * 10_000L, new long[] {i});
+            }
+
+        List<double[]> listBuckets = new ArrayList<>();
+        series.forEach(TimeSeriesStore.Resolution.MINUTE, (ldt, alMin, alMax, adAvg) ->
+            listBuckets.add(new double[] {ldt, alMin[0], alMax[0], adAvg[0]}));
+
+        assertEquals(3, listBuckets.size());
+        assertBucket(listBuckets.get(0), 0L, 0L, 5L, 2.5d);
+        assertBucket(listBuckets.get(1), 60_000L, 6L, 11L, 8.5d);
+        assertBucket(listBuckets.get(2), 120_000L, 12L, 17L, 14.5d);
+
+        assertEquals(1, series.size(TimeSeriesStore.Resolution.TEN_MINUTES));
+        series.forEach(TimeSeriesStore.Resolution.TEN_MINUTES, (ldt, alMin, alMax, adAvg) ->
+            assertBucket(new double[] {ldt, alMin[0], alMax[0], adAvg[0]}, 0L, 0L, 17L, 8.5d));
+        }
+
+    @Test
+    public void testBucketsWrapAtLimit()
+        {
+        TimeSeriesStore            store  = new TimeSeriesStore(10, 100, 100);
+        TimeSeriesStore.TimeSeries series = store.getSeries("test");
+
+        // one value per minute for 250 minutes
+        for (int i = 0; i < 250; i++)
+            {
+            series.add(i * 60_000L, new long[] {i});
+            }
+
+        // the last 100 full buckets plus the one being filled
+        List<Long> listAverages = new ArrayList<>();
+        series.forEach(TimeSeriesStore.Resolution.MINUTE, (ldt, alMin, alMax, adAvg) ->
+            {
+            assertEquals(ldt / 60_000L, (long) adAvg[0]);
+            listAverages.add((long) adAvg[0]);
+            });
+
+        assertEquals(101, listAverages.size());
+        assertEquals(149L, (long) listAverages.get(0));
+        assertEquals(249L, (long) listAverages.get(100));
+        }
+
+    @Test
+    public void testMergedHistory()
+        {
+        TimeSeriesStore            store  = new TimeSeriesStore(6, 100, 100);
+        TimeSeriesStore.TimeSeries series = store.getSeries("test");
+
+        for (int i = 0; i < 30; i++)
+            {
+            series.add(i * 10_000L, new long[] {i});
+            }
+
+        // minute buckets older than the raw values, then the last six raw values
+        List<Long> listTimestamps = new ArrayList<>();
+        series.forEachMerged((ldt, alMin, alMax, adAvg) -> listTimestamps.add(ldt));
+
+        assertEquals(10, listTimestamps.size());
+        assertEquals(0L, (long) listTimestamps.get(0));
+        assertEquals(180_000L, (long) listTimestamps.get(3));
+        assertEquals(240_000L, (long) listTimestamps.get(4));
+        assertEquals(290_000L, (long) listTimestamps.get(9));
+        for (int i = 1; i < listTimestamps.size(); i++)
+            {
+            assertTrue(listTimestamps.get(i - 1) < listTimestamps.get(i));
+            }
+        }
+
+    @Test
+    public void testMergedHistoryLimit()
+        {
+        TimeSeriesStore            store  = new TimeSeriesStore(100, 100, 100);
+        TimeSeriesStore.TimeSeries series = store.getSeries("test");
+
+        for (int i = 0; i < 100; i++)
+            {
+            series.add(i * 1000L, new long[] {i});
+            }
+
+        // runs of four raw values are combined into one
+        List<double[]> listEntries = new ArrayList<>();
+        series.forEachMerged(30, (ldt, alMin, alMax, adAvg) ->
+                listEntries.add(new double[] {ldt, alMin[0], alMax[0], adAvg[0]}));
+
+        assertEquals(25, listEntries.size());
+        assertBucket(listEntries.get(0), 0L, 0L, 3L, 1.5d);
+        assertBucket(listEntries.get(24), 96_000L, 96L, 99L, 97.5d);
+
+        // no down-sampling within the limit
+        List<Long> listTimestamps = new ArrayList<>();
+        series.forEachMerged(100, (ldt, alMin, alMax, adAvg) -> listTimestamps.add(ldt));
+        assertEquals(100, listTimestamps.size());
+        }
+
+    @Test
+    public void testEvictIdle()
+        {
+        TimeSeriesStore store = new TimeSeriesStore(10, 10, 10);
+
+        store.getSeries("a");
+        store.getSeries("b");
+        store.getSeries("c");
+        store.getSeries("d");
+        store.getSeries("a");
+
+        // "d" is in use, and of the rest only the two most recently used are kept
+        store.evictIdle(Collections.singleton("d"), 2);
+        assertEquals(new HashSet<>(Arrays.asList("a", "c", "d")), store.getSeriesNames());
+
+        store.evictIdle(Collections.emptySet(), 0);
+        assertTrue(store.getSeriesNames().isEmpty());
+        }
+
+    @Test
+    public void testItemCountChangeResetsHistory()
+        {
+        TimeSeriesStore.TimeSeries series = new TimeSeriesStore().getSeries("test");
+
+        series.add(0L, new long[] {1L});
+        series.add(1L, new long[] {1L, 2L});
+
+        assertEquals(2, series.getItemCount());
+        assertEquals(1, series.size(TimeSeriesStore.Resolution.RAW));
+        }
+
+    // ----- helpers --------------------------------------------------------
+
+    private static void assertBucket(double[] adBucket, long ldtStart, long nMin, long nMax, double dAvg)
+        {
+        assertEquals(ldtStart, (long) adBucket[0]);
+        assertEquals(nMin, (long) adBucket[1]);
+        assertEquals(nMax, (long) adBucket[2]);
+        assertEquals(dAvg, adBucket[3], 0.0001d);
+        }
+    }
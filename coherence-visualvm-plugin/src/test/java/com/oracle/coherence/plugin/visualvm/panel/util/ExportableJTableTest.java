@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.oracle.coherence.plugin.visualvm.panel.util;
+
+import com.oracle.coherence.plugin.visualvm.tablemodel.AbstractCoherenceTableModel;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import javax.swing.RowSorter;
+import javax.swing.SortOrder;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+/**
+ * Tests for the sorting of an {@link ExportableJTable} when only the changed
+ * rows of an {@link AbstractCoherenceTableModel} are reported.
+ */
+public class ExportableJTableTest
+    {
+    @Test
+    public void testResortOnUpdatedRows()
+        {
+        TestTableModel   model = new TestTableModel();
+        ExportableJTable table = new ExportableJTable(model, null);
+
+        model.setDataList(rows("a", 1, "b", 2, "c", 3));
+        model.fireTableRowsChanged();
+
+        table.getRowSorter().setSortKeys(Collections.singletonList(new RowSorter.SortKey(1, SortOrder.ASCENDING)));
+        table.setRowSelectionInterval(1, 1);
+        assertEquals("b", table.getValueAt(table.getSelectedRow(), 0));
+
+        // only the value of "b" changes, which moves it to the end of the sorted table
+        model.setDataList(rows("a", 1, "b", 5, "c", 3));
+        assertFalse(model.fireTableRowsChanged());
+
+        assertEquals("a", table.getValueAt(0, 0));
+        assertEquals("c", table.getValueAt(1, 0));
+        assertEquals("b", table.getValueAt(2, 0));
+        assertEquals("b", table.getValueAt(table.getSelectedRow(), 0));
+        }
+
+    @Test
+    public void testIndexOfKey()
+        {
+        TestTableModel model = new TestTableModel();
+
+        model.setDataList(rows("a", 1, "b", 2));
+        model.fireTableRowsChanged();
+
+        assertEquals(1, model.indexOfKey("b"));
+        assertEquals(-1, model.indexOfKey("z"));
+        assertEquals(-1, model.indexOfKey(null));
+        }
+
+    // ----- helpers --------------------------------------------------------
+
+    /**
+     * Return rows for the given alternating keys and values.
+     *
+     * @param aoKeyValues  the keys and values
+     *
+     * @return the rows
+     */
+    private static List<Map.Entry<Object, Object[]>> rows(Object... aoKeyValues)
+        {
+        List<Map.Entry<Object, Object[]>> list = new ArrayList<>();
+        for (int i = 0; i < aoKeyValues.length; i += 2)
+            {
+            list.add(new AbstractMap.SimpleEntry<>(aoKeyValues[i], new Object[] {aoKeyValues[i], aoKeyValues[i + 1]}));
+            }
+        return list;
+        }
+
+    // ----- inner classes --------------------------------------------------
+
+    /**
+     * A table model with a key and a value column.
+     */
+    private static class TestTableModel
+            extends AbstractCoherenceTableModel<Object, Object[]>
+        {
+        TestTableModel()
+            {
+            super(new String[] {"Key", "Value"});
+            }
+
+        @Override
+        protected Object getColumnValue(Object[] aoValue, int nColumn)
+            {
+            return aoValue[nColumn];
+            }
+        }
+    }
@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.oracle.coherence.plugin.visualvm.panel.util;
+
+import java.io.File;
+import java.io.StringWriter;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+/**
+ * Tests for the {@link TableExporter}.
+ */
+public class TableExporterTest
+    {
+    @Test
+    public void testCsvQuoting()
+            throws Exception
+        {
+        String sResult = write(TableExporter.Format.CSV);
+
+        assertEquals("Name,\"Size, MB\",Hit" + LF
+                     + "plain,10,0.5" + LF
+                     + "\"say \"\"hi\"\"\",,true" + LF
+                     + "\"two\nlines\",-1,NaN" + LF, sResult);
+        }
+
+    @Test
+    public void testTsvEscaping()
+            throws Exception
+        {
+        String sResult = write(TableExporter.Format.TSV);
+
+        assertEquals("Name\tSize, MB\tHit" + LF
+                     + "plain\t10\t0.5" + LF
+                     + "say \"hi\"\t\ttrue" + LF
+                     + "two\\nlines\t-1\tNaN" + LF, sResult);
+        }
+
+    @Test
+    public void testJsonLines()
+            throws Exception
+        {
+        String sResult = write(TableExporter.Format.JSON);
+
+        assertEquals("{\"Name\":\"plain\",\"Size, MB\":10,\"Hit\":0.5}\n"
+                     + "{\"Name\":\"say \\\"hi\\\"\",\"Size, MB\":null,\"Hit\":true}\n"
+                     + "{\"Name\":\"two\\nlines\",\"Size, MB\":-1,\"Hit\":\"NaN\"}\n", sResult);
+        }
+
+    @Test
+    public void testCancel()
+            throws Exception
+        {
+        StringWriter writer = new StringWriter();
+
+        assertFalse(TableExporter.write(createData(), TableExporter.Format.CSV, writer, cRows -> false));
+        }
+
+    @Test
+    public void testExportFile()
+        {
+        File dir = new File("dir");
+
+        assertEquals(new File(dir, "a.csv"), TableExporter.getExportFile(new File(dir, "a"), "csv", false));
+        assertEquals(new File(dir, "a.csv"), TableExporter.getExportFile(new File(dir, "a.csv"), "csv", false));
+        assertEquals(new File(dir, "a.csv.gz"), TableExporter.getExportFile(new File(dir, "a"), "csv", true));
+        assertEquals(new File(dir, "a.csv.gz"), TableExporter.getExportFile(new File(dir, "a.csv.gz"), "csv", true));
+        assertEquals(new File(dir, "a.gz.tsv"), TableExporter.getExportFile(new File(dir, "a.gz"), "tsv", false));
+        }
+
+    // ----- helpers --------------------------------------------------------
+
+    private static String write(TableExporter.Format format)
+            throws Exception
+        {
+        StringWriter writer = new StringWriter();
+
+        TableExporter.write(createData(), format, writer, null);
+
+        return writer.toString();
+        }
+
+    private static TableExporter.TableData createData()
+        {
+        List<Object[]> listRows = Arrays.asList(
+                new Object[] {"plain", 10, 0.5f},
+                new Object[] {"say \"hi\"", null, true},
+                new Object[] {"two\nlines", -1L, Double.NaN});
+
+        return new TableExporter.TableData("test", new String[] {"Name", "Size, MB", "Hit"}, listRows);
+        }
+
+    // ----- constants ------------------------------------------------------
+
+    private static final String LF = System.getProperty("line.separator");
+    }
@@ -0,0 +1,221 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.oracle.coherence.plugin.visualvm.recording;
+
+import com.oracle.coherence.plugin.visualvm.ModelSnapshot;
+import com.oracle.coherence.plugin.visualvm.VisualVMModel;
+
+import com.oracle.coherence.plugin.visualvm.tablemodel.model.Data;
+
+import java.io.File;
+import java.io.RandomAccessFile;
+
+import java.nio.file.Files;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.Test;
+
+import static com.oracle.coherence.plugin.visualvm.recording.SnapshotRecorderTest.assertRowsEqual;
+import static com.oracle.coherence.plugin.visualvm.recording.SnapshotRecorderTest.createCacheData;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for the {@link RecordingReader}.
+ */
+public class RecordingReaderTest
+    {
+    @Test
+    public void testReadCyclesInAnyOrder()
+            throws Exception
+        {
+        File dir = Files.createTempDirectory("recording").toFile();
+        try
+            {
+            // several segments with several key frames each
+            SnapshotRecorder recorder = createRecorder(dir, 64 * 1024L);
+            record(recorder, 0, 300);
+            recorder.close();
+
+            RecordingReader reader = new RecordingReader(dir);
+            assertTrue(reader.refresh());
+            assertTrue(SnapshotRecorder.listSegments(dir).size() > 1);
+
+            int cCycles = reader.getCycleCount();
+            assertTrue(cCycles > 0);
+            assertEquals("cluster", reader.getClusterName());
+            assertEquals("14.1.2", reader.getClusterVersion());
+
+            List<Integer> listCycles = new ArrayList<>();
+            for (int i = 0; i < cCycles; i++)
+                {
+                listCycles.add(i);
+                }
+
+            // in order, which decodes incrementally
+            for (int nCycle : listCycles)
+                {
+                assertCycle(reader, nCycle);
+                }
+
+            // in random order, which decodes from the key frames
+            Collections.shuffle(listCycles, new Random(42L));
+            for (int nCycle : listCycles)
+                {
+                assertCycle(reader, nCycle);
+                }
+            }
+        finally
+            {
+            delete(dir);
+            }
+        }
+
+    @Test
+    public void testFindCycle()
+            throws Exception
+        {
+        File dir = Files.createTempDirectory("recording").toFile();
+        try
+            {
+            SnapshotRecorder recorder = createRecorder(dir, Long.MAX_VALUE);
+            record(recorder, 1, 10);
+            recorder.close();
+
+            RecordingReader reader = new RecordingReader(dir);
+            reader.refresh();
+
+            int cCycles = reader.getCycleCount();
+            assertEquals(reader.getCycleTime(0), reader.getStartTime());
+            assertEquals(reader.getCycleTime(cCycles - 1), reader.getEndTime());
+
+            assertEquals(0, reader.findCycle(0L));
+            assertEquals(cCycles - 1, reader.findCycle(Long.MAX_VALUE));
+
+            for (int i = 0; i < cCycles; i++)
+                {
+                long ldt = reader.getCycleTime(i);
+                assertEquals(i, reader.findCycle(ldt));
+                assertEquals(i, reader.findCycle(ldt + 999L));
+                }
+            }
+        finally
+            {
+            delete(dir);
+            }
+        }
+
+    @Test
+    public void testRefreshRecordingInProgress()
+            throws Exception
+        {
+        File dir = Files.createTempDirectory("recording").toFile();
+        try
+            {
+            RecordingReader reader = new RecordingReader(dir);
+            assertFalse(reader.refresh());
+            assertEquals(-1, reader.findCycle(0L));
+            assertFalse(RecordingReader.isRecording(dir));
+
+            SnapshotRecorder recorder = createRecorder(dir, Long.MAX_VALUE);
+            record(recorder, 0, 5);
+            recorder.close();
+
+            assertTrue(RecordingReader.isRecording(dir));
+            assertTrue(reader.refresh());
+            int cCycles = reader.getCycleCount();
+            assertCycle(reader, cCycles - 1);
+
+            // a record which has only been written partially is not indexed
+            File file = SnapshotRecorder.listSegments(dir).get(0);
+            try (RandomAccessFile raf = new RandomAccessFile(file, "rw"))
+                {
+                raf.seek(raf.length());
+                raf.writeByte(RecordingFormat.RECORD_CYCLE);
+                raf.writeInt(1000);
+                raf.writeLong(0L);
+                }
+            assertFalse(reader.refresh());
+            assertEquals(cCycles, reader.getCycleCount());
+            assertCycle(reader, cCycles - 1);
+            }
+        finally
+            {
+            delete(dir);
+            }
+        }
+
+    // ----- helpers --------------------------------------------------------
+
+    private static SnapshotRecorder createRecorder(File dir, long cbSegment)
+        {
+        return new SnapshotRecorder(dir, "cluster", "14.1.2", cbSegment, Long.MAX_VALUE, Long.MAX_VALUE,
+                                    Long.MAX_VALUE);
+        }
+
+    /**
+     * Record cycles at one second intervals, the data of each cycle is
+     * derived from the time of the cycle so cycles dropped by the recorder
+     * don't matter.
+     */
+    private static void record(SnapshotRecorder recorder, int nFirst, int cCycles)
+            throws InterruptedException
+        {
+        for (int nCycle = nFirst; nCycle < nFirst + cCycles; nCycle++)
+            {
+            Map<VisualVMModel.DataType, List<Map.Entry<Object, Data>>> mapData = new EnumMap<>(VisualVMModel.DataType.class);
+            mapData.put(VisualVMModel.DataType.CACHE, createCacheData(nCycle % 7));
+
+            recorder.record(new ModelSnapshot(nCycle + 1, 1000L * nCycle, mapData));
+            Thread.sleep(2);
+            }
+        }
+
+    private static void assertCycle(RecordingReader reader, int nCycle)
+        {
+        Map<VisualVMModel.DataType, List<Map.Entry<Object, Data>>> mapData = reader.readCycle(nCycle);
+        int nRecorded = (int) (reader.getCycleTime(nCycle) / 1000L);
+
+        assertRowsEqual(createCacheData(nRecorded % 7), mapData.get(VisualVMModel.DataType.CACHE));
+        }
+
+    private static void delete(File dir)
+        {
+        for (File file : dir.listFiles())
+            {
+            file.delete();
+            }
+        dir.delete();
+        }
+    }
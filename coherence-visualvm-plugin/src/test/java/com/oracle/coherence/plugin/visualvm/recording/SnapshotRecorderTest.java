@@ -0,0 +1,285 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.oracle.coherence.plugin.visualvm.recording;
+
+import com.oracle.coherence.plugin.visualvm.ModelSnapshot;
+import com.oracle.coherence.plugin.visualvm.VisualVMModel;
+
+import com.oracle.coherence.plugin.visualvm.tablemodel.model.CacheData;
+import com.oracle.coherence.plugin.visualvm.tablemodel.model.ClusterData;
+import com.oracle.coherence.plugin.visualvm.tablemodel.model.Data;
+import com.oracle.coherence.plugin.visualvm.tablemodel.model.Pair;
+
+import java.io.File;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+import java.nio.ByteBuffer;
+
+import java.nio.file.Files;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Test;
+
+import static com.oracle.coherence.plugin.visualvm.recording.RecordingFormat.*;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for the {@link SnapshotRecorder} and the segment encoding.
+ */
+public class SnapshotRecorderTest
+    {
+    @Test
+    public void testCyclesRoundTrip()
+        {
+        RecordingEncoder encoder  = new RecordingEncoder();
+        RecordingDecoder decoder  = new RecordingDecoder();
+        Output           out      = new Output();
+        ModelSnapshot    previous = null;
+
+        List<Map.Entry<Object, Data>> listCluster = createClusterData();
+
+        for (int nCycle = 0; nCycle < 5; nCycle++)
+            {
+            Map<VisualVMModel.DataType, List<Map.Entry<Object, Data>>> mapData = new EnumMap<>(VisualVMModel.DataType.class);
+
+            // the cluster data is only refreshed on the first cycle
+            mapData.put(VisualVMModel.DataType.CLUSTER, listCluster);
+            mapData.put(VisualVMModel.DataType.CACHE, createCacheData(nCycle));
+
+            ModelSnapshot snapshot = new ModelSnapshot(previous, nCycle + 1, 1000L * nCycle, mapData);
+
+            out.reset();
+            encoder.encode(snapshot, nCycle == 0, out);
+
+            Map<VisualVMModel.DataType, List<Map.Entry<Object, Data>>> mapDecoded = decode(decoder, out.toByteBuffer());
+
+            assertEquals(2, mapDecoded.size());
+            assertRowsEqual(listCluster, mapDecoded.get(VisualVMModel.DataType.CLUSTER));
+            assertRowsEqual(mapData.get(VisualVMModel.DataType.CACHE), mapDecoded.get(VisualVMModel.DataType.CACHE));
+
+            previous = snapshot;
+            }
+        }
+
+    @Test
+    public void testNumericTypesRoundTrip()
+        {
+        RecordingEncoder encoder = new RecordingEncoder();
+        RecordingDecoder decoder = new RecordingDecoder();
+        Output           out     = new Output();
+
+        Object[] aoValues = {(short) -3, (byte) 7, new BigInteger("123456789012345678901234567890"),
+                             new BigDecimal("1.25"), new AtomicLong(42L), new int[] {1, 2}};
+        Object[] aoExpect = {(short) -3, (byte) 7, new BigInteger("123456789012345678901234567890"),
+                             new BigDecimal("1.25"), 42.0d, null};
+
+        List<Map.Entry<Object, Data>> listData = new ArrayList<>();
+        for (int i = 0; i < aoValues.length; i++)
+            {
+            Data data = new ClusterData();
+            data.setColumn(ClusterData.CLUSTER_NAME, "cluster-" + i);
+            data.setColumn(ClusterData.CLUSTER_SIZE, aoValues[i]);
+            listData.add(new AbstractMap.SimpleImmutableEntry<>("cluster-" + i, data));
+            }
+
+        Map<VisualVMModel.DataType, List<Map.Entry<Object, Data>>> mapData = new EnumMap<>(VisualVMModel.DataType.class);
+        mapData.put(VisualVMModel.DataType.CLUSTER, listData);
+        encoder.encode(new ModelSnapshot(1, 0L, mapData), true, out);
+
+        List<Map.Entry<Object, Data>> listDecoded =
+                decode(decoder, out.toByteBuffer()).get(VisualVMModel.DataType.CLUSTER);
+
+        for (int i = 0; i < aoExpect.length; i++)
+            {
+            Object oValue = listDecoded.get(i).getValue().getColumn(ClusterData.CLUSTER_SIZE);
+            if (aoExpect[i] == null)
+                {
+                // values which are not numbers are recorded as their string form
+                assertTrue(oValue instanceof String);
+                }
+            else
+                {
+                assertEquals(aoExpect[i], oValue);
+                }
+            }
+        }
+
+    @Test
+    public void testUnchangedCyclesAreSmall()
+        {
+        RecordingEncoder encoder = new RecordingEncoder();
+        Output           out     = new Output();
+
+        Map<VisualVMModel.DataType, List<Map.Entry<Object, Data>>> mapData = new EnumMap<>(VisualVMModel.DataType.class);
+        mapData.put(VisualVMModel.DataType.CACHE, createCacheData(0));
+
+        ModelSnapshot snapshot = new ModelSnapshot(1, 0L, mapData);
+        encoder.encode(snapshot, true, out);
+        int cbKeyframe = out.size();
+
+        out.reset();
+        encoder.encode(new ModelSnapshot(snapshot, 2, 1000L, mapData), false, out);
+
+        // the data of the type has not been refreshed, so only its name is written
+        assertTrue(out.size() < 20);
+
+        out.reset();
+        mapData.put(VisualVMModel.DataType.CACHE, createCacheData(0));
+        encoder.encode(new ModelSnapshot(snapshot, 3, 2000L, mapData), false, out);
+
+        // the rows were refreshed with the same values
+        assertTrue(out.size() < cbKeyframe / 2);
+        }
+
+    @Test
+    public void testRecorderRollsOverAndRetains()
+            throws Exception
+        {
+        File dir = Files.createTempDirectory("recording").toFile();
+        try
+            {
+            // every cycle starts a new segment and only two segments fit in the retained size
+            SnapshotRecorder recorder = new SnapshotRecorder(dir, "cluster", "14.1.2", 1L, Long.MAX_VALUE,
+                                                             Long.MAX_VALUE, 1L);
+
+            for (int nCycle = 0; nCycle < 4; nCycle++)
+                {
+                Map<VisualVMModel.DataType, List<Map.Entry<Object, Data>>> mapData = new EnumMap<>(VisualVMModel.DataType.class);
+                mapData.put(VisualVMModel.DataType.CACHE, createCacheData(nCycle));
+
+                recorder.record(new ModelSnapshot(nCycle + 1, nCycle, mapData));
+                Thread.sleep(5);
+                }
+            recorder.close();
+
+            List<File> listSegments = SnapshotRecorder.listSegments(dir);
+            assertEquals(1, listSegments.size());
+
+            ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(listSegments.get(0).toPath()));
+            assertEquals(MAGIC, buffer.getInt());
+            assertEquals(VERSION, buffer.getShort());
+            buffer.getLong();
+            assertEquals("cluster", readUTF(buffer));
+            assertEquals("14.1.2", readUTF(buffer));
+
+            Map<VisualVMModel.DataType, List<Map.Entry<Object, Data>>> mapDecoded = decode(new RecordingDecoder(), buffer);
+            assertRowsEqual(createCacheData(3), mapDecoded.get(VisualVMModel.DataType.CACHE));
+            }
+        finally
+            {
+            for (File file : dir.listFiles())
+                {
+                file.delete();
+                }
+            dir.delete();
+            }
+        }
+
+    // ----- helpers --------------------------------------------------------
+
+    private static Map<VisualVMModel.DataType, List<Map.Entry<Object, Data>>> decode(RecordingDecoder decoder,
+                                                                                    ByteBuffer buffer)
+        {
+        Map<VisualVMModel.DataType, List<Map.Entry<Object, Data>>> mapData = null;
+        while (buffer.hasRemaining())
+            {
+            byte       bType   = buffer.get();
+            int        cb      = buffer.getInt();
+            ByteBuffer payload = buffer.slice();
+            payload.limit(cb);
+            buffer.position(buffer.position() + cb);
+
+            if (bType == RECORD_DICTIONARY)
+                {
+                decoder.readDictionary(payload);
+                }
+            else
+                {
+                mapData = decoder.readCycle(payload);
+                }
+            }
+        return mapData;
+        }
+
+    static void assertRowsEqual(List<Map.Entry<Object, Data>> listExpected, List<Map.Entry<Object, Data>> listActual)
+        {
+        assertEquals(listExpected.size(), listActual.size());
+        for (int i = 0; i < listExpected.size(); i++)
+            {
+            Map.Entry<Object, Data> expected = listExpected.get(i);
+            Map.Entry<Object, Data> actual   = listActual.get(i);
+
+            assertEquals(expected.getKey(), actual.getKey());
+            assertSame(expected.getValue().getClass(), actual.getValue().getClass());
+            assertEquals(expected.getValue().toString(), actual.getValue().toString());
+            }
+        }
+
+    private static List<Map.Entry<Object, Data>> createClusterData()
+        {
+        Data data = new ClusterData();
+        data.setColumn(ClusterData.CLUSTER_NAME, "cluster");
+        data.setColumn(ClusterData.LICENSE_MODE, "Development");
+        data.setColumn(ClusterData.VERSION, "14.1.2");
+        data.setColumn(ClusterData.DEPARTURE_COUNT, 0L);
+        data.setColumn(ClusterData.CLUSTER_SIZE, 3);
+
+        List<Map.Entry<Object, Data>> listData = new ArrayList<>();
+        listData.add(new AbstractMap.SimpleImmutableEntry<>("cluster", data));
+        return listData;
+        }
+
+    static List<Map.Entry<Object, Data>> createCacheData(int nCycle)
+        {
+        List<Map.Entry<Object, Data>> listData = new ArrayList<>();
+        for (int i = 0; i < 50; i++)
+            {
+            Pair<String, String> key  = new Pair<>("DistributedCache", "cache-" + i);
+            Data                 data = new CacheData();
+
+            data.setColumn(CacheData.CACHE_NAME, key);
+            data.setColumn(CacheData.SIZE, 1000 + i * nCycle);
+            data.setColumn(CacheData.MEMORY_USAGE_BYTES, 1_000_000L - nCycle);
+            data.setColumn(CacheData.MEMORY_USAGE_MB, 0.5f * i);
+            data.setColumn(CacheData.AVG_OBJECT_SIZE, nCycle == 2 ? Double.NaN : 2.25d);
+
+            listData.add(new AbstractMap.SimpleImmutableEntry<>(key, data));
+            }
+        return listData;
+        }
+    }
@@ -0,0 +1,200 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.oracle.coherence.plugin.visualvm.tablemodel;
+
+import com.oracle.coherence.plugin.visualvm.tablemodel.model.Data;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import javax.swing.event.TableModelEvent;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for the row diffing in {@link AbstractCoherenceTableModel}.
+ */
+public class AbstractCoherenceTableModelTest
+    {
+    @Test
+    public void testUpdatedCells()
+        {
+        TestTableModel model = new TestTableModel();
+        model.setDataList(rows("a", 1, "b", 2, "c", 3));
+        assertTrue(model.fireTableRowsChanged());
+
+        List<TableModelEvent> listEvents = listen(model);
+        model.setDataList(rows("a", 1, "b", 5, "c", 3));
+
+        assertFalse(model.fireTableRowsChanged());
+        assertEquals(1, listEvents.size());
+        assertEvent(listEvents.get(0), TableModelEvent.UPDATE, 1, 1, 1);
+        }
+
+    @Test
+    public void testInsertedAndDeletedRows()
+        {
+        TestTableModel model = new TestTableModel();
+        model.setDataList(rows("a", 1, "b", 2, "c", 3, "d", 4));
+        model.fireTableRowsChanged();
+
+        List<TableModelEvent> listEvents = listen(model);
+        List<Integer>         listCounts = new ArrayList<>();
+        model.addTableModelListener(e -> listCounts.add(model.getRowCount()));
+
+        model.setDataList(rows("a", 1, "c", 3, "d", 4, "e", 5));
+
+        assertFalse(model.fireTableRowsChanged());
+        assertEquals(2, listEvents.size());
+        assertEvent(listEvents.get(0), TableModelEvent.DELETE, 1, 1, TableModelEvent.ALL_COLUMNS);
+        assertEvent(listEvents.get(1), TableModelEvent.INSERT, 3, 3, TableModelEvent.ALL_COLUMNS);
+        assertEquals(3, (int) listCounts.get(0));
+        assertEquals(4, (int) listCounts.get(1));
+        assertEquals("e", model.getValueAt(3, 0));
+        }
+
+    @Test
+    public void testReorderedRows()
+        {
+        TestTableModel model = new TestTableModel();
+        model.setDataList(rows("a", 1, "b", 2, "c", 3));
+        model.fireTableRowsChanged();
+
+        List<TableModelEvent> listEvents = listen(model);
+        model.setDataList(rows("b", 2, "a", 1, "c", 3));
+
+        assertTrue(model.fireTableRowsChanged());
+        assertEquals(1, listEvents.size());
+        assertEvent(listEvents.get(0), TableModelEvent.UPDATE, 0, Integer.MAX_VALUE, TableModelEvent.ALL_COLUMNS);
+        }
+
+    // ----- helpers --------------------------------------------------------
+
+    /**
+     * Return rows for the given alternating keys and values.
+     *
+     * @param aoKeyValues  the keys and values
+     *
+     * @return the rows
+     */
+    private static List<Map.Entry<Object, Data>> rows(Object... aoKeyValues)
+        {
+        List<Map.Entry<Object, Data>> list = new ArrayList<>();
+        for (int i = 0; i < aoKeyValues.length; i += 2)
+            {
+            TestData data = new TestData();
+            data.setColumn(0, aoKeyValues[i]);
+            data.setColumn(1, aoKeyValues[i + 1]);
+            list.add(new AbstractMap.SimpleEntry<>(aoKeyValues[i], data));
+            }
+        return list;
+        }
+
+    /**
+     * Collect the events fired by the model.
+     *
+     * @param model  the model
+     *
+     * @return the list the events are collected in
+     */
+    private static List<TableModelEvent> listen(TestTableModel model)
+        {
+        List<TableModelEvent> list = new ArrayList<>();
+        model.addTableModelListener(list::add);
+        return list;
+        }
+
+    /**
+     * Assert the details of an event.
+     *
+     * @param event    the event
+     * @param nType    the expected type
+     * @param nFirst   the expected first row
+     * @param nLast    the expected last row
+     * @param nColumn  the expected column
+     */
+    private static void assertEvent(TableModelEvent event, int nType, int nFirst, int nLast, int nColumn)
+        {
+        assertEquals(nType, event.getType());
+        assertEquals(nFirst, event.getFirstRow());
+        assertEquals(nLast, event.getLastRow());
+        assertEquals(nColumn, event.getColumn());
+        }
+
+    // ----- inner classes --------------------------------------------------
+
+    /**
+     * A table model with a key and a value column.
+     */
+    private static class TestTableModel
+            extends AbstractCoherenceTableModel<Object, Data>
+        {
+        TestTableModel()
+            {
+            super(new String[] {"Key", "Value"});
+            }
+        }
+
+    /**
+     * A minimal {@link Data} implementation holding two columns.
+     */
+    private static class TestData
+            implements Data
+        {
+        public Object getColumn(int nColumn)
+            {
+            return m_aoValues[nColumn];
+            }
+
+        public void setColumn(int nColumn, Object oValue)
+            {
+            m_aoValues[nColumn] = oValue;
+            }
+
+        public int getInt(int nColumn)
+            {
+            return ((Number) m_aoValues[nColumn]).intValue();
+            }
+
+        public long getLong(int nColumn)
+            {
+            return ((Number) m_aoValues[nColumn]).longValue();
+            }
+
+        public double getDouble(int nColumn)
+            {
+            return ((Number) m_aoValues[nColumn]).doubleValue();
+            }
+
+        private final Object[] m_aoValues = new Object[2];
+        }
+    }
@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.oracle.coherence.plugin.visualvm.tablemodel.model;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * Tests for the column values and typed accessors of {@link AbstractData}.
+ */
+public class AbstractDataTest
+    {
+    @Test
+    public void testBoxedValuesRoundTrip()
+        {
+        Data data = new CacheData();
+        Pair<String, String> key = new Pair<>("service", "cache");
+
+        data.setColumn(CacheData.CACHE_NAME, key);
+        data.setColumn(CacheData.SIZE, 10);
+        data.setColumn(CacheData.MEMORY_USAGE_BYTES, 1024L);
+        data.setColumn(CacheData.MEMORY_USAGE_MB, 1.5f);
+        data.setColumn(CacheData.AVG_OBJECT_SIZE, 2.25d);
+
+        assertEquals(key, data.getColumn(CacheData.CACHE_NAME));
+        assertEquals(Integer.valueOf(10), data.getColumn(CacheData.SIZE));
+        assertEquals(Long.valueOf(1024L), data.getColumn(CacheData.MEMORY_USAGE_BYTES));
+        assertEquals(Float.valueOf(1.5f), data.getColumn(CacheData.MEMORY_USAGE_MB));
+        assertEquals(Double.valueOf(2.25d), data.getColumn(CacheData.AVG_OBJECT_SIZE));
+        assertNull(data.getColumn(CacheData.UNIT_CALCULATOR));
+        }
+
+    @Test
+    public void testPrimitiveAccessors()
+        {
+        Data data = new CacheData();
+
+        data.setColumn(CacheData.SIZE, 10);
+        data.setColumn(CacheData.MEMORY_USAGE_BYTES, 5_000_000_000L);
+        data.setColumn(CacheData.MEMORY_USAGE_MB, 1.5f);
+        data.setColumn(CacheData.UNIT_CALCULATOR, "42");
+
+        assertEquals(10L, data.getLong(CacheData.SIZE));
+        assertEquals(5_000_000_000L, data.getLong(CacheData.MEMORY_USAGE_BYTES));
+        assertEquals(1L, data.getLong(CacheData.MEMORY_USAGE_MB));
+        assertEquals(1.5d, data.getDouble(CacheData.MEMORY_USAGE_MB), 0.0d);
+        assertEquals(42, data.getInt(CacheData.UNIT_CALCULATOR));
+        assertEquals(0L, data.getLong(CacheData.AVG_OBJECT_SIZE));
+        }
+
+    @Test
+    public void testNumericStrings()
+        {
+        Data data = new CacheData();
+
+        data.setColumn(CacheData.UNIT_CALCULATOR, "1.5");
+        assertEquals(1.5d, data.getDouble(CacheData.UNIT_CALCULATOR), 0.0d);
+        assertEquals(1L, data.getLong(CacheData.UNIT_CALCULATOR));
+
+        data.setColumn(CacheData.UNIT_CALCULATOR, "FIXED");
+        assertEquals(0.0d, data.getDouble(CacheData.UNIT_CALCULATOR), 0.0d);
+        assertEquals(0L, data.getLong(CacheData.UNIT_CALCULATOR));
+        }
+
+    @Test
+    public void testOverwriteChangesType()
+        {
+        Data data = new CacheData();
+
+        data.setColumn(CacheData.SIZE, "value");
+        data.setColumn(CacheData.SIZE, 3);
+        assertEquals(Integer.valueOf(3), data.getColumn(CacheData.SIZE));
+
+        data.setColumn(CacheData.SIZE, null);
+        assertNull(data.getColumn(CacheData.SIZE));
+        }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidColumn()
+        {
+        new CacheData().getLong(100);
+        }
+    }
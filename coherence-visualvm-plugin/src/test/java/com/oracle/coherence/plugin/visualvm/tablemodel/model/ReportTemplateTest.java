@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.oracle.coherence.plugin.visualvm.tablemodel.model;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests for the {@link ReportTemplate}.
+ */
+public class ReportTemplateTest
+    {
+    @Test
+    public void testSubstitution()
+        {
+        ReportTemplate template = new ReportTemplate(
+                "<pattern>Coherence:type=Cache,service=%SERVICE_NAME%,name=%CACHE_NAME%,*</pattern>");
+
+        Map<String, String> mapParameters = new HashMap<>();
+        mapParameters.put("%SERVICE_NAME%", "Dist$Service");
+        mapParameters.put("%CACHE_NAME%", "test");
+
+        assertEquals("<pattern>Coherence:type=Cache,service=Dist$Service,name=test,*</pattern>",
+                     template.apply(mapParameters));
+        }
+
+    @Test
+    public void testMissingParameter()
+        {
+        String         sXML     = "<a>%SERVICE_NAME%</a><b>%TOPIC_NAME%</b>";
+        ReportTemplate template = new ReportTemplate(sXML);
+
+        assertEquals(sXML, template.apply(null));
+        assertEquals("<a>svc</a><b>%TOPIC_NAME%</b>",
+                     template.apply(Collections.singletonMap("%SERVICE_NAME%", "svc")));
+        }
+
+    @Test
+    public void testNoSlots()
+        {
+        String sXML = "<report>100%</report>";
+
+        assertEquals(sXML, new ReportTemplate(sXML).apply(Collections.singletonMap("%SERVICE_NAME%", "svc")));
+        }
+    }
@@ -138,8 +138,7 @@ public abstract class AbstractVisualVMTest
 
             s_requestSender = fRestRequestSender
                     ? new HttpRequestSender("http://" + REST_MGMT_HOST + ":" + "8080")
-                    : new JMXRequestSender(s_memberA1.get(JmxFeature.class)
-                                                     .getDeferredJMXConnector().get().getMBeanServerConnection());
+                    : new JMXRequestSender(s_memberA1.get(JmxFeature.class).getDeferredJMXConnector().get());
 
             Eventually.assertThat(invoking(s_memberA1).getClusterSize(), is(2));
 
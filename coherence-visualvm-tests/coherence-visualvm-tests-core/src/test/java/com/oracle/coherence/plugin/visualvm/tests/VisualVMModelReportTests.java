@@ -26,6 +26,7 @@
 package com.oracle.coherence.plugin.visualvm.tests;
 
 import com.oracle.coherence.plugin.visualvm.VisualVMModel;
+import com.oracle.coherence.plugin.visualvm.tablemodel.model.ReportTemplate;
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -45,9 +46,9 @@ public class VisualVMModelReportTests
         {
         VisualVMModel model = VisualVMModel.getInstance();
 
-        Map<Class<?>, String> mapReportXML = model.getReportXMLMap();
-        Assert.assertTrue("mapReportXML must not be null", mapReportXML != null);
+        Map<Class<?>, ReportTemplate> mapReportTemplate = model.getReportTemplateMap();
+        Assert.assertTrue("mapReportTemplate must not be null", mapReportTemplate != null);
 
-        Assert.assertTrue("mapReportXML size should be 18 but is " + mapReportXML.size(), mapReportXML.size() == 18);
+        Assert.assertTrue("mapReportTemplate size should be 18 but is " + mapReportTemplate.size(), mapReportTemplate.size() == 18);
         }
     }